@@ -11,4 +11,21 @@ public interface CheckmarxAdapterConfig extends AdapterConfig {
 
 	InputStream getSourceCodeZipFileInputStream();
 
+	/**
+	 * @return <code>true</code> when source code is same as uploaded for last
+	 *         scan of checkmarx project - so upload can be skipped
+	 */
+	boolean isSourceCodeUnchangedSinceLastScan();
+
+	/**
+	 * @return <code>true</code> when a full scan is necessary, otherwise an
+	 *         incremental scan is done for existing checkmarx projects
+	 */
+	boolean isFullScanNecessary();
+
+	/**
+	 * @return listener informed about done scan, can be <code>null</code>
+	 */
+	CheckmarxScanListener getScanListener();
+
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.adapter.checkmarx;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
@@ -33,50 +36,97 @@ public class CheckmarxAdapterV1 extends AbstractAdapter<CheckmarxAdapterContext,
 
 	@Override
 	public String start(CheckmarxAdapterConfig config) throws AdapterException {
-		try {
-			CheckmarxContext context = new CheckmarxContext(config, this);
-			context.setFullScan(context.isNewProject());
-			CheckmarxOAuthSupport support = new CheckmarxOAuthSupport();
-			support.loginAndGetOAuthToken(context);
-			
-			/* ensure project and get project context*/
-			CheckmarxProjectSupport projectSupport = new CheckmarxProjectSupport();
-			projectSupport.ensureProjectExists(context);
-			
-			handleUploadSourceCodeAndStartScan(context);
-			
-			CheckmarxScanReportSupport scanReportSupport = new CheckmarxScanReportSupport();
-			scanReportSupport.startFetchReport(context);
-			
-			return context.getResult();
-		} catch (Exception e) {
-			throw asAdapterException("Was not able to perform scan!", e, config);
-		}
-
+		return waitFor(startAsync(config), config);
 	}
 
+	@Override
+	public CompletableFuture<String> startAsync(CheckmarxAdapterConfig config) {
+		CheckmarxContext context = new CheckmarxContext(config, this);
+		CheckmarxOAuthSupport oauthSupport = new CheckmarxOAuthSupport();
+		CheckmarxScanReportSupport scanReportSupport = new CheckmarxScanReportSupport();
+
+		/* @formatter:off */
+		CompletableFuture<String> steps = executeAsync(() -> {
+					oauthSupport.loginAndGetOAuthToken(context, getSessionCache());
 
-	private void handleUploadSourceCodeAndStartScan(CheckmarxContext context) throws AdapterException {
-		try {
-			uploadSourceCodeAndStartScan(context);
-		}catch(CheckmarxFullScanNecessaryException e) {
-			LOG.info("Full scan necessarye bcause of checkmarx message: {}",e.getCheckmarxMessage());
+					/* ensure project and get project context*/
+					CheckmarxProjectSupport projectSupport = new CheckmarxProjectSupport();
+					projectSupport.ensureProjectExists(context);
+
+					/* new project state is only known after project has been ensured */
+					context.setFullScan(context.isNewProject() || config.isFullScanNecessary());
+					return context;
+				}).
+				thenCompose(this::handleUploadSourceCodeAndStartScan).
+				thenCompose(scannedContext -> executeAsync(() -> scanReportSupport.startFetchReport(context))).
+				thenCompose(Function.identity()).
+				thenApply(reportContext -> {
+					notifyScanDone(context);
+					return context.getResult();
+				});
+		/* @formatter:on */
+		return createResult(steps, context, failure -> oauthSupport.invalidateTokenWhenUnauthorized(context, getSessionCache(), failure));
+	}
+
+	private CompletableFuture<CheckmarxContext> handleUploadSourceCodeAndStartScan(CheckmarxContext context) {
+		return uploadSourceCodeAndStartScan(context).handle((scannedContext, failure) -> {
+			if (failure == null) {
+				return CompletableFuture.completedFuture(scannedContext);
+			}
+			CheckmarxFullScanNecessaryException fullScanNecessary = findFullScanNecessaryException(failure);
+			if (fullScanNecessary == null) {
+				CompletableFuture<CheckmarxContext> failed = new CompletableFuture<>();
+				failed.completeExceptionally(failure);
+				return failed;
+			}
+			LOG.info("Full scan necessarye bcause of checkmarx message: {}", fullScanNecessary.getCheckmarxMessage());
 			context.setFullScan(true);
-			uploadSourceCodeAndStartScan(context);
-			
+			return uploadSourceCodeAndStartScan(context);
+		}).thenCompose(Function.identity());
+	}
+
+	private void notifyScanDone(CheckmarxContext context) {
+		CheckmarxScanListener listener = context.getConfig().getScanListener();
+		if (listener != null) {
+			listener.scanDone(context.isFullScan());
+		}
+	}
+
+	private CheckmarxFullScanNecessaryException findFullScanNecessaryException(Throwable failure) {
+		Throwable t = failure;
+		while (t != null) {
+			if (t instanceof CheckmarxFullScanNecessaryException) {
+				return (CheckmarxFullScanNecessaryException) t;
+			}
+			t = t.getCause();
 		}
+		return null;
 	}
 
-	private void uploadSourceCodeAndStartScan(CheckmarxContext context) throws AdapterException {
-		/* upload source code */
-		CheckmarxUploadSupport uploadSupport = new CheckmarxUploadSupport();
-		uploadSupport.uploadZippedSourceCode(context);
-		
-		/* start scan */
-		CheckmarxScanSupport scanSupport = new CheckmarxScanSupport();
-		scanSupport.startNewScan(context);
+	private CompletableFuture<CheckmarxContext> uploadSourceCodeAndStartScan(CheckmarxContext context) {
+		return executeAsync(() -> {
+			if (isSourceCodeUploadNecessary(context)) {
+				/* upload source code */
+				CheckmarxUploadSupport uploadSupport = new CheckmarxUploadSupport();
+				uploadSupport.uploadZippedSourceCode(context);
+			} else {
+				LOG.info("Source code unchanged since last scan of {}, so skip upload", context.getSessionData().getProjectName());
+				context.setSourceCodeUploadSkipped(true);
+			}
+
+			/* start scan */
+			CheckmarxScanSupport scanSupport = new CheckmarxScanSupport();
+			return scanSupport.startNewScan(context);
+		}).thenCompose(Function.identity());
+	}
+
+	private boolean isSourceCodeUploadNecessary(CheckmarxContext context) {
+		if (context.isNewProject()) {
+			/* new project has no sources we could reuse */
+			return true;
+		}
+		return !context.getConfig().isSourceCodeUnchangedSinceLastScan();
 	}
-	
 
 	@Override
 	protected String getAPIPrefix() {
@@ -10,6 +10,9 @@ public class CheckmarxConfig extends AbstractCodeScanAdapterConfig implements Ch
 
 	private String teamIdForNewProjects;
 	private InputStream sourceCodeZipFileInputStream;
+	private boolean sourceCodeUnchangedSinceLastScan;
+	private boolean fullScanNecessary;
+	private CheckmarxScanListener scanListener;
 
 	private CheckmarxConfig() {
 	}
@@ -24,6 +27,21 @@ public class CheckmarxConfig extends AbstractCodeScanAdapterConfig implements Ch
 		return sourceCodeZipFileInputStream;
 	}
 
+	@Override
+	public boolean isSourceCodeUnchangedSinceLastScan() {
+		return sourceCodeUnchangedSinceLastScan;
+	}
+
+	@Override
+	public boolean isFullScanNecessary() {
+		return fullScanNecessary;
+	}
+
+	@Override
+	public CheckmarxScanListener getScanListener() {
+		return scanListener;
+	}
+
 	public static CheckmarxConfigBuilder builder() {
 		return new CheckmarxConfigBuilder();
 	}
@@ -32,6 +50,9 @@ public class CheckmarxConfig extends AbstractCodeScanAdapterConfig implements Ch
 
 		private String teamIdForNewProjects;
 		private InputStream sourceCodeZipFileInputStream;
+		private boolean sourceCodeUnchangedSinceLastScan;
+		private boolean fullScanNecessary;
+		private CheckmarxScanListener scanListener;
 
 		/**
 		 * When we create a new project this is the team ID to use
@@ -47,10 +68,46 @@ public class CheckmarxConfig extends AbstractCodeScanAdapterConfig implements Ch
 			return this;
 		}
 
+		/**
+		 * Mark source code as unchanged since last scan of checkmarx project. When
+		 * project already exists, the upload will be skipped and checkmarx rescans
+		 * the sources of last upload.
+		 * @param unchanged
+		 * @return
+		 */
+		public CheckmarxConfigBuilder setSourceCodeUnchangedSinceLastScan(boolean unchanged){
+			this.sourceCodeUnchangedSinceLastScan=unchanged;
+			return this;
+		}
+
+		/**
+		 * Mark a full scan as necessary. Otherwise existing checkmarx projects are
+		 * scanned incremental - new projects are always scanned full.
+		 * @param fullScanNecessary
+		 * @return
+		 */
+		public CheckmarxConfigBuilder setFullScanNecessary(boolean fullScanNecessary){
+			this.fullScanNecessary=fullScanNecessary;
+			return this;
+		}
+
+		/**
+		 * Set listener informed about the kind of done scan
+		 * @param scanListener
+		 * @return
+		 */
+		public CheckmarxConfigBuilder setScanListener(CheckmarxScanListener scanListener){
+			this.scanListener=scanListener;
+			return this;
+		}
+
 		@Override
 		protected void customBuild(CheckmarxConfig config) {
 			config.teamIdForNewProjects=teamIdForNewProjects;
 			config.sourceCodeZipFileInputStream=sourceCodeZipFileInputStream;
+			config.sourceCodeUnchangedSinceLastScan=sourceCodeUnchangedSinceLastScan;
+			config.fullScanNecessary=fullScanNecessary;
+			config.scanListener=scanListener;
 		}
 
 		@Override
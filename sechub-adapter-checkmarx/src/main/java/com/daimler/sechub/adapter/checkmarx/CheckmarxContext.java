@@ -25,6 +25,7 @@ public class CheckmarxContext extends AbstractSpringRestAdapterContext<Checkmarx
 	private ReportDetails reportDetails;
 	private boolean fullScan;
 	private Boolean newProject;
+	private boolean sourceCodeUploadSkipped;
 
 	public CheckmarxContext(CheckmarxAdapterConfig config, CheckmarxAdapter adapter) {
 		super(config, adapter);
@@ -123,4 +124,12 @@ public class CheckmarxContext extends AbstractSpringRestAdapterContext<Checkmarx
 		this.newProject = newProject;
 	}
 
+	public boolean isSourceCodeUploadSkipped() {
+		return sourceCodeUploadSkipped;
+	}
+
+	public void setSourceCodeUploadSkipped(boolean sourceCodeUploadSkipped) {
+		this.sourceCodeUploadSkipped = sourceCodeUploadSkipped;
+	}
+
 }
@@ -0,0 +1,21 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.checkmarx;
+
+/**
+ * Listener for checkmarx scans done by the adapter. The kind of scan is only
+ * known by the adapter - e.g. new checkmarx projects are always scanned full,
+ * or checkmarx denies an incremental scan.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+public interface CheckmarxScanListener {
+
+	/**
+	 * Called when a scan has been done
+	 * 
+	 * @param fullScan <code>true</code> when scan was a full scan,
+	 *                 <code>false</code> when it was incremental
+	 */
+	void scanDone(boolean fullScan);
+}
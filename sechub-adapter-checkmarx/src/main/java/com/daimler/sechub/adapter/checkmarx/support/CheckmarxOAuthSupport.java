@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.adapter.checkmarx.support;
 
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -10,6 +12,8 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestOperations;
 
 import com.daimler.sechub.adapter.AdapterException;
+import com.daimler.sechub.adapter.AdapterSessionCache;
+import com.daimler.sechub.adapter.AdapterSessionCache.CachedValue;
 import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterConfig;
 import com.daimler.sechub.adapter.checkmarx.CheckmarxContext;
 import com.daimler.sechub.adapter.support.JSONAdapterSupport;
@@ -19,7 +23,40 @@ import com.daimler.sechub.adapter.support.JSONAdapterSupport.Access;
 // having version 8.8.0 at installation we use the token base auth and no cookie approach
 public class CheckmarxOAuthSupport {
 
-	public void loginAndGetOAuthToken(CheckmarxContext context) throws AdapterException {
+	private static final String SESSION_CACHE_NAME = "checkmarx-oauth";
+
+	/**
+	 * Login and mark context as authenticated. Tokens are shared between scans by
+	 * given session cache until they expire.
+	 * 
+	 * @param context
+	 * @param sessionCache
+	 * @throws AdapterException
+	 */
+	public void loginAndGetOAuthToken(CheckmarxContext context, AdapterSessionCache sessionCache) throws AdapterException {
+		CheckmarxOAuthData data = sessionCache.getOrLoad(createSessionCacheKey(context, sessionCache), () -> {
+			CheckmarxOAuthData loaded = login(context);
+			return new CachedValue<>(loaded, TimeUnit.SECONDS.toMillis(loaded.getExpiresIn()));
+		});
+		context.markAuthenticated(data);
+	}
+
+	/**
+	 * Removes cached token when given failure was caused by a rejected token
+	 * 
+	 * @param context
+	 * @param sessionCache
+	 * @param failure
+	 */
+	public void invalidateTokenWhenUnauthorized(CheckmarxContext context, AdapterSessionCache sessionCache, Throwable failure) {
+		sessionCache.invalidateWhenUnauthorized(createSessionCacheKey(context, sessionCache), failure);
+	}
+
+	private String createSessionCacheKey(CheckmarxContext context, AdapterSessionCache sessionCache) {
+		return sessionCache.createKey(SESSION_CACHE_NAME, context.getConfig());
+	}
+
+	CheckmarxOAuthData login(CheckmarxContext context) throws AdapterException {
 		CheckmarxAdapterConfig config = context.getConfig();
 
 		// example:
@@ -46,9 +83,7 @@ public class CheckmarxOAuthSupport {
 		ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
 
 		String json = response.getBody();
-		CheckmarxOAuthData data = extractFromJson(context.json(), json);
-
-		context.markAuthenticated(data);
+		return extractFromJson(context.json(), json);
 	}
 
 	CheckmarxOAuthData extractFromJson(JSONAdapterSupport support, String json)
@@ -1,8 +1,13 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.adapter.checkmarx.support;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -15,47 +20,46 @@ import org.springframework.web.client.RestOperations;
 
 import com.daimler.sechub.adapter.AdapterException;
 import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterContext;
+import com.daimler.sechub.adapter.support.ReportDownloadSupport;
+import com.daimler.sechub.adapter.support.ReportDownloadSupport.ReportStream;
 
 public class CheckmarxScanReportSupport {
 
+	/* preambles like byte order marks are always inside first bytes */
+	static final int MAX_PREAMBLE_LENGTH = 1024;
+
+	private static final String XML_DECLARATION_START = "<?xml";
+
+	private ReportDownloadSupport reportDownloadSupport = new ReportDownloadSupport();
 
 	// https://checkmarx.atlassian.net/wiki/spaces/KC/pages/223379587/Register+Scan+Report+-+POST+reports+sastScan
 	// https://checkmarx.atlassian.net/wiki/spaces/KC/pages/563806382/Get+Report+Status+by+Id+-+GET+reports+sastScan+id+status+v8.8.0+and+up
 	// https://checkmarx.atlassian.net/wiki/spaces/KC/pages/222101925/Get+Report+s+by+Id+-+GET+reports+sastScan+id
 	/**
-	 * Starts new scan - means : Will create an entry inside QUEUE! And wait until
-	 * processed
+	 * Triggers a new report and waits asynchronous until it is created. The
+	 * report is fetched afterwards.
 	 * 
 	 * @param context
-	 *            - if scan is started, the corresponding queue id will be set to
-	 *            context
-	 * @param sessionContext
+	 * @return future, completed when report has been fetched
 	 * @throws AdapterException
 	 */
-	public void startFetchReport(CheckmarxAdapterContext context) throws AdapterException {
+	public CompletableFuture<CheckmarxAdapterContext> startFetchReport(CheckmarxAdapterContext context) throws AdapterException {
 		triggerNewReport(context);
-		waitForReport(context);
-		fetchReportResult(context);
 
+		/* report is fetched by wait support when report is no longer running */
+		WaitForScanReportSupport support = new WaitForScanReportSupport(context.getCheckmarxAdapter(), this);
+		return support.waitForOKAsync(context).thenApply(reportState -> context);
 	}
 
 	// https://checkmarx.atlassian.net/wiki/spaces/KC/pages/222101925/Get+Report+s+by+Id+-+GET+reports+sastScan+id
 	void fetchReportResult(CheckmarxAdapterContext context) throws AdapterException {
 		ReportDetails details = context.getReportDetails();
 		try {
-			RestOperations restTemplate = context.getRestOperations();
-			ResponseEntity<String> queueData = restTemplate
-					.getForEntity(context.getAPIURL("reports/sastScan/" + context.getReportId()), String.class);
-			String body = queueData.getBody();
-			if (body == null) { // NOSONAR
-				body = "";
-			}
-			int index = body.indexOf("<?xml");
-			if (index > 0) {
-				body = body.substring(index);
+			ResponseEntity<String> response = reportDownloadSupport.downloadReport(context,
+					context.getAPIURL("reports/sastScan/" + context.getReportId()), CheckmarxScanReportSupport::skipPreamble);
+			if (!HttpStatus.OK.equals(response.getStatusCode())) {
+				throw context.asAdapterException("Response HTTP status not as expected: " + response.getStatusCode(), null);
 			}
-			context.setResult(body);
-
 		} catch (HttpStatusCodeException e) {
 			if (HttpStatus.NOT_FOUND.equals(e.getStatusCode())) {
 				/* ok just no longer in queue / or never existed */
@@ -66,17 +70,71 @@ public class CheckmarxScanReportSupport {
 		}
 	}
 
-	// https://checkmarx.atlassian.net/wiki/spaces/KC/pages/563806382/Get+Report+Status+by+Id+-+GET+reports+sastScan+id+status+v8.8.0+and+up
-	void waitForReport(CheckmarxAdapterContext context) throws AdapterException {
+	/**
+	 * Checkmarx reports can contain data (e.g. byte order marks) before the XML
+	 * declaration. When the declaration is found inside the first bytes all data
+	 * before is skipped, otherwise the stream is returned unchanged - except a
+	 * UTF-16 byte order mark, which is always skipped. A UTF-16 byte order mark
+	 * also defines the charset of the returned report, because the decoder
+	 * cannot detect the byte order after the mark has been skipped.
+	 * 
+	 * @param report
+	 * @return report starting with XML declaration
+	 * @throws IOException
+	 */
+	static ReportStream skipPreamble(ReportStream report) throws IOException {
+		BufferedInputStream buffered = new BufferedInputStream(report.getStream(), MAX_PREAMBLE_LENGTH);
+		buffered.mark(MAX_PREAMBLE_LENGTH);
+
+		byte[] start = new byte[MAX_PREAMBLE_LENGTH];
+		int length = 0;
+		int read = 0;
+		while (length < start.length && (read = buffered.read(start, length, start.length - length)) != -1) {
+			length += read;
+		}
+		buffered.reset();
 
-		WaitForScanReportSupport support = new WaitForScanReportSupport(context.getCheckmarxAdapter());
-		support.waitForOK(context);
+		Charset charset = resolveCharset(start, length, report.getCharset());
+		int index = indexOf(start, length, XML_DECLARATION_START.getBytes(charset));
+		if (index == -1 && hasUTF16ByteOrderMark(start, length)) {
+			index = 2;
+		}
+		long toSkip = index;
+		while (toSkip > 0) {
+			toSkip -= buffered.skip(toSkip);
+		}
+		return new ReportStream(buffered, charset);
+	}
 
-		ReportDetails reportDetails = context.getReportDetails();
-		if (reportDetails.isNotFound()) {
-			throw context.asAdapterException("The report cannot be found!", null);
+	private static Charset resolveCharset(byte[] start, int length, Charset charset) {
+		if (length >= 2 && start[0] == (byte) 0xFF && start[1] == (byte) 0xFE) {
+			return StandardCharsets.UTF_16LE;
+		}
+		if (length >= 2 && start[0] == (byte) 0xFE && start[1] == (byte) 0xFF) {
+			return StandardCharsets.UTF_16BE;
 		}
+		if (StandardCharsets.UTF_16.equals(charset)) {
+			/* no byte order mark - UTF-16 is big endian by default */
+			return StandardCharsets.UTF_16BE;
+		}
+		return charset;
+	}
 
+	private static boolean hasUTF16ByteOrderMark(byte[] start, int length) {
+		return length >= 2 && ((start[0] == (byte) 0xFF && start[1] == (byte) 0xFE) || (start[0] == (byte) 0xFE && start[1] == (byte) 0xFF));
+	}
+
+	private static int indexOf(byte[] data, int length, byte[] search) {
+		for (int i = 0; i <= length - search.length; i++) {
+			boolean found = true;
+			for (int j = 0; j < search.length && found; j++) {
+				found = data[i + j] == search[j];
+			}
+			if (found) {
+				return i;
+			}
+		}
+		return -1;
 	}
 
 	// https://checkmarx.atlassian.net/wiki/spaces/KC/pages/223379587/Register+Scan+Report+-+POST+reports+sastScan
@@ -3,6 +3,7 @@ package com.daimler.sechub.adapter.checkmarx.support;
 
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,49 +28,27 @@ public class CheckmarxScanSupport {
 	private static final Logger LOG = LoggerFactory.getLogger(CheckmarxScanSupport.class);
 
 	/**
-	 * Starts new scan - means : Will create an entry inside QUEUE! And wait until
-	 * processed. If checkmarx queuing fails because of full scan is necessary a
-	 * automatic retry will be done. If another failure occurs the scan will fail.
+	 * Starts new scan - means : Will create an entry inside QUEUE! And wait
+	 * asynchronous until processed. If checkmarx queuing fails because of full
+	 * scan is necessary the returned future fails with a
+	 * {@link CheckmarxFullScanNecessaryException} as cause, so the caller can
+	 * retry. If another failure occurs the scan will fail.
 	 * 
 	 * @param context
 	 *            - if scan is started, the corresponding queue id will be set to
 	 *            context
-	 * @param sessionContext
+	 * @return future, completed when scan is no longer running
 	 * @throws AdapterException
 	 */
-	public void startNewScan(CheckmarxContext context) throws AdapterException {
+	public CompletableFuture<CheckmarxContext> startNewScan(CheckmarxContext context) throws AdapterException {
 		LOG.info("Start new checkmarx scan for: {}", context.getSessionData().getProjectName());
 		triggerNewEntryInQueue(context);
-		waitForQueingDone(context);
-		checkScanAvailable(context);
 
-	}
-
-	private void checkScanAvailable(CheckmarxContext context) throws AdapterException {
-		WaitForScanStateSupport support = new WaitForScanStateSupport(context.getCheckmarxAdapter());
-		support.waitForOK(context);
-
-	}
-
-	private void waitForQueingDone(CheckmarxContext context) throws AdapterException {
 		WaitForQueueStateSupport queueSupport = new WaitForQueueStateSupport(context.getCheckmarxAdapter());
-		queueSupport.waitForOK(context);
-
-		QueueDetails queueDetails = context.getQueueDetails();
-		if (queueDetails.hasNeverRun()) {
-			throw context.asAdapterException("The queuing has never been run ?!!?", null);
-		}
+		WaitForScanStateSupport scanStateSupport = new WaitForScanStateSupport(context.getCheckmarxAdapter());
 
-		if (queueDetails.hasFailed()) {
-			String failureText = queueDetails.getFailureText();
-			if (failureText == null) {
-				failureText = "";
-			}
-			if (context.isIncrementalScan() && failureText.toLowerCase().contains("full scan")) {
-				throw new CheckmarxFullScanNecessaryException(failureText);
-			}
-			throw context.asAdapterException("The queuing has failed:" + failureText, null);
-		}
+		/* queue failures are handled by queue support when queuing is done */
+		return queueSupport.waitForOKAsync(context).thenCompose(queueState -> scanStateSupport.waitForOKAsync(context)).thenApply(scanState -> context);
 	}
 
 	// https://checkmarx.atlassian.net/wiki/spaces/KC/pages/814121878/Swagger+Examples+v8.8.0+-+v1
@@ -81,7 +60,8 @@ public class CheckmarxScanSupport {
 		json.put("projectId", projectId);
 		json.put("isIncremental", context.isIncrementalScan());
 		json.put("isPublic", false);
-		json.put("forceScan", false);
+		/* without upload checkmarx detects no code change - so we must force the scan */
+		json.put("forceScan", context.isSourceCodeUploadSkipped());
 		json.put("comment", "sechub job:" + config.getTraceID());
 
 		String url = context.getAPIURL("sast/scans");
@@ -29,6 +29,25 @@ class WaitForQueueStateSupport extends WaitForStateSupport<CheckmarxContext, Che
 		fetchScanQueueDetails(context);
 		return null;
 	}
+
+	@Override
+	protected void handleNoLongerWaitingState(String state, CheckmarxContext context) throws Exception {
+		QueueDetails queueDetails = context.getQueueDetails();
+		if (queueDetails.hasNeverRun()) {
+			throw context.asAdapterException("The queuing has never been run ?!!?", null);
+		}
+
+		if (queueDetails.hasFailed()) {
+			String failureText = queueDetails.getFailureText();
+			if (failureText == null) {
+				failureText = "";
+			}
+			if (context.isIncrementalScan() && failureText.toLowerCase().contains("full scan")) {
+				throw new CheckmarxFullScanNecessaryException(failureText);
+			}
+			throw context.asAdapterException("The queuing has failed:" + failureText, null);
+		}
+	}
 	
 	// https://checkmarx.atlassian.net/wiki/spaces/KC/pages/334332174/Get+Scan+Queue+Details+by+Scan+Id+-+GET+sast+scansQueue+id+8.7.0+and+up
 	private void fetchScanQueueDetails(CheckmarxContext context) throws AdapterException {
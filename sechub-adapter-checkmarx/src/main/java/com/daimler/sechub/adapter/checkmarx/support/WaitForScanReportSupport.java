@@ -15,8 +15,11 @@ import com.daimler.sechub.adapter.support.JSONAdapterSupport.Access;
 
 class WaitForScanReportSupport extends WaitForStateSupport<CheckmarxAdapterContext, CheckmarxAdapterConfig>{
 
-	public WaitForScanReportSupport(Adapter<?> adapter) {
+	private CheckmarxScanReportSupport reportSupport;
+
+	public WaitForScanReportSupport(Adapter<?> adapter, CheckmarxScanReportSupport reportSupport) {
 		super(adapter);
+		this.reportSupport = reportSupport;
 	}
 
 	@Override
@@ -29,6 +32,16 @@ class WaitForScanReportSupport extends WaitForStateSupport<CheckmarxAdapterConte
 		fetchScanDetails(context);
 		return null;
 	}
+
+	// https://checkmarx.atlassian.net/wiki/spaces/KC/pages/563806382/Get+Report+Status+by+Id+-+GET+reports+sastScan+id+status+v8.8.0+and+up
+	@Override
+	protected void handleNoLongerWaitingState(String state, CheckmarxAdapterContext context) throws Exception {
+		ReportDetails reportDetails = context.getReportDetails();
+		if (reportDetails.isNotFound()) {
+			throw context.asAdapterException("The report cannot be found!", null);
+		}
+		reportSupport.fetchReportResult(context);
+	}
 	
 //	https://checkmarx.atlassian.net/wiki/spaces/KC/pages/563806382/Get+Report+Status+by+Id+-+GET+reports+sastScan+id+status+v8.8.0+and+up
 //	https://checkmarx.atlassian.net/wiki/spaces/KC/pages/814121878/Swagger+Examples+v8.8.0+-+v1
@@ -1,15 +1,26 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.adapter.checkmarx.support;
 
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestOperations;
 
+import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterConfig;
 import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterContext;
 
 public class CheckmarxScanReportSupportTest {
@@ -59,15 +70,74 @@ public class CheckmarxScanReportSupportTest {
 	}
 	
 
-	private CheckmarxAdapterContext prepareContent(String content) {
-		ResponseEntity<String> entity = new ResponseEntity<>(content, HttpStatus.OK);
+	@Test
+	public void fetchReportResult__support_does_stream_result_into_sink_without_byte_order_marks() throws Exception {
+		/* prepare */
+		CheckmarxAdapterContext context = prepareContent(UTF8_BOM + "<?xml bla");
+		ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+		when(context.getConfig().getReportSink()).thenReturn((report, charset) -> StreamUtils.copy(report, streamed));
+
+		/* execute */
+		supportToTest.fetchReportResult(context);
+
+		/* test */
+		verify(context, never()).setResult(any());
+		assertEquals("<?xml bla", new String(streamed.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void fetchReportResult__support_does_remove_utf16_little_endian_byte_order_mark_and_decodes_by_it() throws Exception {
+		/* prepare */
+		byte[] content = ("\uFEFF<?xml bla").getBytes(StandardCharsets.UTF_16LE);
+		CheckmarxAdapterContext context = prepareContent(content);
+
+		/* execute */
+		supportToTest.fetchReportResult(context);
+
+		/* test */
+		verify(context).setResult("<?xml bla");
+	}
+
+	@Test
+	public void fetchReportResult__support_does_stream_utf16_big_endian_report_into_sink_with_detected_charset() throws Exception {
+		/* prepare */
+		byte[] content = ("\uFEFF<?xml bla").getBytes(StandardCharsets.UTF_16BE);
+		CheckmarxAdapterContext context = prepareContent(content);
+		ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+		Charset[] streamedCharset = new Charset[1];
+		when(context.getConfig().getReportSink()).thenReturn((report, charset) -> {
+			streamedCharset[0] = charset;
+			StreamUtils.copy(report, streamed);
+		});
+
+		/* execute */
+		supportToTest.fetchReportResult(context);
+
+		/* test */
+		assertEquals(StandardCharsets.UTF_16BE, streamedCharset[0]);
+		assertEquals("<?xml bla", new String(streamed.toByteArray(), StandardCharsets.UTF_16BE));
+	}
+
+	private CheckmarxAdapterContext prepareContent(String content) throws Exception {
+		return prepareContent(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@SuppressWarnings("unchecked")
+	private CheckmarxAdapterContext prepareContent(byte[] content) throws Exception {
+		ClientHttpResponse response = mock(ClientHttpResponse.class);
+		when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+		when(response.getHeaders()).thenReturn(new HttpHeaders());
+		when(response.getBody()).thenReturn(new ByteArrayInputStream(content));
 
 		RestOperations restOperations = mock(RestOperations.class);
 		CheckmarxAdapterContext context = mock(CheckmarxAdapterContext.class);
+		CheckmarxAdapterConfig config = mock(CheckmarxAdapterConfig.class);
 
+		when(context.getConfig()).thenReturn(config);
 		when(context.getRestOperations()).thenReturn(restOperations);
 		when(context.getAPIURL(any())).thenReturn("path");
-		when(restOperations.getForEntity(eq("path"), eq(String.class))).thenReturn(entity);
+		when(restOperations.execute(eq("path"), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class)))
+				.thenAnswer(invocation -> invocation.getArgument(3, ResponseExtractor.class).extractData(response));
 		return context;
 	}
 
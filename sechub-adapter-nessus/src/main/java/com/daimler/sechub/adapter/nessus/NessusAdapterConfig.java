@@ -5,4 +5,16 @@ import com.daimler.sechub.adapter.AdapterConfig;
 
 public interface NessusAdapterConfig extends AdapterConfig {
 
+	/**
+	 * @return minutes a nessus login token is shared between scans, 0 or lower
+	 *         means token is not shared
+	 */
+	int getSessionCacheMinutes();
+
+	/**
+	 * @return minutes a looked up nessus policy id is shared between scans, 0
+	 *         or lower means policy id is not shared
+	 */
+	int getPolicyCacheMinutes();
+
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,7 +27,9 @@ import com.daimler.sechub.adapter.AbstractAdapter;
 import com.daimler.sechub.adapter.AdapterException;
 import com.daimler.sechub.adapter.AdapterLogId;
 import com.daimler.sechub.adapter.AdapterProfiles;
+import com.daimler.sechub.adapter.AdapterSessionCache.CachedValue;
 import com.daimler.sechub.adapter.WaitForStateSupport;
+import com.daimler.sechub.adapter.support.ReportDownloadSupport;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
@@ -51,31 +55,45 @@ public class NessusAdapterV1 extends AbstractAdapter<NessusAdapterContext, Nessu
 	private static final String MSG_APICALL_EXPORT_SCAN_STATUS = "/scans/{0}/export/{1}/status";
 	private static final String MSG_APICALL_EXPORT_SCAN_DOWNLOAD = "/scans/{0}/export/{1}/download";
 
-	@Override
-	public String start(NessusAdapterConfig config) throws AdapterException {
-		try {
-			NessusContext context = new NessusContext(config, this);
-			NessusWaitForScanStateSupport waitForScanDoneSupport = new NessusWaitForScanStateSupport();
-			WaitForExportStatusSupport waitForExportDoneSupport = new WaitForExportStatusSupport();
+	private static final String SESSION_CACHE_NAME_TOKEN = "nessus-session";
+	private static final String SESSION_CACHE_NAME_POLICY = "nessus-policy:";
 
-			loginAndFetchToken(context);
-			updateContextWithNessusPolicyUUID(context);
-			addNewScan(context);
-			launchScan(context);
-
-			waitForScanDoneSupport.waitForOK(context);
+	private ReportDownloadSupport reportDownloadSupport = new ReportDownloadSupport();
 
-			startExport(context);
-			waitForExportDoneSupport.waitForOK(context);
+	@Override
+	public String start(NessusAdapterConfig config) throws AdapterException {
+		return waitFor(startAsync(config), config);
+	}
 
-			logout(context);
-			return context.getResult();
-		} catch (AdapterException e) {
-			throw e;
-		} catch (Exception e) {
-			throw asAdapterException("Was not able to perform scan!", e, config);
-		}
+	@Override
+	public CompletableFuture<String> startAsync(NessusAdapterConfig config) {
+		NessusContext context = new NessusContext(config, this);
+		NessusWaitForScanStateSupport waitForScanDoneSupport = new NessusWaitForScanStateSupport();
+		WaitForExportStatusSupport waitForExportDoneSupport = new WaitForExportStatusSupport();
 
+		/* @formatter:off */
+		CompletableFuture<String> steps = executeAsync(() -> {
+					loginAndFetchToken(context);
+					updateContextWithNessusPolicyUUID(context);
+					addNewScan(context);
+					launchScan(context);
+					return context;
+				}).
+				thenCompose(waitForScanDoneSupport::waitForOKAsync).
+				thenCompose(scanState -> executeAsync(() -> {
+					startExport(context);
+					return context;
+				})).
+				/* export download is done by wait support when export is ready */
+				thenCompose(waitForExportDoneSupport::waitForOKAsync).
+				thenCompose(exportState -> executeAsync(() -> {
+					if (!isSessionCached(config)) {
+						logout(context);
+					}
+					return context.getResult();
+				}));
+		/* @formatter:on */
+		return createResult(steps, context, failure -> getSessionCache().invalidateWhenUnauthorized(createSessionCacheKey(config), failure));
 	}
 
 	private void updateContextWithNessusPolicyUUID(NessusContext context) throws AdapterException {
@@ -237,9 +255,24 @@ public class NessusAdapterV1 extends AbstractAdapter<NessusAdapterContext, Nessu
 	}
 
 	private String resolvePolicyUID(NessusAdapterContext context) throws AdapterException {
-		String content = fetchPoliciesBody(context);
 		String searchedPolicyTitle = context.getConfig().getPolicyId();
-		return resolvePolicyUIDByTitle(content, searchedPolicyTitle, context);
+		String key = getSessionCache().createKey(SESSION_CACHE_NAME_POLICY + searchedPolicyTitle, context.getConfig());
+
+		return getSessionCache().getOrLoad(key, () -> {
+			String content = fetchPoliciesBody(context);
+			String policyUID = resolvePolicyUIDByTitle(content, searchedPolicyTitle, context);
+			/* unknown policies are not cached - maybe created later */
+			long lifetime = policyUID == null ? 0 : TimeUnit.MINUTES.toMillis(context.getConfig().getPolicyCacheMinutes());
+			return new CachedValue<>(policyUID, lifetime);
+		});
+	}
+
+	private String createSessionCacheKey(NessusAdapterConfig config) {
+		return getSessionCache().createKey(SESSION_CACHE_NAME_TOKEN, config);
+	}
+
+	private boolean isSessionCached(NessusAdapterConfig config) {
+		return getSessionCache().isEnabled() && config.getSessionCacheMinutes() > 0;
 	}
 
 	String resolvePolicyUIDByTitle(String content, String searchedPolicyTitle, NessusAdapterContext context)
@@ -272,12 +305,22 @@ public class NessusAdapterV1 extends AbstractAdapter<NessusAdapterContext, Nessu
 
 	/**
 	 * Try to login with user credentials and fetch session token from NESSUS. The
-	 * token is stored in context.
+	 * token is stored in context. Tokens are shared between scans by session cache
+	 * - so no login is necessary for every scan.
 	 *
 	 * @param context
 	 * @throws AdapterException
 	 */
 	void loginAndFetchToken(NessusAdapterContext context) throws AdapterException {
+		NessusAdapterConfig config = context.getConfig();
+		String token = getSessionCache().getOrLoad(createSessionCacheKey(config), () -> {
+			long lifetime = isSessionCached(config) ? TimeUnit.MINUTES.toMillis(config.getSessionCacheMinutes()) : 0;
+			return new CachedValue<>(login(context), lifetime);
+		});
+		context.setNessusSessionToken(token);
+	}
+
+	private String login(NessusAdapterContext context) throws AdapterException {
 		NessusAdapterConfig config = context.getConfig();
 		String traceID = config.getTraceID();
 
@@ -298,12 +341,12 @@ public class NessusAdapterV1 extends AbstractAdapter<NessusAdapterContext, Nessu
 			ResponseEntity<String> response = context.getRestOperations().postForEntity(apiUrl, request, String.class);
 			/* resolve token from response */
 			String token = context.json().fetch("token", response).asText();
-			LOG.debug("{} resulted token is '{}'", traceID, token);
+			LOG.debug("{} login done", traceID);
 
 			if (token == null || token.isEmpty()) {
 				throw asAdapterException("Login failed, no token returned!", config);
 			}
-			context.setNessusSessionToken(token);
+			return token;
 
 		} catch (HttpClientErrorException e) {
 			throw asAdapterException("Was not able to login by url:" + apiUrl, e, context);
@@ -425,14 +468,11 @@ public class NessusAdapterV1 extends AbstractAdapter<NessusAdapterContext, Nessu
 		protected void handleNoLongerWaitingState(String state, NessusAdapterContext context) throws Exception {
 			String apiUrl = createScanExportDownloadApiURL(context);
 
-			ResponseEntity<String> response = context.getRestOperations().getForEntity(apiUrl, String.class);
+			ResponseEntity<String> response = reportDownloadSupport.downloadReport(context, apiUrl, null);
 			if (!OK.equals(response.getStatusCode())) {
 				throw new NessusRESTFailureException(response.getStatusCode(), response.getBody());
 			}
-
-			String result = response.getBody();
-			context.setResult(result);
-			LOG.debug("{} fetched export status, result={}", getAdapterLogId(context), context.getResult());
+			LOG.debug("{} fetched export", getAdapterLogId(context));
 
 		}
 
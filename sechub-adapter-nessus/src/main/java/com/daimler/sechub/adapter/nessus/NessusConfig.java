@@ -6,9 +6,25 @@ import com.daimler.sechub.adapter.AbstractAdapterConfigBuilder;
 
 public class NessusConfig extends AbstractAdapterConfig implements NessusAdapterConfig{
 
+	public static final int DEFAULT_SESSION_CACHE_MINUTES = 20;
+	public static final int DEFAULT_POLICY_CACHE_MINUTES = 60;
+
+	private int sessionCacheMinutes;
+	private int policyCacheMinutes;
+
 	private NessusConfig() {
 	}
 
+	@Override
+	public int getSessionCacheMinutes() {
+		return sessionCacheMinutes;
+	}
+
+	@Override
+	public int getPolicyCacheMinutes() {
+		return policyCacheMinutes;
+	}
+
 	public static NessusConfigBuilder builder() {
 		return new NessusConfigBuilder();
 	}
@@ -16,9 +32,34 @@ public class NessusConfig extends AbstractAdapterConfig implements NessusAdapter
 	/* FIXME Albert Tregnaghi, 2018-03-26: cleanup! it was copied from netsparker... */
 	public static class NessusConfigBuilder extends AbstractAdapterConfigBuilder<NessusConfigBuilder, NessusAdapterConfig>{
 
+		private int sessionCacheMinutes = DEFAULT_SESSION_CACHE_MINUTES;
+		private int policyCacheMinutes = DEFAULT_POLICY_CACHE_MINUTES;
+
+		/**
+		 * Set minutes a login token is shared between scans
+		 * @param sessionCacheMinutes 0 or lower means token is not shared
+		 * @return builder
+		 */
+		public NessusConfigBuilder setSessionCacheMinutes(int sessionCacheMinutes) {
+			this.sessionCacheMinutes = sessionCacheMinutes;
+			return this;
+		}
+
+		/**
+		 * Set minutes a looked up policy id is shared between scans
+		 * @param policyCacheMinutes 0 or lower means policy id is not shared
+		 * @return builder
+		 */
+		public NessusConfigBuilder setPolicyCacheMinutes(int policyCacheMinutes) {
+			this.policyCacheMinutes = policyCacheMinutes;
+			return this;
+		}
+
 		@Override
 		protected void customBuild(NessusAdapterConfig config) {
-			
+			NessusConfig nessusConfig = (NessusConfig) config;
+			nessusConfig.sessionCacheMinutes = sessionCacheMinutes;
+			nessusConfig.policyCacheMinutes = policyCacheMinutes;
 		}
 
 		@Override
@@ -62,14 +62,18 @@ public class NessusAdapterV1WireMockTest {
 
 		apiURLSupport = new IcrementalAdditionalPrefixAPIURLSupport("nessustest");
 
-		adapterToTest = new NessusAdapterV1() {
+		NessusAdapterV1 adapterV1 = new NessusAdapterV1() {
 			@Override
 			protected APIURLSupport createAPIURLSupport() {
 				return apiURLSupport;
 			}
 		};
+		adapterToTest = adapterV1;
 		config = mock(NessusAdapterConfig.class);
 
+		/* session not cached, so every call of the flow is done - including logout */
+		when(config.getSessionCacheMinutes()).thenReturn(0);
+
 		when(config.getTraceID()).thenReturn(SECHUB_TRACE_ID);
 		when(config.getUser()).thenReturn(USERNAME);
 		when(config.getTargetType()).thenReturn(TARGET_TYPE);
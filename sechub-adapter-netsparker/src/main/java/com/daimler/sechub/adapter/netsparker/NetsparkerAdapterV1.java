@@ -5,6 +5,7 @@ import static org.springframework.http.HttpStatus.*;
 
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +22,7 @@ import com.daimler.sechub.adapter.AdapterException;
 import com.daimler.sechub.adapter.AdapterProfiles;
 import com.daimler.sechub.adapter.WaitForStateSupport;
 import com.daimler.sechub.adapter.support.JSONAdapterSupport;
+import com.daimler.sechub.adapter.support.ReportDownloadSupport;
 
 /**
  * This component is able to handle Netsparker API V1
@@ -47,26 +49,31 @@ public class NetsparkerAdapterV1 extends AbstractAdapter<NetsparkerAdapterContex
 	private static final Logger LOG = LoggerFactory.getLogger(NetsparkerAdapterV1.class);
 
 	private NetsparkerAdapterWebLoginSupportV1 webLoginSupport = new NetsparkerAdapterWebLoginSupportV1();
+	ReportDownloadSupport reportDownloadSupport = new ReportDownloadSupport();
 
 	@Override
 	public String start(NetsparkerAdapterConfig config) throws AdapterException {
-		try {
-			NetsparkerContext context = new NetsparkerContext(config, this);
-			NetsparkerWaitForStateSupport waitSupport = new NetsparkerWaitForStateSupport();
-			ensureNetsparkerWebsiteConfigurationExists(context);
-
-			createNewScanAndFetchId(context);
-			waitSupport.waitForOK(context);
-
-			fetchReport(context);
-
-			return context.getResult();
-		} catch (AdapterException e) {
-			throw e;
-		} catch (Exception e) {
-			throw asAdapterException("Was not able to perform scan!", e, config);
-		}
+		return waitFor(startAsync(config), config);
+	}
 
+	@Override
+	public CompletableFuture<String> startAsync(NetsparkerAdapterConfig config) {
+		NetsparkerContext context = new NetsparkerContext(config, this);
+		NetsparkerWaitForStateSupport waitSupport = new NetsparkerWaitForStateSupport();
+
+		/* @formatter:off */
+		CompletableFuture<String> steps = executeAsync(() -> {
+					ensureNetsparkerWebsiteConfigurationExists(context);
+					createNewScanAndFetchId(context);
+					return context;
+				}).
+				thenCompose(waitSupport::waitForOKAsync).
+				thenCompose(state -> executeAsync(() -> {
+					fetchReport(context);
+					return context.getResult();
+				}));
+		/* @formatter:on */
+		return createResult(steps, context, null);
 	}
 
 	@Override
@@ -105,12 +112,10 @@ public class NetsparkerAdapterV1 extends AbstractAdapter<NetsparkerAdapterContex
 		String apiUrl = createAPIURL(
 				APICALL_GET_SCAN_REPORT + context.getProductContextId() + "?Type=Vulnerabilities&Format=Xml",
 				context.getConfig());
-		ResponseEntity<String> response = context.getRestOperations().getForEntity(apiUrl, String.class);
+		ResponseEntity<String> response = reportDownloadSupport.downloadReport(context, apiUrl, null);
 		if (!OK.equals(response.getStatusCode())) {
 			throw new NetsparkerRESTFailureException(response.getStatusCode(), response.getBody());
 		}
-		String body = response.getBody();
-		context.setResult(body);
 		LOG.debug("{} calling fetch report with '{}'", traceID, apiUrl);
 	}
 
@@ -16,6 +16,7 @@ import org.springframework.web.client.RestTemplate;
 import com.daimler.sechub.adapter.AdapterException;
 import com.daimler.sechub.adapter.BasicLoginConfig;
 import com.daimler.sechub.adapter.support.JSONAdapterSupport;
+import com.daimler.sechub.adapter.support.ReportDownloadSupport;
 
 public class NetsparkerAdapterV1Test {
 
@@ -67,17 +68,16 @@ public class NetsparkerAdapterV1Test {
 	@Test
 	public void a_fetch_report__triggers_rest_tempate_with_correct_params() {
 		/* prepare */
-
-		@SuppressWarnings("unchecked")
-		ResponseEntity<String> response = mock(ResponseEntity.class);
-		when(template.getForEntity(eq("baseURL/api/1.0/scans/report/netsparkerId?Type=Vulnerabilities&Format=Xml"), eq(String.class))).thenReturn(response);
-		when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+		ResponseEntity<String> response = new ResponseEntity<>(HttpStatus.OK);
+		ReportDownloadSupport reportDownloadSupport = mock(ReportDownloadSupport.class);
+		adapterToTest.reportDownloadSupport = reportDownloadSupport;
+		when(reportDownloadSupport.downloadReport(eq(context), eq("baseURL/api/1.0/scans/report/netsparkerId?Type=Vulnerabilities&Format=Xml"), isNull())).thenReturn(response);
 
 		/* execute */
 		adapterToTest.fetchReport(context);
 
 		/* test */
-		verify(template).getForEntity("baseURL/api/1.0/scans/report/netsparkerId?Type=Vulnerabilities&Format=Xml", String.class);
+		verify(reportDownloadSupport).downloadReport(context, "baseURL/api/1.0/scans/report/netsparkerId?Type=Vulnerabilities&Format=Xml", null);
 	}
 
 	@Test
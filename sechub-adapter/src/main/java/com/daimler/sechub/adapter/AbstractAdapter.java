@@ -2,18 +2,155 @@
 package com.daimler.sechub.adapter;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.daimler.sechub.adapter.StatePollingEngine.BlockingWork;
 import com.daimler.sechub.adapter.support.APIURLSupport;
+import com.daimler.sechub.adapter.support.AdapterFutureSupport;
 import com.daimler.sechub.adapter.support.JSONAdapterSupport;
 
 public abstract class AbstractAdapter<A extends AdapterContext<C>,C extends AdapterConfig> implements Adapter<C> {
 
 	private String adapterId;
 	private APIURLSupport apiURLSupport;
+	private AdapterFutureSupport futureSupport = new AdapterFutureSupport();
+
+	/* volatile: lazy creation is done by double checked locking */
+	@Autowired(required = false)
+	private volatile AdapterHttpClientPool httpClientPool;
+
+	@Autowired(required = false)
+	private volatile AdapterSessionCache sessionCache;
+
+	@Autowired(required = false)
+	private volatile StatePollingEngine pollingEngine;
+
+	private final Object lazyCreationMonitor = new Object();
 
 	protected AbstractAdapter() {
 		apiURLSupport = createAPIURLSupport();
 	}
+
+	/**
+	 * @return shared http client pool - when not injected (e.g. adapter created
+	 *         outside spring) a pool for this adapter instance is used
+	 */
+	public AdapterHttpClientPool getHttpClientPool() {
+		AdapterHttpClientPool pool = httpClientPool;
+		if (pool != null) {
+			return pool;
+		}
+		synchronized (lazyCreationMonitor) {
+			if (httpClientPool == null) {
+				httpClientPool = new AdapterHttpClientPool();
+			}
+			return httpClientPool;
+		}
+	}
+
+	/**
+	 * @return shared session cache - when not injected (e.g. adapter created
+	 *         outside spring) a cache for this adapter instance is used
+	 */
+	public AdapterSessionCache getSessionCache() {
+		AdapterSessionCache cache = sessionCache;
+		if (cache != null) {
+			return cache;
+		}
+		synchronized (lazyCreationMonitor) {
+			if (sessionCache == null) {
+				sessionCache = new AdapterSessionCache();
+			}
+			return sessionCache;
+		}
+	}
+
+	/**
+	 * @return shared polling engine - when not injected (e.g. adapter created
+	 *         outside spring) an engine for this adapter instance is used. Can be
+	 *         overriden for testing
+	 */
+	protected StatePollingEngine getPollingEngine() {
+		StatePollingEngine engine = pollingEngine;
+		if (engine != null) {
+			return engine;
+		}
+		synchronized (lazyCreationMonitor) {
+			if (pollingEngine == null) {
+				pollingEngine = new StatePollingEngine(1);
+			}
+			return pollingEngine;
+		}
+	}
+
+	/**
+	 * Executes given blocking work (e.g. REST calls between two state waits)
+	 * inside the work pool of the polling engine
+	 * 
+	 * @param work
+	 * @return future for the work
+	 */
+	protected <T> CompletableFuture<T> executeAsync(BlockingWork<T> work) {
+		return getPollingEngine().execute(work);
+	}
+
+	/**
+	 * Creates the adapter result for given chain of steps. Failures are handed
+	 * to given failure handler and the result is completed exceptionally with an
+	 * {@link AdapterException}. When the result is canceled (e.g. because the
+	 * waiting thread was interrupted) the context is canceled too, so no further
+	 * state checks are done.
+	 * 
+	 * @param steps
+	 * @param context
+	 * @param failureHandler handler for failures, can be <code>null</code>
+	 * @return result future
+	 */
+	protected CompletableFuture<String> createResult(CompletableFuture<String> steps, A context, Consumer<Throwable> failureHandler) {
+		CompletableFuture<String> result = new CompletableFuture<>();
+		steps.whenComplete((data, failure) -> {
+			if (failure == null) {
+				result.complete(data);
+				return;
+			}
+			Throwable cause = failure;
+			while (cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			if (failureHandler != null) {
+				failureHandler.accept(cause);
+			}
+			if (cause instanceof AdapterException) {
+				result.completeExceptionally(cause);
+			} else {
+				result.completeExceptionally(asAdapterException("Was not able to perform scan!", cause, context.getConfig()));
+			}
+		});
+		result.whenComplete((data, failure) -> {
+			if (result.isCancelled()) {
+				context.cancel();
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Waits for given adapter result - used to implement synchronous
+	 * {@link #start(AdapterConfig)} by {@link #startAsync(AdapterConfig)}
+	 * 
+	 * @param result
+	 * @param config
+	 * @return result
+	 * @throws AdapterException
+	 */
+	protected final String waitFor(CompletableFuture<String> result, C config) throws AdapterException {
+		return futureSupport.waitFor(result, this, config);
+	}
+
 	protected JSONAdapterSupport createJsonSupport(TraceIdProvider provider) {
 		return new JSONAdapterSupport(this, provider);
 	}
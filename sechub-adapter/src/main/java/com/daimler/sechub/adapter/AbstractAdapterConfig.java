@@ -17,6 +17,11 @@ public abstract class AbstractAdapterConfig implements AdapterConfig {
 	private SealedObject passwordOrAPITokenBase64encoded;
 
 	int timeToWaitForNextCheckOperationInMilliseconds;
+	int maximumTimeToWaitForNextCheckOperationInMilliseconds;
+	double checkOperationBackoffMultiplier = 1.0;
+	int checkOperationJitterInPercent;
+	long expectedExecutionDurationInMilliseconds = -1;
+	int minimumTimeToWaitForNextCheckOperationInMilliseconds;
 	int timeOutInMilliseconds;
 	int proxyPort;
 	String proxyHostname;
@@ -36,6 +41,7 @@ public abstract class AbstractAdapterConfig implements AdapterConfig {
 	private Map<String, Object> options = new HashMap<>();
 	LinkedHashSet<InetAddress> targetIPs = new LinkedHashSet<>();
 	private String targetType;
+	AdapterReportSink reportSink;
 
 
 	protected AbstractAdapterConfig() {
@@ -54,6 +60,31 @@ public abstract class AbstractAdapterConfig implements AdapterConfig {
 		return timeToWaitForNextCheckOperationInMilliseconds;
 	}
 
+	@Override
+	public int getMaximumTimeToWaitForNextCheckOperationInMilliseconds() {
+		return maximumTimeToWaitForNextCheckOperationInMilliseconds;
+	}
+
+	@Override
+	public double getCheckOperationBackoffMultiplier() {
+		return checkOperationBackoffMultiplier;
+	}
+
+	@Override
+	public int getCheckOperationJitterInPercent() {
+		return checkOperationJitterInPercent;
+	}
+
+	@Override
+	public long getExpectedExecutionDurationInMilliseconds() {
+		return expectedExecutionDurationInMilliseconds;
+	}
+
+	@Override
+	public int getMinimumTimeToWaitForNextCheckOperationInMilliseconds() {
+		return minimumTimeToWaitForNextCheckOperationInMilliseconds;
+	}
+
 	@Override
 	public boolean isTrustAllCertificatesEnabled() {
 		return trustAllCertificatesEnabled;
@@ -179,4 +210,9 @@ public abstract class AbstractAdapterConfig implements AdapterConfig {
 		return projectId;
 	}
 
+	@Override
+	public AdapterReportSink getReportSink() {
+		return reportSink;
+	}
+
 }
@@ -23,9 +23,14 @@ public abstract class AbstractAdapterConfigBuilder<B extends AbstractAdapterConf
 
 	private static final int DEFAULT_SCAN_RESULT_TIMEOUT_IN_MINUTES=MAX_5_DAYS_IN_MINUTES;
 	private static final int DEFAULT_SCAN_RESULT_CHECK_IN_MINUTES=1;
+	private static final int DEFAULT_SCAN_RESULT_CHECK_MINIMUM_IN_SECONDS=10;
 
 	public static final String DOCUMENT_INFO_TIMEOUT="Time in minutes when adapter result check will be canceled/time out. When -1 timeout is "+AbstractAdapterConfigBuilder.DEFAULT_SCAN_RESULT_TIMEOUT_IN_MINUTES+" minutes";
 	public static final String DOCUMENT_INFO_CHECK="Time in minutes when adapter check operation is called next. When -1 value is "+AbstractAdapterConfigBuilder.DEFAULT_SCAN_RESULT_CHECK_IN_MINUTES+" minutes";
+	public static final String DOCUMENT_INFO_CHECK_MAXIMUM="Maximum time in minutes between two adapter check operations when a backoff multiplier is used. When -1 the check interval is used, so there is no backoff";
+	public static final String DOCUMENT_INFO_CHECK_BACKOFF="Multiplier to increase the time between two adapter check operations after every check, until the maximum is reached. 1.0 means no backoff";
+	public static final String DOCUMENT_INFO_CHECK_JITTER="Jitter in percent to randomize the time between two adapter check operations, so checks of scans started at same time are spread. 0 means no jitter";
+	public static final String DOCUMENT_INFO_CHECK_MINIMUM="Minimum time in seconds between two adapter check operations when the check interval is adapted to the expected duration of former executions. When -1 value is "+AbstractAdapterConfigBuilder.DEFAULT_SCAN_RESULT_CHECK_MINIMUM_IN_SECONDS+" seconds";
 	public static final String DOCUMENT_INFO_TRUSTALL="Turns off certification checks for this product only. Should only be used in test or development environments!";
 
 
@@ -35,6 +40,11 @@ public abstract class AbstractAdapterConfigBuilder<B extends AbstractAdapterConf
 
 	private int timeToWaitForNextCheckOperationInMinutes = DEFAULT_SCAN_RESULT_CHECK_IN_MINUTES;// one minute check default
 	private int scanResultTimeOutInMinutes = DEFAULT_SCAN_RESULT_TIMEOUT_IN_MINUTES; // 5 days default
+	private int maximumTimeToWaitForNextCheckOperationInMinutes = -1; // -1 = same as time to wait
+	private double checkOperationBackoffMultiplier = 1.0;
+	private int checkOperationJitterInPercent;
+	private long expectedExecutionDurationInMilliseconds = -1; // -1 = unknown, no adaptive check interval
+	private int minimumTimeToWaitForNextCheckOperationInSeconds = DEFAULT_SCAN_RESULT_CHECK_MINIMUM_IN_SECONDS;
 
 	private String proxyHostname;
 
@@ -54,6 +64,8 @@ public abstract class AbstractAdapterConfigBuilder<B extends AbstractAdapterConf
 
 	private String projectId;
 
+	private AdapterReportSink reportSink;
+
 
 	protected AbstractAdapterConfigBuilder() {
 		uriShrinker = createURIShrinker();
@@ -95,6 +107,87 @@ public abstract class AbstractAdapterConfigBuilder<B extends AbstractAdapterConf
 		return (B) this;
 	}
 
+	/**
+	 * Set maximum time between two result checks in minutes. Only relevant when
+	 * a backoff multiplier greater than one is set.
+	 *
+	 * @param minutes when <0 the setting will be ignored and the result check
+	 *                interval is used. See {@link #DOCUMENT_INFO_CHECK_MAXIMUM}
+	 * @return builder
+	 */
+	@SuppressWarnings("unchecked")
+	public final B setMaximumTimeToWaitForNextCheckOperationInMinutes(int minutes) {
+		if (minutes < 0) {
+			return (B) this;
+		}
+		this.maximumTimeToWaitForNextCheckOperationInMinutes = minutes;
+		return (B) this;
+	}
+
+	/**
+	 * Set backoff multiplier for result checks.
+	 *
+	 * @param multiplier when < 1.0 the setting will be ignored. See
+	 *                   {@link #DOCUMENT_INFO_CHECK_BACKOFF}
+	 * @return builder
+	 */
+	@SuppressWarnings("unchecked")
+	public final B setCheckOperationBackoffMultiplier(double multiplier) {
+		if (multiplier < 1.0) {
+			return (B) this;
+		}
+		this.checkOperationBackoffMultiplier = multiplier;
+		return (B) this;
+	}
+
+	/**
+	 * Set jitter for result checks in percent.
+	 *
+	 * @param percent when <0 or >100 the setting will be ignored. See
+	 *                {@link #DOCUMENT_INFO_CHECK_JITTER}
+	 * @return builder
+	 */
+	@SuppressWarnings("unchecked")
+	public final B setCheckOperationJitterInPercent(int percent) {
+		if (percent < 0 || percent > 100) {
+			return (B) this;
+		}
+		this.checkOperationJitterInPercent = percent;
+		return (B) this;
+	}
+
+	/**
+	 * Set expected execution duration - e.g. calculated from former executions.
+	 * When set, the time between result checks is adapted: near the expected end
+	 * checks are done more often, otherwise less often.
+	 *
+	 * @param milliseconds when <=0 the duration is unknown and the check interval
+	 *                     is not adapted
+	 * @return builder
+	 */
+	@SuppressWarnings("unchecked")
+	public final B setExpectedExecutionDurationInMilliseconds(long milliseconds) {
+		this.expectedExecutionDurationInMilliseconds = milliseconds;
+		return (B) this;
+	}
+
+	/**
+	 * Set minimum time between two result checks in seconds. Only relevant when
+	 * an expected execution duration is set.
+	 *
+	 * @param seconds when <0 the setting will be ignored and default value used.
+	 *                See {@link #DOCUMENT_INFO_CHECK_MINIMUM}
+	 * @return builder
+	 */
+	@SuppressWarnings("unchecked")
+	public final B setMinimumTimeToWaitForNextCheckOperationInSeconds(int seconds) {
+		if (seconds < 0) {
+			return (B) this;
+		}
+		this.minimumTimeToWaitForNextCheckOperationInSeconds = seconds;
+		return (B) this;
+	}
+
 	/**
 	 * Set result check timeout in minutes.
 	 *
@@ -225,6 +318,18 @@ public abstract class AbstractAdapterConfigBuilder<B extends AbstractAdapterConf
 		return (B) this;
 	}
 
+	/**
+	 * Set a sink for the product report - when set, the adapter streams the
+	 * report into the sink and does not return it as string
+	 * @param reportSink
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public B setReportSink(AdapterReportSink reportSink) {
+		this.reportSink=reportSink;
+		return (B) this;
+	}
+
 	public final C build() {
 		validate();
 		ensureTimeSetup();
@@ -242,6 +347,11 @@ public abstract class AbstractAdapterConfigBuilder<B extends AbstractAdapterConf
 
 		abstractAdapterConfig.timeToWaitForNextCheckOperationInMilliseconds = timeToWaitForNextCheckOperationInMinutes * 60 * 1000;
 		abstractAdapterConfig.timeOutInMilliseconds = scanResultTimeOutInMinutes * 60 * 1000;
+		abstractAdapterConfig.maximumTimeToWaitForNextCheckOperationInMilliseconds = maximumTimeToWaitForNextCheckOperationInMinutes * 60 * 1000;
+		abstractAdapterConfig.checkOperationBackoffMultiplier = checkOperationBackoffMultiplier;
+		abstractAdapterConfig.checkOperationJitterInPercent = checkOperationJitterInPercent;
+		abstractAdapterConfig.expectedExecutionDurationInMilliseconds = expectedExecutionDurationInMilliseconds;
+		abstractAdapterConfig.minimumTimeToWaitForNextCheckOperationInMilliseconds = minimumTimeToWaitForNextCheckOperationInSeconds * 1000;
 
 		abstractAdapterConfig.proxyHostname = proxyHostname;
 		abstractAdapterConfig.proxyPort = proxyPort;
@@ -255,6 +365,7 @@ public abstract class AbstractAdapterConfigBuilder<B extends AbstractAdapterConf
 
 		abstractAdapterConfig.traceID = traceID;
 		abstractAdapterConfig.projectId=projectId;
+		abstractAdapterConfig.reportSink=reportSink;
 
 		packageInternalCustomBuild(config);
 		customBuild(config);
@@ -287,6 +398,14 @@ public abstract class AbstractAdapterConfigBuilder<B extends AbstractAdapterConf
 					"Check interval {} bigger than 1 hour. Automatic reset to one hour done. Please check your configuration!", timeToWaitForNextCheckOperationInMinutes);
 			timeToWaitForNextCheckOperationInMinutes = MAX_1_HOUR_IN_MINUTES;
 		}
+		if (maximumTimeToWaitForNextCheckOperationInMinutes > MAX_1_HOUR_IN_MINUTES) {
+			LOG.warn(
+					"Maximum check interval {} bigger than 1 hour. Automatic reset to one hour done. Please check your configuration!", maximumTimeToWaitForNextCheckOperationInMinutes);
+			maximumTimeToWaitForNextCheckOperationInMinutes = MAX_1_HOUR_IN_MINUTES;
+		}
+		if (maximumTimeToWaitForNextCheckOperationInMinutes < timeToWaitForNextCheckOperationInMinutes) {
+			maximumTimeToWaitForNextCheckOperationInMinutes = timeToWaitForNextCheckOperationInMinutes;
+		}
 		if (scanResultTimeOutInMinutes > MAX_5_DAYS_IN_MINUTES) {
 			LOG.warn(
 					"Scan check timeout {} bigger than 5 days. Automatic reset to 5 days done. Please check your configuration!", scanResultTimeOutInMinutes);
@@ -22,6 +22,7 @@ public abstract class AbstractAdapterContext<C extends AdapterConfig, A extends
 
 	private String result;
 	private A adapter;
+	private volatile boolean canceled;
 
 	private JSONAdapterSupport jsonAdapterSupport;
 
@@ -105,6 +106,16 @@ public abstract class AbstractAdapterContext<C extends AdapterConfig, A extends
 		return millis > config.getTimeOutInMilliseconds();
 	}
 
+	@Override
+	public final void cancel() {
+		this.canceled = true;
+	}
+
+	@Override
+	public final boolean isCanceled() {
+		return canceled;
+	}
+
 	@Override
 	public final long getMillisecondsRun() {
 		return System.currentTimeMillis() - started;
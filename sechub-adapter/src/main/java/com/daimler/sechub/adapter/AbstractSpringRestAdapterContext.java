@@ -1,9 +1,6 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.adapter;
 
-import java.net.InetSocketAddress;
-import java.net.Proxy;
-import java.net.Proxy.Type;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -12,14 +9,11 @@ import java.util.Set;
 import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
-import com.daimler.sechub.adapter.support.TrustAllSupport;
-
 /**
  * Context for REST execution per spring REST templates (per default with a simple String as result).
  * 
@@ -29,20 +23,26 @@ import com.daimler.sechub.adapter.support.TrustAllSupport;
 public abstract class AbstractSpringRestAdapterContext<C extends AdapterConfig, A extends Adapter<C>> extends AbstractAdapterContext<C,A> {
 
 	public static final String SECHUB_OPTION_CLIENTHTTPREQUESTINTERCEPTOR = "sechub.option.clienthttprequestinterceptor";
+	/* only used for adapters not extending AbstractAdapter */
+	private static final AdapterHttpClientPool FALLBACK_HTTP_CLIENT_POOL = new AdapterHttpClientPool();
+
 	private RestTemplate restTemplate;
 
 	public AbstractSpringRestAdapterContext(C config, A adapter) {
 		super(config,adapter);
-		/* setup dedicated rest template */
+		/* setup dedicated rest template - but with shared and pooled http client */
+		boolean traceLoggingEnabled = TraceLogClientHTTPRequestInterceptor.isTraceLoggingEnabled();
 
-		ClientHttpRequestFactory requestFactory = createRequestFactory(config);
+		ClientHttpRequestFactory requestFactory = createRequestFactory(config, traceLoggingEnabled);
 		
 		restTemplate = new RestTemplate(requestFactory);
 		
 		restTemplate.getMessageConverters().addAll(createMessageConverters());
 
 		List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
-		interceptors.add(new TraceLogClientHTTPRequestInterceptor());
+		if (traceLoggingEnabled) {
+			interceptors.add(new TraceLogClientHTTPRequestInterceptor());
+		}
 		ClientHttpRequestInterceptor interceptor = createInterceptorOrNull(config);
 		if (interceptor != null) {
 			interceptors.add(interceptor);
@@ -57,31 +57,24 @@ public abstract class AbstractSpringRestAdapterContext<C extends AdapterConfig,
 
 	}
 	
-	private ClientHttpRequestFactory createRequestFactory(C config) {
-		ClientHttpRequestFactory factory = null;
-		if (! config.isTrustAllCertificatesEnabled()) {
-			factory = createStandardSpringRequestFactory(config);
-		}else {
-			factory = new TrustAllSupport(getAdapter(),config).createTrustAllFactory();
-			
+	private ClientHttpRequestFactory createRequestFactory(C config, boolean traceLoggingEnabled) {
+		ClientHttpRequestFactory factory = resolveHttpClientPool().createRequestFactory(getAdapter(), config);
+		if (!traceLoggingEnabled) {
+			/* response bodies are streamed - e.g. big XML reports are not copied into memory again */
+			return factory;
 		}
-		/* we create buffering variant, so we can do trace logging if necessary - see TraceLogClientHTTPRequestInterceptor*/
+		/* we create buffering variant, so we can do trace logging - see TraceLogClientHTTPRequestInterceptor*/
 		return new BufferingClientHttpRequestFactory(factory);
 	}
 
-	private SimpleClientHttpRequestFactory createStandardSpringRequestFactory(C config) {
-		/* use standard Spring way, so uses configured trusted certificates etc. etc. */
-		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-		if (config.isProxyDefined()) {
-			Proxy proxy = new Proxy(Type.SOCKS,
-					new InetSocketAddress(config.getProxyHostname(), config.getProxyPort()));
-			requestFactory.setProxy(proxy);
+	private AdapterHttpClientPool resolveHttpClientPool() {
+		A adapter = getAdapter();
+		if (adapter instanceof AbstractAdapter) {
+			return ((AbstractAdapter<?, ?>) adapter).getHttpClientPool();
 		}
-		return requestFactory;
+		return FALLBACK_HTTP_CLIENT_POOL;
 	}
 
-	
-
 	private Set<HttpMessageConverter<?>> createMessageConverters() {
 		Set<HttpMessageConverter<?>> set = new HashSet<>();
 		addClientHttpRequestInterceptors(set);
@@ -2,6 +2,7 @@
 package com.daimler.sechub.adapter;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Marker interface for SecHub adapters
@@ -24,11 +25,30 @@ public interface Adapter<C extends AdapterConfig> {
 	public String createAPIURL(String apiPart, C config, Map<String, String> map);
 
 	/**
-	 * Starts and returns result 
+	 * Starts and returns result. Calling thread waits until result is available.
 	 * 
 	 * @param config
 	 * @return result
 	 * @throws NessusAdapterException
 	 */
 	String start(C config) throws AdapterException;
+
+	/**
+	 * Starts asynchronous. Adapters waiting for product states implement this
+	 * by chaining the steps, so no thread is blocked between them. Per default
+	 * {@link #start(AdapterConfig)} is done by calling thread.
+	 * 
+	 * @param config
+	 * @return future, completed with result or exceptionally with an
+	 *         {@link AdapterException}
+	 */
+	default CompletableFuture<String> startAsync(C config) {
+		CompletableFuture<String> future = new CompletableFuture<>();
+		try {
+			future.complete(start(config));
+		} catch (AdapterException | RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
 }
@@ -16,6 +16,44 @@ public interface AdapterConfig extends TrustAllConfig, TraceIdProvider{
 	 */
 	int getTimeToWaitForNextCheckOperationInMilliseconds();
 
+	/**
+	 *
+	 * @return maximum time to wait for next check operation when backoff
+	 *         multiplier is greater than one
+	 */
+	int getMaximumTimeToWaitForNextCheckOperationInMilliseconds();
+
+	/**
+	 *
+	 * @return multiplier used to increase time to wait after each check
+	 *         operation. 1.0 means no backoff
+	 */
+	double getCheckOperationBackoffMultiplier();
+
+	/**
+	 *
+	 * @return jitter in percent to randomize time to wait between check
+	 *         operations. 0 means no jitter
+	 */
+	int getCheckOperationJitterInPercent();
+
+	/**
+	 *
+	 * @return expected duration of the adapter execution in milliseconds -
+	 *         calculated from former executions. When greater than zero the
+	 *         time between check operations is adapted: checks are done more
+	 *         often near the expected end and less often otherwise. A value
+	 *         less or equal zero means unknown
+	 */
+	long getExpectedExecutionDurationInMilliseconds();
+
+	/**
+	 *
+	 * @return minimum time to wait for next check operation when the expected
+	 *         execution duration is known
+	 */
+	int getMinimumTimeToWaitForNextCheckOperationInMilliseconds();
+
 	/**
 	 *
 	 * @return base url as string, never <code>null</code>
@@ -112,4 +150,10 @@ public interface AdapterConfig extends TrustAllConfig, TraceIdProvider{
 	 */
 	String getProjectId();
 
+	/**
+	 * @return sink where product report shall be streamed into or
+	 *         <code>null</code> when report shall be returned as string
+	 */
+	AdapterReportSink getReportSink();
+
 }
\ No newline at end of file
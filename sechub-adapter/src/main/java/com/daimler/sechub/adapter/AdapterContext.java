@@ -41,6 +41,17 @@ public interface AdapterContext<C extends AdapterConfig> extends TraceIdProvider
 
 	boolean isTimeOut();
 
+	/**
+	 * Marks this context as canceled - e.g. because nobody waits any longer for
+	 * the adapter result. State checks for a canceled context are no longer done.
+	 */
+	void cancel();
+
+	/**
+	 * @return <code>true</code> when context has been canceled
+	 */
+	boolean isCanceled();
+
 	long getMillisecondsRun();
 
 	JSONAdapterSupport json();
@@ -0,0 +1,161 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import com.daimler.sechub.adapter.support.TrustAllSupport;
+
+/**
+ * Shared pool of keep-alive HTTP clients for all adapters. There is one client
+ * for every combination of product base URL, proxy and trust all setting. So
+ * every polling round trip to a product reuses open connections (and TLS
+ * sessions) instead of doing a new handshake.<br>
+ * <br>
+ * Cookie management is disabled: clients are shared between adapter calls of
+ * different users, so cookies set by a product for one call must never be sent
+ * with another one.<br>
+ * <br>
+ * Inside sechub server the pool is created and configured by spring
+ * configuration of the scan domain, where its settings are documented.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+public class AdapterHttpClientPool {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AdapterHttpClientPool.class);
+
+	public static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 50;
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 10;
+	public static final int DEFAULT_CONNECT_TIMEOUT_IN_MILLISECONDS = 30 * 1000;
+	public static final int DEFAULT_SOCKET_TIMEOUT_IN_MILLISECONDS = 10 * 60 * 1000;
+	public static final int DEFAULT_IDLE_TIMEOUT_IN_SECONDS = 60;
+
+	private int maxConnectionsTotal;
+	private int maxConnectionsPerRoute;
+	private int connectTimeoutInMilliseconds;
+	private int socketTimeoutInMilliseconds;
+	private int idleTimeoutInSeconds;
+
+	private Map<String, CloseableHttpClient> clients = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a pool with default settings
+	 */
+	public AdapterHttpClientPool() {
+		this(DEFAULT_MAX_CONNECTIONS_TOTAL, DEFAULT_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_CONNECT_TIMEOUT_IN_MILLISECONDS, DEFAULT_SOCKET_TIMEOUT_IN_MILLISECONDS,
+				DEFAULT_IDLE_TIMEOUT_IN_SECONDS);
+	}
+
+	/**
+	 * Creates a pool
+	 * 
+	 * @param maxConnectionsTotal          maximum of open connections per client
+	 * @param maxConnectionsPerRoute       maximum of open connections per route
+	 *                                     of a client
+	 * @param connectTimeoutInMilliseconds timeout for connecting and for waiting
+	 *                                     for a pooled connection
+	 * @param socketTimeoutInMilliseconds  timeout for waiting for data
+	 * @param idleTimeoutInSeconds         idle connections are closed after this
+	 *                                     time
+	 */
+	public AdapterHttpClientPool(int maxConnectionsTotal, int maxConnectionsPerRoute, int connectTimeoutInMilliseconds, int socketTimeoutInMilliseconds,
+			int idleTimeoutInSeconds) {
+		this.maxConnectionsTotal = maxConnectionsTotal;
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+		this.connectTimeoutInMilliseconds = connectTimeoutInMilliseconds;
+		this.socketTimeoutInMilliseconds = socketTimeoutInMilliseconds;
+		this.idleTimeoutInSeconds = idleTimeoutInSeconds;
+	}
+
+	/**
+	 * Creates a request factory using the shared client for given configuration.
+	 * The factory must not be destroyed by callers, because this would close the
+	 * shared client.
+	 * 
+	 * @param adapter
+	 * @param config
+	 * @return request factory, not buffering
+	 */
+	public ClientHttpRequestFactory createRequestFactory(Adapter<?> adapter, AdapterConfig config) {
+		return new HttpComponentsClientHttpRequestFactory(getHttpClient(adapter, config));
+	}
+
+	/**
+	 * Resolves shared client for given configuration - when not existing, it will
+	 * be created
+	 * 
+	 * @param adapter
+	 * @param config
+	 * @return client, never <code>null</code>
+	 */
+	public CloseableHttpClient getHttpClient(Adapter<?> adapter, AdapterConfig config) {
+		return clients.computeIfAbsent(createKey(config), key -> createHttpClient(adapter, config, key));
+	}
+
+	int getClientCount() {
+		return clients.size();
+	}
+
+	@PreDestroy
+	public void close() {
+		for (CloseableHttpClient client : clients.values()) {
+			try {
+				client.close();
+			} catch (IOException e) {
+				LOG.warn("Was not able to close http client", e);
+			}
+		}
+		clients.clear();
+	}
+
+	private CloseableHttpClient createHttpClient(Adapter<?> adapter, AdapterConfig config, String key) {
+		LOG.info("Create pooled http client for {}", key);
+
+		PoolingHttpClientConnectionManager connectionManager = new TrustAllSupport(adapter, config).createConnectionManager();
+		connectionManager.setMaxTotal(Math.max(1, maxConnectionsTotal));
+		connectionManager.setDefaultMaxPerRoute(Math.max(1, maxConnectionsPerRoute));
+		/* connections closed by server while idle inside pool are detected before reuse */
+		connectionManager.setValidateAfterInactivity(2000);
+
+		/* @formatter:off */
+		RequestConfig requestConfig = RequestConfig.custom().
+				setConnectTimeout(connectTimeoutInMilliseconds).
+				setConnectionRequestTimeout(connectTimeoutInMilliseconds).
+				setSocketTimeout(socketTimeoutInMilliseconds).
+				build();
+
+		return HttpClients.custom().
+				setConnectionManager(connectionManager).
+				setDefaultRequestConfig(requestConfig).
+				evictExpiredConnections().
+				evictIdleConnections(Math.max(1, idleTimeoutInSeconds), TimeUnit.SECONDS).
+				disableCookieManagement().
+				build();
+		/* @formatter:on */
+	}
+
+	private String createKey(AdapterConfig config) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(config.getProductBaseURL());
+		if (config.isProxyDefined()) {
+			sb.append(", proxy=").append(config.getProxyHostname()).append(':').append(config.getProxyPort());
+		}
+		sb.append(", trustAll=").append(config.isTrustAllCertificatesEnabled());
+		return sb.toString();
+	}
+}
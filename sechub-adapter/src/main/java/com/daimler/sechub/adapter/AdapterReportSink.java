@@ -0,0 +1,27 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * A sink for product reports. When an adapter configuration has a sink, the
+ * adapter streams the report into the sink instead of holding it as string in
+ * memory. In this case the adapter result will be <code>null</code>.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+public interface AdapterReportSink {
+
+	/**
+	 * Writes the report - the implementation must read given stream completely
+	 * but must not close it
+	 * 
+	 * @param report  stream containing the report
+	 * @param charset charset of the report content
+	 * @throws IOException
+	 */
+	void write(InputStream report, Charset charset) throws IOException;
+}
@@ -0,0 +1,202 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import com.daimler.sechub.adapter.support.MessageDigestSupport;
+
+/**
+ * Shared cache for session data of adapters - e.g. OAuth tokens, session
+ * tokens or looked up ids. So product login endpoints are not called for every
+ * scan, also not when many scans start at the same time: only one caller loads
+ * a missing or expired value, all other callers for the same key wait for it.
+ * <br>
+ * <br>
+ * A cached value is only returned while at least half of its lifetime remains.
+ * So a scan never starts with a nearly expired token.<br>
+ * <br>
+ * Inside sechub server the cache is created and configured by spring
+ * configuration of the scan domain, where its settings are documented.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class AdapterSessionCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AdapterSessionCache.class);
+
+	boolean enabled;
+
+	private Map<String, CachedValue<?>> values = new ConcurrentHashMap<>();
+	private Map<String, Object> locks = new ConcurrentHashMap<>();
+
+	private MessageDigestSupport digestSupport = new MessageDigestSupport();
+
+	/**
+	 * Creates an enabled cache
+	 */
+	public AdapterSessionCache() {
+		this(true);
+	}
+
+	/**
+	 * Creates a cache
+	 *
+	 * @param enabled when <code>false</code> values are always loaded
+	 */
+	public AdapterSessionCache(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Loads a value to cache
+	 *
+	 * @param <T> value type
+	 */
+	public interface SessionValueLoader<T> {
+
+		/**
+		 * Loads value
+		 *
+		 * @return value to cache, never <code>null</code>
+		 * @throws AdapterException
+		 */
+		CachedValue<T> load() throws AdapterException;
+	}
+
+	/**
+	 * A cached value with its lifetime
+	 *
+	 * @param <T> value type
+	 */
+	public static class CachedValue<T> {
+
+		private T value;
+		private long created;
+		private long lifetimeInMilliseconds;
+
+		/**
+		 * Creates a cached value
+		 *
+		 * @param value
+		 * @param lifetimeInMilliseconds lifetime, <=0 means value will not be
+		 *                               cached
+		 */
+		public CachedValue(T value, long lifetimeInMilliseconds) {
+			this.value = value;
+			this.lifetimeInMilliseconds = lifetimeInMilliseconds;
+			this.created = System.currentTimeMillis();
+		}
+
+		public T getValue() {
+			return value;
+		}
+
+		boolean isUsable(long now) {
+			long remaining = created + lifetimeInMilliseconds - now;
+			return remaining > lifetimeInMilliseconds / 2;
+		}
+	}
+
+	/**
+	 * Creates a cache key for given name and configuration. The key contains
+	 * product base URL, user and a hash of password or API token - so changed
+	 * credentials will not use former cached values.
+	 *
+	 * @param name
+	 * @param config
+	 * @return key
+	 */
+	public String createKey(String name, AdapterConfig config) {
+		String secret = config.getPasswordOrAPIToken();
+		String secretHash = secret == null ? "" : digestSupport.createSHA256(secret);
+		return name + "|" + config.getProductBaseURL() + "|" + config.getUser() + "|" + secretHash;
+	}
+
+	/**
+	 * Resolves value for given key - when not cached or expired, the value is
+	 * loaded by given loader. Parallel callers for the same key will wait until
+	 * the value has been loaded and use the same value
+	 *
+	 * @param key
+	 * @param loader
+	 * @return value
+	 * @throws AdapterException
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getOrLoad(String key, SessionValueLoader<T> loader) throws AdapterException {
+		if (!enabled) {
+			return loader.load().getValue();
+		}
+		CachedValue<T> cached = (CachedValue<T>) values.get(key);
+		if (cached != null && cached.isUsable(System.currentTimeMillis())) {
+			return cached.getValue();
+		}
+		synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+			cached = (CachedValue<T>) values.get(key);
+			if (cached != null && cached.isUsable(System.currentTimeMillis())) {
+				return cached.getValue();
+			}
+			CachedValue<T> loaded = loader.load();
+			if (loaded.lifetimeInMilliseconds > 0) {
+				values.put(key, loaded);
+			} else {
+				values.remove(key);
+			}
+			LOG.debug("Loaded session value for {}", describe(key));
+			return loaded.getValue();
+		}
+	}
+
+	/**
+	 * Removes cached value for given key - e.g. when product has rejected it
+	 *
+	 * @param key
+	 */
+	public void invalidate(String key) {
+		values.remove(key);
+	}
+
+	/**
+	 * Removes cached value for given key when given failure was caused by an
+	 * HTTP 401 response - e.g. because product was restarted and cached token is
+	 * no longer known. So next caller will login again.
+	 *
+	 * @param key
+	 * @param failure
+	 */
+	public void invalidateWhenUnauthorized(String key, Throwable failure) {
+		Throwable t = failure;
+		while (t != null) {
+			if (t instanceof HttpStatusCodeException && HttpStatus.UNAUTHORIZED.equals(((HttpStatusCodeException) t).getStatusCode())) {
+				LOG.info("Product did not accept cached session value, so invalidated {}", describe(key));
+				invalidate(key);
+				return;
+			}
+			t = t.getCause();
+		}
+	}
+
+	/**
+	 * @return <code>true</code> when values are cached
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/* key contains user and password hash, so we log only the name */
+	private String describe(String key) {
+		int index = key.indexOf('|');
+		return index < 0 ? key : key.substring(0, index);
+	}
+
+	int getCachedValueCount() {
+		return values.size();
+	}
+}
@@ -0,0 +1,391 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared polling engine for adapters. Instead of parking one thread per
+ * running product scan inside a sleep loop, all state checks are scheduled on
+ * a small timer pool. Completion is handed back by a
+ * {@link CompletableFuture}.<br>
+ * <br>
+ * The timer threads only do the scheduling. The checks themselves (REST calls)
+ * and every other blocking adapter work (e.g. report downloads, see
+ * {@link #execute(BlockingWork)}) are done by a separate work pool, so a slow
+ * product server never delays the checks of other scans. The work pool is
+ * bounded - when all work threads are busy, further work waits inside the
+ * queue.<br>
+ * <br>
+ * Inside sechub server the engine is created by spring configuration of the
+ * scan domain (where its settings are documented), shared by all adapters and
+ * shut down with the application context. The callers of adapters still wait for the
+ * completion of the adapter future, so the engine only removes the sleeping
+ * threads from polling - not the waiting thread of each product execution.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class StatePollingEngine {
+
+	private static final Logger LOG = LoggerFactory.getLogger(StatePollingEngine.class);
+
+	public static final int DEFAULT_POLLING_THREADS = 4;
+	public static final int DEFAULT_WORK_THREADS = 20;
+
+	private static final long IDLE_THREAD_KEEP_ALIVE_IN_SECONDS = 60;
+
+	private ScheduledExecutorService scheduler;
+	private ExecutorService workExecutor;
+
+	/**
+	 * A check done by the engine
+	 *
+	 * @param <T> result type
+	 */
+	public interface StateCheck<T> {
+
+		/**
+		 * Checks current state
+		 *
+		 * @return result when polling is done, <code>null</code> when polling must
+		 *         be continued
+		 * @throws Exception when check fails - polling will be stopped
+		 */
+		public T check() throws Exception;
+	}
+
+	/**
+	 * Blocking work done by the engine work pool
+	 *
+	 * @param <T> result type
+	 */
+	public interface BlockingWork<T> {
+
+		/**
+		 * Executes the work
+		 *
+		 * @return result
+		 * @throws Exception when work fails
+		 */
+		public T execute() throws Exception;
+	}
+
+	/**
+	 * Creates a new polling engine with default amount of work threads
+	 *
+	 * @param threads amount of timer threads
+	 */
+	public StatePollingEngine(int threads) {
+		this(threads, DEFAULT_WORK_THREADS);
+	}
+
+	/**
+	 * Creates a new polling engine. Idle threads end after some time, so an
+	 * unused engine does not hold any threads.
+	 *
+	 * @param threads     amount of timer threads
+	 * @param workThreads maximum amount of threads doing checks and other
+	 *                    blocking adapter work
+	 */
+	public StatePollingEngine(int threads, int workThreads) {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(Math.max(1, threads), new PollingThreadFactory("adapter_state_polling_"));
+		executor.setRemoveOnCancelPolicy(true);
+		executor.setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_IN_SECONDS, TimeUnit.SECONDS);
+		executor.allowCoreThreadTimeOut(true);
+		this.scheduler = executor;
+
+		int workPoolSize = Math.max(1, workThreads);
+		ThreadPoolExecutor work = new ThreadPoolExecutor(workPoolSize, workPoolSize, IDLE_THREAD_KEEP_ALIVE_IN_SECONDS, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), new PollingThreadFactory("adapter_work_"));
+		work.allowCoreThreadTimeOut(true);
+		this.workExecutor = work;
+	}
+
+	/**
+	 * Starts polling. The first check is done immediately, every further check
+	 * after the delay defined by given backoff. When returned future is canceled
+	 * no further checks are done.
+	 *
+	 * @param check
+	 * @param backoff
+	 * @return future, completed with first non <code>null</code> check result or
+	 *         exceptionally, when a check has failed
+	 */
+	public <T> CompletableFuture<T> poll(StateCheck<T> check, PollingBackoff backoff) {
+		if (check == null) {
+			throw new IllegalArgumentException("check may not be null!");
+		}
+		if (backoff == null) {
+			throw new IllegalArgumentException("backoff may not be null!");
+		}
+		CompletableFuture<T> future = new CompletableFuture<>();
+		schedule(new PollingRun<>(check, backoff, future), 0);
+		return future;
+	}
+
+	/**
+	 * Executes given blocking work inside the work pool - never by a timer
+	 * thread.
+	 *
+	 * @param work
+	 * @return future, completed with result of the work or exceptionally, when
+	 *         work has failed
+	 */
+	public <T> CompletableFuture<T> execute(BlockingWork<T> work) {
+		if (work == null) {
+			throw new IllegalArgumentException("work may not be null!");
+		}
+		CompletableFuture<T> future = new CompletableFuture<>();
+		dispatch(future, () -> {
+			if (future.isDone()) {
+				/* canceled from outside */
+				return;
+			}
+			try {
+				future.complete(work.execute());
+			} catch (Exception | Error e) {
+				future.completeExceptionally(e);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * @return executor for blocking work - can be used as executor for async
+	 *         stages of adapter futures
+	 */
+	public Executor getWorkExecutor() {
+		return workExecutor;
+	}
+
+	/**
+	 * Shutdown engine - running polls are no longer executed
+	 */
+	public void shutdown() {
+		scheduler.shutdownNow();
+		workExecutor.shutdownNow();
+	}
+
+	private <T> void schedule(PollingRun<T> run, long delayInMilliseconds) {
+		try {
+			scheduler.schedule(() -> dispatch(run.future, run), delayInMilliseconds, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			run.future.completeExceptionally(e);
+		}
+	}
+
+	private void dispatch(CompletableFuture<?> future, Runnable runnable) {
+		try {
+			workExecutor.execute(runnable);
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+	}
+
+	private class PollingRun<T> implements Runnable {
+
+		private StateCheck<T> check;
+		private PollingBackoff backoff;
+		private CompletableFuture<T> future;
+		private int attempt;
+
+		private PollingRun(StateCheck<T> check, PollingBackoff backoff, CompletableFuture<T> future) {
+			this.check = check;
+			this.backoff = backoff;
+			this.future = future;
+		}
+
+		@Override
+		public void run() {
+			if (future.isDone()) {
+				/* canceled from outside */
+				return;
+			}
+			try {
+				T result = check.check();
+				if (result != null) {
+					future.complete(result);
+					return;
+				}
+			} catch (Exception | Error e) {
+				future.completeExceptionally(e);
+				return;
+			}
+			long delay = backoff.calculateDelayInMilliseconds(attempt++);
+			LOG.trace("Next state check in {} ms", delay);
+			schedule(this, delay);
+		}
+	}
+
+	/**
+	 * Backoff definition for polling. The delay starts with initial delay, is
+	 * multiplied by multiplier after every check and will never be greater than
+	 * the maximum delay. A jitter (in percent) randomizes the delay, so many
+	 * polls started at same time do not hit the product server at same time.
+	 */
+	public static class PollingBackoff {
+
+		private long initialDelayInMilliseconds;
+		private long maximumDelayInMilliseconds;
+		private double multiplier;
+		private int jitterInPercent;
+
+		public PollingBackoff(long initialDelayInMilliseconds, long maximumDelayInMilliseconds, double multiplier, int jitterInPercent) {
+			this.initialDelayInMilliseconds = Math.max(0, initialDelayInMilliseconds);
+			this.maximumDelayInMilliseconds = Math.max(this.initialDelayInMilliseconds, maximumDelayInMilliseconds);
+			this.multiplier = Math.max(1.0, multiplier);
+			this.jitterInPercent = Math.min(100, Math.max(0, jitterInPercent));
+		}
+
+		/**
+		 * Creates a backoff by given adapter configuration
+		 *
+		 * @param config
+		 * @return backoff
+		 */
+		public static PollingBackoff of(AdapterConfig config) {
+			/* @formatter:off */
+			return new PollingBackoff(
+					config.getTimeToWaitForNextCheckOperationInMilliseconds(),
+					config.getMaximumTimeToWaitForNextCheckOperationInMilliseconds(),
+					config.getCheckOperationBackoffMultiplier(),
+					config.getCheckOperationJitterInPercent());
+			/* @formatter:on */
+		}
+
+		/**
+		 * Creates a backoff by configuration of given adapter context. When the
+		 * configuration contains an expected execution duration an
+		 * {@link AdaptivePollingBackoff} is created.
+		 *
+		 * @param context
+		 * @return backoff
+		 */
+		public static PollingBackoff of(AdapterContext<?> context) {
+			AdapterConfig config = context.getConfig();
+			if (config.getExpectedExecutionDurationInMilliseconds() <= 0) {
+				return of(config);
+			}
+			/* @formatter:off */
+			return new AdaptivePollingBackoff(
+					config.getTimeToWaitForNextCheckOperationInMilliseconds(),
+					config.getMaximumTimeToWaitForNextCheckOperationInMilliseconds(),
+					config.getMinimumTimeToWaitForNextCheckOperationInMilliseconds(),
+					config.getCheckOperationJitterInPercent(),
+					config.getExpectedExecutionDurationInMilliseconds(),
+					context::getMillisecondsRun);
+			/* @formatter:on */
+		}
+
+		/**
+		 * Calculates delay
+		 *
+		 * @param attempt number of check already done before (0 = first)
+		 * @return delay in milliseconds
+		 */
+		public long calculateDelayInMilliseconds(int attempt) {
+			double delay = initialDelayInMilliseconds * Math.pow(multiplier, attempt);
+			if (delay > maximumDelayInMilliseconds || Double.isInfinite(delay)) {
+				delay = maximumDelayInMilliseconds;
+			}
+			return applyJitter(delay);
+		}
+
+		public long getInitialDelayInMilliseconds() {
+			return initialDelayInMilliseconds;
+		}
+
+		public long getMaximumDelayInMilliseconds() {
+			return maximumDelayInMilliseconds;
+		}
+
+		protected long applyJitter(double delay) {
+			if (jitterInPercent > 0 && delay > 0) {
+				double jitter = delay * jitterInPercent / 100.0;
+				delay = delay + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+			}
+			return Math.max(0, (long) delay);
+		}
+	}
+
+	/**
+	 * Backoff using the expected execution duration (e.g. calculated from former
+	 * executions). Before the expected end the delay is the half of the remaining
+	 * time, so checks become more frequent the nearer the expected end is. After
+	 * the expected end the delay grows again until the maximum delay is reached.
+	 * The delay is never lower than the near delay (a twentieth of the expected
+	 * duration, but at least the minimum delay and at most the initial delay) and
+	 * never greater than the maximum delay - so a scan ending earlier than
+	 * expected is never detected later than without adaption.
+	 */
+	public static class AdaptivePollingBackoff extends PollingBackoff {
+
+		private static final int NEAR_DELAY_DIVISOR = 20;
+
+		private long expectedDurationInMilliseconds;
+		private long nearDelayInMilliseconds;
+		private LongSupplier elapsedTimeSupplier;
+
+		public AdaptivePollingBackoff(long initialDelayInMilliseconds, long maximumDelayInMilliseconds, long minimumDelayInMilliseconds, int jitterInPercent,
+				long expectedDurationInMilliseconds, LongSupplier elapsedTimeSupplier) {
+			super(initialDelayInMilliseconds, maximumDelayInMilliseconds, 1.0, jitterInPercent);
+			if (elapsedTimeSupplier == null) {
+				throw new IllegalArgumentException("elapsed time supplier may not be null!");
+			}
+			this.expectedDurationInMilliseconds = expectedDurationInMilliseconds;
+			this.elapsedTimeSupplier = elapsedTimeSupplier;
+			long nearDelay = Math.max(minimumDelayInMilliseconds, expectedDurationInMilliseconds / NEAR_DELAY_DIVISOR);
+			this.nearDelayInMilliseconds = Math.max(0, Math.min(getInitialDelayInMilliseconds(), nearDelay));
+		}
+
+		@Override
+		public long calculateDelayInMilliseconds(int attempt) {
+			long remaining = expectedDurationInMilliseconds - elapsedTimeSupplier.getAsLong();
+			double delay;
+			if (remaining > 0) {
+				delay = Math.max(nearDelayInMilliseconds, remaining / 2);
+			} else {
+				long overdue = -remaining;
+				delay = Math.max(nearDelayInMilliseconds, overdue / 4);
+			}
+			delay = Math.min(getMaximumDelayInMilliseconds(), delay);
+			return applyJitter(delay);
+		}
+
+		public long getNearDelayInMilliseconds() {
+			return nearDelayInMilliseconds;
+		}
+	}
+
+	private static class PollingThreadFactory implements ThreadFactory {
+
+		private AtomicInteger counter = new AtomicInteger();
+		private String prefix;
+
+		private PollingThreadFactory(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
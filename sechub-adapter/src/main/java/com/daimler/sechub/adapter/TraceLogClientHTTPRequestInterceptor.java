@@ -25,6 +25,14 @@ public class TraceLogClientHTTPRequestInterceptor implements ClientHttpRequestIn
 
 	private static final Logger LOG = LoggerFactory.getLogger(TraceLogClientHTTPRequestInterceptor.class);
 
+	/**
+	 * @return <code>true</code> when trace logging is enabled - in this case
+	 *         responses must be buffered, because the body is read twice
+	 */
+	public static boolean isTraceLoggingEnabled() {
+		return LOG.isDebugEnabled();
+	}
+
 	@Override
 	public final ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
 			throws IOException {
@@ -1,12 +1,19 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.adapter;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.client.HttpClientErrorException;
 
+import com.daimler.sechub.adapter.StatePollingEngine.PollingBackoff;
+
 /**
- * Abstract class to support waiting for given states
+ * Abstract class to support waiting for given states. Waiting does not block a
+ * thread per scan by sleeping, but uses the shared {@link StatePollingEngine}.
+ * Adapters chain the returned future with their next steps.
  * 
  * @author Albert Tregnaghi
  *
@@ -30,7 +37,9 @@ public abstract class WaitForStateSupport<X extends AdapterContext<C>, C extends
 	protected abstract boolean isWaitingForOKWhenInState(String state, X context) throws /*NOSONAR*/Exception;
 
 	/**
-	 * Handle state when no longer waiting
+	 * Handle state when no longer waiting. Is called by the work pool of the
+	 * {@link StatePollingEngine}, so blocking work (e.g. a report download) can
+	 * be done here
 	 * 
 	 * @param state
 	 * @param context
@@ -50,47 +59,93 @@ public abstract class WaitForStateSupport<X extends AdapterContext<C>, C extends
 	protected abstract String getCurrentState(X context) throws Exception;
 
 	/**
-	 * Waits for OK state or another wellknown state. Does also support time out
-	 * handling depending on context
+	 * Waits asynchronous for OK state or another wellknown state. Does also
+	 * support time out handling depending on context. Time between state checks
+	 * is defined by configuration (check interval, backoff and jitter) - when an
+	 * expected execution duration is configured, the time is adapted to it
+	 * (see {@link StatePollingEngine.AdaptivePollingBackoff}).<br>
+	 * <br>
+	 * State checks and {@link #handleNoLongerWaitingState(String, AdapterContext)}
+	 * are done by the work pool of the {@link StatePollingEngine}, never by the
+	 * calling thread. Canceling the returned future stops polling.
 	 * 
 	 * @param context
-	 * @throws Exception
+	 * @return future which is completed with last state (after
+	 *         {@link #handleNoLongerWaitingState(String, AdapterContext)} was
+	 *         called) or exceptionally with an {@link AdapterException}
 	 */
-	public final void waitForOK(X context) throws AdapterException {
+	public final CompletableFuture<String> waitForOKAsync(X context) {
 		AdapterConfig config = context.getConfig();
+		if (config == null) {
+			throw new IllegalStateException("config is null!");
+		}
 		LOG.debug("{} wait for OK", adapter.getAdapterLogId(config));
-		String state = null;
+
+		StatePollingEngine engine = getPollingEngine();
+		CompletableFuture<Optional<String>> polling = engine.poll(() -> checkState(context), PollingBackoff.of(context));
+		CompletableFuture<String> result = polling.thenCompose(state -> engine.execute(() -> handleState(state.orElse(null), context)));
+		/* when result is canceled, polling must be stopped too - for done polling this does nothing */
+		result.whenComplete((state, failure) -> polling.cancel(true));
+		return result;
+	}
+
+	/**
+	 * @return polling engine of the adapter - can be overriden for testing
+	 */
+	protected StatePollingEngine getPollingEngine() {
+		if (adapter instanceof AbstractAdapter) {
+			return ((AbstractAdapter<?, ?>) adapter).getPollingEngine();
+		}
+		throw new IllegalStateException("Adapter " + adapter.getClass().getName() + " does not provide a polling engine");
+	}
+
+	/**
+	 * Checks state once
+	 * 
+	 * @param context
+	 * @return state when no longer waiting, <code>null</code> when still waiting
+	 * @throws AdapterException
+	 */
+	private Optional<String> checkState(X context) throws AdapterException {
+		AdapterConfig config = context.getConfig();
+		if (context.isCanceled()) {
+			throw adapter.asAdapterException("Waiting was canceled", config);
+		}
 		try {
-			while (isWaitingForOKWhenInState(state = getCurrentState(context), context)) {
+			String state = getCurrentState(context);
+			if (isWaitingForOKWhenInState(state, context)) {
 				if (context.isTimeOut()) {
-					throw adapter.asAdapterException(
-							"Time out reached:" + context.getMillisecondsRun() + " millis run.", config);
+					throw adapter.asAdapterException("Time out reached:" + context.getMillisecondsRun() + " millis run.", config);
 				}
-				waitForResult(context);
+				LOG.trace("{}  wait for result-still waiting", adapter.getAdapterLogId(config));
+				return null;
 			}
-			handleNoLongerWaitingState(state, context);
-			
-		} catch (HttpClientErrorException e) {
-			throw adapter.asAdapterException("Waiting for result failed - response body was: "+e.getResponseBodyAsString(), e, config);
+			/* null is used by engine for "still waiting", so we wrap the state */
+			return Optional.ofNullable(state);
+
 		} catch (Exception e) {
-			throw adapter.asAdapterException("Waiting for result failed", e, config);
+			throw asAdapterException(e, config);
 		}
 	}
 
-	private void waitForResult(X context) throws AdapterException {
-		AdapterConfig config = context.getConfig();
-		if (config == null) {
-			throw new IllegalStateException("config is null!");
-		}
+	private String handleState(String state, X context) throws AdapterException {
 		try {
-			LOG.trace("{}  wait for result-STARTED", adapter.getAdapterLogId(config));
-			Thread.sleep(config.getTimeToWaitForNextCheckOperationInMilliseconds());
-			LOG.trace("{}  wait for result-DONE", adapter.getAdapterLogId(config));
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			throw adapter.asAdapterException("Waiting was interrupted", e, config);
+			handleNoLongerWaitingState(state, context);
+			return state;
+		} catch (Exception e) {
+			throw asAdapterException(e, context.getConfig());
 		}
+	}
 
+	private AdapterException asAdapterException(Exception e, AdapterConfig config) {
+		if (e instanceof AdapterException) {
+			return (AdapterException) e;
+		}
+		if (e instanceof HttpClientErrorException) {
+			HttpClientErrorException httpException = (HttpClientErrorException) e;
+			return adapter.asAdapterException("Waiting for result failed - response body was: " + httpException.getResponseBodyAsString(), e, config);
+		}
+		return adapter.asAdapterException("Waiting for result failed", e, config);
 	}
 
 }
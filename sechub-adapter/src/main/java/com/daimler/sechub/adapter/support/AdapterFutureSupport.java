@@ -0,0 +1,59 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import com.daimler.sechub.adapter.Adapter;
+import com.daimler.sechub.adapter.AdapterException;
+import com.daimler.sechub.adapter.TraceIdProvider;
+
+/**
+ * Support to wait for futures created by adapters (see
+ * {@link Adapter#startAsync(com.daimler.sechub.adapter.AdapterConfig)}). Is
+ * only necessary where a synchronous result is needed - e.g. by product
+ * executors. When the waiting thread is interrupted the future is canceled, so
+ * no further state checks are done.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class AdapterFutureSupport {
+
+	/**
+	 * Waits for given future
+	 *
+	 * @param future
+	 * @param adapter  adapter which has created the future
+	 * @param provider trace id provider (normally adapter configuration)
+	 * @return result
+	 * @throws AdapterException when future was completed exceptionally, canceled
+	 *                          or waiting was interrupted
+	 */
+	public <T> T waitFor(CompletableFuture<T> future, Adapter<?> adapter, TraceIdProvider provider) throws AdapterException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw adapter.asAdapterException("Waiting was interrupted", e, provider);
+		} catch (CancellationException e) {
+			throw adapter.asAdapterException("Waiting was canceled", e, provider);
+		} catch (ExecutionException e) {
+			throw asAdapterException(e.getCause(), adapter, provider);
+		}
+	}
+
+	private AdapterException asAdapterException(Throwable cause, Adapter<?> adapter, TraceIdProvider provider) {
+		/* failures of dependent stages are wrapped into completion exceptions */
+		while (cause instanceof CompletionException && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		if (cause instanceof AdapterException) {
+			return (AdapterException) cause;
+		}
+		return adapter.asAdapterException("Waiting for result failed", cause, provider);
+	}
+}
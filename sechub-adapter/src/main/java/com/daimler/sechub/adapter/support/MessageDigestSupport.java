@@ -7,20 +7,28 @@ import java.security.MessageDigest;
 public class MessageDigestSupport {
 	
 	public String createMD5(String value) {
-		MessageDigest md5;
+		return createHash("MD5", value);
+	}
+
+	public String createSHA256(String value) {
+		return createHash("SHA-256", value);
+	}
+
+	private String createHash(String algorithm, String value) {
+		MessageDigest messageDigest;
 		try {
-			md5 = MessageDigest.getInstance("MD5");
+			messageDigest = MessageDigest.getInstance(algorithm);
 			String charset = StandardCharsets.UTF_8.name();
-			md5.update(value.getBytes(charset));
+			messageDigest.update(value.getBytes(charset));
 
-			byte[] digest = md5.digest();
+			byte[] digest = messageDigest.digest();
 			StringBuilder sb = new StringBuilder();
 			for (byte b : digest) {
 				sb.append(String.format("%02x", b & 0xff));
 			}
 			return sb.toString();
 		} catch (Exception e) {
-			throw new IllegalStateException("Cannot creaete MD5 hash", e);
+			throw new IllegalStateException("Cannot creaete " + algorithm + " hash", e);
 		}
 	}
 
@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import com.daimler.sechub.adapter.AdapterContext;
+import com.daimler.sechub.adapter.AdapterReportSink;
+
+/**
+ * Support to download product reports. When the adapter configuration
+ * contains an {@link AdapterReportSink} the report is streamed from the HTTP
+ * response directly into the sink - so big reports are never completely
+ * inside memory. Otherwise the report is set as string result of the context.
+ * 
+ * @author Albert Tregnaghi
+ *
+ */
+public class ReportDownloadSupport {
+
+	public interface ReportStreamFilter {
+
+		/**
+		 * Filters report stream - e.g. to skip some leading bytes
+		 * 
+		 * @param report
+		 * @return filtered report, charset can differ from origin - e.g. when the
+		 *         filter has detected a byte order mark
+		 * @throws IOException
+		 */
+		ReportStream filter(ReportStream report) throws IOException;
+	}
+
+	/**
+	 * Report content stream together with its charset
+	 */
+	public static class ReportStream {
+
+		private InputStream stream;
+		private Charset charset;
+
+		public ReportStream(InputStream stream, Charset charset) {
+			this.stream = stream;
+			this.charset = charset;
+		}
+
+		public InputStream getStream() {
+			return stream;
+		}
+
+		public Charset getCharset() {
+			return charset;
+		}
+	}
+
+	/**
+	 * Downloads report by HTTP GET from given url.
+	 * 
+	 * @param context
+	 * @param url
+	 * @param filter  filter for report stream or <code>null</code>
+	 * @return response entity - when status is not OK, the body contains the
+	 *         response body, otherwise the report string or <code>null</code>
+	 *         when report was streamed into sink
+	 */
+	public ResponseEntity<String> downloadReport(AdapterContext<?> context, String url, ReportStreamFilter filter) {
+		AdapterReportSink sink = context.getConfig().getReportSink();
+
+		return context.getRestOperations().execute(url, HttpMethod.GET, null, response -> {
+			HttpStatus status = response.getStatusCode();
+			Charset charset = resolveCharset(response);
+			if (!HttpStatus.OK.equals(status)) {
+				return new ResponseEntity<>(StreamUtils.copyToString(response.getBody(), charset), status);
+			}
+			ReportStream report = new ReportStream(response.getBody(), charset);
+			if (filter != null) {
+				report = filter.filter(report);
+			}
+			if (sink == null) {
+				String result = StreamUtils.copyToString(report.getStream(), report.getCharset());
+				context.setResult(result);
+				return new ResponseEntity<>(result, status);
+			}
+			sink.write(report.getStream(), report.getCharset());
+			return new ResponseEntity<>(status);
+		});
+	}
+
+	private Charset resolveCharset(ClientHttpResponse response) {
+		MediaType contentType = response.getHeaders().getContentType();
+		if (contentType == null || contentType.getCharset() == null) {
+			return StandardCharsets.UTF_8;
+		}
+		return contentType.getCharset();
+	}
+}
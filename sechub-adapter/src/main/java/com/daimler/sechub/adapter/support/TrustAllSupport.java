@@ -64,27 +64,9 @@ public class TrustAllSupport {
 
 	public ClientHttpRequestFactory createTrustAllFactory() {
 		HttpClientBuilder clientBuilder = HttpClients.custom();
-		SSLContext sslContext = null;
-		if (config.isTrustAllCertificatesEnabled()) {
-			try {
-				sslContext = createTrustAllSSLContext(adapter);
-			} catch (AdapterException e) {
-				throw new IllegalStateException("Should not happen! See trace", e);
-			}
-		} else {
-			sslContext = SSLContexts.createSystemDefault();
-		}
+		SSLContext sslContext = createSSLContext();
 		if (config.isProxyDefined()) {
-			// proxy with socks not working with standard HTTPHost,
-			// clientBuilder.setProxy(..)
-			// So own approach necessary, details see
-			// https://stackoverflow.com/questions/22937983/how-to-use-socks-5-proxy-with-apache-http-client-4
-			Registry<ConnectionSocketFactory> reg = RegistryBuilder.<ConnectionSocketFactory>create()
-					.register("http", new SocksProxyConnectionSocketFactory())
-					.register("https", new SocksProxySSLConnectionSocketFactory(sslContext)).build();
-
-			PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager(reg, new FakeDnsResolver());
-			clientBuilder.setConnectionManager(cm);
+			clientBuilder.setConnectionManager(createConnectionManager(sslContext));
 		} else {
 			clientBuilder.setSSLContext(sslContext);
 			clientBuilder.setSSLHostnameVerifier(new HostnameVerifier() {
@@ -101,6 +83,53 @@ public class TrustAllSupport {
 		return requestFactory2;
 	}
 
+	/**
+	 * Creates a pooling connection manager for the configuration - handles trust
+	 * all and SOCKS proxy settings. When trust all is not enabled, the system
+	 * default SSL context and hostname verification is used.
+	 * 
+	 * @return connection manager
+	 */
+	public PoolingHttpClientConnectionManager createConnectionManager() {
+		return createConnectionManager(createSSLContext());
+	}
+
+	private PoolingHttpClientConnectionManager createConnectionManager(SSLContext sslContext) {
+		HostnameVerifier hostnameVerifier = null;
+		if (config.isTrustAllCertificatesEnabled()) {
+			hostnameVerifier = NoopHostnameVerifier.INSTANCE;
+		} else {
+			hostnameVerifier = SSLConnectionSocketFactory.getDefaultHostnameVerifier();
+		}
+		if (config.isProxyDefined()) {
+			// proxy with socks not working with standard HTTPHost,
+			// clientBuilder.setProxy(..)
+			// So own approach necessary, details see
+			// https://stackoverflow.com/questions/22937983/how-to-use-socks-5-proxy-with-apache-http-client-4
+			Registry<ConnectionSocketFactory> reg = RegistryBuilder.<ConnectionSocketFactory>create()
+					.register("http", new SocksProxyConnectionSocketFactory())
+					.register("https", new SocksProxySSLConnectionSocketFactory(sslContext, hostnameVerifier)).build();
+
+			return new PoolingHttpClientConnectionManager(reg, new FakeDnsResolver());
+		}
+		Registry<ConnectionSocketFactory> reg = RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", new SSLConnectionSocketFactory(sslContext, hostnameVerifier)).build();
+
+		return new PoolingHttpClientConnectionManager(reg);
+	}
+
+	private SSLContext createSSLContext() {
+		if (!config.isTrustAllCertificatesEnabled()) {
+			return SSLContexts.createSystemDefault();
+		}
+		try {
+			return createTrustAllSSLContext(adapter);
+		} catch (AdapterException e) {
+			throw new IllegalStateException("Should not happen! See trace", e);
+		}
+	}
+
 	private SSLContext createTrustAllSSLContext(Adapter<?> adapter) throws AdapterException {
 		SSLContext sslContext = null;
 		try {
@@ -161,9 +190,8 @@ public class TrustAllSupport {
 
 	private class SocksProxySSLConnectionSocketFactory extends SSLConnectionSocketFactory {
 
-		public SocksProxySSLConnectionSocketFactory(final SSLContext sslContext) {
-			// You may need this verifier if target site's certificate is not secure
-			super(sslContext, NoopHostnameVerifier.INSTANCE);
+		public SocksProxySSLConnectionSocketFactory(final SSLContext sslContext, HostnameVerifier hostnameVerifier) {
+			super(sslContext, hostnameVerifier);
 		}
 
 		@Override
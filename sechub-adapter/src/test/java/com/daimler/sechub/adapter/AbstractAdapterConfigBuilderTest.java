@@ -297,6 +297,45 @@ public class AbstractAdapterConfigBuilderTest {
 		assertEquals(user+":"+pwdOrApiToken,base64Decoded);
 	}
 
+	@Test
+	public void check_operation_backoff_is_per_default_turned_off() {
+		/* execute */
+		TestAdapterConfigInterface configToTest = validConfigAnd().setTimeToWaitForNextCheckOperationInMinutes(2).build();
+
+		/* test */
+		assertEquals(2 * 60 * 1000, configToTest.getTimeToWaitForNextCheckOperationInMilliseconds());
+		assertEquals(2 * 60 * 1000, configToTest.getMaximumTimeToWaitForNextCheckOperationInMilliseconds());
+		assertEquals(1.0, configToTest.getCheckOperationBackoffMultiplier(), 0.0);
+		assertEquals(0, configToTest.getCheckOperationJitterInPercent());
+	}
+
+	@Test
+	public void check_operation_backoff_settings_are_in_configuration() {
+		/* execute */
+		/* @formatter:off */
+		TestAdapterConfigInterface configToTest = validConfigAnd().
+				setTimeToWaitForNextCheckOperationInMinutes(1).
+				setMaximumTimeToWaitForNextCheckOperationInMinutes(10).
+				setCheckOperationBackoffMultiplier(1.5).
+				setCheckOperationJitterInPercent(20).
+				build();
+		/* @formatter:on */
+
+		/* test */
+		assertEquals(10 * 60 * 1000, configToTest.getMaximumTimeToWaitForNextCheckOperationInMilliseconds());
+		assertEquals(1.5, configToTest.getCheckOperationBackoffMultiplier(), 0.0);
+		assertEquals(20, configToTest.getCheckOperationJitterInPercent());
+	}
+
+	@Test
+	public void check_operation_maximum_smaller_than_check_interval_is_set_to_check_interval() {
+		/* execute */
+		TestAdapterConfigInterface configToTest = validConfigAnd().setTimeToWaitForNextCheckOperationInMinutes(5).setMaximumTimeToWaitForNextCheckOperationInMinutes(2).build();
+
+		/* test */
+		assertEquals(5 * 60 * 1000, configToTest.getMaximumTimeToWaitForNextCheckOperationInMilliseconds());
+	}
+
 	private TestAdapterConfigBuilder validConfigAnd() {
 		return new TestAdapterConfigBuilder().setProductBaseUrl("baseUrl");
 	}
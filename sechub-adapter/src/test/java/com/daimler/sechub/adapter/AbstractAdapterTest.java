@@ -4,6 +4,14 @@ package com.daimler.sechub.adapter;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -19,6 +27,35 @@ public class AbstractAdapterTest {
 		adapterToTest = new TestAdapter();
 	}
 
+
+	@Test
+	public void lazy_created_pool_and_session_cache_are_same_for_concurrent_callers() throws Exception {
+		/* prepare */
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Object[]>> results = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				return new Object[] { adapterToTest.getHttpClientPool(), adapterToTest.getSessionCache() };
+			}));
+		}
+
+		/* execute */
+		start.countDown();
+
+		/* test */
+		try {
+			for (Future<Object[]> result : results) {
+				Object[] found = result.get(5, TimeUnit.SECONDS);
+				assertSame(adapterToTest.getHttpClientPool(), found[0]);
+				assertSame(adapterToTest.getSessionCache(), found[1]);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
 	
 	@Test
 	public void get_api_for_website_slash_create_returns_full_url1() {
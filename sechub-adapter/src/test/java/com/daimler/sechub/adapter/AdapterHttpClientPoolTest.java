@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.adapter.testclasses.TestAdapterConfigInterface;
+import com.daimler.sechub.adapter.testclasses.TestAdapterInterface;
+
+public class AdapterHttpClientPoolTest {
+
+	private AdapterHttpClientPool poolToTest;
+	private TestAdapterInterface adapter;
+
+	@Before
+	public void before() throws Exception {
+		poolToTest = new AdapterHttpClientPool();
+		adapter = mock(TestAdapterInterface.class);
+	}
+
+	@After
+	public void after() {
+		poolToTest.close();
+	}
+
+	@Test
+	public void same_base_url_and_settings_reuses_client() {
+		/* prepare */
+		TestAdapterConfigInterface config1 = createConfig("https://product.example.com", false);
+		TestAdapterConfigInterface config2 = createConfig("https://product.example.com", false);
+
+		/* execute */
+		CloseableHttpClient client1 = poolToTest.getHttpClient(adapter, config1);
+		CloseableHttpClient client2 = poolToTest.getHttpClient(adapter, config2);
+
+		/* test */
+		assertSame(client1, client2);
+		assertEquals(1, poolToTest.getClientCount());
+	}
+
+	@Test
+	public void different_base_url_or_trust_setting_uses_different_clients() {
+		/* prepare */
+		TestAdapterConfigInterface config1 = createConfig("https://product.example.com", false);
+		TestAdapterConfigInterface config2 = createConfig("https://product.example.com", true);
+		TestAdapterConfigInterface config3 = createConfig("https://other.example.com", false);
+
+		/* execute */
+		CloseableHttpClient client1 = poolToTest.getHttpClient(adapter, config1);
+		CloseableHttpClient client2 = poolToTest.getHttpClient(adapter, config2);
+		CloseableHttpClient client3 = poolToTest.getHttpClient(adapter, config3);
+
+		/* test */
+		assertNotSame(client1, client2);
+		assertNotSame(client1, client3);
+		assertEquals(3, poolToTest.getClientCount());
+	}
+
+	@Test
+	public void proxy_setting_is_part_of_client_identity() {
+		/* prepare */
+		TestAdapterConfigInterface config1 = createConfig("https://product.example.com", false);
+		TestAdapterConfigInterface config2 = createConfig("https://product.example.com", false);
+		when(config2.isProxyDefined()).thenReturn(true);
+		when(config2.getProxyHostname()).thenReturn("proxy.example.com");
+		when(config2.getProxyPort()).thenReturn(1080);
+
+		/* execute */
+		CloseableHttpClient client1 = poolToTest.getHttpClient(adapter, config1);
+		CloseableHttpClient client2 = poolToTest.getHttpClient(adapter, config2);
+
+		/* test */
+		assertNotSame(client1, client2);
+	}
+
+	private TestAdapterConfigInterface createConfig(String baseURL, boolean trustAll) {
+		TestAdapterConfigInterface config = mock(TestAdapterConfigInterface.class);
+		when(config.getProductBaseURL()).thenReturn(baseURL);
+		when(config.isTrustAllCertificatesEnabled()).thenReturn(trustAll);
+		return config;
+	}
+}
@@ -0,0 +1,148 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.daimler.sechub.adapter.AdapterSessionCache.CachedValue;
+
+public class AdapterSessionCacheTest {
+
+	private AdapterSessionCache cacheToTest;
+	private AtomicInteger loads;
+
+	@Before
+	public void before() throws Exception {
+		cacheToTest = new AdapterSessionCache();
+		loads = new AtomicInteger();
+	}
+
+	@Test
+	public void value_is_loaded_only_once_while_valid() throws Exception {
+		/* execute */
+		String value1 = cacheToTest.getOrLoad("key", () -> new CachedValue<>("token" + loads.incrementAndGet(), 60000));
+		String value2 = cacheToTest.getOrLoad("key", () -> new CachedValue<>("token" + loads.incrementAndGet(), 60000));
+
+		/* test */
+		assertEquals("token1", value1);
+		assertEquals("token1", value2);
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void value_with_less_than_half_lifetime_remaining_is_loaded_again() throws Exception {
+		/* prepare */
+		cacheToTest.getOrLoad("key", () -> new CachedValue<>("token" + loads.incrementAndGet(), 20));
+		Thread.sleep(15);
+
+		/* execute */
+		String value = cacheToTest.getOrLoad("key", () -> new CachedValue<>("token" + loads.incrementAndGet(), 20));
+
+		/* test */
+		assertEquals("token2", value);
+	}
+
+	@Test
+	public void value_without_lifetime_is_not_cached() throws Exception {
+		/* execute */
+		cacheToTest.getOrLoad("key", () -> new CachedValue<>("token" + loads.incrementAndGet(), 0));
+
+		/* test */
+		assertEquals(0, cacheToTest.getCachedValueCount());
+	}
+
+	@Test
+	public void disabled_cache_loads_always() throws Exception {
+		/* prepare */
+		cacheToTest.enabled = false;
+
+		/* execute */
+		cacheToTest.getOrLoad("key", () -> new CachedValue<>("token" + loads.incrementAndGet(), 60000));
+		cacheToTest.getOrLoad("key", () -> new CachedValue<>("token" + loads.incrementAndGet(), 60000));
+
+		/* test */
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void unauthorized_failure_invalidates_value_other_failures_not() throws Exception {
+		/* prepare */
+		cacheToTest.getOrLoad("key|x", () -> new CachedValue<>("token", 60000));
+
+		/* execute + test */
+		cacheToTest.invalidateWhenUnauthorized("key|x", new IllegalStateException("failed", new HttpClientErrorException(HttpStatus.FORBIDDEN)));
+		assertEquals(1, cacheToTest.getCachedValueCount());
+
+		cacheToTest.invalidateWhenUnauthorized("key|x", new IllegalStateException("failed", new HttpClientErrorException(HttpStatus.UNAUTHORIZED)));
+		assertEquals(0, cacheToTest.getCachedValueCount());
+	}
+
+	@Test
+	public void parallel_callers_for_same_key_load_only_once() throws Exception {
+		/* prepare */
+		int callers = 10;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(callers);
+		List<Future<String>> futures = new ArrayList<>();
+
+		/* execute */
+		try {
+			for (int i = 0; i < callers; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return cacheToTest.getOrLoad("key", () -> {
+						sleep(50);
+						return new CachedValue<>("token" + loads.incrementAndGet(), 60000);
+					});
+				}));
+			}
+			start.countDown();
+			for (Future<String> future : futures) {
+				assertEquals("token1", future.get(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		/* test */
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void key_contains_no_plain_password() {
+		/* prepare */
+		AdapterConfig config = mock(AdapterConfig.class);
+		when(config.getProductBaseURL()).thenReturn("https://product.example.com");
+		when(config.getUser()).thenReturn("user1");
+		when(config.getPasswordOrAPIToken()).thenReturn("secret-password");
+
+		/* execute */
+		String key = cacheToTest.createKey("login", config);
+
+		/* test */
+		assertTrue(key.startsWith("login|https://product.example.com|user1|"));
+		assertFalse(key.contains("secret-password"));
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
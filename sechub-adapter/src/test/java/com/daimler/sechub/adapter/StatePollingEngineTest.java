@@ -0,0 +1,233 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.adapter.StatePollingEngine.AdaptivePollingBackoff;
+import com.daimler.sechub.adapter.StatePollingEngine.PollingBackoff;
+
+public class StatePollingEngineTest {
+
+	private StatePollingEngine engineToTest;
+
+	@Before
+	public void before() throws Exception {
+		engineToTest = new StatePollingEngine(1);
+	}
+
+	@After
+	public void after() throws Exception {
+		engineToTest.shutdown();
+	}
+
+	@Test
+	public void poll_completes_with_first_non_null_result() throws Exception {
+		/* prepare */
+		AtomicInteger checks = new AtomicInteger();
+
+		/* execute */
+		CompletableFuture<String> future = engineToTest.poll(() -> checks.incrementAndGet() < 3 ? null : "done", new PollingBackoff(1, 1, 1.0, 0));
+
+		/* test */
+		assertEquals("done", future.get(5, TimeUnit.SECONDS));
+		assertEquals(3, checks.get());
+	}
+
+	@Test
+	public void poll_completes_exceptionally_when_check_fails() throws Exception {
+		/* prepare */
+		IllegalStateException failure = new IllegalStateException("check failed");
+
+		/* execute */
+		CompletableFuture<String> future = engineToTest.poll(() -> {
+			throw failure;
+		}, new PollingBackoff(1, 1, 1.0, 0));
+
+		/* test */
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			fail("no exception thrown");
+		} catch (ExecutionException e) {
+			assertSame(failure, e.getCause());
+		}
+	}
+
+	@Test
+	public void canceled_poll_does_no_further_checks() throws Exception {
+		/* prepare */
+		AtomicInteger checks = new AtomicInteger();
+		CompletableFuture<String> future = engineToTest.poll(() -> {
+			checks.incrementAndGet();
+			return null;
+		}, new PollingBackoff(50, 50, 1.0, 0));
+
+		/* execute */
+		future.cancel(true);
+		int checksAfterCancel = checks.get();
+		Thread.sleep(200);
+
+		/* test */
+		assertTrue(checks.get() <= checksAfterCancel + 1);
+	}
+
+	@Test
+	public void blocking_check_does_not_delay_checks_of_other_polls() throws Exception {
+		/* prepare */
+		CountDownLatch blockingCheckStarted = new CountDownLatch(1);
+		CountDownLatch releaseBlockingCheck = new CountDownLatch(1);
+		CompletableFuture<String> blocking = engineToTest.poll(() -> {
+			blockingCheckStarted.countDown();
+			releaseBlockingCheck.await();
+			return "blocking-done";
+		}, new PollingBackoff(1, 1, 1.0, 0));
+		assertTrue(blockingCheckStarted.await(5, TimeUnit.SECONDS));
+
+		/* execute */
+		AtomicInteger checks = new AtomicInteger();
+		CompletableFuture<String> other = engineToTest.poll(() -> checks.incrementAndGet() < 3 ? null : "other-done", new PollingBackoff(1, 1, 1.0, 0));
+
+		/* test */
+		assertEquals("other-done", other.get(5, TimeUnit.SECONDS));
+		assertFalse(blocking.isDone());
+		releaseBlockingCheck.countDown();
+		assertEquals("blocking-done", blocking.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void execute_runs_work_inside_work_pool() throws Exception {
+		/* execute */
+		CompletableFuture<String> future = engineToTest.execute(() -> Thread.currentThread().getName());
+
+		/* test */
+		assertTrue(future.get(5, TimeUnit.SECONDS).startsWith("adapter_work_"));
+	}
+
+	@Test
+	public void work_exceeding_work_threads_is_queued_and_executed_later() throws Exception {
+		/* prepare */
+		engineToTest.shutdown();
+		engineToTest = new StatePollingEngine(1, 1);
+		CountDownLatch releaseFirstWork = new CountDownLatch(1);
+		CompletableFuture<String> first = engineToTest.execute(() -> {
+			releaseFirstWork.await();
+			return Thread.currentThread().getName();
+		});
+
+		/* execute */
+		CompletableFuture<String> second = engineToTest.execute(() -> Thread.currentThread().getName());
+
+		/* test */
+		Thread.sleep(100);
+		assertFalse(second.isDone());
+		releaseFirstWork.countDown();
+		assertEquals(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void shutdown_engine_completes_new_work_exceptionally() throws Exception {
+		/* prepare */
+		engineToTest.shutdown();
+
+		/* execute */
+		CompletableFuture<String> future = engineToTest.execute(() -> "never");
+
+		/* test */
+		assertTrue(future.isCompletedExceptionally());
+	}
+
+	@Test
+	public void backoff_without_multiplier_returns_always_initial_delay() {
+		/* prepare */
+		PollingBackoff backoffToTest = new PollingBackoff(1000, 5000, 1.0, 0);
+
+		/* execute + test */
+		assertEquals(1000, backoffToTest.calculateDelayInMilliseconds(0));
+		assertEquals(1000, backoffToTest.calculateDelayInMilliseconds(10));
+	}
+
+	@Test
+	public void backoff_with_multiplier_increases_delay_until_maximum() {
+		/* prepare */
+		PollingBackoff backoffToTest = new PollingBackoff(1000, 5000, 2.0, 0);
+
+		/* execute + test */
+		assertEquals(1000, backoffToTest.calculateDelayInMilliseconds(0));
+		assertEquals(2000, backoffToTest.calculateDelayInMilliseconds(1));
+		assertEquals(4000, backoffToTest.calculateDelayInMilliseconds(2));
+		assertEquals(5000, backoffToTest.calculateDelayInMilliseconds(3));
+		assertEquals(5000, backoffToTest.calculateDelayInMilliseconds(10000));
+	}
+
+	@Test
+	public void backoff_with_jitter_stays_inside_jitter_range() {
+		/* prepare */
+		PollingBackoff backoffToTest = new PollingBackoff(1000, 1000, 1.0, 10);
+
+		/* execute + test */
+		for (int i = 0; i < 100; i++) {
+			long delay = backoffToTest.calculateDelayInMilliseconds(i);
+			assertTrue("delay was:" + delay, delay >= 900 && delay <= 1100);
+		}
+	}
+
+	@Test
+	public void adaptive_backoff_checks_more_often_near_expected_end() {
+		/* prepare */
+		AtomicLong elapsed = new AtomicLong();
+		PollingBackoff backoffToTest = new AdaptivePollingBackoff(60000, 60000, 10000, 0, 600000, elapsed::get);
+
+		/* execute + test */
+		elapsed.set(0);
+		assertEquals(60000, backoffToTest.calculateDelayInMilliseconds(0)); // far away: check interval
+		elapsed.set(500000);
+		assertEquals(50000, backoffToTest.calculateDelayInMilliseconds(1)); // half of remaining time
+		elapsed.set(590000);
+		assertEquals(30000, backoffToTest.calculateDelayInMilliseconds(2)); // near delay = 1/20 of expected duration
+	}
+
+	@Test
+	public void adaptive_backoff_never_exceeds_configured_maximum_before_expected_end() {
+		/* prepare */
+		AtomicLong elapsed = new AtomicLong();
+		PollingBackoff backoffToTest = new AdaptivePollingBackoff(60000, 120000, 10000, 0, 6000000, elapsed::get);
+
+		/* execute + test */
+		assertEquals(120000, backoffToTest.calculateDelayInMilliseconds(0)); // far away: configured maximum
+		elapsed.set(5800000);
+		assertEquals(100000, backoffToTest.calculateDelayInMilliseconds(1)); // half of remaining time
+	}
+
+	@Test
+	public void adaptive_backoff_backs_off_to_maximum_after_expected_end() {
+		/* prepare */
+		AtomicLong elapsed = new AtomicLong();
+		PollingBackoff backoffToTest = new AdaptivePollingBackoff(60000, 60000, 10000, 0, 600000, elapsed::get);
+
+		/* execute + test */
+		elapsed.set(610000);
+		assertEquals(30000, backoffToTest.calculateDelayInMilliseconds(0));
+		elapsed.set(800000);
+		assertEquals(50000, backoffToTest.calculateDelayInMilliseconds(1));
+		elapsed.set(1000000);
+		assertEquals(60000, backoffToTest.calculateDelayInMilliseconds(2));
+	}
+
+	@Test
+	public void adaptive_backoff_near_delay_is_never_lower_than_minimum_or_greater_than_initial() {
+		/* execute + test */
+		assertEquals(10000, new AdaptivePollingBackoff(60000, 60000, 10000, 0, 1000, () -> 0).getNearDelayInMilliseconds());
+		assertEquals(60000, new AdaptivePollingBackoff(60000, 60000, 10000, 0, 100000000, () -> 0).getNearDelayInMilliseconds());
+	}
+
+}
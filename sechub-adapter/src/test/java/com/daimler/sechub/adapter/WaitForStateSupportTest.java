@@ -0,0 +1,160 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.adapter;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.adapter.support.AdapterFutureSupport;
+import com.daimler.sechub.adapter.testclasses.TestAdapterConfigInterface;
+import com.daimler.sechub.adapter.testclasses.TestAdapterContextInterface;
+
+public class WaitForStateSupportTest {
+
+	private StatePollingEngine engine;
+	private Adapter<?> adapter;
+	private TestAdapterContextInterface context;
+	private TestAdapterConfigInterface config;
+	private AdapterFutureSupport futureSupport;
+
+	@Before
+	public void before() throws Exception {
+		engine = new StatePollingEngine(1);
+		futureSupport = new AdapterFutureSupport();
+		adapter = mock(Adapter.class);
+		context = mock(TestAdapterContextInterface.class);
+		config = mock(TestAdapterConfigInterface.class);
+		when(context.getConfig()).thenReturn(config);
+		when(config.getTimeToWaitForNextCheckOperationInMilliseconds()).thenReturn(1);
+		when(config.getMaximumTimeToWaitForNextCheckOperationInMilliseconds()).thenReturn(1);
+		when(config.getCheckOperationBackoffMultiplier()).thenReturn(1.0);
+		AdapterLogId logId = new AdapterLogId("test", "trace");
+		when(adapter.asAdapterException(any(), any(TraceIdProvider.class))).thenAnswer(invocation -> new AdapterException(logId, (String) invocation.getArgument(0)));
+		when(adapter.asAdapterException(any(), any(Throwable.class), any())).thenAnswer(invocation -> new AdapterException(logId, invocation.getArgument(0), invocation.getArgument(1)));
+	}
+
+	@After
+	public void after() throws Exception {
+		engine.shutdown();
+	}
+
+	@Test
+	public void wait_for_ok_returns_when_no_longer_waiting_and_handles_last_state() throws Exception {
+		/* prepare */
+		TestWaitForStateSupport supportToTest = new TestWaitForStateSupport("running", "running", "done");
+
+		/* execute */
+		String state = futureSupport.waitFor(supportToTest.waitForOKAsync(context), adapter, context);
+
+		/* test */
+		assertEquals("done", state);
+		assertEquals("done", supportToTest.handledState);
+	}
+
+	@Test
+	public void state_checks_and_handling_are_done_by_work_pool_and_not_by_calling_or_polling_thread() throws Exception {
+		/* prepare */
+		TestWaitForStateSupport supportToTest = new TestWaitForStateSupport("running", "done");
+
+		/* execute */
+		futureSupport.waitFor(supportToTest.waitForOKAsync(context), adapter, context);
+
+		/* test */
+		assertTrue(supportToTest.checkThreadName.startsWith("adapter_work_"));
+		assertTrue(supportToTest.handleThreadName.startsWith("adapter_work_"));
+	}
+
+	@Test
+	public void canceled_context_stops_waiting() throws Exception {
+		/* prepare */
+		TestWaitForStateSupport supportToTest = new TestWaitForStateSupport("running", "running", "done");
+		when(context.isCanceled()).thenReturn(true);
+
+		/* execute */
+		CompletableFuture<String> future = supportToTest.waitForOKAsync(context);
+
+		/* test */
+		try {
+			futureSupport.waitFor(future, adapter, context);
+			fail("no exception thrown");
+		} catch (AdapterException e) {
+			assertTrue(e.getMessage().contains("Waiting was canceled"));
+		}
+		assertNull(supportToTest.handledState);
+	}
+
+	@Test
+	public void wait_for_ok_throws_adapter_exception_on_time_out() throws Exception {
+		/* prepare */
+		TestWaitForStateSupport supportToTest = new TestWaitForStateSupport("running", "running", "done");
+		when(context.isTimeOut()).thenReturn(true);
+
+		/* execute */
+		try {
+			futureSupport.waitFor(supportToTest.waitForOKAsync(context), adapter, context);
+			fail("no exception thrown");
+		} catch (AdapterException e) {
+			/* test */
+			assertTrue(e.getMessage().contains("Time out reached"));
+		}
+		assertNull(supportToTest.handledState);
+	}
+
+	@Test
+	public void wait_for_ok_throws_adapter_exception_when_state_cannot_be_fetched() throws Exception {
+		/* prepare */
+		TestWaitForStateSupport supportToTest = new TestWaitForStateSupport();
+
+		/* execute */
+		try {
+			futureSupport.waitFor(supportToTest.waitForOKAsync(context), adapter, context);
+			fail("no exception thrown");
+		} catch (AdapterException e) {
+			/* test */
+			assertTrue(e.getMessage().contains("Waiting for result failed"));
+		}
+	}
+
+	private class TestWaitForStateSupport extends WaitForStateSupport<TestAdapterContextInterface, TestAdapterConfigInterface> {
+
+		private Iterator<String> states;
+		private String handledState;
+		private String checkThreadName;
+		private String handleThreadName;
+
+		private TestWaitForStateSupport(String... states) {
+			super(WaitForStateSupportTest.this.adapter);
+			this.states = Arrays.asList(states).iterator();
+		}
+
+		@Override
+		protected boolean isWaitingForOKWhenInState(String state, TestAdapterContextInterface context) throws Exception {
+			return "running".equals(state);
+		}
+
+		@Override
+		protected void handleNoLongerWaitingState(String state, TestAdapterContextInterface context) throws Exception {
+			handledState = state;
+			handleThreadName = Thread.currentThread().getName();
+		}
+
+		@Override
+		protected String getCurrentState(TestAdapterContextInterface context) throws Exception {
+			checkThreadName = Thread.currentThread().getName();
+			return states.next();
+		}
+
+		@Override
+		protected StatePollingEngine getPollingEngine() {
+			return engine;
+		}
+	}
+}
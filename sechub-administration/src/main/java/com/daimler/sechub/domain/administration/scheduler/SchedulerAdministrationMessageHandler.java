@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.domain.administration.status.StatusEntry;
+import com.daimler.sechub.domain.administration.status.StatusEntryKey;
 import com.daimler.sechub.domain.administration.status.StatusEntryRepository;
 import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageHandler;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
@@ -81,13 +82,21 @@ public class SchedulerAdministrationMessageHandler implements AsynchronMessageHa
 		StatusEntry jobsWaiting = fetchOrCreateEntry(SchedulerStatusEntryKeys.SCHEDULER_JOBS_WAITING);
 		jobsWaiting.setValue(Long.toString(status.getAmountOfWaitingJobs()));
 
+		StatusEntry podJobsMaximum = fetchOrCreateEntry(SchedulerStatusEntryKeys.SCHEDULER_POD_JOBS_MAXIMUM.forPod(status.getPodName()));
+		podJobsMaximum.setValue(Integer.toString(status.getMaximumConcurrentJobsOfPod()));
+
+		StatusEntry podJobsFreeSlots = fetchOrCreateEntry(SchedulerStatusEntryKeys.SCHEDULER_POD_JOBS_FREE_SLOTS.forPod(status.getPodName()));
+		podJobsFreeSlots.setValue(Integer.toString(status.getAmountOfFreeJobSlotsOfPod()));
+
 		/* persist */
 		repository.save(jobsAll);
 		repository.save(jobsRunning);
 		repository.save(jobsWaiting);
+		repository.save(podJobsMaximum);
+		repository.save(podJobsFreeSlots);
 	}
 
-	private StatusEntry fetchOrCreateEntry(SchedulerStatusEntryKeys key) {
+	private StatusEntry fetchOrCreateEntry(StatusEntryKey key) {
 		Optional<StatusEntry> optional = repository.findByStatusEntryKey(key);
 		if (optional.isPresent()) {
 			return optional.get();
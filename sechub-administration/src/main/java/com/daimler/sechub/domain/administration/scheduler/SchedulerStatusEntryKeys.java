@@ -9,7 +9,22 @@ public enum SchedulerStatusEntryKeys implements StatusEntryKey{
 
 	SCHEDULER_JOBS_RUNNING("status.scheduler.jobs.running"),
 
-	SCHEDULER_JOBS_WAITING("status.scheduler.jobs.waiting");
+	SCHEDULER_JOBS_WAITING("status.scheduler.jobs.waiting"),
+
+	/**
+	 * Pod specific - use {@link #forPod(String)}
+	 */
+	SCHEDULER_POD_JOBS_MAXIMUM("status.scheduler.pod.jobs.maximum"),
+
+	/**
+	 * Pod specific - use {@link #forPod(String)}
+	 */
+	SCHEDULER_POD_JOBS_FREE_SLOTS("status.scheduler.pod.jobs.freeslots");
+
+	/* status_id column has max length 60 */
+	static final int MAX_KEY_LENGTH = 60;
+
+	private static final String POD_PREFIX = "status.scheduler.pod.";
 
 	private String statusEntryKey;
 
@@ -22,4 +37,26 @@ public enum SchedulerStatusEntryKeys implements StatusEntryKey{
 		return statusEntryKey;
 	}
 
+	/**
+	 * Creates a key for given pod - e.g. "status.scheduler.pod.$podName.jobs.maximum". Every
+	 * pod has its own capacity, so these entries must not be overwritten by other pods.
+	 * Too long pod names are shortened at the beginning, because kubernetes pod names
+	 * end with their unique part.
+	 *
+	 * @param podName name of pod, when <code>null</code> or empty this key is returned
+	 * @return key for pod, never <code>null</code>
+	 */
+	public StatusEntryKey forPod(String podName) {
+		if (podName == null || podName.isEmpty() || !statusEntryKey.startsWith(POD_PREFIX)) {
+			return this;
+		}
+		String suffix = statusEntryKey.substring(POD_PREFIX.length());
+		int maxPodNameLength = MAX_KEY_LENGTH - POD_PREFIX.length() - suffix.length() - 1;
+		if (podName.length() > maxPodNameLength) {
+			podName = podName.substring(podName.length() - maxPodNameLength);
+		}
+		String podKey = POD_PREFIX + podName + "." + suffix;
+		return () -> podKey;
+	}
+
 }
@@ -0,0 +1,37 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.administration.scheduler;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class SchedulerStatusEntryKeysTest {
+
+	@Test
+	public void pod_key_contains_pod_name() {
+		assertEquals("status.scheduler.pod.pod1.jobs.maximum", SchedulerStatusEntryKeys.SCHEDULER_POD_JOBS_MAXIMUM.forPod("pod1").getStatusEntryKey());
+		assertEquals("status.scheduler.pod.pod1.jobs.freeslots", SchedulerStatusEntryKeys.SCHEDULER_POD_JOBS_FREE_SLOTS.forPod("pod1").getStatusEntryKey());
+	}
+
+	@Test
+	public void pod_key_without_pod_name_is_origin_key() {
+		assertSame(SchedulerStatusEntryKeys.SCHEDULER_POD_JOBS_MAXIMUM, SchedulerStatusEntryKeys.SCHEDULER_POD_JOBS_MAXIMUM.forPod(null));
+		assertSame(SchedulerStatusEntryKeys.SCHEDULER_POD_JOBS_MAXIMUM, SchedulerStatusEntryKeys.SCHEDULER_POD_JOBS_MAXIMUM.forPod(""));
+	}
+
+	@Test
+	public void too_long_pod_name_is_shortened_at_beginning() {
+		/* execute */
+		String key = SchedulerStatusEntryKeys.SCHEDULER_POD_JOBS_FREE_SLOTS.forPod("sechub-server-with-a-very-long-name-7d9f8b7c5d-abcde").getStatusEntryKey();
+
+		/* test */
+		assertEquals(SchedulerStatusEntryKeys.MAX_KEY_LENGTH, key.length());
+		assertTrue(key.startsWith("status.scheduler.pod."));
+		assertTrue(key.endsWith("-7d9f8b7c5d-abcde.jobs.freeslots"));
+	}
+
+	@Test
+	public void non_pod_key_is_not_changed() {
+		assertSame(SchedulerStatusEntryKeys.SCHEDULER_JOBS_ALL, SchedulerStatusEntryKeys.SCHEDULER_JOBS_ALL.forPod("pod1"));
+	}
+}
@@ -0,0 +1,206 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.authorization;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Cache for successful authentications. Every REST call is authenticated by
+ * HTTP basic auth - without this cache every call would need a database read
+ * and a (deliberately slow) password hash check of the API token.<br>
+ * <br>
+ * Only a salted SHA-256 digest of the presented API token is kept. The salt is
+ * created at startup and never leaves the JVM. Entries are removed after a
+ * short time to live, when the cache is full (least recently used first) or
+ * when user API token, roles or user itself changed.<br>
+ * <br>
+ * The cache is local to every server instance: invalidations are triggered by
+ * domain messages, which are not sent to other instances. So on other instances
+ * a revoked API token, changed roles or a deleted user can still be accepted
+ * until the time to live of the cached entry has been reached. Cache statistic
+ * is logged periodically (see {@link #logStatistic()}).
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class AuthUserAuthenticationCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AuthUserAuthenticationCache.class);
+
+	private static final int DEFAULT_TIME_TO_LIVE_SECONDS = 60;
+	private static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	@MustBeDocumented("Time to live in seconds for cached successful authentications of API users. 0 disables the cache.")
+	@Value("${sechub.security.authentication.cache.timetolive.seconds:" + DEFAULT_TIME_TO_LIVE_SECONDS + "}")
+	int timeToLiveInSeconds = DEFAULT_TIME_TO_LIVE_SECONDS;
+
+	@MustBeDocumented("Maximum amount of cached successful authentications. When reached, the least recently used entry is removed.")
+	@Value("${sechub.security.authentication.cache.max.entries:" + DEFAULT_MAX_ENTRIES + "}")
+	int maximumEntries = DEFAULT_MAX_ENTRIES;
+
+	private Map<String, CachedAuthentication> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/*
+	 * increased on every invalidation - an authentication started before an
+	 * invalidation is not cached, because it could contain outdated data
+	 */
+	private AtomicLong generation = new AtomicLong();
+
+	private AtomicLong hits = new AtomicLong();
+	private AtomicLong misses = new AtomicLong();
+	private AtomicLong invalidations = new AtomicLong();
+
+	private byte[] salt = createSalt();
+
+	private static class CachedAuthentication {
+		private byte[] tokenDigest;
+		private Authentication authentication;
+		private long created;
+
+		private CachedAuthentication(byte[] tokenDigest, Authentication authentication, long created) {
+			this.tokenDigest = tokenDigest;
+			this.authentication = authentication;
+			this.created = created;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> when authentications are cached
+	 */
+	public boolean isEnabled() {
+		return timeToLiveInSeconds > 0 && maximumEntries > 0;
+	}
+
+	/**
+	 * Resolves cached authentication
+	 *
+	 * @param userId
+	 * @param apiToken presented (plain) API token
+	 * @return cached authentication or <code>null</code> when not cached,
+	 *         expired or presented token differs
+	 */
+	public Authentication get(String userId, String apiToken) {
+		if (!isEnabled() || userId == null || apiToken == null) {
+			return null;
+		}
+		CachedAuthentication cached;
+		synchronized (entries) {
+			cached = entries.get(userId);
+			if (cached != null && isExpired(cached)) {
+				entries.remove(userId);
+				cached = null;
+			}
+		}
+		if (cached == null || !MessageDigest.isEqual(cached.tokenDigest, createDigest(userId, apiToken))) {
+			misses.incrementAndGet();
+			return null;
+		}
+		hits.incrementAndGet();
+		return cached.authentication;
+	}
+
+	/**
+	 * @return current generation - must be fetched before authentication is
+	 *         done and given to {@link #put(String, String, Authentication, long)}
+	 */
+	public long getGeneration() {
+		return generation.get();
+	}
+
+	/**
+	 * Caches successful authentication - when no invalidation has happened since
+	 * given generation
+	 *
+	 * @param userId
+	 * @param apiToken       presented (plain) API token
+	 * @param authentication successful authentication
+	 * @param generation     generation fetched before authentication was done
+	 */
+	public void put(String userId, String apiToken, Authentication authentication, long generation) {
+		if (!isEnabled() || userId == null || apiToken == null) {
+			return;
+		}
+		CachedAuthentication cached = new CachedAuthentication(createDigest(userId, apiToken), authentication, System.currentTimeMillis());
+		synchronized (entries) {
+			if (this.generation.get() != generation) {
+				return;
+			}
+			entries.put(userId, cached);
+			while (entries.size() > maximumEntries) {
+				String eldest = entries.keySet().iterator().next();
+				entries.remove(eldest);
+			}
+		}
+	}
+
+	/**
+	 * Removes cached authentication for given user
+	 *
+	 * @param userId
+	 */
+	public void invalidate(String userId) {
+		synchronized (entries) {
+			generation.incrementAndGet();
+			entries.remove(userId);
+		}
+		invalidations.incrementAndGet();
+		LOG.debug("Invalidated cached authentication of user:{}", userId);
+	}
+
+	/**
+	 * @return snapshot of cache statistic
+	 */
+	public AuthUserAuthenticationCacheStatistic createStatistic() {
+		int size;
+		synchronized (entries) {
+			size = entries.size();
+		}
+		return new AuthUserAuthenticationCacheStatistic(size, hits.get(), misses.get(), invalidations.get());
+	}
+
+	@MustBeDocumented("Delay in milliseconds between two logs of authentication cache statistic - default is five minutes")
+	@Scheduled(fixedDelayString = "${sechub.security.authentication.cache.statistic.log.delay:300000}")
+	public void logStatistic() {
+		if (!isEnabled()) {
+			return;
+		}
+		LOG.info("Authentication cache statistic: {}", createStatistic());
+	}
+
+	private boolean isExpired(CachedAuthentication cached) {
+		return System.currentTimeMillis() - cached.created > timeToLiveInSeconds * 1000L;
+	}
+
+	private byte[] createDigest(String userId, String apiToken) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(salt);
+			digest.update(userId.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			return digest.digest(apiToken.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not supported", e);
+		}
+	}
+
+	private static byte[] createSalt() {
+		byte[] salt = new byte[32];
+		new SecureRandom().nextBytes(salt);
+		return salt;
+	}
+}
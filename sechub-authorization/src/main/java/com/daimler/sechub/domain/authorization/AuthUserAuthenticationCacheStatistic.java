@@ -0,0 +1,56 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.authorization;
+
+/**
+ * Snapshot of statistic data for authentication cache
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class AuthUserAuthenticationCacheStatistic {
+
+	private int size;
+	private long hits;
+	private long misses;
+	private long invalidations;
+
+	AuthUserAuthenticationCacheStatistic(int size, long hits, long misses, long invalidations) {
+		this.size = size;
+		this.hits = hits;
+		this.misses = misses;
+		this.invalidations = invalidations;
+	}
+
+	/**
+	 * @return amount of cached authentications
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return amount of authentications resolved by cache
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return amount of authentications not resolved by cache
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return amount of invalidations because of user changes
+	 */
+	public long getInvalidations() {
+		return invalidations;
+	}
+
+	@Override
+	public String toString() {
+		return "size=" + size + ", hits=" + hits + ", misses=" + misses + ", invalidations=" + invalidations;
+	}
+}
@@ -0,0 +1,65 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.authorization;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Authentication provider using {@link AuthUserAuthenticationCache} - only when
+ * no successful authentication is cached, the delegate (database read and
+ * password hash check) is used.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class AuthUserCachingAuthenticationProvider implements AuthenticationProvider {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AuthUserCachingAuthenticationProvider.class);
+
+	private AuthenticationProvider delegate;
+	private AuthUserAuthenticationCache cache;
+
+	public AuthUserCachingAuthenticationProvider(AuthenticationProvider delegate, AuthUserAuthenticationCache cache) {
+		this.delegate = delegate;
+		this.cache = cache;
+	}
+
+	@Override
+	public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+		String userId = authentication.getName();
+		String apiToken = resolveApiToken(authentication);
+
+		Authentication cached = cache.get(userId, apiToken);
+		if (cached != null) {
+			LOG.trace("Using cached authentication for user:{}", userId);
+			/* new instance - provider manager erases credentials of result */
+			UsernamePasswordAuthenticationToken result = new UsernamePasswordAuthenticationToken(cached.getPrincipal(), null, cached.getAuthorities());
+			result.setDetails(authentication.getDetails());
+			return result;
+		}
+		long generation = cache.getGeneration();
+		Authentication result = delegate.authenticate(authentication);
+		if (result != null && result.isAuthenticated()) {
+			cache.put(userId, apiToken, result, generation);
+		}
+		return result;
+	}
+
+	@Override
+	public boolean supports(Class<?> authentication) {
+		return delegate.supports(authentication);
+	}
+
+	private String resolveApiToken(Authentication authentication) {
+		Object credentials = authentication.getCredentials();
+		if (credentials == null) {
+			return null;
+		}
+		return credentials.toString();
+	}
+
+}
@@ -9,6 +9,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.User.UserBuilder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -37,6 +39,19 @@ public class AuthUserRestAPIConfiguration {
 		/* @formatter:on */
 	}
 
+	/**
+	 * Authentication provider for API users - successful authentications are
+	 * cached, so not every REST call needs a database read and a password hash
+	 * check
+	 */
+	@Bean
+	public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService, AuthUserAuthenticationCache authenticationCache) {
+		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+		provider.setUserDetailsService(userDetailsService);
+		provider.setPasswordEncoder(passwordEncoder);
+		return new AuthUserCachingAuthenticationProvider(provider, authenticationCache);
+	}
+
 	static UserDetails adoptUser(AuthUser entity) {
 		UserBuilder builder = User.builder();
 		builder.username(entity.getUserId());
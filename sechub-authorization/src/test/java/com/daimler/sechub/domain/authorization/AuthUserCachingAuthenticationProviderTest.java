@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.authorization;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.daimler.sechub.sharedkernel.RoleConstants;
+
+public class AuthUserCachingAuthenticationProviderTest {
+
+	private AuthUserCachingAuthenticationProvider providerToTest;
+	private AuthenticationProvider delegate;
+	private AuthUserAuthenticationCache cache;
+
+	@Before
+	public void before() throws Exception {
+		delegate = mock(AuthenticationProvider.class);
+		cache = new AuthUserAuthenticationCache();
+
+		when(delegate.authenticate(any())).thenAnswer(invocation -> {
+			Authentication authentication = invocation.getArgument(0);
+			if (!"token1".equals(authentication.getCredentials())) {
+				throw new BadCredentialsException("bad");
+			}
+			return new UsernamePasswordAuthenticationToken(authentication.getName(), null,
+					Collections.singletonList(new SimpleGrantedAuthority(RoleConstants.ROLE_USER)));
+		});
+
+		providerToTest = new AuthUserCachingAuthenticationProvider(delegate, cache);
+	}
+
+	@Test
+	public void second_authentication_with_same_token_is_resolved_by_cache() {
+		/* execute */
+		providerToTest.authenticate(login("user1", "token1"));
+		Authentication result = providerToTest.authenticate(login("user1", "token1"));
+
+		/* test */
+		verify(delegate, times(1)).authenticate(any());
+		assertTrue(result.isAuthenticated());
+		assertEquals("user1", result.getName());
+		assertEquals(1, result.getAuthorities().size());
+
+		AuthUserAuthenticationCacheStatistic statistic = cache.createStatistic();
+		assertEquals(1, statistic.getHits());
+		assertEquals(1, statistic.getMisses());
+		assertEquals(1, statistic.getSize());
+	}
+
+	@Test
+	public void authentication_with_other_token_is_not_resolved_by_cache() {
+		/* prepare */
+		providerToTest.authenticate(login("user1", "token1"));
+
+		/* execute */
+		try {
+			providerToTest.authenticate(login("user1", "wrong"));
+			fail("bad credentials expected");
+		} catch (BadCredentialsException e) {
+			/* expected */
+		}
+
+		/* test */
+		verify(delegate, times(2)).authenticate(any());
+		assertEquals(0, cache.createStatistic().getHits());
+	}
+
+	@Test
+	public void invalidated_user_is_authenticated_by_delegate_again() {
+		/* prepare */
+		providerToTest.authenticate(login("user1", "token1"));
+
+		/* execute */
+		cache.invalidate("user1");
+		providerToTest.authenticate(login("user1", "token1"));
+
+		/* test */
+		verify(delegate, times(2)).authenticate(any());
+		assertEquals(1, cache.createStatistic().getInvalidations());
+	}
+
+	@Test
+	public void authentication_started_before_invalidation_is_not_cached() {
+		/* prepare */
+		long generation = cache.getGeneration();
+		cache.invalidate("user1");
+
+		/* execute */
+		cache.put("user1", "token1", login("user1", "token1"), generation);
+
+		/* test */
+		assertNull(cache.get("user1", "token1"));
+	}
+
+	@Test
+	public void cache_size_is_bound_and_least_recently_used_entry_removed() {
+		/* prepare */
+		cache.maximumEntries = 2;
+
+		/* execute */
+		providerToTest.authenticate(login("user1", "token1"));
+		providerToTest.authenticate(login("user2", "token1"));
+		providerToTest.authenticate(login("user1", "token1")); // user1 now most recently used
+		providerToTest.authenticate(login("user3", "token1"));
+
+		/* test */
+		assertEquals(2, cache.createStatistic().getSize());
+		assertNotNull(cache.get("user1", "token1"));
+		assertNull(cache.get("user2", "token1"));
+	}
+
+	@Test
+	public void disabled_cache_always_uses_delegate() {
+		/* prepare */
+		cache.timeToLiveInSeconds = 0;
+
+		/* execute */
+		providerToTest.authenticate(login("user1", "token1"));
+		providerToTest.authenticate(login("user1", "token1"));
+
+		/* test */
+		verify(delegate, times(2)).authenticate(any());
+	}
+
+	private Authentication login(String userId, String token) {
+		return new UsernamePasswordAuthenticationToken(userId, token);
+	}
+}
@@ -5,6 +5,7 @@ import (
 	"encoding/json"
 	"fmt"
 	"io/ioutil"
+	"net/http"
 	"os"
 	"time"
 
@@ -134,6 +135,15 @@ func approveSecHubJob(context *Context) {
 	HandleError(err)
 }
 
+/* wait time for status request - must be lower than network timeout */
+func resolveStatusWaitSeconds(context *Context) int64 {
+	wait := context.config.waitNanoseconds
+	if wait >= context.config.timeOutNanoseconds {
+		wait = context.config.timeOutNanoseconds / 2
+	}
+	return int64(time.Duration(wait) / time.Second)
+}
+
 func waitForSecHubJobDoneAndFailOnTrafficLight(context *Context) string {
 	return getSecHubJobState(context, false, true, true)
 }
@@ -180,7 +190,14 @@ func getSecHubJobState(context *Context, checkOnlyOnce bool, checkTrafficLight b
 			cursor = 0
 			newLine = true
 		}
-		response := sendWithDefaultHeader("GET", buildGetSecHubJobStatusAPICall(context), context)
+		statusCallStarted := time.Now()
+		var response *http.Response
+		if checkOnlyOnce {
+			response = sendWithDefaultHeader("GET", buildGetSecHubJobStatusAPICall(context), context)
+		} else {
+			/* server holds request open until job has ended or wait time has passed */
+			response = sendWithDefaultHeader("GET", buildWaitForSecHubJobStatusAPICall(context, resolveStatusWaitSeconds(context)), context)
+		}
 
 		data, err := ioutil.ReadAll(response.Body)
 		HandleHTTPError(err)
@@ -201,7 +218,11 @@ func getSecHubJobState(context *Context, checkOnlyOnce bool, checkTrafficLight b
 			}
 			break
 		} else {
-			time.Sleep(time.Duration(context.config.waitNanoseconds))
+			/* servers without wait support return immediately - so we wait remaining time here */
+			remaining := time.Duration(context.config.waitNanoseconds) - time.Since(statusCallStarted)
+			if remaining > 0 {
+				time.Sleep(remaining)
+			}
 		}
 	}
 	fmt.Print("\n")
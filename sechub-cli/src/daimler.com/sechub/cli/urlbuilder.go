@@ -31,6 +31,11 @@ func buildGetSecHubJobStatusAPICall(context *Context) string {
 	return buildAPIUrl(&context.config.server, &apiPart)
 }
 
+// https://localhost:8443/api/project/testproject/job/e21b13fc-591e-4abd-b119-755d473c5625?waitSeconds=60
+func buildWaitForSecHubJobStatusAPICall(context *Context, waitSeconds int64) string {
+	return fmt.Sprintf("%s?waitSeconds=%d", buildGetSecHubJobStatusAPICall(context), waitSeconds)
+}
+
 // https://localhost:8443/api/project/testproject/report/e21b13fc-591e-4abd-b119-755d473c5625
 func buildGetSecHubJobReportAPICall(context *Context) string {
 	apiPart := fmt.Sprintf("project/%s/report/%s", context.config.projectId, context.config.secHubJobUUID)
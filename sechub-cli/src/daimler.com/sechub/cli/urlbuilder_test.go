@@ -83,3 +83,23 @@ func TestBuildPostSecHubUploadSourceCodeAPICall(t *testing.T) {
 	AssertEquals("https://localhost:8443/api/project/testproject/job/e21b13fc-591e-4abd-b119-755d473c5625/sourcecode", result, t)
 
 }
+
+// https://localhost:8443/api/project/testproject/job/e21b13fc-591e-4abd-b119-755d473c5625?waitSeconds=60
+func TestBuildWaitForSecHubJobStatusAPICall(t *testing.T) {
+	/* prepare */
+	context := new(Context)
+	config := new(Config)
+
+	context.config = config
+	config.projectId = "testproject"
+	config.server = "https://localhost:8443"
+
+	config.secHubJobUUID = "e21b13fc-591e-4abd-b119-755d473c5625"
+
+	/* execute */
+	result := buildWaitForSecHubJobStatusAPICall(context, 60)
+
+	/* test*/
+	AssertEquals("https://localhost:8443/api/project/testproject/job/e21b13fc-591e-4abd-b119-755d473c5625?waitSeconds=60", result, t)
+
+}
@@ -3,6 +3,7 @@ package com.daimler.sechub.restdoc;
 import static com.daimler.sechub.test.TestURLBuilder.*;
 import static org.hamcrest.CoreMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -35,10 +36,12 @@ import com.daimler.sechub.domain.scan.product.ReportProductExecutionService;
 import com.daimler.sechub.domain.scan.report.CreateScanReportService;
 import com.daimler.sechub.domain.scan.report.DownloadScanReportService;
 import com.daimler.sechub.domain.scan.report.ScanReport;
+import com.daimler.sechub.domain.scan.report.ScanReportRenderFormat;
+import com.daimler.sechub.domain.scan.report.ScanReportRenderService;
 import com.daimler.sechub.domain.scan.report.ScanReportRepository;
 import com.daimler.sechub.domain.scan.report.ScanReportRestController;
-import com.daimler.sechub.domain.scan.report.ScanReportResult;
 import com.daimler.sechub.domain.scan.report.ScanReportTrafficLightCalculator;
+import com.daimler.sechub.sharedkernel.storage.StorageService;
 import com.daimler.sechub.sharedkernel.type.TrafficLight;
 import com.daimler.sechub.sharedkernel.usecases.UseCaseRestDoc;
 import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserDownloadsJobReport;
@@ -47,7 +50,7 @@ import com.daimler.sechub.test.TestPortProvider;
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(ScanReportRestController.class)
-@ContextConfiguration(classes= {ScanReportRestController.class, ScanReportRestControllerRestDocTest.SimpleTestConfiguration.class})
+@ContextConfiguration(classes= {ScanReportRestController.class, ScanReportRenderService.class, ScanReportRestControllerRestDocTest.SimpleTestConfiguration.class})
 @AutoConfigureRestDocs(uriScheme="https",uriHost=ExampleConstants.URI_SECHUB_SERVER,uriPort=443)
 public class ScanReportRestControllerRestDocTest {
 
@@ -79,6 +82,12 @@ public class ScanReportRestControllerRestDocTest {
 	@MockBean
 	HTMLScanResultReportModelBuilder modelBuilder;
 
+	@MockBean
+	StorageService storageService;
+
+	@Autowired
+	ScanReportRenderService renderService;
+
 
 	private UUID randomUUID;
 
@@ -91,8 +100,7 @@ public class ScanReportRestControllerRestDocTest {
 		report.setResult("{'count':'1'}");
 		report.setTrafficLight(TrafficLight.YELLOW);
 
-		ScanReportResult result1 = new ScanReportResult(report);
-		when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(result1);
+		whenRenderedReportRequestedRender(report);
 
 		/* execute + test @formatter:off */
 	    this.mockMvc.perform(
@@ -118,8 +126,7 @@ public class ScanReportRestControllerRestDocTest {
 		report.setResult("{'count':'1'}");
 		report.setTrafficLight(TrafficLight.YELLOW);
 
-		ScanReportResult result1 = new ScanReportResult(report);
-		when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(result1);
+		whenRenderedReportRequestedRender(report);
 
 		/* execute + test @formatter:off */
         this.mockMvc.perform(
@@ -139,6 +146,11 @@ public class ScanReportRestControllerRestDocTest {
         /* @formatter:on */
 	}
 
+	private void whenRenderedReportRequestedRender(ScanReport report) {
+		when(downloadReportService.getRenderedScanReport(eq(PROJECT1_ID), eq(randomUUID), any())).
+			thenAnswer(invocation -> renderService.render(report, invocation.getArgument(2, ScanReportRenderFormat.class)));
+	}
+
 	@TestConfiguration
 	@EnableAutoConfiguration
 	public static class SimpleTestConfiguration{
@@ -0,0 +1,209 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product.checkmarx;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.storage.NonJobStorageIds;
+import com.daimler.sechub.sharedkernel.storage.StorageService;
+import com.daimler.sechub.storage.core.JobStorage;
+
+/**
+ * Remembers checksum of source code archive uploaded for last scan of a
+ * checkmarx project. When the checksum of next scan is the same, the upload
+ * can be skipped because checkmarx still has the same sources.<br>
+ * <br>
+ * Additionally a {@link CheckmarxSourceManifest} of last scan is kept, so
+ * sechub can decide if an incremental scan is possible or a full scan is
+ * necessary.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class CheckmarxLastScanService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CheckmarxLastScanService.class);
+
+	/**
+	 * Storage id used instead of a project id, see {@link NonJobStorageIds}
+	 */
+	static final String LAST_SCAN_STORAGE_ID = NonJobStorageIds.CHECKMARX_LAST_SCANS;
+
+	static final String LAST_SCAN_CHECKSUM = "lastscan.sha256";
+
+	static final String LAST_SCAN_MANIFEST = "lastscan.manifest";
+
+	private static final int DEFAULT_MAX_CHANGED_PERCENTAGE_FOR_INCREMENTAL_SCAN = 20;
+
+	private static final int DEFAULT_FULL_SCAN_PERIOD_IN_DAYS = 7;
+
+	@Value("${sechub.adapter.checkmarx.incremental.changed.percentage.max:" + DEFAULT_MAX_CHANGED_PERCENTAGE_FOR_INCREMENTAL_SCAN + "}")
+	@MustBeDocumented("Maximum percentage of changed files since last checkmarx scan where an incremental scan is done. When more files have changed a full scan is done.")
+	int maxChangedPercentageForIncrementalScan = DEFAULT_MAX_CHANGED_PERCENTAGE_FOR_INCREMENTAL_SCAN;
+
+	@Value("${sechub.adapter.checkmarx.fullscan.period.days:" + DEFAULT_FULL_SCAN_PERIOD_IN_DAYS + "}")
+	@MustBeDocumented("Days after last full scan of a checkmarx project when a full scan is done even when only a few files have changed. A value lower or equal 0 turns off periodic full scans.")
+	int fullScanPeriodInDays = DEFAULT_FULL_SCAN_PERIOD_IN_DAYS;
+
+	@Autowired
+	StorageService storageService;
+
+	/**
+	 * Checks if given checksum is same as the one of last scan
+	 *
+	 * @param baseURL   base url of checkmarx installation
+	 * @param projectId
+	 * @param checksum  checksum of source code archive, can be <code>null</code>
+	 * @return <code>true</code> when checksum is same as for last scan
+	 */
+	public boolean isSameAsLastScan(String baseURL, String projectId, String checksum) {
+		if (checksum == null) {
+			return false;
+		}
+		JobStorage storage = getStorage(baseURL, projectId);
+		try {
+			if (!storage.isExisting(LAST_SCAN_CHECKSUM)) {
+				return false;
+			}
+			try (InputStream stream = storage.fetch(LAST_SCAN_CHECKSUM)) {
+				return checksum.equals(StreamUtils.copyToString(stream, StandardCharsets.UTF_8));
+			}
+		} catch (IOException e) {
+			LOG.warn("Was not able to fetch checksum of last checkmarx scan for project {}", projectId, e);
+			return false;
+		}
+	}
+
+	/**
+	 * Remembers given checksum as checksum of last scan. When checksum is
+	 * <code>null</code> (not known) former checksum is forgotten.
+	 *
+	 * @param baseURL   base url of checkmarx installation
+	 * @param projectId
+	 * @param checksum
+	 */
+	public void remember(String baseURL, String projectId, String checksum) {
+		if (checksum == null) {
+			forget(baseURL, projectId);
+			return;
+		}
+		try {
+			getStorage(baseURL, projectId).store(LAST_SCAN_CHECKSUM, new ByteArrayInputStream(checksum.getBytes(StandardCharsets.UTF_8)));
+		} catch (IOException e) {
+			LOG.warn("Was not able to store checksum of last checkmarx scan for project {}", projectId, e);
+		}
+	}
+
+	/**
+	 * Forgets checksum of last scan - must be called before other sources are
+	 * uploaded, otherwise a failing scan would leave a wrong checksum
+	 *
+	 * @param baseURL   base url of checkmarx installation
+	 * @param projectId
+	 */
+	public void forget(String baseURL, String projectId) {
+		try {
+			getStorage(baseURL, projectId).delete(LAST_SCAN_CHECKSUM);
+		} catch (IOException e) {
+			LOG.warn("Was not able to remove checksum of last checkmarx scan for project {}", projectId, e);
+		}
+	}
+
+	/**
+	 * Fetches manifest of last scan
+	 *
+	 * @param baseURL   base url of checkmarx installation
+	 * @param projectId
+	 * @return manifest or <code>null</code> when not available
+	 */
+	public CheckmarxSourceManifest fetchManifest(String baseURL, String projectId) {
+		JobStorage storage = getStorage(baseURL, projectId);
+		try {
+			if (!storage.isExisting(LAST_SCAN_MANIFEST)) {
+				return null;
+			}
+			try (InputStream stream = new GZIPInputStream(storage.fetch(LAST_SCAN_MANIFEST))) {
+				return CheckmarxSourceManifest.read(stream);
+			}
+		} catch (IOException | RuntimeException e) {
+			LOG.warn("Was not able to fetch manifest of last checkmarx scan for project {}", projectId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores given manifest as manifest of last scan
+	 *
+	 * @param baseURL   base url of checkmarx installation
+	 * @param projectId
+	 * @param manifest
+	 */
+	public void storeManifest(String baseURL, String projectId, CheckmarxSourceManifest manifest) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+				manifest.write(gzip);
+			}
+			getStorage(baseURL, projectId).store(LAST_SCAN_MANIFEST, new ByteArrayInputStream(bytes.toByteArray()));
+		} catch (IOException e) {
+			LOG.warn("Was not able to store manifest of last checkmarx scan for project {}", projectId, e);
+		}
+	}
+
+	/**
+	 * Decides if a full scan is necessary. This is the case when too many files
+	 * have changed since last scan or when last full scan is too old. Without a
+	 * former manifest a full scan is necessary, because neither changes nor the
+	 * last full scan are known.
+	 *
+	 * @param former  manifest of last scan, can be <code>null</code>
+	 * @param current manifest of current sources, <code>null</code> when
+	 *                sources are unchanged
+	 * @return <code>true</code> when full scan is necessary
+	 */
+	public boolean isFullScanNecessary(CheckmarxSourceManifest former, CheckmarxSourceManifest current) {
+		if (former == null) {
+			LOG.debug("No manifest of last scan available, so full scan necessary");
+			return true;
+		}
+		if (isFullScanPeriodElapsed(former.getLastFullScan())) {
+			LOG.debug("Full scan period elapsed, last full scan was {}", former.getLastFullScan());
+			return true;
+		}
+		if (current == null) {
+			return false;
+		}
+		int changedPercentage = current.calculateChangedPercentage(former);
+		LOG.debug("{}% of {} files changed since last scan", changedPercentage, current.getFileCount());
+
+		return changedPercentage > maxChangedPercentageForIncrementalScan;
+	}
+
+	private boolean isFullScanPeriodElapsed(LocalDateTime lastFullScan) {
+		if (fullScanPeriodInDays <= 0 || lastFullScan == null) {
+			return false;
+		}
+		return lastFullScan.plusDays(fullScanPeriodInDays).isBefore(LocalDateTime.now());
+	}
+
+	private JobStorage getStorage(String baseURL, String projectId) {
+		UUID id = UUID.nameUUIDFromBytes((baseURL + "/" + projectId).getBytes(StandardCharsets.UTF_8));
+		return storageService.getJobStorage(LAST_SCAN_STORAGE_ID, id);
+	}
+}
@@ -1,10 +1,13 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.product.checkmarx;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +19,7 @@ import com.daimler.sechub.adapter.AbstractAdapterConfigBuilder;
 import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapter;
 import com.daimler.sechub.adapter.checkmarx.CheckmarxAdapterConfig;
 import com.daimler.sechub.adapter.checkmarx.CheckmarxConfig;
+import com.daimler.sechub.domain.scan.CheckOperationBackoffConfigBuilderStrategy;
 import com.daimler.sechub.domain.scan.OneInstallSetupConfigBuilderStrategy;
 import com.daimler.sechub.domain.scan.TargetRegistry.TargetRegistryInfo;
 import com.daimler.sechub.domain.scan.product.AbstractCodeScanProductExecutor;
@@ -23,14 +27,16 @@ import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
-import com.daimler.sechub.sharedkernel.storage.StorageService;
-import com.daimler.sechub.storage.core.JobStorage;
+import com.daimler.sechub.sharedkernel.storage.SourceCodeArchiveStorageService;
 
 @Service
 public class CheckmarxProductExecutor extends AbstractCodeScanProductExecutor<CheckmarxInstallSetup> {
 
 	private static final Logger LOG = LoggerFactory.getLogger(CheckmarxProductExecutor.class);
 
+	static final String DURATION_VARIANT_FULL_SCAN = "full";
+	static final String DURATION_VARIANT_INCREMENTAL_SCAN = "incremental";
+
 	@Value("${sechub.adapter.checkmarx.scanresultcheck.period.minutes:-1}")
 	@MustBeDocumented(AbstractAdapterConfigBuilder.DOCUMENT_INFO_TIMEOUT)
 	private int scanResultCheckPeriodInMinutes;
@@ -42,11 +48,17 @@ public class CheckmarxProductExecutor extends AbstractCodeScanProductExecutor<Ch
 	@Autowired
 	CheckmarxAdapter checkmarxAdapter;
 
+	@Autowired
+	CheckOperationBackoffConfigBuilderStrategy checkOperationBackoffStrategy;
+
 	@Autowired
 	CheckmarxInstallSetup installSetup;
 
 	@Autowired
-	StorageService storageService;
+	SourceCodeArchiveStorageService archiveStorageService;
+
+	@Autowired
+	CheckmarxLastScanService lastScanService;
 
 	@Override
 	protected List<ProductResult> executeWithAdapter(SecHubExecutionContext context, CheckmarxInstallSetup setup, TargetRegistryInfo data)
@@ -56,27 +68,55 @@ public class CheckmarxProductExecutor extends AbstractCodeScanProductExecutor<Ch
 		UUID jobUUID = context.getSechubJobUUID();
 		String projectId = context.getConfiguration().getProjectId();
 
-		JobStorage storage = storageService.getJobStorage(projectId, jobUUID);
-		try(InputStream sourceCodeZipFileInputStream = storage.fetch("sourcecode.zip")){
+		String baseURL = setup.getBaseURL();
+		String checksum = archiveStorageService.fetchSourceCodeArchiveChecksum(projectId, jobUUID);
+		boolean sourceCodeUnchanged = lastScanService.isSameAsLastScan(baseURL, projectId, checksum);
+		if (!sourceCodeUnchanged) {
+			/* other sources will be uploaded - when scan fails the checkmarx sources are unknown */
+			lastScanService.forget(baseURL, projectId);
+		}
+		CheckmarxSourceManifest formerManifest = lastScanService.fetchManifest(baseURL, projectId);
+		CheckmarxSourceManifest manifest = sourceCodeUnchanged ? formerManifest : createManifest(projectId, jobUUID);
+		boolean fullScanNecessary = lastScanService.isFullScanNecessary(formerManifest, sourceCodeUnchanged ? null : manifest);
+		/* full and incremental scans have very different durations */
+		String durationVariant = fullScanNecessary ? DURATION_VARIANT_FULL_SCAN : DURATION_VARIANT_INCREMENTAL_SCAN;
+
+		/* adapter can do a full scan even when not necessary here - e.g. for new checkmarx projects */
+		AtomicBoolean fullScanDone = new AtomicBoolean(fullScanNecessary);
+
+		ProductResult result = new ProductResult(context.getSechubJobUUID(), getIdentifier(), null);
+		try(InputStream sourceCodeZipFileInputStream = archiveStorageService.openSourceCodeArchive(projectId, jobUUID)){
 
 			/* @formatter:off */
 
 			CheckmarxAdapterConfig checkMarxConfig =CheckmarxConfig.builder().
 					configure(new OneInstallSetupConfigBuilderStrategy(setup)).
+					configure(checkOperationBackoffStrategy).
+					configure(durationService.createConfigBuilderStrategy(getIdentifier(), baseURL, projectId, durationVariant)).
 					setTimeToWaitForNextCheckOperationInMinutes(scanResultCheckPeriodInMinutes).
 					setScanResultTimeOutInMinutes(scanResultCheckTimeOutInMinutes).
 					setFileSystemSourceFolders(data.getCodeUploadFileSystemFolders()).
 					setSourceCodeZipFileInputStream(sourceCodeZipFileInputStream).
+					setSourceCodeUnchangedSinceLastScan(sourceCodeUnchanged).
+					setFullScanNecessary(fullScanNecessary).
+					setScanListener(fullScanDone::set).
 					setTeamIdForNewProjects(setup.getTeamIdForNewProjects()).
 					setProjectId(projectId).
 					setTraceID(context.getTraceLogIdAsString()).
+					setReportSink(createReportSink(result)).
 					/* TODO Albert Tregnaghi, 2018-10-09:policy id - always default id - what about config.getPoliciyID() ?!?! */
 					build();
 			/* @formatter:on */
 
 			/* execute checkmarx by adapter and return product result */
-			String xml = checkmarxAdapter.start(checkMarxConfig);
-			ProductResult result = new ProductResult(context.getSechubJobUUID(), getIdentifier(), xml);
+			String xml = startAdapter(checkmarxAdapter, checkMarxConfig, baseURL, projectId, durationVariant);
+			lastScanService.remember(baseURL, projectId, checksum);
+			rememberManifest(baseURL, projectId, manifest, formerManifest, fullScanDone.get());
+
+			if (xml != null) {
+				/* report was not streamed into result */
+				result.setResult(xml);
+			}
 			return Collections.singletonList(result);
 		}
 
@@ -84,6 +124,31 @@ public class CheckmarxProductExecutor extends AbstractCodeScanProductExecutor<Ch
 
 
 
+	private CheckmarxSourceManifest createManifest(String projectId, UUID jobUUID) {
+		try (InputStream sourceCodeZipFileInputStream = archiveStorageService.openSourceCodeArchive(projectId, jobUUID)) {
+			return CheckmarxSourceManifest.createFromZip(sourceCodeZipFileInputStream);
+		} catch (IOException e) {
+			LOG.warn("Was not able to create source manifest for {}, so no change tracking possible", jobUUID, e);
+			return null;
+		}
+	}
+
+	private void rememberManifest(String baseURL, String projectId, CheckmarxSourceManifest manifest, CheckmarxSourceManifest formerManifest,
+			boolean fullScanDone) {
+		if (manifest == null) {
+			return;
+		}
+		if (fullScanDone) {
+			manifest.setLastFullScan(LocalDateTime.now());
+		} else if (formerManifest != null && formerManifest.getLastFullScan() != null) {
+			manifest.setLastFullScan(formerManifest.getLastFullScan());
+		} else {
+			/* last full scan not known - so full scan period starts now */
+			manifest.setLastFullScan(LocalDateTime.now());
+		}
+		lastScanService.storeManifest(baseURL, projectId, manifest);
+	}
+
 	@Override
 	public ProductIdentifier getIdentifier() {
 		return ProductIdentifier.CHECKMARX;
@@ -0,0 +1,142 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product.checkmarx;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.springframework.util.StreamUtils;
+
+/**
+ * Manifest of source code files uploaded to checkmarx - contains a hash for
+ * every file path inside the source code archive. Comparing two manifests
+ * shows how much code has changed between two scans.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class CheckmarxSourceManifest {
+
+	private static final String LAST_FULL_SCAN_PREFIX = "#lastfullscan=";
+
+	/* path -> hash */
+	private Map<String, String> files = new TreeMap<>();
+	private LocalDateTime lastFullScan;
+
+	/**
+	 * Creates manifest for given zipped source code. The hash of a file is its
+	 * CRC32 together with its size - this is enough to detect changes and is
+	 * verified by zip stream while reading anyway.
+	 *
+	 * @param zipInputStream stream to zipped source code - will not be closed
+	 * @return manifest
+	 * @throws IOException
+	 */
+	public static CheckmarxSourceManifest createFromZip(InputStream zipInputStream) throws IOException {
+		CheckmarxSourceManifest manifest = new CheckmarxSourceManifest();
+		ZipInputStream zis = new ZipInputStream(zipInputStream);
+		ZipEntry entry = null;
+		while ((entry = zis.getNextEntry()) != null) {
+			if (entry.isDirectory()) {
+				continue;
+			}
+			long size = StreamUtils.drain(zis);
+			/* crc is always available after entry has been read */
+			manifest.files.put(entry.getName(), Long.toHexString(entry.getCrc()) + ":" + size);
+		}
+		return manifest;
+	}
+
+	/**
+	 * Reads a manifest written by {@link #write(OutputStream)}
+	 *
+	 * @param inputStream
+	 * @return manifest
+	 * @throws IOException
+	 */
+	public static CheckmarxSourceManifest read(InputStream inputStream) throws IOException {
+		CheckmarxSourceManifest manifest = new CheckmarxSourceManifest();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+		String line = null;
+		while ((line = reader.readLine()) != null) {
+			if (line.startsWith(LAST_FULL_SCAN_PREFIX)) {
+				manifest.lastFullScan = LocalDateTime.parse(line.substring(LAST_FULL_SCAN_PREFIX.length()));
+				continue;
+			}
+			int index = line.indexOf(' ');
+			if (index <= 0) {
+				continue;
+			}
+			manifest.files.put(line.substring(index + 1), line.substring(0, index));
+		}
+		return manifest;
+	}
+
+	/**
+	 * Writes manifest - one line per file: "$hash $path"
+	 *
+	 * @param outputStream - will not be closed
+	 * @throws IOException
+	 */
+	public void write(OutputStream outputStream) throws IOException {
+		Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+		if (lastFullScan != null) {
+			writer.write(LAST_FULL_SCAN_PREFIX + lastFullScan + "\n");
+		}
+		for (Map.Entry<String, String> entry : files.entrySet()) {
+			writer.write(entry.getValue() + " " + entry.getKey() + "\n");
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Calculates percentage of changed files compared to given former manifest.
+	 * Added, removed and modified files are changes.
+	 *
+	 * @param former
+	 * @return percentage of changed files (0-100)
+	 */
+	public int calculateChangedPercentage(CheckmarxSourceManifest former) {
+		Set<String> paths = new TreeSet<>(files.keySet());
+		paths.addAll(former.files.keySet());
+		if (paths.isEmpty()) {
+			return 0;
+		}
+		int changed = 0;
+		for (String path : paths) {
+			String hash = files.get(path);
+			if (hash == null || !hash.equals(former.files.get(path))) {
+				changed++;
+			}
+		}
+		return (int) Math.ceil(changed * 100.0 / paths.size());
+	}
+
+	public int getFileCount() {
+		return files.size();
+	}
+
+	/**
+	 * @return time of last full scan or <code>null</code> when not known
+	 */
+	public LocalDateTime getLastFullScan() {
+		return lastFullScan;
+	}
+
+	public void setLastFullScan(LocalDateTime lastFullScan) {
+		this.lastFullScan = lastFullScan;
+	}
+
+}
@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product.checkmarx;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class CheckmarxLastScanServiceTest {
+
+	private CheckmarxLastScanService serviceToTest;
+
+	@Before
+	public void before() throws Exception {
+		serviceToTest = new CheckmarxLastScanService();
+		serviceToTest.maxChangedPercentageForIncrementalScan = 20;
+		serviceToTest.fullScanPeriodInDays = 7;
+	}
+
+	@Test
+	public void without_former_manifest_full_scan_is_necessary() throws Exception {
+		/* execute + test */
+		assertTrue(serviceToTest.isFullScanNecessary(null, manifestOf("a.java", "a")));
+		assertTrue(serviceToTest.isFullScanNecessary(null, null));
+	}
+
+	@Test
+	public void unchanged_sources_and_recent_full_scan_need_no_full_scan() throws Exception {
+		/* prepare */
+		CheckmarxSourceManifest former = manifestOf("a.java", "a");
+		former.setLastFullScan(LocalDateTime.now().minusDays(1));
+
+		/* execute + test */
+		assertFalse(serviceToTest.isFullScanNecessary(former, null));
+	}
+
+	@Test
+	public void elapsed_full_scan_period_makes_full_scan_necessary() throws Exception {
+		/* prepare */
+		CheckmarxSourceManifest former = manifestOf("a.java", "a");
+		former.setLastFullScan(LocalDateTime.now().minusDays(8));
+
+		/* execute + test */
+		assertTrue(serviceToTest.isFullScanNecessary(former, null));
+	}
+
+	@Test
+	public void too_many_changed_files_make_full_scan_necessary() throws Exception {
+		/* prepare */
+		CheckmarxSourceManifest former = manifestOf("a.java", "a", "b.java", "b");
+		former.setLastFullScan(LocalDateTime.now());
+
+		/* execute + test */
+		assertTrue(serviceToTest.isFullScanNecessary(former, manifestOf("a.java", "a", "b.java", "b-changed")));
+		assertFalse(serviceToTest.isFullScanNecessary(former, manifestOf("a.java", "a", "b.java", "b")));
+	}
+
+	private CheckmarxSourceManifest manifestOf(String... pathAndContent) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ZipOutputStream zos = new ZipOutputStream(out)) {
+			for (int i = 0; i < pathAndContent.length; i += 2) {
+				zos.putNextEntry(new ZipEntry(pathAndContent[i]));
+				zos.write(pathAndContent[i + 1].getBytes());
+				zos.closeEntry();
+			}
+		}
+		return CheckmarxSourceManifest.createFromZip(new ByteArrayInputStream(out.toByteArray()));
+	}
+}
@@ -0,0 +1,70 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product.checkmarx;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Test;
+
+public class CheckmarxSourceManifestTest {
+
+	@Test
+	public void same_zip_content_has_no_changes() throws Exception {
+		/* prepare */
+		CheckmarxSourceManifest former = manifestOf("a.java", "a", "b.java", "b");
+		CheckmarxSourceManifest current = manifestOf("a.java", "a", "b.java", "b");
+
+		/* execute + test */
+		assertEquals(0, current.calculateChangedPercentage(former));
+		assertEquals(2, current.getFileCount());
+	}
+
+	@Test
+	public void modified_added_and_removed_files_are_changes() throws Exception {
+		/* prepare */
+		CheckmarxSourceManifest former = manifestOf("a.java", "a", "b.java", "b", "c.java", "c", "d.java", "d");
+		CheckmarxSourceManifest current = manifestOf("a.java", "a", "b.java", "b-changed", "e.java", "e", "d.java", "d");
+
+		/* execute + test */
+		/* 5 paths: b modified, c removed, e added */
+		assertEquals(60, current.calculateChangedPercentage(former));
+	}
+
+	@Test
+	public void written_manifest_can_be_read_again() throws Exception {
+		/* prepare */
+		CheckmarxSourceManifest manifest = manifestOf("src/with space/a.java", "a", "b.java", "b");
+		LocalDateTime lastFullScan = LocalDateTime.now();
+		manifest.setLastFullScan(lastFullScan);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		/* execute */
+		manifest.write(out);
+		CheckmarxSourceManifest read = CheckmarxSourceManifest.read(new ByteArrayInputStream(out.toByteArray()));
+
+		/* test */
+		assertEquals(lastFullScan, read.getLastFullScan());
+		assertEquals(2, read.getFileCount());
+		assertEquals(0, read.calculateChangedPercentage(manifest));
+	}
+
+	private CheckmarxSourceManifest manifestOf(String... pathAndContent) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ZipOutputStream zos = new ZipOutputStream(out)) {
+			zos.putNextEntry(new ZipEntry("src/"));
+			zos.closeEntry();
+			for (int i = 0; i < pathAndContent.length; i += 2) {
+				zos.putNextEntry(new ZipEntry(pathAndContent[i]));
+				zos.write(pathAndContent[i + 1].getBytes());
+				zos.closeEntry();
+			}
+		}
+		return CheckmarxSourceManifest.createFromZip(new ByteArrayInputStream(out.toByteArray()));
+	}
+}
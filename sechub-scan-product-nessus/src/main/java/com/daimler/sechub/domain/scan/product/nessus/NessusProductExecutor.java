@@ -16,6 +16,7 @@ import com.daimler.sechub.adapter.AbstractAdapterConfigBuilder;
 import com.daimler.sechub.adapter.nessus.NessusAdapter;
 import com.daimler.sechub.adapter.nessus.NessusAdapterConfig;
 import com.daimler.sechub.adapter.nessus.NessusConfig;
+import com.daimler.sechub.domain.scan.CheckOperationBackoffConfigBuilderStrategy;
 import com.daimler.sechub.domain.scan.TargetIdentifyingMultiInstallSetupConfigBuilderStrategy;
 import com.daimler.sechub.domain.scan.TargetRegistry.TargetRegistryInfo;
 import com.daimler.sechub.domain.scan.TargetType;
@@ -49,9 +50,25 @@ public class NessusProductExecutor extends AbstractInfrastructureScanProductExec
 	@MustBeDocumented(AbstractAdapterConfigBuilder.DOCUMENT_INFO_TIMEOUT)
 	private int scanResultCheckTimeOutInMinutes;
 
+	@Value("${sechub.adapter.nessus.session.cache.minutes:" + NessusConfig.DEFAULT_SESSION_CACHE_MINUTES + "}")
+	@MustBeDocumented("Minutes a nessus login token is shared between scans. 0 means every scan does its own login and logout")
+	int sessionCacheMinutes = NessusConfig.DEFAULT_SESSION_CACHE_MINUTES;
+
+	@Value("${sechub.adapter.nessus.policy.cache.minutes:" + NessusConfig.DEFAULT_POLICY_CACHE_MINUTES + "}")
+	@MustBeDocumented("Minutes a looked up nessus policy id is shared between scans. 0 means policies are looked up for every scan")
+	int policyCacheMinutes = NessusConfig.DEFAULT_POLICY_CACHE_MINUTES;
+
+	@Value("${sechub.adapter.nessus.targettypes.parallel:false}")
+	@MustBeDocumented("When true, intranet and internet targets are scanned in parallel. This is possible because different nessus installations are used for intranet and internet. "
+			+ "Doubles the concurrent nessus sessions of a job, so default is false")
+	boolean executingTargetTypesInParallel;
+
 	@Autowired
 	NessusAdapter nessusAdapter;
 
+	@Autowired
+	CheckOperationBackoffConfigBuilderStrategy checkOperationBackoffStrategy;
+
 	@Autowired
 	NessusInstallSetup installSetup;
 
@@ -63,14 +80,22 @@ public class NessusProductExecutor extends AbstractInfrastructureScanProductExec
 		}
 		TargetType targetType = data.getTargetType();
 		LOG.debug("Trigger nessus adapter execution for target type {} and setup {} ", targetType ,setup);
+		ProductResult result = new ProductResult(context.getSechubJobUUID(), getIdentifier(), null);
+		String baseURL = setup.getBaseURL(targetType);
+		String projectId = context.getConfiguration().getProjectId();
 		/* @formatter:off */
 		NessusAdapterConfig nessusConfig = NessusConfig.builder().
 				configure(new TargetIdentifyingMultiInstallSetupConfigBuilderStrategy(setup,targetType)).
+				configure(checkOperationBackoffStrategy).
+				configure(durationService.createConfigBuilderStrategy(getIdentifier(), baseURL, projectId)).
 				setTimeToWaitForNextCheckOperationInMinutes(scanResultCheckPeriodInMinutes).
 				setScanResultTimeOutInMinutes(scanResultCheckTimeOutInMinutes).
 				setProxyHostname(proxyHostname).
 				setProxyPort(proxyPort).
+				setSessionCacheMinutes(sessionCacheMinutes).
+				setPolicyCacheMinutes(policyCacheMinutes).
 				setTraceID(context.getTraceLogIdAsString()).
+				setReportSink(createReportSink(result)).
 				/* TODO Albert Tregnaghi, 2018-02-13:policy id - always default id - what about config.getPoliciyID() ?!?! */
 				setPolicyID(setup.getDefaultPolicyId()).
 				setTargetIPs(data.getIPs()).
@@ -78,8 +103,11 @@ public class NessusProductExecutor extends AbstractInfrastructureScanProductExec
 		/* @formatter:on */
 
 		/* execute nessus by adapter and return product result */
-		String xml = nessusAdapter.start(nessusConfig);
-		ProductResult result = new ProductResult(context.getSechubJobUUID(), getIdentifier(), xml);
+		String xml = startAdapter(nessusAdapter, nessusConfig, baseURL, projectId);
+		if (xml != null) {
+			/* report was not streamed into result */
+			result.setResult(xml);
+		}
 		return Collections.singletonList(result);
 	}
 
@@ -88,6 +116,11 @@ public class NessusProductExecutor extends AbstractInfrastructureScanProductExec
 		return ProductIdentifier.NESSUS;
 	}
 
+	@Override
+	protected boolean isExecutingTargetTypesInParallel() {
+		return executingTargetTypesInParallel;
+	}
+
 	@Override
 	protected NessusInstallSetup getInstallSetup() {
 		return installSetup;
@@ -12,13 +12,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import com.daimler.sechub.adapter.nessus.NessusAdapter;
+import com.daimler.sechub.domain.scan.CheckOperationBackoffConfigBuilderStrategy;
+import com.daimler.sechub.domain.scan.ExpectedExecutionDurationConfigBuilderStrategy;
 import com.daimler.sechub.domain.scan.Target;
 import com.daimler.sechub.domain.scan.TargetType;
+import com.daimler.sechub.domain.scan.product.ProductExecutionDurationService;
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelizationService;
 import com.daimler.sechub.domain.scan.resolve.TargetResolver;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.configuration.SecHubInfrastructureScanConfiguration;
@@ -36,6 +41,7 @@ public class NessusProductExecutorTest {
 	private NessusAdapter nessusAdapter;
 	private SecHubConfiguration config;
 	private TargetResolver targetResolver;
+	private ProductExecutionDurationService durationService;
 	private Target target1;
 	private Target target2;
 	private Target target3;
@@ -51,11 +57,14 @@ public class NessusProductExecutorTest {
 		target3 = new Target(URI_3, TargetType.INTERNET);
 
 		targetResolver = mock(TargetResolver.class);
+		durationService = mock(ProductExecutionDurationService.class);
+		when(durationService.createConfigBuilderStrategy(any(), any(), any())).thenReturn(new ExpectedExecutionDurationConfigBuilderStrategy(-1, -1));
 		when(targetResolver.resolveTarget(URI_1)).thenReturn(target1);
 		when(targetResolver.resolveTarget(URI_2)).thenReturn(target2);
 		when(targetResolver.resolveTarget(URI_3)).thenReturn(target3);
 
 		nessusAdapter = mock(NessusAdapter.class);
+		when(nessusAdapter.startAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
 		
 		installSetup= mock(NessusInstallSetup.class);
 		when(installSetup.getBaseURL(any())).thenReturn("baseURL");
@@ -71,6 +80,7 @@ public class NessusProductExecutorTest {
 		executorToTest.installSetup=installSetup;
 
 		executorToTest.nessusAdapter = nessusAdapter;
+		executorToTest.checkOperationBackoffStrategy = new CheckOperationBackoffConfigBuilderStrategy();
 
 	}
 
@@ -87,7 +97,7 @@ public class NessusProductExecutorTest {
 		executorToTest.execute(context);
 
 		/* test */
-		verify(nessusAdapter, times(1)).start(any());
+		verify(nessusAdapter, times(1)).startAsync(any());
 	}
 
 	@Test
@@ -106,7 +116,7 @@ public class NessusProductExecutorTest {
 		executorToTest.execute(context);
 
 		/* test */
-		verify(nessusAdapter, times(2)).start(any());
+		verify(nessusAdapter, times(2)).startAsync(any());
 	}
 
 	@Test
@@ -125,7 +135,7 @@ public class NessusProductExecutorTest {
 		executorToTest.execute(context);
 
 		/* test */
-		verify(nessusAdapter, times(1)).start(any());
+		verify(nessusAdapter, times(1)).startAsync(any());
 	}
 	@Test
 	public void nessus_resolves_ip_from_infrascan() throws Exception{
@@ -157,7 +167,7 @@ public class NessusProductExecutorTest {
 		executorToTest.execute(context);
 
 		/* test */
-		verify(nessusAdapter, never()).start(any());
+		verify(nessusAdapter, never()).startAsync(any());
 	}
 
 	private void prepareInfraScanWithThreeURIs() throws URISyntaxException, SecHubExecutionException {
@@ -181,6 +191,8 @@ public class NessusProductExecutorTest {
 	private class TestNessusProductExecutor extends NessusProductExecutor {
 		private TestNessusProductExecutor() {
 			super.targetResolver = NessusProductExecutorTest.this.targetResolver;
+			super.parallelizationService = new ProductExecutionParallelizationService();
+			super.durationService = NessusProductExecutorTest.this.durationService;
 		}
 	}
 
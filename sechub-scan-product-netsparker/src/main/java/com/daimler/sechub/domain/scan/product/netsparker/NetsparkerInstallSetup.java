@@ -18,6 +18,12 @@ public interface NetsparkerInstallSetup extends TargetIdentifiyingOneInstallSetu
 	public String getIntranetAgentGroupName();
 
 	public String getNetsparkerLicenseId();
+
+	/**
+	 * @return maximum amount of netsparker scans running at same time for one
+	 *         agent group. When 1 (default) targets are scanned one after another
+	 */
+	public int getMaximumConcurrentScans();
 	
 
 }
@@ -54,6 +54,10 @@ public class NetsparkerInstallSetupImpl extends AbstractTargetIdentifyingOneInst
 	@Value("${sechub.adapter.netsparker.scanresultcheck.timeout.minutes:-1}")
 	@MustBeDocumented(AbstractAdapterConfigBuilder.DOCUMENT_INFO_CHECK)
 	private int scanResultCheckTimeOutInMinutes;
+
+	@Value("${sechub.adapter.netsparker.scan.concurrent.max:1}")
+	@MustBeDocumented("Maximum amount of netsparker scans running at same time for one agent group. Netsparker can only scan one target URI per scan, so multiple target URIs are scanned in parallel up to this limit. Default is 1, which means one target after another.")
+	private int maximumConcurrentScans = 1;
 	
 	public int getScanResultCheckPeriodInMinutes() {
 		return scanResultCheckPeriodInMinutes;
@@ -85,6 +89,10 @@ public class NetsparkerInstallSetupImpl extends AbstractTargetIdentifyingOneInst
 	public String getNetsparkerLicenseId() {
 		return netsparkerLicenseId;
 	}
+
+	public int getMaximumConcurrentScans() {
+		return maximumConcurrentScans;
+	}
 	
 	@Override
 	protected String getIdentifierWhenInternetTarget() {
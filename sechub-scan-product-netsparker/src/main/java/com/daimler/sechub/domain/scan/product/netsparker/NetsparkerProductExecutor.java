@@ -12,17 +12,21 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.daimler.sechub.adapter.AdapterException;
 import com.daimler.sechub.adapter.netsparker.NetsparkerAdapter;
 import com.daimler.sechub.adapter.netsparker.NetsparkerAdapterConfig;
 import com.daimler.sechub.adapter.netsparker.NetsparkerConfig;
+import com.daimler.sechub.domain.scan.CheckOperationBackoffConfigBuilderStrategy;
 import com.daimler.sechub.domain.scan.OneInstallSetupConfigBuilderStrategy;
 import com.daimler.sechub.domain.scan.TargetRegistry.TargetRegistryInfo;
 import com.daimler.sechub.domain.scan.TargetType;
 import com.daimler.sechub.domain.scan.WebLoginConfigBuilderStrategy;
 import com.daimler.sechub.domain.scan.product.AbstractWebScanProductExecutor;
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelizationService.ProductExecutionCall;
 import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
 
 @Service
 public class NetsparkerProductExecutor extends AbstractWebScanProductExecutor<NetsparkerInstallSetup> {
@@ -32,6 +36,9 @@ public class NetsparkerProductExecutor extends AbstractWebScanProductExecutor<Ne
 	@Autowired
 	NetsparkerAdapter netsparkerAdapter;
 
+	@Autowired
+	CheckOperationBackoffConfigBuilderStrategy checkOperationBackoffStrategy;
+
 	@Autowired
 	NetsparkerInstallSetup installSetup;
 
@@ -51,31 +58,53 @@ public class NetsparkerProductExecutor extends AbstractWebScanProductExecutor<Ne
 		TargetType targetType = info.getTargetType();
 		LOG.debug("Trigger netsparker adapter execution for target {} and setup {} ", targetType,setup);
 
-		List<ProductResult> results = new ArrayList<>();
 		/* NETSPARKER is not able to scan multiple targets, so we
-		 * start NETSPARKER multiple times for each target URI
+		 * start NETSPARKER multiple times for each target URI - when
+		 * install setup allows this, in parallel
 		 */
+		List<ProductExecutionCall<ProductResult>> calls = new ArrayList<>();
 		for (URI targetURI: targetURIs) {
-			/* @formatter:off */
-			NetsparkerAdapterConfig netsparkerConfig = NetsparkerConfig.builder().
-				    configure(new WebLoginConfigBuilderStrategy(context)).
-				    configure(new OneInstallSetupConfigBuilderStrategy(setup)).
-					setTimeToWaitForNextCheckOperationInMinutes(setup.getScanResultCheckPeriodInMinutes()).
-					setScanResultTimeOutInMinutes(setup.getScanResultCheckTimeOutInMinutes()).
-					setTraceID(context.getTraceLogIdAsString()).
-					setAgentName(setup.getAgentName()).
-					setAgentGroupName(setup.getIdentifier(targetType)).
-					setPolicyID(setup.getDefaultPolicyId()).
-					setLicenseID(setup.getNetsparkerLicenseId()).
-					setTargetURI(targetURI).build();
-			/* @formatter:on */
-
-			/* execute NETSPARKER by adapter and return product result */
-			String xml = netsparkerAdapter.start(netsparkerConfig);
-			ProductResult result = new ProductResult(context.getSechubJobUUID(), getIdentifier(), xml);
-			results.add(result);
+			calls.add(() -> executeNetsparker(context, setup, targetType, targetURI));
+		}
+		String agentGroupName = setup.getIdentifier(targetType);
+		String limitKey = getIdentifier() + ":" + setup.getBaseURL() + ":" + (agentGroupName == null ? "" : agentGroupName);
+
+		return parallelizationService.executeAllInOrder(calls, limitKey, setup.getMaximumConcurrentScans());
+	}
+
+	private ProductResult executeNetsparker(SecHubExecutionContext context, NetsparkerInstallSetup setup, TargetType targetType, URI targetURI)
+			throws SecHubExecutionException {
+		ProductResult result = new ProductResult(context.getSechubJobUUID(), getIdentifier(), null);
+		String projectId = context.getConfiguration().getProjectId();
+		/* @formatter:off */
+		NetsparkerAdapterConfig netsparkerConfig = NetsparkerConfig.builder().
+			    configure(new WebLoginConfigBuilderStrategy(context)).
+			    configure(new OneInstallSetupConfigBuilderStrategy(setup)).
+			    configure(checkOperationBackoffStrategy).
+			    configure(durationService.createConfigBuilderStrategy(getIdentifier(), setup.getBaseURL(), projectId)).
+				setTimeToWaitForNextCheckOperationInMinutes(setup.getScanResultCheckPeriodInMinutes()).
+				setScanResultTimeOutInMinutes(setup.getScanResultCheckTimeOutInMinutes()).
+				setTraceID(context.getTraceLogIdAsString()).
+				setAgentName(setup.getAgentName()).
+				setAgentGroupName(setup.getIdentifier(targetType)).
+				setPolicyID(setup.getDefaultPolicyId()).
+				setLicenseID(setup.getNetsparkerLicenseId()).
+				setReportSink(createReportSink(result)).
+				setTargetURI(targetURI).build();
+		/* @formatter:on */
+
+		/* execute NETSPARKER by adapter and return product result */
+		String xml;
+		try {
+			xml = startAdapter(netsparkerAdapter, netsparkerConfig, setup.getBaseURL(), projectId);
+		} catch (AdapterException e) {
+			throw new SecHubExecutionException(getIdentifier() + " execution failed for " + targetURI + "." + context.getTraceLogId(), e);
+		}
+		if (xml != null) {
+			/* report was not streamed into result */
+			result.setResult(xml);
 		}
-		return results;
+		return result;
 	}
 
 	@Override
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.product.netsparker;
 
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -10,13 +11,23 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.daimler.sechub.adapter.netsparker.NetsparkerAdapter;
+import com.daimler.sechub.adapter.netsparker.NetsparkerAdapterConfig;
+import com.daimler.sechub.domain.scan.CheckOperationBackoffConfigBuilderStrategy;
+import com.daimler.sechub.domain.scan.ExpectedExecutionDurationConfigBuilderStrategy;
 import com.daimler.sechub.domain.scan.Target;
 import com.daimler.sechub.domain.scan.TargetType;
+import com.daimler.sechub.domain.scan.product.ProductExecutionDurationService;
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelizationService;
+import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.domain.scan.resolve.TargetResolver;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.configuration.SecHubWebScanConfiguration;
@@ -34,13 +45,18 @@ public class NetsparkerProductExecutorTest {
 	private NetsparkerAdapter netsparkerAdapter;
 	private SecHubConfiguration config;
 	private TargetResolver targetResolver;
+	private ProductExecutionDurationService durationService;
 	private Target target1;
 	private Target target2;
 	private Target target3;
 	private NetsparkerInstallSetup installSetup;
+	private ProductExecutionParallelizationService parallelizationService;
 
 	@Before
 	public void before() throws Exception {
+		parallelizationService = new ProductExecutionParallelizationService();
+		parallelizationService.init();
+
 		context = mock(SecHubExecutionContext.class);
 		config = mock (SecHubConfiguration.class);
 
@@ -50,11 +66,14 @@ public class NetsparkerProductExecutorTest {
 
 
 		targetResolver=mock(TargetResolver.class);
+		durationService = mock(ProductExecutionDurationService.class);
+		when(durationService.createConfigBuilderStrategy(any(), any(), any())).thenReturn(new ExpectedExecutionDurationConfigBuilderStrategy(-1, -1));
 		when(targetResolver.resolveTarget(URI_1_INTERNET)).thenReturn(target1);
 		when(targetResolver.resolveTarget(URI_2_INTERNET)).thenReturn(target2);
 		when(targetResolver.resolveTarget(URI_3_INTERNET)).thenReturn(target3);
 
 		netsparkerAdapter =mock(NetsparkerAdapter.class);
+		when(netsparkerAdapter.startAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
 
 		when(context.getConfiguration()).thenReturn(config);
 		when(context.getSechubJobUUID()).thenReturn(UUID.randomUUID());
@@ -62,6 +81,7 @@ public class NetsparkerProductExecutorTest {
 		executorToTest = new TestNetsparkerProductExecutor();
 
 		executorToTest.netsparkerAdapter=netsparkerAdapter;
+		executorToTest.checkOperationBackoffStrategy = new CheckOperationBackoffConfigBuilderStrategy();
 
 		installSetup=mock(NetsparkerInstallSetup.class);
 		when(installSetup.getBaseURL()).thenReturn("http://www.example.com/netsparker");
@@ -73,6 +93,11 @@ public class NetsparkerProductExecutorTest {
 
 	}
 
+	@After
+	public void after() throws Exception {
+		parallelizationService.shutdown();
+	}
+
 	@Test
 	public void when_three_root_urls_are_configured_and_apter_can_handle_targets_the_adapter_is_called_3_times() throws Exception {
 		/* prepare */
@@ -85,7 +110,7 @@ public class NetsparkerProductExecutorTest {
 		executorToTest.execute(context);
 
 		/* test */
-		verify(netsparkerAdapter,times(3)).start(any());
+		verify(netsparkerAdapter,times(3)).startAsync(any());
 	}
 
 	@Test
@@ -103,7 +128,7 @@ public class NetsparkerProductExecutorTest {
 		executorToTest.execute(context);
 
 		/* test */
-		verify(netsparkerAdapter,times(3)).start(any());
+		verify(netsparkerAdapter,times(3)).startAsync(any());
 	}
 
 	@Test
@@ -122,7 +147,7 @@ public class NetsparkerProductExecutorTest {
 		executorToTest.execute(context);
 
 		/* test */
-		verify(netsparkerAdapter,times(2)).start(any());
+		verify(netsparkerAdapter,times(2)).startAsync(any());
 	}
 
 	@Test
@@ -136,7 +161,35 @@ public class NetsparkerProductExecutorTest {
 		executorToTest.execute(context);
 
 		/* test */
-		verify(netsparkerAdapter,never()).start(any());
+		verify(netsparkerAdapter,never()).startAsync(any());
+	}
+
+	@Test
+	public void when_three_root_urls_are_configured_and_setup_allows_parallel_scans_the_adapter_is_called_in_parallel_and_results_are_in_target_order() throws Exception {
+		/* prepare */
+		when(installSetup.isAbleToScan(TargetType.INTERNET)).thenReturn(true);
+		when(installSetup.isAbleToScan(TargetType.INTRANET)).thenReturn(false);
+		when(installSetup.getMaximumConcurrentScans()).thenReturn(3);
+
+		prepareWebScanWithThreeInternetURIs();
+
+		CountDownLatch allStarted = new CountDownLatch(3);
+		when(netsparkerAdapter.startAsync(any())).thenAnswer(invocation -> {
+			NetsparkerAdapterConfig adapterConfig = invocation.getArgument(0);
+			allStarted.countDown();
+			/* all three scans must run at same time, otherwise we get a timeout */
+			assertTrue(allStarted.await(5, TimeUnit.SECONDS));
+			return CompletableFuture.completedFuture(adapterConfig.getTargetAsString());
+		});
+
+		/* execute */
+		List<ProductResult> results = executorToTest.execute(context);
+
+		/* test */
+		assertEquals(3, results.size());
+		assertEquals(URI_1_INTERNET.toString(), results.get(0).getResult());
+		assertEquals(URI_2_INTERNET.toString(), results.get(1).getResult());
+		assertEquals(URI_3_INTERNET.toString(), results.get(2).getResult());
 	}
 
 	private void prepareWebScanWithThreeInternetURIs() throws URISyntaxException, SecHubExecutionException {
@@ -157,6 +210,8 @@ public class NetsparkerProductExecutorTest {
 	private class TestNetsparkerProductExecutor extends NetsparkerProductExecutor{
 		private TestNetsparkerProductExecutor(){
 			super.targetResolver=NetsparkerProductExecutorTest.this.targetResolver;
+			super.parallelizationService=NetsparkerProductExecutorTest.this.parallelizationService;
+			super.durationService=NetsparkerProductExecutorTest.this.durationService;
 		}
 	}
 
@@ -4,6 +4,7 @@ package com.daimler.sechub.domain.scan.product.sereco;
 import static com.daimler.sechub.sereco.ImportParameter.*;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Component;
 import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.domain.scan.product.ProductResultRepository;
+import com.daimler.sechub.domain.scan.product.ProductResultStorageService;
 import com.daimler.sechub.domain.scan.report.ScanReportProductExecutor;
 import com.daimler.sechub.sereco.Sereco;
 import com.daimler.sechub.sereco.Workspace;
@@ -31,6 +33,9 @@ public class SerecoReportProductExecutor implements ScanReportProductExecutor {
 	@Autowired
 	ProductResultRepository productResultRepository;
 
+	@Autowired
+	ProductResultStorageService productResultStorageService;
+
 	@Autowired
 	Sereco sechubReportCollector;
 
@@ -80,7 +85,6 @@ public class SerecoReportProductExecutor implements ScanReportProductExecutor {
 	}
 
 	private void importProductResult(UUIDTraceLogID traceLogId, Workspace workspace, ProductResult productResult) {
-		String importData = productResult.getResult();
 		String productId = productResult.getProductIdentifier().name();
 
 		LOG.debug("{} found product result for '{}'", traceLogId, productId);
@@ -90,10 +94,11 @@ public class SerecoReportProductExecutor implements ScanReportProductExecutor {
 		LOG.debug("{} start to import result '{}' from product '{}'", traceLogId, docId, productId);
 
 		/* @formatter:off */
-		try {
+		/* we use a reader here, so big product results are not loaded completely into memory */
+		try (Reader importData = productResultStorageService.openResultReader(productResult)){
 			workspace.doImport(builder().
 						productId(productId).
-						importData(importData).
+						importDataReader(importData).
 						importId(docId)
 					.build());
 		} catch (IOException e) {
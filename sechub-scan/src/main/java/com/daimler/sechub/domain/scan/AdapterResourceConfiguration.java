@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.daimler.sechub.adapter.AdapterHttpClientPool;
+import com.daimler.sechub.adapter.AdapterSessionCache;
+import com.daimler.sechub.adapter.StatePollingEngine;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Creates the resources shared by all adapters of this POD. The adapter module
+ * itself knows nothing about configuration, so all adapter global settings are
+ * defined and documented here.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Configuration
+public class AdapterResourceConfiguration {
+
+	private static final String SCOPE = "adapter";
+
+	@Value("${sechub.adapter.http.pool.connections.max.total:" + AdapterHttpClientPool.DEFAULT_MAX_CONNECTIONS_TOTAL + "}")
+	@MustBeDocumented(scope = SCOPE, value = "Maximum amount of open connections of one shared adapter http client. There is one client per product base url, proxy and trust all setting")
+	int httpMaxConnectionsTotal = AdapterHttpClientPool.DEFAULT_MAX_CONNECTIONS_TOTAL;
+
+	@Value("${sechub.adapter.http.pool.connections.max.perroute:" + AdapterHttpClientPool.DEFAULT_MAX_CONNECTIONS_PER_ROUTE + "}")
+	@MustBeDocumented(scope = SCOPE, value = "Maximum amount of open connections per route of one shared adapter http client")
+	int httpMaxConnectionsPerRoute = AdapterHttpClientPool.DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+
+	@Value("${sechub.adapter.http.timeout.connect.milliseconds:" + AdapterHttpClientPool.DEFAULT_CONNECT_TIMEOUT_IN_MILLISECONDS + "}")
+	@MustBeDocumented(scope = SCOPE, value = "Timeout in milliseconds for adapter http connects and for waiting for a free pooled connection")
+	int httpConnectTimeoutInMilliseconds = AdapterHttpClientPool.DEFAULT_CONNECT_TIMEOUT_IN_MILLISECONDS;
+
+	@Value("${sechub.adapter.http.timeout.socket.milliseconds:" + AdapterHttpClientPool.DEFAULT_SOCKET_TIMEOUT_IN_MILLISECONDS + "}")
+	@MustBeDocumented(scope = SCOPE, value = "Timeout in milliseconds for waiting for data of a product response")
+	int httpSocketTimeoutInMilliseconds = AdapterHttpClientPool.DEFAULT_SOCKET_TIMEOUT_IN_MILLISECONDS;
+
+	@Value("${sechub.adapter.http.pool.idle.timeout.seconds:" + AdapterHttpClientPool.DEFAULT_IDLE_TIMEOUT_IN_SECONDS + "}")
+	@MustBeDocumented(scope = SCOPE, value = "Pooled adapter http connections idle for this amount of seconds are closed")
+	int httpIdleTimeoutInSeconds = AdapterHttpClientPool.DEFAULT_IDLE_TIMEOUT_IN_SECONDS;
+
+	@Value("${sechub.adapter.session.cache.enabled:true}")
+	@MustBeDocumented(scope = SCOPE, value = "When enabled, adapters share session data (e.g. login tokens or looked up policy ids) between scans, so product logins are not done for every scan")
+	boolean sessionCacheEnabled = true;
+
+	@Value("${sechub.adapter.polling.threads:" + StatePollingEngine.DEFAULT_POLLING_THREADS + "}")
+	@MustBeDocumented(scope = SCOPE, value = "Amount of timer threads scheduling the state checks of all running adapters")
+	int pollingThreads = StatePollingEngine.DEFAULT_POLLING_THREADS;
+
+	@Value("${sechub.adapter.polling.work.threads:" + StatePollingEngine.DEFAULT_WORK_THREADS + "}")
+	@MustBeDocumented(scope = SCOPE, value = "Maximum amount of threads doing state checks and other blocking adapter work (e.g. report downloads). When all are busy, further work waits")
+	int pollingWorkThreads = StatePollingEngine.DEFAULT_WORK_THREADS;
+
+	@Bean(destroyMethod = "shutdown")
+	public StatePollingEngine statePollingEngine() {
+		return new StatePollingEngine(pollingThreads, pollingWorkThreads);
+	}
+
+	@Bean
+	public AdapterSessionCache adapterSessionCache() {
+		return new AdapterSessionCache(sessionCacheEnabled);
+	}
+
+	@Bean
+	public AdapterHttpClientPool adapterHttpClientPool() {
+		return new AdapterHttpClientPool(httpMaxConnectionsTotal, httpMaxConnectionsPerRoute, httpConnectTimeoutInMilliseconds, httpSocketTimeoutInMilliseconds,
+				httpIdleTimeoutInSeconds);
+	}
+
+}
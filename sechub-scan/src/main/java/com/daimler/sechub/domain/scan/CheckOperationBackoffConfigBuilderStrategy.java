@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.daimler.sechub.adapter.AbstractAdapterConfigBuilder;
+import com.daimler.sechub.adapter.AdapterConfig;
+import com.daimler.sechub.adapter.AdapterConfigurationStrategy;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * A common strategy to configure backoff and jitter of adapter check
+ * operations (waiting for product states) - usable by every product executor.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class CheckOperationBackoffConfigBuilderStrategy implements AdapterConfigurationStrategy {
+
+	@Value("${sechub.adapter.scanresultcheck.maximum.minutes:-1}")
+	@MustBeDocumented(AbstractAdapterConfigBuilder.DOCUMENT_INFO_CHECK_MAXIMUM)
+	int maximumTimeToWaitForNextCheckOperationInMinutes = -1;
+
+	@Value("${sechub.adapter.scanresultcheck.backoff.multiplier:1.0}")
+	@MustBeDocumented(AbstractAdapterConfigBuilder.DOCUMENT_INFO_CHECK_BACKOFF)
+	double checkOperationBackoffMultiplier = 1.0;
+
+	@Value("${sechub.adapter.scanresultcheck.jitter.percent:0}")
+	@MustBeDocumented(AbstractAdapterConfigBuilder.DOCUMENT_INFO_CHECK_JITTER)
+	int checkOperationJitterInPercent;
+
+	@Override
+	public <B extends AbstractAdapterConfigBuilder<B, C>, C extends AdapterConfig> void configure(B configBuilder) {
+		/* @formatter:off */
+		configBuilder.
+			setMaximumTimeToWaitForNextCheckOperationInMinutes(maximumTimeToWaitForNextCheckOperationInMinutes).
+			setCheckOperationBackoffMultiplier(checkOperationBackoffMultiplier).
+			setCheckOperationJitterInPercent(checkOperationJitterInPercent);
+		/* @formatter:on */
+	}
+
+}
@@ -0,0 +1,45 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import com.daimler.sechub.adapter.AbstractAdapterConfigBuilder;
+import com.daimler.sechub.adapter.AdapterConfig;
+import com.daimler.sechub.adapter.AdapterConfigurationStrategy;
+
+/**
+ * A strategy to configure the expected execution duration of an adapter, so
+ * the time between check operations can be adapted to it. See
+ * {@link com.daimler.sechub.domain.scan.product.ProductExecutionDurationService}
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ExpectedExecutionDurationConfigBuilderStrategy implements AdapterConfigurationStrategy {
+
+	private long expectedExecutionDurationInMilliseconds;
+	private int minimumTimeToWaitForNextCheckOperationInSeconds;
+
+	/**
+	 * Creates strategy
+	 *
+	 * @param expectedExecutionDurationInMilliseconds         expected duration,
+	 *                                                        <=0 when unknown
+	 * @param minimumTimeToWaitForNextCheckOperationInSeconds minimum time between
+	 *                                                        two check
+	 *                                                        operations, <0 for
+	 *                                                        default
+	 */
+	public ExpectedExecutionDurationConfigBuilderStrategy(long expectedExecutionDurationInMilliseconds, int minimumTimeToWaitForNextCheckOperationInSeconds) {
+		this.expectedExecutionDurationInMilliseconds = expectedExecutionDurationInMilliseconds;
+		this.minimumTimeToWaitForNextCheckOperationInSeconds = minimumTimeToWaitForNextCheckOperationInSeconds;
+	}
+
+	@Override
+	public <B extends AbstractAdapterConfigBuilder<B, C>, C extends AdapterConfig> void configure(B configBuilder) {
+		/* @formatter:off */
+		configBuilder.
+			setExpectedExecutionDurationInMilliseconds(expectedExecutionDurationInMilliseconds).
+			setMinimumTimeToWaitForNextCheckOperationInSeconds(minimumTimeToWaitForNextCheckOperationInSeconds);
+		/* @formatter:on */
+	}
+
+}
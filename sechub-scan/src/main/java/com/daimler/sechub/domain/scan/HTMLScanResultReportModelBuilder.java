@@ -19,6 +19,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.domain.scan.report.ScanReportResult;
+import com.daimler.sechub.domain.scan.report.ScanReportStatistic;
 import com.daimler.sechub.domain.scan.report.ScanReportTrafficLightCalculator;
 import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.type.TrafficLight;
@@ -74,9 +75,10 @@ public class HTMLScanResultReportModelBuilder {
 
 		Map<String, Object> model = new HashMap<>();
 		model.put("result", scanResult.getResult());
-		model.put("redList", trafficLightCalculator.filterFindingsFor(result, TrafficLight.RED));
-		model.put("yellowList", trafficLightCalculator.filterFindingsFor(result, TrafficLight.YELLOW));
-		model.put("greenList", trafficLightCalculator.filterFindingsFor(result, TrafficLight.GREEN));
+		ScanReportStatistic statistic = trafficLightCalculator.calculateStatistic(result);
+		model.put("redList", statistic.getFindings(TrafficLight.RED));
+		model.put("yellowList", statistic.getFindings(TrafficLight.YELLOW));
+		model.put("greenList", statistic.getFindings(TrafficLight.GREEN));
 
 		model.put("trafficlight", trafficLight);
 
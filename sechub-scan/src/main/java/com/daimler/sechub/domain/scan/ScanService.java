@@ -5,7 +5,7 @@ import static com.daimler.sechub.sharedkernel.messaging.DomainDataTraceLogID.*;
 import static com.daimler.sechub.sharedkernel.messaging.MessageDataKeys.*;
 import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
-import java.io.IOException;
+import java.util.Arrays;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Service;
 import com.daimler.sechub.domain.scan.log.ProjectScanLogService;
 import com.daimler.sechub.domain.scan.product.CodeScanProductExecutionService;
 import com.daimler.sechub.domain.scan.product.InfrastructureScanProductExecutionService;
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelizationService;
 import com.daimler.sechub.domain.scan.product.WebScanProductExecutionService;
 import com.daimler.sechub.domain.scan.report.CreateScanReportService;
 import com.daimler.sechub.domain.scan.report.ScanReport;
@@ -29,9 +30,8 @@ import com.daimler.sechub.sharedkernel.messaging.IsRecevingSyncMessage;
 import com.daimler.sechub.sharedkernel.messaging.IsSendingSyncMessageAnswer;
 import com.daimler.sechub.sharedkernel.messaging.MessageID;
 import com.daimler.sechub.sharedkernel.messaging.SynchronMessageHandler;
-import com.daimler.sechub.sharedkernel.storage.StorageService;
+import com.daimler.sechub.sharedkernel.storage.JobStorageCleanupService;
 import com.daimler.sechub.sharedkernel.util.JSONConverterException;
-import com.daimler.sechub.storage.core.JobStorage;
 
 /**
  * Scan service - main entry point for scans. We use a REQUIRES_NEW propagation
@@ -45,7 +45,7 @@ public class ScanService implements SynchronMessageHandler {
 
 	private static final Logger LOG = LoggerFactory.getLogger(ScanService.class);
 	@Autowired
-	StorageService storageService;
+	JobStorageCleanupService storageCleanupService;
 
 	@Autowired
 	CodeScanProductExecutionService codeScanProductExecutionService;
@@ -56,6 +56,9 @@ public class ScanService implements SynchronMessageHandler {
 	@Autowired
 	InfrastructureScanProductExecutionService infraScanProductExecutionService;
 
+	@Autowired
+	ProductExecutionParallelizationService parallelizationService;
+
 	@Autowired
 	CreateScanReportService reportService;
 
@@ -98,9 +101,13 @@ public class ScanService implements SynchronMessageHandler {
 		}
 		UUID logUUID = scanLogService.logScanStarted(context);
 		try {
-			codeScanProductExecutionService.executeProductsAndStoreResults(context);
-			webScanProductExecutionService.executeProductsAndStoreResults(context);
-			infraScanProductExecutionService.executeProductsAndStoreResults(context);
+			/* @formatter:off */
+			parallelizationService.executeAll(Arrays.asList(
+					() -> codeScanProductExecutionService.executeProductsAndStoreResults(context),
+					() -> webScanProductExecutionService.executeProductsAndStoreResults(context),
+					() -> infraScanProductExecutionService.executeProductsAndStoreResults(context)
+					));
+			/* @formatter:on */
 			scanLogService.logScanEnded(logUUID);
 		}catch(Exception e) {
 			scanLogService.logScanFailed(logUUID);
@@ -110,7 +117,8 @@ public class ScanService implements SynchronMessageHandler {
 	}
 
 	/*
-	 * Cleans storage for current job
+	 * Cleans storage for current job - deletion itself is done asynchronous, so
+	 * scan is not delayed by storage cleanup
 	 */
 	private void cleanupStorage(SecHubExecutionContext context) {
 		if (context==null) {
@@ -124,14 +132,7 @@ public class ScanService implements SynchronMessageHandler {
 		}
 		String projectId = configuration.getProjectId();
 		UUID jobUUID = context.getSechubJobUUID();
-		JobStorage storage = storageService.getJobStorage(projectId, jobUUID);
-
-		try {
-			storage.deleteAll();
-		} catch (IOException e) {
-			LOG.error("Was not able to delete storage for job {}",jobUUID,e);
-		}
-
+		storageCleanupService.scheduleDeleteAll(projectId, jobUUID);
 	}
 
 
@@ -4,6 +4,7 @@ package com.daimler.sechub.domain.scan;
 import static com.daimler.sechub.domain.scan.product.ProductIdentifier.*;
 import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.domain.scan.product.ProductResultRepository;
+import com.daimler.sechub.domain.scan.product.ProductResultStorageService;
 import com.daimler.sechub.domain.scan.report.ScanReportToSecHubResultTransformer;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
@@ -34,6 +36,9 @@ public class SecHubResultService {
 	@Autowired
 	ProductResultRepository productResultRepository;
 
+	@Autowired
+	ProductResultStorageService productResultStorageService;
+
 	@Autowired
 	List<ScanReportToSecHubResultTransformer> transformers;
 
@@ -62,11 +67,19 @@ public class SecHubResultService {
 			for (ScanReportToSecHubResultTransformer transformer : transformers) {
 				if (transformer.canTransform(productResult.getProductIdentifier())) {
 					LOG.info("Transformer {} is used to transform result", transformer.getClass().getSimpleName());
-					return transformer.transform(productResult.getResult());
+					return transformer.transform(fetchResult(productResult));
 				}
 			}
 		}
 
 		throw new SecHubExecutionException("No transformable report result format found for:" + secHubJobUUID);
 	}
+
+	private String fetchResult(ProductResult productResult) throws SecHubExecutionException {
+		try {
+			return productResultStorageService.fetchResult(productResult);
+		} catch (IOException e) {
+			throw new SecHubExecutionException("Was not able to fetch report result for:" + productResult.getSecHubJobUUID(), e);
+		}
+	}
 }
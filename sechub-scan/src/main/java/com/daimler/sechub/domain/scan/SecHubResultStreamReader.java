@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import static com.daimler.sechub.sharedkernel.util.Assert.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.daimler.sechub.sharedkernel.util.JSONConverter;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Reads a {@link SecHubResult} JSON in a streaming way: findings are parsed one
+ * by one while iterating, so the complete finding list is never kept in memory.
+ * Unknown properties are skipped.<br>
+ * <br>
+ * Count is normally written before findings (see
+ * {@link SecHubResultStreamWriter}) and so available before iteration. For
+ * other origins it is available after iteration has finished.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class SecHubResultStreamReader implements Iterator<SecHubFinding>, Closeable {
+
+	private JsonParser parser;
+	private Long count;
+	private SecHubFinding next;
+	private boolean insideFindings;
+	private boolean finished;
+
+	/**
+	 * Creates a reader for given JSON string
+	 *
+	 * @param json
+	 * @return reader, caller is responsible to close
+	 * @throws IOException
+	 */
+	public static SecHubResultStreamReader create(String json) throws IOException {
+		return new SecHubResultStreamReader(JSONConverter.get().createParser(json));
+	}
+
+	/**
+	 * Creates a reader for given parser, positioned before the result object.
+	 * Parser must have a codec to read objects.
+	 *
+	 * @param parser
+	 * @throws IOException
+	 */
+	public SecHubResultStreamReader(JsonParser parser) throws IOException {
+		notNull(parser, "parser may not be null");
+		this.parser = parser;
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			throw new IOException("Not a SecHub result object");
+		}
+		readUntilNextFinding();
+	}
+
+	/**
+	 * @return <code>true</code> when count is already known
+	 */
+	public boolean isCountAvailable() {
+		return count != null;
+	}
+
+	/**
+	 * @return count or 0 when not (yet) available
+	 */
+	public long getCount() {
+		return count == null ? 0 : count.longValue();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return next != null;
+	}
+
+	@Override
+	public SecHubFinding next() {
+		if (next == null) {
+			throw new NoSuchElementException("No more findings");
+		}
+		SecHubFinding result = next;
+		try {
+			readUntilNextFinding();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Was not able to read next finding", e);
+		}
+		return result;
+	}
+
+	@Override
+	public void close() throws IOException {
+		parser.close();
+	}
+
+	private void readUntilNextFinding() throws IOException {
+		next = null;
+		while (!finished) {
+			if (insideFindings) {
+				JsonToken token = parser.nextToken();
+				if (token == JsonToken.END_ARRAY) {
+					insideFindings = false;
+					continue;
+				}
+				if (token == null) {
+					throw new IOException("Unexpected end of findings");
+				}
+				if (token == JsonToken.VALUE_NULL) {
+					continue;
+				}
+				next = parser.readValueAs(SecHubFinding.class);
+				return;
+			}
+			JsonToken token = parser.nextToken();
+			if (token == JsonToken.END_OBJECT) {
+				finished = true;
+				return;
+			}
+			if (token != JsonToken.FIELD_NAME) {
+				throw new IOException("Unexpected token:" + token);
+			}
+			String fieldName = parser.getCurrentName();
+			token = parser.nextToken();
+			if ("count".equals(fieldName)) {
+				count = parser.getValueAsLong();
+			} else if (SecHubResult.PROPERTY_FINDINGS.equals(fieldName) && token == JsonToken.START_ARRAY) {
+				insideFindings = true;
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import static com.daimler.sechub.sharedkernel.util.Assert.*;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Transfers a {@link SecHubResult} JSON read by a
+ * {@link SecHubResultStreamReader} in a streaming way: every finding is written
+ * directly to the generator, so no complete JSON string is necessary. Output
+ * structure is the same as for {@link SecHubResult#toJSON()}.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class SecHubResultStreamWriter {
+
+	private SecHubResultStreamWriter() {
+	}
+
+	/**
+	 * Transfers result read by given reader as next value of the generator -
+	 * findings are read and written one by one. Generator must have a codec to
+	 * write objects.
+	 *
+	 * @param generator
+	 * @param reader
+	 * @throws IOException
+	 */
+	public static void write(JsonGenerator generator, SecHubResultStreamReader reader) throws IOException {
+		notNull(reader, "reader may not be null");
+		boolean countWritten = reader.isCountAvailable();
+
+		generator.writeStartObject();
+		if (countWritten) {
+			generator.writeNumberField("count", reader.getCount());
+		}
+		writeFindings(generator, reader);
+		if (!countWritten) {
+			generator.writeNumberField("count", reader.getCount());
+		}
+		generator.writeEndObject();
+	}
+
+	private static void writeFindings(JsonGenerator generator, Iterator<SecHubFinding> findings) throws IOException {
+		generator.writeArrayFieldStart(SecHubResult.PROPERTY_FINDINGS);
+		while (findings.hasNext()) {
+			generator.writeObject(findings.next());
+		}
+		generator.writeEndArray();
+	}
+}
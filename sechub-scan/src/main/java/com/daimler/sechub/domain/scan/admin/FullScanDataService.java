@@ -15,6 +15,7 @@ import com.daimler.sechub.domain.scan.log.ProjectScanLog;
 import com.daimler.sechub.domain.scan.log.ProjectScanLogService;
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.domain.scan.product.ProductResultService;
+import com.daimler.sechub.domain.scan.product.ProductResultStorageService;
 import com.daimler.sechub.sharedkernel.RoleConstants;
 import com.daimler.sechub.sharedkernel.Step;
 import com.daimler.sechub.sharedkernel.usecases.admin.project.UseCaseAdministratorDownloadsFullScanDataForJob;
@@ -32,6 +33,9 @@ public class FullScanDataService {
 	@Autowired
 	ProductResultService productResultService;
 
+	@Autowired
+	ProductResultStorageService productResultStorageService;
+
 	@Autowired
 	UserInputAssertion assertion;
 
@@ -51,7 +55,12 @@ public class FullScanDataService {
 		for (ProductResult result:results) {
 			ScanData d = new ScanData();
 			d.productId=result.getProductIdentifier().toString();
-			d.result=result.getResult();
+			if (result.isResultStoredExternal()) {
+				/* we do not load the content here but lazy on zip creation */
+				d.resultStreamProvider=() -> productResultStorageService.openResultStream(result);
+			}else {
+				d.result=result.getResult();
+			}
 
 			data.allScanData.add(d);
 		}
@@ -1,8 +1,10 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.admin;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
@@ -24,22 +26,43 @@ public class FullScanDataToZipOutputSupport {
 	    		writeStringAsZipFileEntry(zippedOut, log.toString(), "log_"+log.getUUID(),fileNamesAlreadyUsed);
 	    	}
 	    	for (ScanData sd: data.allScanData) {
-	    		writeStringAsZipFileEntry(zippedOut, sd.result, sd.productId,fileNamesAlreadyUsed);
+	    		if (sd.resultStreamProvider!=null) {
+	    			try(InputStream stream = sd.resultStreamProvider.openStream()){
+	    				writeStreamAsZipFileEntry(zippedOut, stream, sd.productId, fileNamesAlreadyUsed);
+	    			}
+	    		}else {
+	    			writeStringAsZipFileEntry(zippedOut, sd.result, sd.productId,fileNamesAlreadyUsed);
+	    		}
 	    	}
 	    	zippedOut.closeEntry();
 	    	zippedOut.finish();
 	    }
 	}
 
-	private void writeStringAsZipFileEntry(ZipOutputStream zippedOut, String string, String wantedFileName, List<String> fileNamesAlreadyUsed) throws UnsupportedEncodingException, IOException {
-		/* prevent duplicated filenames*/
-		String fileName=wantedFileName;
-		int index=0;
-		while (fileNamesAlreadyUsed.contains(fileName)) {
-			index++;
-			fileName=wantedFileName+"["+index+"]";
+	private void writeStreamAsZipFileEntry(ZipOutputStream zippedOut, InputStream stream, String wantedFileName, List<String> fileNamesAlreadyUsed) throws IOException {
+		String fileName = createUniqueFileName(wantedFileName, fileNamesAlreadyUsed);
+
+		/* inspect first byte to resolve file ending */
+		BufferedInputStream bis = new BufferedInputStream(stream);
+		bis.mark(1);
+		int first = bis.read();
+		bis.reset();
+
+		String fileEnding="txt";
+		if (first=='{') {
+			fileEnding="json";
+		}else if (first=='<') {
+			fileEnding="xml";
 		}
-		fileNamesAlreadyUsed.add(fileName);
+		ZipEntry e = new ZipEntry(fileName+"."+fileEnding);
+		e.setTime(System.currentTimeMillis());
+		zippedOut.putNextEntry(e);
+
+		StreamUtils.copy(bis, zippedOut);
+	}
+
+	private void writeStringAsZipFileEntry(ZipOutputStream zippedOut, String string, String wantedFileName, List<String> fileNamesAlreadyUsed) throws UnsupportedEncodingException, IOException {
+		String fileName = createUniqueFileName(wantedFileName, fileNamesAlreadyUsed);
 
 		String fileEnding="txt";
 		if (string.startsWith("{")) {
@@ -57,4 +80,16 @@ public class FullScanDataToZipOutputSupport {
 
 		StreamUtils.copy(bais, zippedOut);
 	}
+
+	private String createUniqueFileName(String wantedFileName, List<String> fileNamesAlreadyUsed) {
+		/* prevent duplicated filenames*/
+		String fileName=wantedFileName;
+		int index=0;
+		while (fileNamesAlreadyUsed.contains(fileName)) {
+			index++;
+			fileName=wantedFileName+"["+index+"]";
+		}
+		fileNamesAlreadyUsed.add(fileName);
+		return fileName;
+	}
 }
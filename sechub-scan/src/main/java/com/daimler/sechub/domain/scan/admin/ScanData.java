@@ -1,9 +1,23 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.admin;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 public class ScanData {
 
 	public String productId;
 
 	public String result;
+
+	/**
+	 * When set, the result content is read lazily from this provider and
+	 * {@link #result} is ignored
+	 */
+	public ResultStreamProvider resultStreamProvider;
+
+	public interface ResultStreamProvider {
+
+		public InputStream openStream() throws IOException;
+	}
 }
@@ -5,17 +5,24 @@ import java.net.InetAddress;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.daimler.sechub.adapter.Adapter;
+import com.daimler.sechub.adapter.AdapterConfig;
+import com.daimler.sechub.adapter.AdapterException;
+import com.daimler.sechub.adapter.AdapterReportSink;
+import com.daimler.sechub.adapter.support.AdapterFutureSupport;
 import com.daimler.sechub.domain.scan.InstallSetup;
 import com.daimler.sechub.domain.scan.Target;
 import com.daimler.sechub.domain.scan.TargetRegistry;
 import com.daimler.sechub.domain.scan.TargetRegistry.TargetRegistryInfo;
 import com.daimler.sechub.domain.scan.TargetType;
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelizationService.ProductExecutionCall;
 import com.daimler.sechub.domain.scan.resolve.TargetResolver;
 import com.daimler.sechub.sharedkernel.UUIDTraceLogID;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
@@ -43,6 +50,17 @@ public abstract class AbstractInstallSetupProductExecutor<S extends InstallSetup
 	@Autowired
 	protected TargetResolver targetResolver;
 
+	@Autowired
+	protected ProductExecutionParallelizationService parallelizationService;
+
+	@Autowired
+	protected ProductResultStorageService productResultStorageService;
+
+	@Autowired
+	protected ProductExecutionDurationService durationService;
+
+	private AdapterFutureSupport adapterFutureSupport = new AdapterFutureSupport();
+
 	@Override
 	public final List<ProductResult> execute(SecHubExecutionContext context) throws SecHubExecutionException {
 		UUIDTraceLogID traceLogId = context.getTraceLogId();
@@ -143,7 +161,7 @@ public abstract class AbstractInstallSetupProductExecutor<S extends InstallSetup
 	 */
 	protected List<ProductResult> execute(SecHubExecutionContext context, TargetRegistry registry, S setup)
 			throws Exception /* NOSONAR */ {
-		List<ProductResult> result = new ArrayList<>();
+		List<ProductExecutionCall<List<ProductResult>>> calls = new ArrayList<>();
 
 		/* we handle here automatically all known targets and call the adapters */
 		for (TargetType type: TargetType.values()) {
@@ -151,19 +169,36 @@ public abstract class AbstractInstallSetupProductExecutor<S extends InstallSetup
 				/* not executable*/
 				continue;
 			}
-			executeAdapterWhenTargetTypeSupported(context, registry, setup, result, type);
+			calls.add(() -> executeAdapterWhenTargetTypeSupported(context, registry, setup, type));
 		}
+		int maximumConcurrentCalls = isExecutingTargetTypesInParallel() ? calls.size() : 1;
 
+		List<ProductResult> result = new ArrayList<>();
+		for (List<ProductResult> targetTypeResults : parallelizationService.executeAllInOrder(calls, null, maximumConcurrentCalls)) {
+			result.addAll(targetTypeResults);
+		}
 		return result;
 
 	}
 
-	private void executeAdapterWhenTargetTypeSupported(SecHubExecutionContext context, TargetRegistry registry, S setup,
-			List<ProductResult> result, TargetType targetType) throws Exception {
+	/**
+	 * When <code>true</code> the adapter executions for different target types
+	 * (e.g. intranet and internet) are done in parallel. Should only be done when
+	 * product uses different installations for the target types. Per default
+	 * <code>false</code>
+	 *
+	 * @return <code>true</code> when target types can be executed in parallel
+	 */
+	protected boolean isExecutingTargetTypesInParallel() {
+		return false;
+	}
+
+	private List<ProductResult> executeAdapterWhenTargetTypeSupported(SecHubExecutionContext context, TargetRegistry registry, S setup,
+			TargetType targetType) throws SecHubExecutionException {
 		if (!setup.isAbleToScan(targetType)) {
 			LOG.debug("{} Setup says its not able to scan target type {} with {}", context.getTraceLogId(), targetType,
 					getIdentifier());
-			return;
+			return Collections.emptyList();
 		}else {
 			LOG.debug("{} Setup says it IS able to scan target type {} with {}", context.getTraceLogId(), targetType,
 					getIdentifier());
@@ -173,20 +208,28 @@ public abstract class AbstractInstallSetupProductExecutor<S extends InstallSetup
 		if (!registryInfo.containsAtLeastOneTarget()) {
 			LOG.debug("{} Did not found any IP, URI, or identifier defined for target type '{}' for {}", context.getTraceLogId(),
 					targetType, getIdentifier());
-			return;
+			return Collections.emptyList();
 		}
 
 		LocalDateTime started = LocalDateTime.now();
-		List<ProductResult> productResults = executeWithAdapter(context, setup, registryInfo);
+		List<ProductResult> productResults = null;
+		try {
+			productResults = executeWithAdapter(context, setup, registryInfo);
+		} catch (SecHubExecutionException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new SecHubExecutionException(getIdentifier() + " execution failed for target type " + targetType + "." + context.getTraceLogId(), e);
+		}
 		LocalDateTime ended = LocalDateTime.now();
 
-		if (productResults != null) {
-			for (ProductResult pr: productResults) {
-				pr.setStarted(started);
-				pr.setEnded(ended);
-			}
-			result.addAll(productResults);
+		if (productResults == null) {
+			return Collections.emptyList();
+		}
+		for (ProductResult pr: productResults) {
+			pr.setStarted(started);
+			pr.setEnded(ended);
 		}
+		return productResults;
 	}
 
 	/**
@@ -196,7 +239,9 @@ public abstract class AbstractInstallSetupProductExecutor<S extends InstallSetup
 	 * The implementation handles the final execution by adapter and must decide if
 	 * it uses the adapter in a single call for the given target, or make a loop
 	 * call (e.g. when the product is not able to scan multiple URIs or IPs at same
-	 * time )
+	 * time ). For loop calls
+	 * {@link ProductExecutionParallelizationService#executeAllInOrder(List, String, int)}
+	 * can be used to scan the targets in parallel
 	 *
 	 * @param context
 	 * @param setup
@@ -207,6 +252,58 @@ public abstract class AbstractInstallSetupProductExecutor<S extends InstallSetup
 	protected abstract List<ProductResult> executeWithAdapter(SecHubExecutionContext context, S setup,
 			TargetRegistryInfo targetData) throws Exception/* NOSONAR */;
 
+	/**
+	 * Starts given adapter asynchronous (see
+	 * {@link Adapter#startAsync(AdapterConfig)}) and waits for its result. The
+	 * product is polled by the adapter future chain, the calling thread only
+	 * waits for the end. When the calling thread is interrupted (e.g. job is
+	 * canceled) the adapter stops polling the product. On success the execution
+	 * duration is remembered for the given product installation.
+	 *
+	 * @param adapter
+	 * @param config
+	 * @param baseURL   base url of product installation
+	 * @param projectId
+	 * @return adapter result
+	 * @throws AdapterException
+	 */
+	protected <C extends AdapterConfig> String startAdapter(Adapter<C> adapter, C config, String baseURL, String projectId) throws AdapterException {
+		return startAdapter(adapter, config, baseURL, projectId, null);
+	}
+
+	/**
+	 * Same as {@link #startAdapter(Adapter, AdapterConfig, String, String)} but
+	 * remembers the execution duration for given execution variant (see
+	 * {@link ProductExecutionDurationService})
+	 *
+	 * @param adapter
+	 * @param config
+	 * @param baseURL   base url of product installation
+	 * @param projectId
+	 * @param variant   variant of execution or <code>null</code>
+	 * @return adapter result
+	 * @throws AdapterException
+	 */
+	protected <C extends AdapterConfig> String startAdapter(Adapter<C> adapter, C config, String baseURL, String projectId, String variant)
+			throws AdapterException {
+		long started = System.currentTimeMillis();
+		String result = adapterFutureSupport.waitFor(adapter.startAsync(config), adapter, config);
+		durationService.rememberDuration(getIdentifier(), baseURL, projectId, variant, System.currentTimeMillis() - started);
+		return result;
+	}
+
+	/**
+	 * Creates a report sink which streams the product report directly into given
+	 * product result - big reports are written into storage without being
+	 * completely in memory, see {@link ProductResultStorageService}
+	 *
+	 * @param productResult
+	 * @return report sink for adapter configuration
+	 */
+	protected AdapterReportSink createReportSink(ProductResult productResult) {
+		return (report, charset) -> productResultStorageService.storeResult(productResult, report, charset);
+	}
+
 	/**
 	 * Get the install setup which defines the product hosting location and the
 	 * supported target types - this should be injected by spring!
@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelizationService.ProductExecutionTask;
 import com.daimler.sechub.sharedkernel.UUIDTraceLogID;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
@@ -34,6 +35,12 @@ public abstract class AbstractProductExecutionService implements ProductExection
 	@Autowired
 	ProductResultRepository productResultRepository;
 
+	@Autowired
+	ProductResultStorageService productResultStorageService;
+
+	@Autowired
+	ProductExecutionParallelizationService parallelizationService;
+
 	/**
 	 * Registers given product executors which shall be executed
 	 *
@@ -45,7 +52,7 @@ public abstract class AbstractProductExecutionService implements ProductExection
 
 	/**
 	 * Executes product executors and stores results. If a result of an executor is
-	 * <code>null</code> an error will be logged but
+	 * <code>null</code> an error will be logged but no failure is thrown.
 	 *
 	 * @param context
 	 * @throws SecHubExecutionException
@@ -96,33 +103,44 @@ public abstract class AbstractProductExecutionService implements ProductExection
 
 	/**
 	 * Executes product executors and stores results. If a result of an executor is
-	 * <code>null</code> an error will be logged but
+	 * <code>null</code> an error will be logged but no failure is thrown. When
+	 * parallel execution is enabled the executors are executed in parallel, see
+	 * {@link ProductExecutionParallelizationService}
 	 *
 	 * @param executors
 	 * @param context
 	 * @param traceLogID
+	 * @throws SecHubExecutionException
 	 */
-	protected void executeAndPersistResults(List<? extends ProductExecutor> executors, SecHubExecutionContext context, UUIDTraceLogID traceLogID) {
+	protected void executeAndPersistResults(List<? extends ProductExecutor> executors, SecHubExecutionContext context, UUIDTraceLogID traceLogID)
+			throws SecHubExecutionException {
+		List<ProductExecutionTask> tasks = new ArrayList<>();
 		for (ProductExecutor productExecutor : executors) {
-			List<ProductResult> productResults=Collections.emptyList();
-			try {
-				productResults = execute(productExecutor, context, traceLogID);
-				if (productResults == null) {
-					getMockableLog().error("Product executor {} returned null as results {}", productExecutor.getIdentifier(), traceLogID);
-					continue;
-				}
-			} catch (Exception e) {
-				getMockableLog().error("Product executor failed:"+productExecutor.getIdentifier()+" "+traceLogID,e);
+			tasks.add(() -> executeAndPersistResults(productExecutor, context, traceLogID));
+		}
+		parallelizationService.executeAll(tasks);
+	}
 
-				productResults=new ArrayList<ProductResult>();
-				ProductResult fallbackResult = new ProductResult(context.getSechubJobUUID(),productExecutor.getIdentifier(),"");
-				productResults.add(fallbackResult);
+	private void executeAndPersistResults(ProductExecutor productExecutor, SecHubExecutionContext context, UUIDTraceLogID traceLogID)
+			throws SecHubExecutionException {
+		List<ProductResult> productResults = Collections.emptyList();
+		try {
+			productResults = parallelizationService.executeWithProductLimit(productExecutor.getIdentifier(), () -> execute(productExecutor, context, traceLogID));
+			if (productResults == null) {
+				getMockableLog().error("Product executor {} returned null as results {}", productExecutor.getIdentifier(), traceLogID);
+				return;
 			}
+		} catch (Exception e) {
+			getMockableLog().error("Product executor failed:" + productExecutor.getIdentifier() + " " + traceLogID, e);
 
-			/* execution was successful */
-			for (ProductResult productResult : productResults) {
-				persistResult(traceLogID, productExecutor, productResult);
-			}
+			productResults = new ArrayList<ProductResult>();
+			ProductResult fallbackResult = new ProductResult(context.getSechubJobUUID(), productExecutor.getIdentifier(), "");
+			productResults.add(fallbackResult);
+		}
+
+		/* execution was successful */
+		for (ProductResult productResult : productResults) {
+			persistResult(traceLogID, productExecutor, productResult);
 		}
 	}
 
@@ -136,6 +154,11 @@ public abstract class AbstractProductExecutionService implements ProductExection
 	 * / missing ones...<br>
 	 * <br>
 	 *
+	 * Big result contents are moved to storage before persistence, see
+	 * {@link ProductResultStorageService}. When persistence fails, the stored
+	 * content is deleted again.<br>
+	 * <br>
+	 *
 	 * @see https://www.ibm.com/developerworks/java/library/j-ts1/index.html for
 	 *      details on REQUIRES_NEW when using ORM frameworks
 	 * @param traceLogID
@@ -148,7 +171,14 @@ public abstract class AbstractProductExecutionService implements ProductExection
 			getMockableLog().error("Product executor {} returned null as one of the results {}", productExecutor.getIdentifier(), traceLogID);
 			return;
 		}
-		productResultRepository.save(productResult);
+		productResultStorageService.moveResultToStorageWhenNecessary(productResult);
+		try {
+			productResultRepository.save(productResult);
+		} catch (RuntimeException e) {
+			/* stored content would be orphaned otherwise */
+			productResultStorageService.deleteStoredResult(productResult);
+			throw e;
+		}
 	}
 
 	/**
@@ -0,0 +1,143 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+import static javax.persistence.EnumType.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+/**
+ * Execution duration history of a product for one install setup (identified by
+ * base URL) and one project. Contains a weighted average of former execution
+ * durations, used to adapt the time between adapter check operations.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Entity
+@Table(name = ProductExecutionDuration.TABLE_NAME)
+public class ProductExecutionDuration {
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ SQL ......................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String TABLE_NAME = "SCAN_PRODUCT_DURATION";
+
+	public static final String COLUMN_ID = "ID";
+	public static final String COLUMN_PRODUCT_IDENTIFIER = "PRODUCT_ID";
+	public static final String COLUMN_BASE_URL = "BASE_URL";
+	public static final String COLUMN_PROJECT_ID = "PROJECT_ID";
+	public static final String COLUMN_AVERAGE_MILLISECONDS = "AVERAGE_MILLISECONDS";
+	public static final String COLUMN_EXECUTIONS = "EXECUTIONS";
+	public static final String COLUMN_LAST_UPDATED = "LAST_UPDATED";
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ JPQL .....................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String CLASS_NAME = ProductExecutionDuration.class.getSimpleName();
+
+	@Id
+	@Column(name = COLUMN_ID, unique = true, nullable = false)
+	UUID id;
+
+	@Enumerated(STRING)
+	@Column(name = COLUMN_PRODUCT_IDENTIFIER, nullable = false)
+	ProductIdentifier productIdentifier;
+
+	@Column(name = COLUMN_BASE_URL, nullable = false)
+	String baseURL;
+
+	@Column(name = COLUMN_PROJECT_ID, nullable = false)
+	String projectId;
+
+	@Column(name = COLUMN_AVERAGE_MILLISECONDS, nullable = false)
+	long averageMilliseconds;
+
+	@Column(name = COLUMN_EXECUTIONS, nullable = false)
+	int executions;
+
+	@Column(name = COLUMN_LAST_UPDATED, nullable = false)
+	LocalDateTime lastUpdated;
+
+	@Version
+	@Column(name = "VERSION")
+	Integer version;
+
+	ProductExecutionDuration() {
+		// jpa only
+	}
+
+	public ProductExecutionDuration(UUID id, ProductIdentifier productIdentifier, String baseURL, String projectId) {
+		this.id = id;
+		this.productIdentifier = productIdentifier;
+		this.baseURL = baseURL;
+		this.projectId = projectId;
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public ProductIdentifier getProductIdentifier() {
+		return productIdentifier;
+	}
+
+	public String getBaseURL() {
+		return baseURL;
+	}
+
+	public String getProjectId() {
+		return projectId;
+	}
+
+	/**
+	 * @return weighted average of execution durations in milliseconds
+	 */
+	public long getAverageMilliseconds() {
+		return averageMilliseconds;
+	}
+
+	/**
+	 * @return amount of executions used for the average
+	 */
+	public int getExecutions() {
+		return executions;
+	}
+
+	public LocalDateTime getLastUpdated() {
+		return lastUpdated;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((id == null) ? 0 : id.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ProductExecutionDuration other = (ProductExecutionDuration) obj;
+		if (id == null) {
+			if (other.id != null)
+				return false;
+		} else if (!id.equals(other.id))
+			return false;
+		return true;
+	}
+
+}
@@ -0,0 +1,167 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.adapter.AbstractAdapterConfigBuilder;
+import com.daimler.sechub.adapter.AdapterConfigurationStrategy;
+import com.daimler.sechub.domain.scan.ExpectedExecutionDurationConfigBuilderStrategy;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Records the execution durations of products per install setup (base URL),
+ * project and optional execution variant (e.g. full or incremental scan). The
+ * recorded history is used to provide an expected execution
+ * duration to adapters, so adapters can check more often near the expected end
+ * of a scan and less often otherwise.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ProductExecutionDurationService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ProductExecutionDurationService.class);
+
+	/* weight of the newest duration inside the average */
+	static final int NEWEST_DURATION_WEIGHT_IN_PERCENT = 30;
+
+	@Value("${sechub.adapter.scanresultcheck.adaptive.enabled:true}")
+	@MustBeDocumented("When enabled, the time between adapter check operations is adapted to the execution durations of former scans of the same project and product installation")
+	boolean adaptiveCheckEnabled = true;
+
+	@Value("${sechub.adapter.scanresultcheck.adaptive.minimum.seconds:-1}")
+	@MustBeDocumented(AbstractAdapterConfigBuilder.DOCUMENT_INFO_CHECK_MINIMUM)
+	int minimumTimeToWaitForNextCheckOperationInSeconds = -1;
+
+	@Autowired
+	ProductExecutionDurationRepository repository;
+
+	/**
+	 * Creates a configuration strategy providing the expected execution duration
+	 * for given product, base URL and project to the adapter configuration
+	 *
+	 * @param productIdentifier
+	 * @param baseURL
+	 * @param projectId
+	 * @return strategy, never <code>null</code>
+	 */
+	public AdapterConfigurationStrategy createConfigBuilderStrategy(ProductIdentifier productIdentifier, String baseURL, String projectId) {
+		return createConfigBuilderStrategy(productIdentifier, baseURL, projectId, null);
+	}
+
+	/**
+	 * Creates a configuration strategy providing the expected execution duration
+	 * for given product, base URL, project and execution variant to the adapter
+	 * configuration
+	 *
+	 * @param productIdentifier
+	 * @param baseURL
+	 * @param projectId
+	 * @param variant           variant of execution with own duration history
+	 *                          (e.g. full or incremental scan) or
+	 *                          <code>null</code>
+	 * @return strategy, never <code>null</code>
+	 */
+	public AdapterConfigurationStrategy createConfigBuilderStrategy(ProductIdentifier productIdentifier, String baseURL, String projectId, String variant) {
+		return new ExpectedExecutionDurationConfigBuilderStrategy(fetchExpectedDurationInMilliseconds(productIdentifier, baseURL, projectId, variant),
+				minimumTimeToWaitForNextCheckOperationInSeconds);
+	}
+
+	/**
+	 * Fetch expected execution duration
+	 *
+	 * @param productIdentifier
+	 * @param baseURL
+	 * @param projectId
+	 * @return expected duration in milliseconds or -1 when unknown or adaptive
+	 *         check is disabled
+	 */
+	public long fetchExpectedDurationInMilliseconds(ProductIdentifier productIdentifier, String baseURL, String projectId) {
+		return fetchExpectedDurationInMilliseconds(productIdentifier, baseURL, projectId, null);
+	}
+
+	/**
+	 * Fetch expected execution duration of given execution variant
+	 *
+	 * @param productIdentifier
+	 * @param baseURL
+	 * @param projectId
+	 * @param variant           variant of execution or <code>null</code>
+	 * @return expected duration in milliseconds or -1 when unknown or adaptive
+	 *         check is disabled
+	 */
+	public long fetchExpectedDurationInMilliseconds(ProductIdentifier productIdentifier, String baseURL, String projectId, String variant) {
+		if (!adaptiveCheckEnabled || productIdentifier == null || baseURL == null || projectId == null) {
+			return -1;
+		}
+		Optional<ProductExecutionDuration> duration = repository.findById(createId(productIdentifier, baseURL, projectId, variant));
+		if (!duration.isPresent()) {
+			return -1;
+		}
+		return duration.get().getAverageMilliseconds();
+	}
+
+	/**
+	 * Remembers duration of a successful execution. Failures are only logged,
+	 * because the history is only an optimization.
+	 *
+	 * @param productIdentifier
+	 * @param baseURL
+	 * @param projectId
+	 * @param durationInMilliseconds
+	 */
+	public void rememberDuration(ProductIdentifier productIdentifier, String baseURL, String projectId, long durationInMilliseconds) {
+		rememberDuration(productIdentifier, baseURL, projectId, null, durationInMilliseconds);
+	}
+
+	/**
+	 * Remembers duration of a successful execution of given execution variant.
+	 * Failures are only logged, because the history is only an optimization.
+	 *
+	 * @param productIdentifier
+	 * @param baseURL
+	 * @param projectId
+	 * @param variant                variant of execution or <code>null</code>
+	 * @param durationInMilliseconds
+	 */
+	public void rememberDuration(ProductIdentifier productIdentifier, String baseURL, String projectId, String variant, long durationInMilliseconds) {
+		if (productIdentifier == null || baseURL == null || projectId == null || durationInMilliseconds <= 0) {
+			return;
+		}
+		UUID id = createId(productIdentifier, baseURL, projectId, variant);
+		try {
+			ProductExecutionDuration duration = repository.findById(id).orElseGet(() -> new ProductExecutionDuration(id, productIdentifier, baseURL, projectId));
+			if (duration.executions == 0) {
+				duration.averageMilliseconds = durationInMilliseconds;
+			} else {
+				duration.averageMilliseconds = (duration.averageMilliseconds * (100 - NEWEST_DURATION_WEIGHT_IN_PERCENT)
+						+ durationInMilliseconds * NEWEST_DURATION_WEIGHT_IN_PERCENT) / 100;
+			}
+			duration.executions++;
+			duration.lastUpdated = LocalDateTime.now();
+
+			repository.save(duration);
+		} catch (RuntimeException e) {
+			/* e.g. optimistic locking because of parallel executions */
+			LOG.warn("Was not able to remember execution duration of {} for project {}", productIdentifier, projectId, e);
+		}
+	}
+
+	private UUID createId(ProductIdentifier productIdentifier, String baseURL, String projectId, String variant) {
+		String key = productIdentifier.name() + "/" + baseURL + "/" + projectId;
+		if (variant != null) {
+			key = key + "/" + variant;
+		}
+		return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,376 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
+
+/**
+ * Service to execute independent product parts (product execution services,
+ * product executors) of ONE scan in parallel. When parallel execution is
+ * turned off (default) every task is executed inside the caller thread - so
+ * behaviour is same as before.<br>
+ * <br>
+ * The thread pool is bounded and does not queue tasks: when all threads are
+ * busy the caller thread executes the task itself. So nested parallel
+ * execution (services -> executors) can never dead lock.<br>
+ * <br>
+ * Additionally the amount of concurrent executions per product can be limited,
+ * so e.g. a product server with a license for only one parallel scan is not
+ * flooded.<br>
+ * <br>
+ * Product executors can use {@link #executeAllInOrder(List, String, int)} to
+ * scan multiple targets at same time (e.g. one NETSPARKER scan per URI).
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ProductExecutionParallelizationService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ProductExecutionParallelizationService.class);
+
+	private static final int DEFAULT_MAX_THREADS = 8;
+	/* no limit - same as sequential execution, where every job executes its products without any cap */
+	private static final int DEFAULT_MAX_CONCURRENT_EXECUTIONS_PER_PRODUCT = 0;
+
+	@Value("${sechub.scan.product.parallel.enabled:false}")
+	@MustBeDocumented(scope = "scan", value = "When true, independent product executions of one scan (e.g. code scan and web scan) are done in parallel. Otherwise all products are executed one after another")
+	boolean parallelExecutionEnabled;
+
+	@Value("${sechub.scan.product.parallel.threads:" + DEFAULT_MAX_THREADS + "}")
+	@MustBeDocumented(scope = "scan", value = "Maximum amount of threads used for parallel product execution. When all threads are busy the scan thread itself executes the product")
+	int maximumThreads = DEFAULT_MAX_THREADS;
+
+	@Value("${sechub.scan.product.parallel.limit.default:" + DEFAULT_MAX_CONCURRENT_EXECUTIONS_PER_PRODUCT + "}")
+	@MustBeDocumented(scope = "scan", value = "Default maximum of concurrent executions for one product inside this POD (shared by all jobs) when parallel execution is enabled. A value lower than 1 means no limit")
+	int defaultMaximumConcurrentExecutionsPerProduct = DEFAULT_MAX_CONCURRENT_EXECUTIONS_PER_PRODUCT;
+
+	@Value("${sechub.scan.product.parallel.limits:}")
+	@MustBeDocumented(scope = "scan", value = "Comma separated list of maximum concurrent executions for dedicated products inside this POD (shared by all jobs) when parallel execution is enabled. Example: 'CHECKMARX=1,NETSPARKER=3'. Products not listed use the default limit")
+	String maximumConcurrentExecutionsPerProductDefinition;
+
+	private ThreadPoolExecutor threadPool;
+
+	private Map<ProductIdentifier, Semaphore> productSemaphores = new EnumMap<>(ProductIdentifier.class);
+
+	private Map<String, Semaphore> limitSemaphores = new ConcurrentHashMap<>();
+
+	/**
+	 * A task which can be executed in parallel
+	 */
+	public interface ProductExecutionTask {
+
+		public void execute() throws SecHubExecutionException;
+	}
+
+	/**
+	 * A product call returning a result
+	 *
+	 * @param <T> result type
+	 */
+	public interface ProductExecutionCall<T> {
+
+		public T call() throws SecHubExecutionException;
+	}
+
+	@PostConstruct
+	public void init() {
+		/* pool is always created, because target parallelization is configured by install setups */
+		int threads = Math.max(1, maximumThreads);
+		threadPool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), new ProductExecutionThreadFactory(),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		threadPool.allowCoreThreadTimeOut(true);
+
+		if (!parallelExecutionEnabled) {
+			return;
+		}
+		Map<ProductIdentifier, Integer> limits = parseLimits(maximumConcurrentExecutionsPerProductDefinition);
+		Map<ProductIdentifier, Integer> usedLimits = new EnumMap<>(ProductIdentifier.class);
+		for (ProductIdentifier productIdentifier : ProductIdentifier.values()) {
+			Integer limit = limits.get(productIdentifier);
+			if (limit == null) {
+				limit = defaultMaximumConcurrentExecutionsPerProduct;
+			}
+			if (limit < 1) {
+				/* no throttling when operator has not configured a limit */
+				continue;
+			}
+			productSemaphores.put(productIdentifier, new Semaphore(limit, true));
+			usedLimits.put(productIdentifier, limit);
+		}
+		LOG.info("Parallel product execution enabled, threads:{}, product limits:{}", threads, usedLimits);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (threadPool == null) {
+			return;
+		}
+		threadPool.shutdownNow();
+	}
+
+	public boolean isParallelExecutionEnabled() {
+		return parallelExecutionEnabled && threadPool != null;
+	}
+
+	/**
+	 * Executes all given tasks and waits until all of them are done. When
+	 * parallel execution is enabled the tasks are executed in parallel and all
+	 * tasks are executed - even when one of them fails. Otherwise the tasks are
+	 * executed one after another and the first failing task stops the execution
+	 * (same as before).
+	 *
+	 * @param tasks
+	 * @throws SecHubExecutionException first failure of tasks. On parallel
+	 *                                  execution other failures are added as
+	 *                                  suppressed
+	 */
+	public void executeAll(List<? extends ProductExecutionTask> tasks) throws SecHubExecutionException {
+		if (!isParallelExecutionEnabled() || tasks.size() < 2) {
+			executeSequential(tasks);
+			return;
+		}
+		executeAllParallel(tasks);
+	}
+
+	private void executeAllParallel(List<? extends ProductExecutionTask> tasks) throws SecHubExecutionException {
+		List<Future<?>> futures = new ArrayList<>();
+		for (ProductExecutionTask task : tasks) {
+			try {
+				futures.add(threadPool.submit(() -> {
+					task.execute();
+					return null;
+				}));
+			} catch (RejectedExecutionException e) {
+				/* only possible on shutdown */
+				throw new SecHubExecutionException("Product execution not possible, because thread pool is shut down", e);
+			}
+		}
+		SecHubExecutionException failure = null;
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				cancelAll(futures);
+				throw new SecHubExecutionException("Product execution interrupted", e);
+			} catch (ExecutionException e) {
+				failure = addFailure(failure, e.getCause());
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Executes given call when no more than the allowed amount of executions for
+	 * given product are running. Otherwise the current thread waits. When parallel
+	 * execution is disabled or no limit is configured for the product there is no
+	 * limit.
+	 *
+	 * @param productIdentifier
+	 * @param call
+	 * @return result of call
+	 * @throws SecHubExecutionException
+	 */
+	public <T> T executeWithProductLimit(ProductIdentifier productIdentifier, ProductExecutionCall<T> call) throws SecHubExecutionException {
+		Semaphore semaphore = productSemaphores.get(productIdentifier);
+		if (semaphore == null) {
+			return call.call();
+		}
+		try {
+			semaphore.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SecHubExecutionException("Interrupted while waiting for execution slot of product " + productIdentifier, e);
+		}
+		try {
+			return call.call();
+		} finally {
+			semaphore.release();
+		}
+	}
+
+	/**
+	 * Executes given calls - e.g. one adapter call per target - and returns the
+	 * results in same order as the calls. When maximum concurrent calls is greater
+	 * than one the calls are executed in parallel, otherwise one after another.
+	 * <br>
+	 * <br>
+	 * When a limit key is given, the maximum is shared by all executions using the
+	 * same key and the same maximum - e.g. an agent group used by different sechub
+	 * jobs at the same time. When the maximum for a key changes (e.g. install
+	 * setup reconfigured) the new maximum is used by all further executions.<br>
+	 * <br>
+	 * When one call fails, no further calls are started and the first failure is
+	 * thrown after running calls are done.
+	 *
+	 * @param calls
+	 * @param limitKey               key for concurrency limit or
+	 *                               <code>null</code> when limit is only for
+	 *                               this execution
+	 * @param maximumConcurrentCalls maximum of concurrent calls
+	 * @return results in order of calls
+	 * @throws SecHubExecutionException
+	 */
+	public <T> List<T> executeAllInOrder(List<? extends ProductExecutionCall<T>> calls, String limitKey, int maximumConcurrentCalls)
+			throws SecHubExecutionException {
+		int amount = calls.size();
+		if (threadPool == null || maximumConcurrentCalls <= 1 || amount < 2) {
+			List<T> results = new ArrayList<>(amount);
+			for (ProductExecutionCall<T> call : calls) {
+				results.add(call.call());
+			}
+			return results;
+		}
+		Semaphore semaphore = null;
+		if (limitKey == null) {
+			semaphore = new Semaphore(maximumConcurrentCalls, true);
+		} else {
+			/* keyed by maximum as well, so a changed maximum is never ignored */
+			semaphore = limitSemaphores.computeIfAbsent(limitKey + ":" + maximumConcurrentCalls, key -> new Semaphore(maximumConcurrentCalls, true));
+		}
+		OrderedCallsWorker<T> worker = new OrderedCallsWorker<>(calls, semaphore);
+		int workers = Math.min(amount, maximumConcurrentCalls);
+		List<ProductExecutionTask> tasks = new ArrayList<>(workers);
+		for (int i = 0; i < workers; i++) {
+			tasks.add(worker);
+		}
+		executeAllParallel(tasks);
+		return worker.getResults();
+	}
+
+	private void executeSequential(List<? extends ProductExecutionTask> tasks) throws SecHubExecutionException {
+		for (ProductExecutionTask task : tasks) {
+			task.execute();
+		}
+	}
+
+	private SecHubExecutionException addFailure(SecHubExecutionException failure, Throwable t) {
+		if (failure == null) {
+			if (t instanceof SecHubExecutionException) {
+				return (SecHubExecutionException) t;
+			}
+			return new SecHubExecutionException("Product execution failed unexpected", t);
+		}
+		failure.addSuppressed(t);
+		return failure;
+	}
+
+	private void cancelAll(List<Future<?>> futures) {
+		for (Future<?> future : futures) {
+			future.cancel(true);
+		}
+	}
+
+	static Map<ProductIdentifier, Integer> parseLimits(String definition) {
+		Map<ProductIdentifier, Integer> limits = new EnumMap<>(ProductIdentifier.class);
+		if (definition == null) {
+			return limits;
+		}
+		for (String part : definition.split(",")) {
+			String trimmed = part.trim();
+			if (trimmed.isEmpty()) {
+				continue;
+			}
+			int index = trimmed.indexOf('=');
+			if (index <= 0) {
+				LOG.warn("Ignore invalid product limit definition:{}", trimmed);
+				continue;
+			}
+			try {
+				ProductIdentifier productIdentifier = ProductIdentifier.valueOf(trimmed.substring(0, index).trim().toUpperCase());
+				limits.put(productIdentifier, Integer.valueOf(trimmed.substring(index + 1).trim()));
+			} catch (IllegalArgumentException e) {
+				LOG.warn("Ignore invalid product limit definition:{}", trimmed);
+			}
+		}
+		return limits;
+	}
+
+	/**
+	 * Worker which can be executed by multiple threads at same time. Every thread
+	 * fetches the next call until all calls are done or one call has failed.
+	 */
+	private static class OrderedCallsWorker<T> implements ProductExecutionTask {
+
+		private List<? extends ProductExecutionCall<T>> calls;
+		private AtomicReferenceArray<T> results;
+		private AtomicInteger nextIndex = new AtomicInteger();
+		private volatile boolean failed;
+		private Semaphore semaphore;
+
+		private OrderedCallsWorker(List<? extends ProductExecutionCall<T>> calls, Semaphore semaphore) {
+			this.calls = calls;
+			this.semaphore = semaphore;
+			this.results = new AtomicReferenceArray<>(calls.size());
+		}
+
+		@Override
+		public void execute() throws SecHubExecutionException {
+			int index;
+			while (!failed && (index = nextIndex.getAndIncrement()) < calls.size()) {
+				try {
+					semaphore.acquire();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					failed = true;
+					throw new SecHubExecutionException("Interrupted while waiting for execution slot", e);
+				}
+				try {
+					results.set(index, calls.get(index).call());
+				} catch (SecHubExecutionException | RuntimeException e) {
+					failed = true;
+					throw e;
+				} finally {
+					semaphore.release();
+				}
+			}
+		}
+
+		private List<T> getResults() {
+			List<T> list = new ArrayList<>(results.length());
+			for (int i = 0; i < results.length(); i++) {
+				list.add(results.get(i));
+			}
+			return list;
+		}
+	}
+
+	private static class ProductExecutionThreadFactory implements ThreadFactory {
+
+		private AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "product_execution_thread_" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -37,6 +37,7 @@ public class ProductResult {
 	public static final String COLUMN_PRODUCT_IDENTIFIER = "PRODUCT_ID";
 
 	public static final String COLUMN_RESULT = "RESULT";
+	public static final String COLUMN_RESULT_STORAGE_REF = "RESULT_STORAGE_REF";
 
 	public static final String COLUMN_STARTED = "STARTED";
 	public static final String COLUMN_ENDED = "ENDED";
@@ -69,6 +70,13 @@ public class ProductResult {
 	@Column(name = COLUMN_RESULT)
 	private String result;
 
+	/**
+	 * Reference to result content inside storage - when set, the result content
+	 * is not stored inside database
+	 */
+	@Column(name = COLUMN_RESULT_STORAGE_REF)
+	private String resultStorageRef;
+
 	@Column(name = COLUMN_SECHUB_JOB_UUID, updatable = false, nullable = false)
 	UUID secHubJobUUID;
 
@@ -115,10 +123,51 @@ public class ProductResult {
 		return secHubJobUUID;
 	}
 
+	/**
+	 * @return result content or <code>null</code> when result content is stored
+	 *         outside database. Use {@link ProductResultStorageService} to read
+	 *         result content in any case.
+	 */
 	public String getResult() {
 		return result;
 	}
 
+	/**
+	 * Sets result content - necessary when result is not known at creation time
+	 * (e.g. when product report is streamed into storage)
+	 *
+	 * @param result
+	 */
+	public void setResult(String result) {
+		this.result = result;
+	}
+
+	/**
+	 * @return <code>true</code> when result content is not inside database but
+	 *         inside storage
+	 */
+	public boolean isResultStoredExternal() {
+		return resultStorageRef != null;
+	}
+
+	/**
+	 * @return reference to result content inside storage or <code>null</code>
+	 */
+	public String getResultStorageRef() {
+		return resultStorageRef;
+	}
+
+	/**
+	 * Marks result content as stored inside storage - result content will be
+	 * removed from this object, so it will not be persisted inside database.
+	 *
+	 * @param resultStorageRef
+	 */
+	void markResultStored(String resultStorageRef) {
+		this.resultStorageRef = resultStorageRef;
+		this.result = null;
+	}
+
 	public void setStarted(LocalDateTime started) {
 		this.started = started;
 	}
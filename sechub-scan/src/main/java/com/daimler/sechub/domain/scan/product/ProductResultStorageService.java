@@ -0,0 +1,269 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.storage.NonJobStorageIds;
+import com.daimler.sechub.sharedkernel.storage.StorageService;
+import com.daimler.sechub.storage.core.JobStorage;
+
+/**
+ * Service to store big product results not inside database but compressed
+ * inside storage (shared volume or S3). Database will only contain meta data
+ * and a reference to the stored object. All parts reading product result
+ * content shall use this service, so it does not matter where the result
+ * content is located.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ProductResultStorageService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ProductResultStorageService.class);
+
+	/**
+	 * Storage id used instead of a project id, see {@link NonJobStorageIds}
+	 */
+	static final String PRODUCT_RESULT_STORAGE_ID = NonJobStorageIds.PRODUCT_RESULTS;
+
+	private static final String STORAGE_REF_POSTFIX = ".gz";
+
+	private static final int DEFAULT_THRESHOLD_IN_CHARACTERS = 1024 * 1024;
+
+	private static final int STREAM_CHUNK_SIZE = 8192;
+
+	@Value("${sechub.scan.productresult.storage.threshold:" + DEFAULT_THRESHOLD_IN_CHARACTERS + "}")
+	@MustBeDocumented(scope = "storage", value = "Product results having more characters than this threshold are stored compressed inside storage (shared volume or S3) and not inside the database. "
+			+ "A negative value will turn off this feature and all results are stored inside database")
+	int thresholdInCharacters = DEFAULT_THRESHOLD_IN_CHARACTERS;
+
+	@Autowired
+	StorageService storageService;
+
+	/**
+	 * When the product result content is bigger than the configured threshold,
+	 * the content will be written compressed into storage and the result itself
+	 * will only contain a reference. If storage is not possible the content stays
+	 * inside the result object
+	 *
+	 * @param productResult
+	 */
+	public void moveResultToStorageWhenNecessary(ProductResult productResult) {
+		if (productResult == null) {
+			return;
+		}
+		String result = productResult.getResult();
+		if (result == null || thresholdInCharacters < 0 || result.length() <= thresholdInCharacters) {
+			return;
+		}
+		String storageRef = createStorageRef(productResult);
+		JobStorage storage = getStorage(productResult);
+		Path tempFile = null;
+		try {
+			tempFile = Files.createTempFile("sechub-product-result", STORAGE_REF_POSTFIX);
+			try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8)) {
+				writer.write(result);
+			}
+			try (InputStream stream = Files.newInputStream(tempFile)) {
+				storage.store(storageRef, stream);
+			}
+			productResult.markResultStored(storageRef);
+
+			LOG.debug("Product result of {} for job {} stored as {}", productResult.getProductIdentifier(), productResult.getSecHubJobUUID(), storageRef);
+		} catch (IOException | RuntimeException e) {
+			LOG.warn("Was not able to store product result of {} for job {} inside storage, so will be kept inside database", productResult.getProductIdentifier(),
+					productResult.getSecHubJobUUID(), e);
+		} finally {
+			deleteQuietly(tempFile);
+		}
+	}
+
+	/**
+	 * Stores product report content given as stream - e.g. directly from a
+	 * product download. Only up to the configured threshold is kept in memory.
+	 * When the content is smaller it is set as result, otherwise the buffered and
+	 * the remaining content are written compressed into storage and the result
+	 * only contains the reference. The stream is read completely but not closed.
+	 *
+	 * @param productResult
+	 * @param report
+	 * @param charset       charset of report content
+	 * @throws IOException when reading the report fails
+	 */
+	public void storeResult(ProductResult productResult, InputStream report, Charset charset) throws IOException {
+		if (thresholdInCharacters < 0) {
+			productResult.setResult(StreamUtils.copyToString(report, charset));
+			return;
+		}
+		Reader reader = new InputStreamReader(report, charset);
+		/* buffer grows while reading, so small reports do not allocate the complete threshold */
+		int maximum = thresholdInCharacters + 1;
+		char[] buffer = new char[Math.min(maximum, STREAM_CHUNK_SIZE)];
+		int length = 0;
+		int read = 0;
+		while (length < maximum) {
+			if (length == buffer.length) {
+				buffer = Arrays.copyOf(buffer, (int) Math.min(maximum, buffer.length * 2L));
+			}
+			read = reader.read(buffer, length, buffer.length - length);
+			if (read == -1) {
+				break;
+			}
+			length += read;
+		}
+		if (length <= thresholdInCharacters) {
+			productResult.setResult(new String(buffer, 0, length));
+			return;
+		}
+		String storageRef = createStorageRef(productResult);
+		Path tempFile = Files.createTempFile("sechub-product-result", STORAGE_REF_POSTFIX);
+		try {
+			try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8)) {
+				writer.write(buffer, 0, length);
+				char[] chunk = new char[STREAM_CHUNK_SIZE];
+				while ((read = reader.read(chunk)) != -1) {
+					writer.write(chunk, 0, read);
+				}
+			}
+			try {
+				try (InputStream tempStream = Files.newInputStream(tempFile)) {
+					getStorage(productResult).store(storageRef, tempStream);
+				}
+				productResult.markResultStored(storageRef);
+
+				LOG.debug("Product result of {} for job {} streamed into storage as {}", productResult.getProductIdentifier(), productResult.getSecHubJobUUID(),
+						storageRef);
+			} catch (IOException | RuntimeException e) {
+				LOG.warn("Was not able to store product result of {} for job {} inside storage, so will be kept inside database",
+						productResult.getProductIdentifier(), productResult.getSecHubJobUUID(), e);
+				try (InputStream stream = new GZIPInputStream(Files.newInputStream(tempFile))) {
+					productResult.setResult(StreamUtils.copyToString(stream, StandardCharsets.UTF_8));
+				}
+			}
+		} finally {
+			deleteQuietly(tempFile);
+		}
+	}
+
+	/**
+	 * Opens a stream to the content of given product result. Caller is
+	 * responsible to close the stream.
+	 *
+	 * @param productResult
+	 * @return stream, never <code>null</code>
+	 * @throws IOException
+	 */
+	public InputStream openResultStream(ProductResult productResult) throws IOException {
+		if (!productResult.isResultStoredExternal()) {
+			String result = productResult.getResult();
+			if (result == null) {
+				result = "";
+			}
+			return new ByteArrayInputStream(result.getBytes(StandardCharsets.UTF_8));
+		}
+		JobStorage storage = getStorage(productResult);
+		return new GZIPInputStream(storage.fetch(productResult.getResultStorageRef()));
+	}
+
+	/**
+	 * Opens a reader to the (already decoded) content of given product result.
+	 * Caller is responsible to close the reader.
+	 *
+	 * @param productResult
+	 * @return reader, never <code>null</code>
+	 * @throws IOException
+	 */
+	public Reader openResultReader(ProductResult productResult) throws IOException {
+		if (!productResult.isResultStoredExternal()) {
+			String result = productResult.getResult();
+			return new StringReader(result == null ? "" : result);
+		}
+		return new InputStreamReader(openResultStream(productResult), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Resolves the content of given product result as string - should only be
+	 * used where content must be completely in memory. Otherwise
+	 * {@link #openResultStream(ProductResult)} shall be used.
+	 *
+	 * @param productResult
+	 * @return content, never <code>null</code>
+	 * @throws IOException
+	 */
+	public String fetchResult(ProductResult productResult) throws IOException {
+		if (!productResult.isResultStoredExternal()) {
+			String result = productResult.getResult();
+			return result == null ? "" : result;
+		}
+		try (InputStream stream = openResultStream(productResult)) {
+			return StreamUtils.copyToString(stream, StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Deletes result content inside storage - when result content is inside
+	 * database nothing happens. Must be called when the owning product result is
+	 * deleted or could not be persisted. Failures are only logged.
+	 *
+	 * @param productResult
+	 * @return <code>true</code> when content was inside storage and has been
+	 *         deleted
+	 */
+	public boolean deleteStoredResult(ProductResult productResult) {
+		if (productResult == null || !productResult.isResultStoredExternal()) {
+			return false;
+		}
+		String storageRef = productResult.getResultStorageRef();
+		try {
+			getStorage(productResult).delete(storageRef);
+			LOG.debug("Deleted stored product result {} of job {}", storageRef, productResult.getSecHubJobUUID());
+			return true;
+		} catch (IOException | RuntimeException e) {
+			LOG.warn("Was not able to delete stored product result {} of job {}", storageRef, productResult.getSecHubJobUUID(), e);
+			return false;
+		}
+	}
+
+	private String createStorageRef(ProductResult productResult) {
+		return productResult.getProductIdentifier().name().toLowerCase() + "_" + UUID.randomUUID() + STORAGE_REF_POSTFIX;
+	}
+
+	private JobStorage getStorage(ProductResult productResult) {
+		return storageService.getJobStorage(PRODUCT_RESULT_STORAGE_ID, productResult.getSecHubJobUUID());
+	}
+
+	private void deleteQuietly(Path tempFile) {
+		if (tempFile == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(tempFile);
+		} catch (IOException e) {
+			LOG.warn("Was not able to delete temp file {}", tempFile, e);
+		}
+	}
+}
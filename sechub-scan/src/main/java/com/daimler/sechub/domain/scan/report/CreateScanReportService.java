@@ -17,7 +17,6 @@ import com.daimler.sechub.domain.scan.SecHubResultService;
 import com.daimler.sechub.domain.scan.product.ReportProductExecutionService;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
-import com.daimler.sechub.sharedkernel.type.TrafficLight;
 
 @Service
 public class CreateScanReportService {
@@ -36,8 +35,14 @@ public class CreateScanReportService {
 	@Autowired
 	ScanReportRepository reportRepository;
 
+	@Autowired
+	ScanReportRenderService renderService;
+
 	/**
-	 * Creates a report based on product results. There is no security check because its only called internally from system.
+	 * Creates a report based on product results. There is no security check because its only called internally from system.<br>
+	 * <br>
+	 * The complete {@link SecHubResult} is built in memory and persisted as JSON string - only rendering of
+	 * JSON reports is streamed (see {@link ScanReportRenderService}).
 	 *
 	 * @param context
 	 * @return report, never <code>null</code>
@@ -71,15 +76,20 @@ public class CreateScanReportService {
 			throw new ScanReportException("Was not able to build sechub result", e);
 		}
 
-		/* create and set the traffic light */
-		TrafficLight trafficLight = trafficLightCalculator.calculateTrafficLight(secHubResult);
-		report.setTrafficLight(trafficLight);
+		/* create and set traffic light and finding counts */
+		ScanReportStatistic statistic = trafficLightCalculator.calculateStatistic(secHubResult);
+		report.setStatistic(statistic);
 
 		/* update time stamp*/
 		report.setEnded(LocalDateTime.now());
 
 		/* persist */
-		return reportRepository.save(report);
+		ScanReport savedReport = reportRepository.save(report);
+
+		/* former renderings of this job are outdated now */
+		renderService.deleteRenderings(sechubJobUUID);
+
+		return savedReport;
 	}
 
 }
@@ -32,18 +32,31 @@ public class DownloadScanReportService {
 	@Autowired
 	UserInputAssertion assertion;
 
+	@Autowired
+	ScanReportRenderService renderService;
+
 	/**
-	 * There must be a a security check because useable from outside
+	 * Resolves scan report rendered in given format. When already rendered, only
+	 * the report UUID is loaded from database - so a recreated report is never
+	 * served from a former rendering - and access is checked. There must be a a
+	 * security check because useable from outside
+	 *
 	 * @param projectId
 	 * @param jobUUID
-	 * @return
+	 * @param format
+	 * @return rendered report, never <code>null</code>
 	 */
 	@UseCaseUserDownloadsJobReport(@Step(number=3, name="Resolve scan report result"))
-	public ScanReportResult getScanReportResult(String projectId, UUID jobUUID) {
+	public RenderedScanReport getRenderedScanReport(String projectId, UUID jobUUID, ScanReportRenderFormat format) {
 		assertion.isValidProjectId(projectId);
 		assertion.isValidJobUUID(jobUUID);
 
 		auditLogService.log("starts download of report for job: {}",jobUUID);
+		RenderedScanReport rendered = renderService.getCached(reportRepository.findUUIDBySecHubJobUUID(jobUUID), format);
+		if (rendered != null) {
+			scanAssertService.assertUserHasAccessToProject(rendered.getProjectId());
+			return rendered;
+		}
 		ScanReport report = reportRepository.findBySecHubJobUUID(jobUUID);
 
 		if (report == null) {
@@ -51,7 +64,7 @@ public class DownloadScanReportService {
 		}
 		scanAssertService.assertUserHasAccessToReport(report);
 
-		return new ScanReportResult(report);
+		return renderService.render(report, format);
 	}
 
 }
@@ -0,0 +1,167 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static com.daimler.sechub.sharedkernel.util.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A scan report rendered to a format. Content is always kept gzip compressed,
+ * so it can be sent as is to clients accepting gzip encoding. Because reports
+ * are immutable, the entity tag is a hash of the (uncompressed) content. The
+ * gzip encoded representation has an own entity tag, because a strong entity
+ * tag must differ between content codings.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class RenderedScanReport {
+
+	private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+	private String projectId;
+	private ScanReportRenderFormat format;
+	private byte[] gzippedContent;
+	private String eTag;
+
+	/**
+	 * Creates a rendered report for given (uncompressed) content
+	 *
+	 * @param projectId project of the report - necessary for access checks
+	 * @param format
+	 * @param content   uncompressed content
+	 */
+	public RenderedScanReport(String projectId, ScanReportRenderFormat format, byte[] content) {
+		this(projectId, format, gzip(content), createETag(content));
+	}
+
+	/**
+	 * Creates a rendered report by given writer. Content is compressed and hashed
+	 * while written, so the uncompressed content is never kept in memory.
+	 *
+	 * @param projectId project of the report - necessary for access checks
+	 * @param format
+	 * @param writer    writes uncompressed content
+	 * @return rendered report
+	 * @throws IOException
+	 */
+	public static RenderedScanReport create(String projectId, ScanReportRenderFormat format, ContentWriter writer) throws IOException {
+		notNull(writer, "writer may not be null");
+		MessageDigest digest = createDigest();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+		try (OutputStream contentOut = new DigestOutputStream(new GZIPOutputStream(out), digest)) {
+			writer.write(contentOut);
+		}
+		return new RenderedScanReport(projectId, format, out.toByteArray(), toETag(digest.digest()));
+	}
+
+	/**
+	 * Writes uncompressed report content
+	 */
+	public interface ContentWriter {
+
+		/**
+		 * Write content to given stream. The stream may be closed by writer.
+		 *
+		 * @param outputStream
+		 * @throws IOException
+		 */
+		void write(OutputStream outputStream) throws IOException;
+	}
+
+	RenderedScanReport(String projectId, ScanReportRenderFormat format, byte[] gzippedContent, String eTag) {
+		notNull(projectId, "projectId may not be null");
+		notNull(format, "format may not be null");
+		notNull(gzippedContent, "gzippedContent may not be null");
+		this.projectId = projectId;
+		this.format = format;
+		this.gzippedContent = gzippedContent;
+		this.eTag = eTag;
+	}
+
+	public String getProjectId() {
+		return projectId;
+	}
+
+	public ScanReportRenderFormat getFormat() {
+		return format;
+	}
+
+	/**
+	 * @return strong entity tag, already quoted
+	 */
+	public String getETag() {
+		return eTag;
+	}
+
+	/**
+	 * @return strong entity tag of gzip encoded representation, already quoted
+	 */
+	public String getGzipETag() {
+		if (eTag == null) {
+			return null;
+		}
+		return eTag.substring(0, eTag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+	}
+
+	/**
+	 * @return gzip compressed content - must not be changed by caller
+	 */
+	public byte[] getGzippedContent() {
+		return gzippedContent;
+	}
+
+	/**
+	 * @return stream to uncompressed content, caller is responsible to close
+	 */
+	public InputStream openStream() {
+		try {
+			return new GZIPInputStream(new ByteArrayInputStream(gzippedContent));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Not able to decompress rendered report", e);
+		}
+	}
+
+	private static String createETag(byte[] content) {
+		return toETag(createDigest().digest(content));
+	}
+
+	private static String toETag(byte[] hash) {
+		StringBuilder sb = new StringBuilder();
+		sb.append('"');
+		for (byte b : hash) {
+			sb.append(String.format("%02x", b));
+		}
+		sb.append('"');
+		return sb.toString();
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not supported", e);
+		}
+	}
+
+	private static byte[] gzip(byte[] content) {
+		notNull(content, "content may not be null");
+		ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(content);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Not able to compress rendered report", e);
+		}
+		return out.toByteArray();
+	}
+}
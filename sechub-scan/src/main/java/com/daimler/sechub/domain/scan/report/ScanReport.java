@@ -17,6 +17,7 @@ import javax.persistence.Version;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 
+import com.daimler.sechub.domain.scan.Severity;
 import com.daimler.sechub.sharedkernel.type.TrafficLight;
 
 @Entity
@@ -38,6 +39,13 @@ public class ScanReport {
 	public static final String COLUMN_STARTED = "STARTED";
 	public static final String COLUMN_ENDED = "ENDED";
 
+	public static final String COLUMN_COUNT_CRITICAL = "COUNT_CRITICAL";
+	public static final String COLUMN_COUNT_HIGH = "COUNT_HIGH";
+	public static final String COLUMN_COUNT_MEDIUM = "COUNT_MEDIUM";
+	public static final String COLUMN_COUNT_UNCLASSIFIED = "COUNT_UNCLASSIFIED";
+	public static final String COLUMN_COUNT_LOW = "COUNT_LOW";
+	public static final String COLUMN_COUNT_INFO = "COUNT_INFO";
+
 	/* +-----------------------------------------------------------------------+ */
 	/* +............................ JPQL .....................................+ */
 	/* +-----------------------------------------------------------------------+ */
@@ -72,6 +80,25 @@ public class ScanReport {
 	@Column(name = COLUMN_ENDED) // remark: we setup hibernate to use UTC settings - see application.properties
 	LocalDateTime ended;
 
+	/* finding statistic - null for reports created before statistic was introduced */
+	@Column(name = COLUMN_COUNT_CRITICAL)
+	Long countCritical;
+
+	@Column(name = COLUMN_COUNT_HIGH)
+	Long countHigh;
+
+	@Column(name = COLUMN_COUNT_MEDIUM)
+	Long countMedium;
+
+	@Column(name = COLUMN_COUNT_UNCLASSIFIED)
+	Long countUnclassified;
+
+	@Column(name = COLUMN_COUNT_LOW)
+	Long countLow;
+
+	@Column(name = COLUMN_COUNT_INFO)
+	Long countInfo;
+
 	@Version
 	@Column(name = "VERSION")
 	Integer version;
@@ -132,6 +159,51 @@ public class ScanReport {
 		return ended;
 	}
 
+	/**
+	 * Sets traffic light and finding counts from given statistic
+	 *
+	 * @param statistic
+	 */
+	public void setStatistic(ScanReportStatistic statistic) {
+		if (statistic == null) {
+			return;
+		}
+		trafficLight = statistic.getTrafficLight();
+		countCritical = statistic.getCount(Severity.CRITICAL);
+		countHigh = statistic.getCount(Severity.HIGH);
+		countMedium = statistic.getCount(Severity.MEDIUM);
+		countUnclassified = statistic.getCount(Severity.UNCLASSIFIED);
+		countLow = statistic.getCount(Severity.LOW);
+		countInfo = statistic.getCount(Severity.INFO);
+	}
+
+	/**
+	 * @param severity
+	 * @return amount of findings with given severity or <code>null</code> when
+	 *         not calculated for this report
+	 */
+	public Long getCount(Severity severity) {
+		if (severity == null) {
+			return null;
+		}
+		switch (severity) {
+		case CRITICAL:
+			return countCritical;
+		case HIGH:
+			return countHigh;
+		case MEDIUM:
+			return countMedium;
+		case UNCLASSIFIED:
+			return countUnclassified;
+		case LOW:
+			return countLow;
+		case INFO:
+			return countInfo;
+		default:
+			return null;
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
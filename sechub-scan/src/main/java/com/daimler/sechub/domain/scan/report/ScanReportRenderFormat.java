@@ -0,0 +1,37 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formats a scan report can be rendered to
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public enum ScanReportRenderFormat {
+
+	JSON(MediaType.APPLICATION_JSON, "json"),
+
+	HTML(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8), "html"),
+
+	;
+
+	private MediaType mediaType;
+	private String fileEnding;
+
+	private ScanReportRenderFormat(MediaType mediaType, String fileEnding) {
+		this.mediaType = mediaType;
+		this.fileEnding = fileEnding;
+	}
+
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+
+	public String getFileEnding() {
+		return fileEnding;
+	}
+}
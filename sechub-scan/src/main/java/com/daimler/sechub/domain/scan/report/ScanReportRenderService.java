@@ -0,0 +1,298 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import com.daimler.sechub.domain.scan.HTMLScanResultReportModelBuilder;
+import com.daimler.sechub.domain.scan.SecHubResult;
+import com.daimler.sechub.domain.scan.SecHubResultStreamReader;
+import com.daimler.sechub.domain.scan.SecHubResultStreamWriter;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.storage.NonJobStorageIds;
+import com.daimler.sechub.sharedkernel.storage.StorageService;
+import com.daimler.sechub.storage.core.JobStorage;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Renders scan reports to JSON or HTML. Reports are immutable after creation,
+ * so every report is rendered only once: rendered reports are kept inside a
+ * size bounded memory cache and inside storage (shared volume or S3), so also
+ * other PODs or a restarted server need not render again.<br>
+ * <br>
+ * Memory cache and storage are keyed by report UUID - a recreated report has a
+ * new UUID, so no POD will ever use renderings of a former report. Former
+ * renderings are removed from storage when a report is recreated (see
+ * {@link #deleteRenderings(UUID)}), memory cache entries are dropped by size
+ * limit. Renderings not changed for a long time are removed by orphan cleanup
+ * of job storages and rendered again on next access. The entity tag of a
+ * rendering is stored next to it, so a rendering fetched from storage need not
+ * be decompressed.<br>
+ * <br>
+ * JSON reports are rendered streamed from the stored report result. HTML
+ * reports still need a complete {@link ScanReportResult} for the template
+ * model.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ScanReportRenderService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ScanReportRenderService.class);
+
+	/**
+	 * Storage id used instead of a project id, see {@link NonJobStorageIds}
+	 */
+	static final String RENDERED_REPORT_STORAGE_ID = NonJobStorageIds.RENDERED_REPORTS;
+
+	static final String HTML_TEMPLATE = "report/html/scanresult";
+
+	private static final int DEFAULT_CACHE_MAX_MEGABYTES = 32;
+
+	@MustBeDocumented("Maximum size in megabytes of (compressed) rendered reports kept in memory. 0 disables the memory cache.")
+	@Value("${sechub.scan.report.cache.max.megabytes:" + DEFAULT_CACHE_MAX_MEGABYTES + "}")
+	int cacheMaxMegabytes = DEFAULT_CACHE_MAX_MEGABYTES;
+
+	@MustBeDocumented(scope = "storage", value = "When enabled, rendered reports are stored inside storage (shared volume or S3) and need not be rendered again by other PODs")
+	@Value("${sechub.scan.report.cache.storage.enabled:true}")
+	boolean storageEnabled = true;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Autowired
+	ITemplateEngine templateEngine;
+
+	@Autowired
+	HTMLScanResultReportModelBuilder htmlModelBuilder;
+
+	@Autowired
+	StorageService storageService;
+
+	private Map<String, RenderedScanReport> cache = new LinkedHashMap<>(16, 0.75f, true);
+	private long cachedBytes;
+
+	/**
+	 * Resolves rendered report from memory cache
+	 *
+	 * @param reportUUID
+	 * @param format
+	 * @return rendered report or <code>null</code> when not cached
+	 */
+	public RenderedScanReport getCached(UUID reportUUID, ScanReportRenderFormat format) {
+		if (reportUUID == null) {
+			return null;
+		}
+		synchronized (cache) {
+			return cache.get(createCacheKey(reportUUID, format));
+		}
+	}
+
+	/**
+	 * Resolves rendered report - from memory cache, storage or by rendering. No
+	 * access checks are done here.
+	 *
+	 * @param report
+	 * @param format
+	 * @return rendered report, never <code>null</code>
+	 */
+	public RenderedScanReport render(ScanReport report, ScanReportRenderFormat format) {
+		UUID reportUUID = report.getUUID();
+		RenderedScanReport rendered = getCached(reportUUID, format);
+		if (rendered != null) {
+			return rendered;
+		}
+		rendered = fetchFromStorage(report, format);
+		if (rendered == null) {
+			rendered = renderContent(report, format);
+			storeInStorage(report, rendered);
+		}
+		addToCache(reportUUID, rendered);
+		return rendered;
+	}
+
+	/**
+	 * Deletes all rendered reports of given job from storage - e.g. when report
+	 * has been recreated. Failures are only logged, because renderings of former
+	 * reports are never used again and are removed by orphan cleanup later.
+	 *
+	 * @param jobUUID
+	 */
+	public void deleteRenderings(UUID jobUUID) {
+		if (!storageEnabled || jobUUID == null) {
+			return;
+		}
+		try {
+			storageService.getJobStorage(RENDERED_REPORT_STORAGE_ID, jobUUID).deleteAll();
+		} catch (IOException | RuntimeException e) {
+			LOG.warn("Was not able to delete rendered reports of job {} from storage", jobUUID, e);
+		}
+	}
+
+	long getCachedBytes() {
+		synchronized (cache) {
+			return cachedBytes;
+		}
+	}
+
+	private RenderedScanReport renderContent(ScanReport report, ScanReportRenderFormat format) {
+		LOG.debug("Render {} report for job {}", format, report.getSecHubJobUUID());
+		try {
+			switch (format) {
+			case JSON:
+				return renderJSON(report);
+			case HTML:
+				return RenderedScanReport.create(report.getProjectId(), format, out -> writeHTML(report, out));
+			default:
+				throw new IllegalArgumentException("Unsupported format:" + format);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Was not able to render " + format + " report for job " + report.getSecHubJobUUID(), e);
+		}
+	}
+
+	private RenderedScanReport renderJSON(ScanReport report) throws IOException {
+		try {
+			return RenderedScanReport.create(report.getProjectId(), ScanReportRenderFormat.JSON, out -> writeJSONStreamed(report, out));
+		} catch (IOException | RuntimeException e) {
+			/* fall back to object mapping - will mark origin data problems inside report info */
+			LOG.warn("Was not able to stream JSON report for job {}, so use fallback", report.getSecHubJobUUID(), e);
+			return RenderedScanReport.create(report.getProjectId(), ScanReportRenderFormat.JSON, out -> objectMapper.writeValue(out, new ScanReportResult(report)));
+		}
+	}
+
+	/**
+	 * Writes same JSON as for {@link ScanReportResult} - but transfers findings
+	 * one by one from report result string to output, so no complete
+	 * {@link SecHubResult} is created.
+	 */
+	private void writeJSONStreamed(ScanReport report, OutputStream out) throws IOException {
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+				SecHubResultStreamReader reader = SecHubResultStreamReader.create(report.getResult())) {
+			generator.writeStartObject();
+			generator.writeObjectField(ScanReportResult.PROPERTY_JOBUUID, report.getSecHubJobUUID());
+			generator.writeFieldName(ScanReportResult.PROPERTY_RESULT);
+			SecHubResultStreamWriter.write(generator, reader);
+			generator.writeStringField(ScanReportResult.PROPERTY_TRAFFICLIGHT, report.getTrafficLightAsString());
+			generator.writeEndObject();
+		}
+	}
+
+	private void writeHTML(ScanReport report, OutputStream out) throws IOException {
+		Map<String, Object> model = htmlModelBuilder.build(new ScanReportResult(report));
+		try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+			templateEngine.process(HTML_TEMPLATE, new Context(Locale.ENGLISH, model), writer);
+		}
+	}
+
+	private void addToCache(UUID reportUUID, RenderedScanReport rendered) {
+		if (reportUUID == null) {
+			/* not persisted, so cannot be identified */
+			return;
+		}
+		long maxBytes = cacheMaxMegabytes * 1024L * 1024L;
+		int size = rendered.getGzippedContent().length;
+		if (size > maxBytes / 4) {
+			/* too big for memory cache - would remove too many other entries */
+			return;
+		}
+		synchronized (cache) {
+			RenderedScanReport former = cache.put(createCacheKey(reportUUID, rendered.getFormat()), rendered);
+			if (former != null) {
+				cachedBytes -= former.getGzippedContent().length;
+			}
+			cachedBytes += size;
+
+			Iterator<RenderedScanReport> it = cache.values().iterator();
+			while (cachedBytes > maxBytes && it.hasNext()) {
+				cachedBytes -= it.next().getGzippedContent().length;
+				it.remove();
+			}
+		}
+	}
+
+	private RenderedScanReport fetchFromStorage(ScanReport report, ScanReportRenderFormat format) {
+		if (!isStorageUsable(report)) {
+			return null;
+		}
+		String name = createStorageName(report, format);
+		try {
+			JobStorage storage = getStorage(report);
+			/* entity tag is stored after rendering, so when existing the rendering is complete */
+			String eTagName = createETagStorageName(name);
+			if (!storage.isExisting(eTagName)) {
+				return null;
+			}
+			String eTag;
+			try (InputStream stream = storage.fetch(eTagName)) {
+				eTag = StreamUtils.copyToString(stream, StandardCharsets.UTF_8);
+			}
+			byte[] gzipped;
+			try (InputStream stream = storage.fetch(name)) {
+				gzipped = StreamUtils.copyToByteArray(stream);
+			}
+			return new RenderedScanReport(report.getProjectId(), format, gzipped, eTag);
+		} catch (IOException | RuntimeException e) {
+			LOG.warn("Was not able to fetch rendered report {} of job {} from storage, so will render again", name, report.getSecHubJobUUID(), e);
+			return null;
+		}
+	}
+
+	private void storeInStorage(ScanReport report, RenderedScanReport rendered) {
+		if (!isStorageUsable(report)) {
+			return;
+		}
+		String name = createStorageName(report, rendered.getFormat());
+		try {
+			JobStorage storage = getStorage(report);
+			storage.store(name, new ByteArrayInputStream(rendered.getGzippedContent()));
+			storage.store(createETagStorageName(name), new ByteArrayInputStream(rendered.getETag().getBytes(StandardCharsets.UTF_8)));
+		} catch (IOException | RuntimeException e) {
+			LOG.warn("Was not able to store rendered report {} of job {} inside storage", name, report.getSecHubJobUUID(), e);
+		}
+	}
+
+	/* reports not persisted have no UUID, so cannot be identified inside storage */
+	private boolean isStorageUsable(ScanReport report) {
+		return storageEnabled && report.getUUID() != null;
+	}
+
+	private JobStorage getStorage(ScanReport report) {
+		return storageService.getJobStorage(RENDERED_REPORT_STORAGE_ID, report.getSecHubJobUUID());
+	}
+
+	/* contains report UUID, so a recreated report will never use former renderings */
+	private String createStorageName(ScanReport report, ScanReportRenderFormat format) {
+		return "report_" + report.getUUID() + "." + format.getFileEnding() + ".gz";
+	}
+
+	private String createETagStorageName(String storageName) {
+		return storageName + ".etag";
+	}
+
+	private String createCacheKey(UUID reportUUID, ScanReportRenderFormat format) {
+		return reportUUID + "." + format.getFileEnding();
+	}
+}
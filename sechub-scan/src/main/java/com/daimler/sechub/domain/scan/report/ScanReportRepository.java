@@ -4,8 +4,20 @@ package com.daimler.sechub.domain.scan.report;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ScanReportRepository extends JpaRepository<ScanReport, UUID> {
 
 	public ScanReport findBySecHubJobUUID(UUID secHubJobUUID);
+
+	/**
+	 * Resolves only the UUID of the report for given job - report result is not
+	 * loaded
+	 *
+	 * @param secHubJobUUID
+	 * @return report UUID or <code>null</code> when there is no report
+	 */
+	@Query("SELECT r.uUID FROM ScanReport r WHERE r.secHubJobUUID = :secHubJobUUID")
+	public UUID findUUIDBySecHubJobUUID(@Param("secHubJobUUID") UUID secHubJobUUID);
 }
@@ -1,22 +1,26 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.report;
 
-import java.util.Map;
 import java.util.UUID;
 
 import javax.annotation.security.RolesAllowed;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.ResponseEntity.BodyBuilder;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.servlet.ModelAndView;
 
-import com.daimler.sechub.domain.scan.HTMLScanResultReportModelBuilder;
 import com.daimler.sechub.sharedkernel.APIConstants;
 import com.daimler.sechub.sharedkernel.RoleConstants;
 import com.daimler.sechub.sharedkernel.Step;
@@ -25,7 +29,13 @@ import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserStartsSy
 
 /**
  * The rest API for job scheduling. It shall be same obvious like
- * https://developer.github.com/v3/issues/labels/
+ * https://developer.github.com/v3/issues/labels/ <br>
+ * <br>
+ * Reports are rendered only once and sent with an entity tag - so clients
+ * already having the report get a "304 - not modified". Clients accepting gzip
+ * encoding get the compressed rendering as is - with an own entity tag, so
+ * caches never mix up both representations. Both entity tags are accepted as
+ * "If-None-Match" value.
  *
  * @author Albert Tregnaghi
  *
@@ -36,8 +46,7 @@ import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserStartsSy
 @RolesAllowed({RoleConstants.ROLE_USER, RoleConstants.ROLE_SUPERADMIN})
 public class ScanReportRestController {
 
-	@Autowired
-	private HTMLScanResultReportModelBuilder htmlModelBuilder;
+	private static final String GZIP = "gzip";
 
 	@Autowired
 	private DownloadScanReportService downloadReportService;
@@ -47,33 +56,86 @@ public class ScanReportRestController {
 	@UseCaseUserDownloadsJobReport(@Step(number=1,next= {3},name="REST API call to get JSON report",needsRestDoc=true))
 	@UseCaseUserStartsSynchronousScanByClient(@Step(number=4, name="download job report and traffic light"))
 	@RequestMapping(path = "/report/{jobUUID}", method = RequestMethod.GET, produces= {MediaType.APPLICATION_JSON_VALUE})
-	public ScanReportResult getScanReportResultJSON(
+	public ResponseEntity<Resource> getScanReportResultJSON(
 			@PathVariable("projectId") String projectId,
-			@PathVariable("jobUUID") UUID jobUUID
+			@PathVariable("jobUUID") UUID jobUUID,
+			@RequestHeader(value=HttpHeaders.IF_NONE_MATCH, required=false) String ifNoneMatch,
+			@RequestHeader(value=HttpHeaders.ACCEPT_ENCODING, required=false) String acceptEncoding
 			) {
 		/* @formatter:on */
-		return fetchScanReportResult(projectId, jobUUID);
+		RenderedScanReport rendered = downloadReportService.getRenderedScanReport(projectId, jobUUID, ScanReportRenderFormat.JSON);
+		return createResponse(rendered, ifNoneMatch, acceptEncoding);
 
 	}
 
 	/* @formatter:off */
 	@UseCaseUserDownloadsJobReport(@Step(number=2,next= {3},name="REST API call to get HTML report",needsRestDoc=true))
 	@RequestMapping(path = "/report/{jobUUID}", method = RequestMethod.GET, produces= {"application/xhtml+xml", "text/html","text/html;charset=UTF-8"})
-	@ResponseBody
-	public ModelAndView getScanReportResultHTML(
+	public ResponseEntity<Resource> getScanReportResultHTML(
 			@PathVariable("projectId") String projectId,
-			@PathVariable("jobUUID") UUID jobUUID
+			@PathVariable("jobUUID") UUID jobUUID,
+			@RequestHeader(value=HttpHeaders.IF_NONE_MATCH, required=false) String ifNoneMatch,
+			@RequestHeader(value=HttpHeaders.ACCEPT_ENCODING, required=false) String acceptEncoding
 			) {
 		/* @formatter:on */
-		ScanReportResult scanResult = fetchScanReportResult(projectId, jobUUID);
+		RenderedScanReport rendered = downloadReportService.getRenderedScanReport(projectId, jobUUID, ScanReportRenderFormat.HTML);
+		return createResponse(rendered, ifNoneMatch, acceptEncoding);
+	}
 
-		Map<String, Object> model = htmlModelBuilder.build(scanResult);
-		return new ModelAndView("report/html/scanresult", model);
+	private ResponseEntity<Resource> createResponse(RenderedScanReport rendered, String ifNoneMatch, String acceptEncoding) {
+		boolean gzip = isAcceptingGzip(acceptEncoding);
+		String eTag = gzip ? rendered.getGzipETag() : rendered.getETag();
+		if (isMatching(ifNoneMatch, rendered.getETag()) || isMatching(ifNoneMatch, rendered.getGzipETag())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).build();
+		}
+		/* @formatter:off */
+		BodyBuilder builder = ResponseEntity.ok().
+				eTag(eTag).
+				contentType(rendered.getFormat().getMediaType()).
+				header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		/* @formatter:on */
+		if (gzip) {
+			byte[] gzipped = rendered.getGzippedContent();
+			return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).contentLength(gzipped.length).body(new ByteArrayResource(gzipped));
+		}
+		return builder.body(new InputStreamResource(rendered.openStream()));
 	}
 
-	private ScanReportResult fetchScanReportResult(String projectId, UUID jobUUID) {
-		return downloadReportService.getScanReportResult(projectId, jobUUID);
+	static boolean isMatching(String ifNoneMatch, String eTag) {
+		if (ifNoneMatch == null || eTag == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String tag = candidate.trim();
+			if (tag.startsWith("W/")) {
+				/* weak comparison is allowed for If-None-Match */
+				tag = tag.substring(2);
+			}
+			if (tag.equals("*") || tag.equals(eTag)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
+	static boolean isAcceptingGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String candidate : acceptEncoding.split(",")) {
+			String[] parts = candidate.split(";");
+			if (!GZIP.equalsIgnoreCase(parts[0].trim())) {
+				continue;
+			}
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].replace(" ", "");
+				if (parameter.matches("q=0(\\.0*)?")) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
 
 }
@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.daimler.sechub.domain.scan.SecHubFinding;
+import com.daimler.sechub.domain.scan.Severity;
+import com.daimler.sechub.sharedkernel.type.TrafficLight;
+
+/**
+ * Statistic of a SecHub result: traffic light, finding count per severity and
+ * findings per traffic light. Created by
+ * {@link ScanReportTrafficLightCalculator#calculateStatistic(com.daimler.sechub.domain.scan.SecHubResult)}
+ * with only one pass over all findings.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ScanReportStatistic {
+
+	private TrafficLight trafficLight = TrafficLight.GREEN;
+	private Map<Severity, Long> severityCounts = new EnumMap<>(Severity.class);
+	private Map<TrafficLight, List<SecHubFinding>> trafficLightFindings = new EnumMap<>(TrafficLight.class);
+
+	ScanReportStatistic() {
+		for (TrafficLight light : TrafficLight.values()) {
+			trafficLightFindings.put(light, new ArrayList<>());
+		}
+	}
+
+	void add(SecHubFinding finding, TrafficLight light) {
+		trafficLightFindings.get(light).add(finding);
+
+		Severity severity = finding.getSeverity();
+		if (severity != null) {
+			severityCounts.merge(severity, 1L, Long::sum);
+		}
+	}
+
+	void setTrafficLight(TrafficLight trafficLight) {
+		this.trafficLight = trafficLight;
+	}
+
+	/**
+	 * @return traffic light, never <code>null</code>
+	 */
+	public TrafficLight getTrafficLight() {
+		return trafficLight;
+	}
+
+	/**
+	 * @param severity
+	 * @return amount of findings with given severity
+	 */
+	public long getCount(Severity severity) {
+		Long count = severityCounts.get(severity);
+		return count == null ? 0 : count.longValue();
+	}
+
+	/**
+	 * @param trafficLight
+	 * @return unmodifiable list of findings mapped to given traffic light, never
+	 *         <code>null</code>
+	 */
+	public List<SecHubFinding> getFindings(TrafficLight trafficLight) {
+		if (trafficLight == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(trafficLightFindings.get(trafficLight));
+	}
+
+}
@@ -1,7 +1,6 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.scan.report;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.stereotype.Component;
@@ -16,28 +15,39 @@ import com.daimler.sechub.sharedkernel.type.TrafficLight;
 public class ScanReportTrafficLightCalculator {
 
 	public TrafficLight calculateTrafficLight(SecHubResult result) {
+		return calculateStatistic(result).getTrafficLight();
+	}
+
+	/**
+	 * Calculates traffic light, finding counts per severity and findings per
+	 * traffic light with one single pass over all findings of given result.
+	 *
+	 * @param result
+	 * @return statistic, never <code>null</code>
+	 */
+	public ScanReportStatistic calculateStatistic(SecHubResult result) {
 		if (result == null) {
 			throw new IllegalArgumentException("SecHub result may not be null!");
 		}
-		TrafficLight trafficLight = null;
-		for (Severity severity: Severities.getAllOrderedFromHighToLow()) {
-			trafficLight = resolveTrafficLightWhenOneEntryWithSuchSeverity(result, trafficLight, severity);
-		}
-		if (trafficLight!=null) {
-			return trafficLight;
+		ScanReportStatistic statistic = new ScanReportStatistic();
+		List<SecHubFinding> findings = result.getFindings();
+		if (findings == null) {
+			return statistic;
 		}
-		/* when no severities...*/
-		return TrafficLight.GREEN;
-	}
-
-	TrafficLight resolveTrafficLightWhenOneEntryWithSuchSeverity(SecHubResult result, TrafficLight found, Severity severity) {
-		if (found != null) {
-			return found;
+		for (SecHubFinding finding : findings) {
+			if (finding == null) {
+				continue;
+			}
+			statistic.add(finding, mapToTrafficLight(finding.getSeverity()));
 		}
-		if (!hasResultOneFindingWith(result, severity)) {
-			return null;
+		for (Severity severity : Severities.getAllOrderedFromHighToLow()) {
+			if (statistic.getCount(severity) > 0) {
+				statistic.setTrafficLight(mapToTrafficLight(severity));
+				break;
+			}
 		}
-		return mapToTrafficLight(severity);
+		/* when no severities the default (green) is kept */
+		return statistic;
 	}
 
 	TrafficLight mapToTrafficLight(Severity severity) {
@@ -54,36 +64,7 @@ public class ScanReportTrafficLightCalculator {
 	}
 
 	public List<SecHubFinding> filterFindingsFor(SecHubResult result, TrafficLight searched) {
-		List<SecHubFinding> filteredResult = new ArrayList<>();
-		if (searched==null) {
-			return filteredResult;
-		}
-		for (SecHubFinding finding: result.getFindings()) {
-			TrafficLight trafficLightFound = mapToTrafficLight(finding.getSeverity());
-			if (searched.equals(trafficLightFound)) {
-				filteredResult.add(finding);
-			}
-		}
-		return filteredResult;
-	}
-
-	private boolean hasResultOneFindingWith(SecHubResult result, Severity severity) {
-		if (severity == null) {
-			return false;
-		}
-		List<SecHubFinding> findings = result.getFindings();
-		if (findings == null || findings.isEmpty()) {
-			return false;
-		}
-		for (SecHubFinding finding : findings) {
-			if (finding == null) {
-				continue;
-			}
-			if (severity.equals(finding.getSeverity())) {
-				return true;
-			}
-		}
-		return false;
+		return calculateStatistic(result).getFindings(searched);
 	}
 
 }
@@ -16,6 +16,7 @@ import org.junit.Test;
 import org.springframework.core.io.Resource;
 
 import com.daimler.sechub.domain.scan.report.ScanReportResult;
+import com.daimler.sechub.domain.scan.report.ScanReportStatistic;
 import com.daimler.sechub.domain.scan.report.ScanReportTrafficLightCalculator;
 import com.daimler.sechub.sharedkernel.type.TrafficLight;
 
@@ -53,9 +54,11 @@ public class HTMLScanResultReportModelBuilderTest {
 		redList=new ArrayList<>();
 		yellowList=new ArrayList<>();
 		
-		when(trafficLightCalculator.filterFindingsFor(result, TrafficLight.RED)).thenReturn(redList);
-		when(trafficLightCalculator.filterFindingsFor(result, TrafficLight.YELLOW)).thenReturn(yellowList);
-		when(trafficLightCalculator.filterFindingsFor(result, TrafficLight.GREEN)).thenReturn(greenList);
+		ScanReportStatistic statistic = mock(ScanReportStatistic.class);
+		when(trafficLightCalculator.calculateStatistic(result)).thenReturn(statistic);
+		when(statistic.getFindings(TrafficLight.RED)).thenReturn(redList);
+		when(statistic.getFindings(TrafficLight.YELLOW)).thenReturn(yellowList);
+		when(statistic.getFindings(TrafficLight.GREEN)).thenReturn(greenList);
 	}
 
 	@Test
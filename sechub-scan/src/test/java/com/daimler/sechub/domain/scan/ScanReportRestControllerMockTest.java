@@ -2,16 +2,16 @@
 package com.daimler.sechub.domain.scan;
 import static com.daimler.sechub.test.TestURLBuilder.*;
 import static org.hamcrest.CoreMatchers.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -21,21 +21,23 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.util.StreamUtils;
 
 import com.daimler.sechub.domain.scan.product.ReportProductExecutionService;
 import com.daimler.sechub.domain.scan.report.CreateScanReportService;
 import com.daimler.sechub.domain.scan.report.DownloadScanReportService;
-import com.daimler.sechub.domain.scan.report.ScanReport;
+import com.daimler.sechub.domain.scan.report.RenderedScanReport;
+import com.daimler.sechub.domain.scan.report.ScanReportRenderFormat;
 import com.daimler.sechub.domain.scan.report.ScanReportRepository;
 import com.daimler.sechub.domain.scan.report.ScanReportRestController;
-import com.daimler.sechub.domain.scan.report.ScanReportResult;
 import com.daimler.sechub.domain.scan.report.ScanReportTrafficLightCalculator;
-import com.daimler.sechub.sharedkernel.type.TrafficLight;
 import com.daimler.sechub.test.TestPortProvider;
 
 
@@ -69,12 +71,10 @@ public class ScanReportRestControllerMockTest {
 	@MockBean
 	ScanReportRepository reportRepository;
 
-	@MockBean
-	HTMLScanResultReportModelBuilder modelBuilder;
-
-
 	private UUID randomUUID;
 
+	private RenderedScanReport renderedJSON;
+
 	@Test
 	@WithMockUser
 	public void get_report_from_existing_job_returns_information_as_json_when_type_is_APPLICATION_JSON_UTF8() throws Exception {
@@ -84,14 +84,6 @@ public class ScanReportRestControllerMockTest {
 	@Test
 	@WithMockUser
 	public void get_report_from_existing_job_returns_406_NOT_ACCEPTABLE__when_type_is_APPLICATION_PDF() throws Exception {
-		/* prepare */
-		ScanReport report = new ScanReport(randomUUID,PROJECT1_ID);
-		report.setResult("{'count':'1'}");
-		report.setTrafficLight(TrafficLight.YELLOW);
-
-		ScanReportResult result1 = new ScanReportResult(report);
-		when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(result1);
-
 		/* execute + test @formatter:off */
         this.mockMvc.perform(
         		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_PDF).
@@ -116,15 +108,75 @@ public class ScanReportRestControllerMockTest {
 	}
 
 
-	private void internalTestAcceptedAndReturnsJSON(MediaType acceptedType) throws Exception {
-		/* prepare */
-		ScanReport report = new ScanReport(randomUUID,PROJECT1_ID);
-		report.setResult("{'count':'1'}");
-		report.setTrafficLight(TrafficLight.YELLOW);
+	@Test
+	@WithMockUser
+	public void get_report_with_matching_if_none_match_header_returns_304_NOT_MODIFIED() throws Exception {
+		/* execute + test @formatter:off */
+	    this.mockMvc.perform(
+	    		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_JSON).
+	    			header(HttpHeaders.IF_NONE_MATCH, renderedJSON.getETag())
+	    		)./*andDo(print()).*/
+	    			andExpect(status().isNotModified()).
+	    			andExpect(header().string(HttpHeaders.ETAG, renderedJSON.getETag())).
+	    			andExpect(content().string("")
+	    		);
 
-		ScanReportResult result1 = new ScanReportResult(report);
-		when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(result1);
+	    /* @formatter:on */
+	}
 
+	@Test
+	@WithMockUser
+	public void get_report_accepting_gzip_with_matching_gzip_if_none_match_header_returns_304_NOT_MODIFIED_and_gzip_etag() throws Exception {
+		/* execute + test @formatter:off */
+	    this.mockMvc.perform(
+	    		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_JSON).
+	    			header(HttpHeaders.ACCEPT_ENCODING, "gzip").
+	    			header(HttpHeaders.IF_NONE_MATCH, renderedJSON.getGzipETag())
+	    		)./*andDo(print()).*/
+	    			andExpect(status().isNotModified()).
+	    			andExpect(header().string(HttpHeaders.ETAG, renderedJSON.getGzipETag())).
+	    			andExpect(content().string("")
+	    		);
+
+	    /* @formatter:on */
+	}
+
+	@Test
+	@WithMockUser
+	public void get_report_with_other_if_none_match_header_returns_report_and_etag() throws Exception {
+		/* execute + test @formatter:off */
+	    this.mockMvc.perform(
+	    		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_JSON).
+	    			header(HttpHeaders.IF_NONE_MATCH, "\"other\"")
+	    		)./*andDo(print()).*/
+	    			andExpect(status().isOk()).
+	    			andExpect(header().string(HttpHeaders.ETAG, renderedJSON.getETag())).
+	    			andExpect(content().json("{\"jobUUID\":\""+randomUUID.toString()+"\",\"trafficLight\":\"YELLOW\"}")
+	    		);
+
+	    /* @formatter:on */
+	}
+
+	@Test
+	@WithMockUser
+	public void get_report_accepting_gzip_returns_compressed_report() throws Exception {
+		/* execute + test @formatter:off */
+	    MvcResult result = this.mockMvc.perform(
+	    		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_JSON).
+	    			header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8")
+	    		)./*andDo(print()).*/
+	    			andExpect(status().isOk()).
+	    			andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip")).
+	    			andExpect(header().string(HttpHeaders.ETAG, renderedJSON.getGzipETag())).
+	    			andReturn();
+
+	    /* @formatter:on */
+		byte[] compressed = result.getResponse().getContentAsByteArray();
+		String uncompressed = StreamUtils.copyToString(new GZIPInputStream(new ByteArrayInputStream(compressed)), StandardCharsets.UTF_8);
+		assertTrue(uncompressed.contains(randomUUID.toString()));
+	}
+
+	private void internalTestAcceptedAndReturnsJSON(MediaType acceptedType) throws Exception {
 		/* execute + test @formatter:off */
 	    this.mockMvc.perform(
 	    		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(acceptedType).
@@ -138,13 +190,6 @@ public class ScanReportRestControllerMockTest {
 	}
 
 	private void internalTestAcceptedAndReturnsHTML(MediaType acceptedType) throws Exception {
-		/* prepare */
-		ScanReport report = new ScanReport(randomUUID,PROJECT1_ID);
-		report.setResult("{'count':'1'}");
-		report.setTrafficLight(TrafficLight.YELLOW);
-
-		ScanReportResult result1 = new ScanReportResult(report);
-		when(downloadReportService.getScanReportResult(PROJECT1_ID, randomUUID)).thenReturn(result1);
 
 		/* execute + test @formatter:off */
         this.mockMvc.perform(
@@ -174,16 +219,14 @@ public class ScanReportRestControllerMockTest {
 	@Before
 	public void before() throws Exception {
 		randomUUID=UUID.randomUUID();
-		Map<String,Object> map = new HashMap<>();
-		map.put("jobuuid", randomUUID);
-		map.put("styleRed", "theRedStyle");
-		map.put("styleGreen", "display:none");
-		map.put("styleYellow", "display:none");
-		map.put("redList", new ArrayList<>());
-		map.put("yellowList", new ArrayList<>());
-		map.put("greenList", new ArrayList<>());
-		map.put("isWebDesignMode", false);
-		when(modelBuilder.build(any())).thenReturn(map);
+
+		String json = "{\"jobUUID\":\""+randomUUID.toString()+"\",\"result\":{\"count\":1,\"findings\":[]},\"trafficLight\":\"YELLOW\"}";
+		renderedJSON = new RenderedScanReport(PROJECT1_ID, ScanReportRenderFormat.JSON, json.getBytes(StandardCharsets.UTF_8));
+		when(downloadReportService.getRenderedScanReport(PROJECT1_ID, randomUUID, ScanReportRenderFormat.JSON)).thenReturn(renderedJSON);
+
+		String html = "<html><body><div style=\"theRedStyle\">"+randomUUID.toString()+"</div></body></html>";
+		RenderedScanReport renderedHTML = new RenderedScanReport(PROJECT1_ID, ScanReportRenderFormat.HTML, html.getBytes(StandardCharsets.UTF_8));
+		when(downloadReportService.getRenderedScanReport(PROJECT1_ID, randomUUID, ScanReportRenderFormat.HTML)).thenReturn(renderedHTML);
 	}
 
 }
@@ -15,6 +15,7 @@ import org.springframework.core.task.TaskExecutor;
 import com.daimler.sechub.domain.scan.log.ProjectScanLogService;
 import com.daimler.sechub.domain.scan.product.CodeScanProductExecutionService;
 import com.daimler.sechub.domain.scan.product.InfrastructureScanProductExecutionService;
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelizationService;
 import com.daimler.sechub.domain.scan.product.WebScanProductExecutionService;
 import com.daimler.sechub.domain.scan.report.CreateScanReportService;
 import com.daimler.sechub.domain.scan.report.ScanReport;
@@ -27,9 +28,8 @@ import com.daimler.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
 import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
 import com.daimler.sechub.sharedkernel.messaging.MessageID;
 import com.daimler.sechub.sharedkernel.messaging.SynchronMessageHandler;
-import com.daimler.sechub.sharedkernel.storage.StorageService;
+import com.daimler.sechub.sharedkernel.storage.JobStorageCleanupService;
 import com.daimler.sechub.sharedkernel.util.JSONConverterException;
-import com.daimler.sechub.storage.core.JobStorage;
 
 public class ScanServiceTest {
 
@@ -42,17 +42,13 @@ public class ScanServiceTest {
 	private InfrastructureScanProductExecutionService infrastructureScanProductExecutionService;
 	private CreateScanReportService reportService;
 	private ScanReport report;
-	private StorageService storageService;
-	private JobStorage jobStorage;
+	private JobStorageCleanupService storageCleanupService;
 	private ProjectScanLogService scanLogService;
 	private static final SecHubConfiguration SECHUB_CONFIG = new SecHubConfiguration();
 
 	@Before
 	public void before() throws Exception {
-		storageService = mock(StorageService.class);
-		jobStorage = mock(JobStorage.class);
-
-		when(storageService.getJobStorage(any(), any())).thenReturn(jobStorage);
+		storageCleanupService = mock(JobStorageCleanupService.class);
 
 		webScanProductExecutionService = mock(WebScanProductExecutionService.class);
 		codeScanProductExecutionService = mock(CodeScanProductExecutionService.class);
@@ -69,8 +65,9 @@ public class ScanServiceTest {
 		serviceToTest.infraScanProductExecutionService = infrastructureScanProductExecutionService;
 		serviceToTest.codeScanProductExecutionService = codeScanProductExecutionService;
 		serviceToTest.reportService = reportService;
-		serviceToTest.storageService = storageService;
+		serviceToTest.storageCleanupService = storageCleanupService;
 		serviceToTest.scanLogService = scanLogService;
+		serviceToTest.parallelizationService = new ProductExecutionParallelizationService();
 	}
 
 	@Test
@@ -120,7 +117,7 @@ public class ScanServiceTest {
 		DomainMessageSynchronousResult result = serviceToTest.receiveSynchronMessage(prepareValidRequest());
 
 		/* test */
-		verify(jobStorage).deleteAll();
+		verify(storageCleanupService).scheduleDeleteAll(any(), eq(UUID));
 		assertFalse(result.hasFailed());
 	}
 
@@ -145,7 +142,7 @@ public class ScanServiceTest {
 
 		/* test */
 		assertTrue(result.hasFailed());
-		verify(jobStorage/* when retry implemented:,never() */).deleteAll();
+		verify(storageCleanupService/* when retry implemented:,never() */).scheduleDeleteAll(any(), eq(UUID));
 
 	}
 
@@ -18,6 +18,7 @@ import org.junit.rules.ExpectedException;
 import com.daimler.sechub.domain.scan.product.ProductIdentifier;
 import com.daimler.sechub.domain.scan.product.ProductResult;
 import com.daimler.sechub.domain.scan.product.ProductResultRepository;
+import com.daimler.sechub.domain.scan.product.ProductResultStorageService;
 import com.daimler.sechub.domain.scan.report.ScanReportToSecHubResultTransformer;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
@@ -46,6 +47,7 @@ public class SecHubResultServiceTest {
 		serviceToTest = new SecHubResultService();
 		serviceToTest.transformers = Collections.singletonList(reportTransformer);
 		serviceToTest.productResultRepository = productResultRepository;
+		serviceToTest.productResultStorageService = new ProductResultStorageService();
 	}
 
 	@Test
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+public class SecHubResultStreamReaderTest {
+
+	@Test
+	public void result_json_can_be_read_finding_by_finding() throws Exception {
+		/* prepare */
+		SecHubResult result = new SecHubResult();
+		result.getFindings().add(createFinding(1, "Ünicode finding", Severity.HIGH));
+		result.getFindings().add(createFinding(2, "finding2", Severity.LOW));
+		result.setCount(2);
+
+		/* execute */
+		try (SecHubResultStreamReader reader = SecHubResultStreamReader.create(result.toJSON())) {
+
+			/* test */
+			assertTrue(reader.isCountAvailable());
+			assertEquals(2, reader.getCount());
+
+			SecHubFinding finding1 = reader.next();
+			assertEquals(1, finding1.getId());
+			assertEquals("Ünicode finding", finding1.getName());
+			assertEquals(Severity.HIGH, finding1.getSeverity());
+
+			SecHubFinding finding2 = reader.next();
+			assertEquals(2, finding2.getId());
+			assertFalse(reader.hasNext());
+		}
+	}
+
+	@Test
+	public void count_after_findings_is_available_after_iteration() throws Exception {
+		/* prepare */
+		String json = "{'findings':[{'id':1},{'id':2}], 'count':2}";
+
+		/* execute */
+		try (SecHubResultStreamReader reader = SecHubResultStreamReader.create(json)) {
+
+			/* test */
+			assertFalse(reader.isCountAvailable());
+			assertEquals(1, reader.next().getId());
+			assertEquals(2, reader.next().getId());
+			assertFalse(reader.hasNext());
+			assertTrue(reader.isCountAvailable());
+			assertEquals(2, reader.getCount());
+		}
+	}
+
+	@Test
+	public void unknown_properties_and_null_findings_are_skipped() throws Exception {
+		/* prepare */
+		String json = "{'count':'1', 'other':{'findings':[{'id':3}]}, 'findings':[null,{'id':1}]}";
+
+		/* execute */
+		try (SecHubResultStreamReader reader = SecHubResultStreamReader.create(json)) {
+
+			/* test */
+			assertEquals(1, reader.getCount());
+			assertEquals(1, reader.next().getId());
+			assertFalse(reader.hasNext());
+		}
+	}
+
+	@Test
+	public void result_without_findings_has_no_next() throws Exception {
+		/* execute */
+		try (SecHubResultStreamReader reader = SecHubResultStreamReader.create("{'count':0}")) {
+
+			/* test */
+			assertFalse(reader.hasNext());
+			try {
+				reader.next();
+				fail("no such element exception expected");
+			} catch (NoSuchElementException e) {
+				/* expected */
+			}
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void no_object_throws_io_exception() throws Exception {
+		/* execute */
+		SecHubResultStreamReader.create("[]");
+	}
+
+	@Test(expected = UncheckedIOException.class)
+	public void corrupt_finding_array_throws_unchecked_io_exception_while_iterating() throws Exception {
+		/* prepare */
+		try (SecHubResultStreamReader reader = SecHubResultStreamReader.create("{'findings':[{'id':1},{'id':")) {
+
+			/* execute */
+			reader.next();
+		}
+	}
+
+	private SecHubFinding createFinding(int id, String name, Severity severity) {
+		SecHubFinding finding = new SecHubFinding();
+		finding.setId(id);
+		finding.setName(name);
+		finding.setSeverity(severity);
+		return finding;
+	}
+}
@@ -70,6 +70,7 @@ public class AbstractInstallSetupProductExecutorTest {
 		
 		executorToTest = new TestInstallSetupProductExecutor();
 		executorToTest.targetResolver=targetResolver;
+		executorToTest.parallelizationService=new ProductExecutionParallelizationService();
 	}
 	
 	@Test
@@ -31,6 +31,7 @@ public class AbstractProductExecutionServiceTest {
 	private ProductExecutor executor;
 	private List<ProductExecutor> executors;
 	private ProductResultRepository productResultRepository;
+	private ProductResultStorageService productResultStorageService;
 	private Logger logger;
 	private UUID sechubJobUUID;
 
@@ -53,6 +54,9 @@ public class AbstractProductExecutionServiceTest {
 		when(context.getSechubJobUUID()).thenReturn(sechubJobUUID);
 		productResultRepository=mock(ProductResultRepository.class);
 		serviceToTest.productResultRepository=productResultRepository;
+		productResultStorageService=mock(ProductResultStorageService.class);
+		serviceToTest.productResultStorageService=productResultStorageService;
+		serviceToTest.parallelizationService = new ProductExecutionParallelizationService();
 	}
 
 	@Test
@@ -78,6 +82,7 @@ public class AbstractProductExecutionServiceTest {
 		serviceToTest.executeAndPersistResults(executors, context, traceLogID);
 
 		/* test */
+		verify(productResultStorageService).moveResultToStorageWhenNecessary(result);
 		verify(productResultRepository).save(result);
 		verify(logger,never()).error(any(), eq(USED_PRODUCT_IDENTIFIER), eq(traceLogID));
 
@@ -144,6 +149,25 @@ public class AbstractProductExecutionServiceTest {
 
 	}
 
+	@Test
+	public void runtime_errors_in_persistence_delete_stored_result_content() throws Exception{
+		/* prepare */
+		ProductResult result = mock(ProductResult.class);
+		when(executor.execute(context)).thenReturn(Collections.singletonList(result));
+		when(productResultRepository.save(result)).thenThrow(new RuntimeException("save-failed"));
+
+		/* execute */
+		try {
+			serviceToTest.executeAndPersistResults(executors, context, traceLogID);
+			fail("runtime exception expected");
+		}catch(RuntimeException e) {
+			/* expected */
+		}
+
+		/* test */
+		verify(productResultStorageService).deleteStoredResult(result);
+	}
+
 	private class TestImplAbstractProductExecutionService extends AbstractProductExecutionService{
 
 		@Override
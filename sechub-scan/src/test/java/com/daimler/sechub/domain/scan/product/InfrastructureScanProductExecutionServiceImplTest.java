@@ -49,6 +49,8 @@ public class InfrastructureScanProductExecutionServiceImplTest {
 
 		serviceToTest = new InfrastructureScanProductExecutionServiceImpl(executors);
 		serviceToTest.productResultRepository = productResultRepository;
+		serviceToTest.productResultStorageService = mock(ProductResultStorageService.class);
+		serviceToTest.parallelizationService = new ProductExecutionParallelizationService();
 	}
 
 	@Test
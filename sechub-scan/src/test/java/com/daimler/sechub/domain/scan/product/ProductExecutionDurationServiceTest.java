@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProductExecutionDurationServiceTest {
+
+	private ProductExecutionDurationService serviceToTest;
+	private Map<UUID, ProductExecutionDuration> persisted;
+
+	@Before
+	public void before() throws Exception {
+		persisted = new HashMap<>();
+		ProductExecutionDurationRepository repository = mock(ProductExecutionDurationRepository.class);
+		when(repository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(persisted.get(invocation.getArgument(0))));
+		when(repository.save(any())).thenAnswer(invocation -> {
+			ProductExecutionDuration duration = invocation.getArgument(0);
+			persisted.put(duration.getId(), duration);
+			return duration;
+		});
+
+		serviceToTest = new ProductExecutionDurationService();
+		serviceToTest.repository = repository;
+	}
+
+	@Test
+	public void expected_duration_is_unknown_when_never_remembered() {
+		/* execute + test */
+		assertEquals(-1, serviceToTest.fetchExpectedDurationInMilliseconds(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1"));
+	}
+
+	@Test
+	public void first_duration_is_expected_duration_and_further_durations_are_weighted() {
+		/* execute */
+		serviceToTest.rememberDuration(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1", 10000);
+		long first = serviceToTest.fetchExpectedDurationInMilliseconds(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1");
+		serviceToTest.rememberDuration(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1", 20000);
+		long second = serviceToTest.fetchExpectedDurationInMilliseconds(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1");
+
+		/* test */
+		assertEquals(10000, first);
+		assertEquals(13000, second); // 70% of 10000 + 30% of 20000
+	}
+
+	@Test
+	public void durations_are_separated_by_product_install_setup_and_project() {
+		/* execute */
+		serviceToTest.rememberDuration(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1", 10000);
+
+		/* test */
+		assertEquals(-1, serviceToTest.fetchExpectedDurationInMilliseconds(ProductIdentifier.NESSUS, "https://checkmarx.example.com", "project1"));
+		assertEquals(-1, serviceToTest.fetchExpectedDurationInMilliseconds(ProductIdentifier.CHECKMARX, "https://other.example.com", "project1"));
+		assertEquals(-1, serviceToTest.fetchExpectedDurationInMilliseconds(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project2"));
+	}
+
+	@Test
+	public void durations_are_separated_by_execution_variant() {
+		/* execute */
+		serviceToTest.rememberDuration(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1", "full", 100000);
+		serviceToTest.rememberDuration(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1", "incremental", 10000);
+
+		/* test */
+		assertEquals(100000, serviceToTest.fetchExpectedDurationInMilliseconds(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1", "full"));
+		assertEquals(10000, serviceToTest.fetchExpectedDurationInMilliseconds(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1", "incremental"));
+		assertEquals(-1, serviceToTest.fetchExpectedDurationInMilliseconds(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1"));
+	}
+
+	@Test
+	public void expected_duration_is_unknown_when_adaptive_check_disabled() {
+		/* prepare */
+		serviceToTest.rememberDuration(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1", 10000);
+		serviceToTest.adaptiveCheckEnabled = false;
+
+		/* execute + test */
+		assertEquals(-1, serviceToTest.fetchExpectedDurationInMilliseconds(ProductIdentifier.CHECKMARX, "https://checkmarx.example.com", "project1"));
+	}
+
+}
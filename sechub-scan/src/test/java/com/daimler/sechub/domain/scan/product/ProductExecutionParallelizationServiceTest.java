@@ -0,0 +1,293 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelizationService.ProductExecutionCall;
+import com.daimler.sechub.domain.scan.product.ProductExecutionParallelizationService.ProductExecutionTask;
+import com.daimler.sechub.sharedkernel.execution.SecHubExecutionException;
+
+public class ProductExecutionParallelizationServiceTest {
+
+	private ProductExecutionParallelizationService serviceToTest;
+
+	@Before
+	public void before() throws Exception {
+		serviceToTest = new ProductExecutionParallelizationService();
+	}
+
+	@After
+	public void after() throws Exception {
+		serviceToTest.shutdown();
+	}
+
+	@Test
+	public void parallel_execution_is_disabled_per_default_and_tasks_are_executed_in_caller_thread() throws Exception {
+		/* prepare */
+		serviceToTest.init();
+		Thread callerThread = Thread.currentThread();
+		List<Thread> usedThreads = Collections.synchronizedList(new ArrayList<>());
+
+		/* execute */
+		serviceToTest.executeAll(Arrays.asList(() -> usedThreads.add(Thread.currentThread()), () -> usedThreads.add(Thread.currentThread())));
+
+		/* test */
+		assertFalse(serviceToTest.isParallelExecutionEnabled());
+		assertEquals(Arrays.asList(callerThread, callerThread), usedThreads);
+	}
+
+	@Test
+	public void disabled_parallel_execution_stops_on_first_failure() throws Exception {
+		/* prepare */
+		serviceToTest.init();
+		AtomicInteger executed = new AtomicInteger();
+
+		/* execute */
+		try {
+			serviceToTest.executeAll(Arrays.asList(() -> {
+				throw new SecHubExecutionException("failed");
+			}, () -> executed.incrementAndGet()));
+			fail("no exception thrown");
+		} catch (SecHubExecutionException e) {
+			/* test */
+			assertEquals("failed", e.getMessage());
+		}
+		assertEquals(0, executed.get());
+	}
+
+	@Test
+	public void enabled_parallel_execution_executes_tasks_in_parallel() throws Exception {
+		/* prepare */
+		serviceToTest.parallelExecutionEnabled = true;
+		serviceToTest.init();
+		CountDownLatch latch = new CountDownLatch(2);
+
+		/* execute - both tasks wait for each other, so only possible when parallel */
+		serviceToTest.executeAll(Arrays.asList(() -> awaitOther(latch), () -> awaitOther(latch)));
+
+		/* test */
+		assertEquals(0, latch.getCount());
+	}
+
+	@Test
+	public void enabled_parallel_execution_executes_all_tasks_even_when_one_fails() throws Exception {
+		/* prepare */
+		serviceToTest.parallelExecutionEnabled = true;
+		serviceToTest.init();
+		AtomicInteger executed = new AtomicInteger();
+
+		/* execute */
+		try {
+			serviceToTest.executeAll(Arrays.asList(() -> {
+				throw new SecHubExecutionException("failed");
+			}, () -> executed.incrementAndGet(), () -> {
+				throw new IllegalStateException("failed-runtime");
+			}));
+			fail("no exception thrown");
+		} catch (SecHubExecutionException e) {
+			/* test */
+			assertEquals("failed", e.getMessage());
+			assertEquals(1, e.getSuppressed().length);
+		}
+		assertEquals(1, executed.get());
+	}
+
+	@Test
+	public void nested_parallel_execution_with_only_one_thread_does_not_block() throws Exception {
+		/* prepare */
+		serviceToTest.parallelExecutionEnabled = true;
+		serviceToTest.maximumThreads = 1;
+		serviceToTest.init();
+		AtomicInteger executed = new AtomicInteger();
+		ProductExecutionTask nested = () -> serviceToTest.executeAll(Arrays.asList(() -> executed.incrementAndGet(), () -> executed.incrementAndGet()));
+
+		/* execute */
+		serviceToTest.executeAll(Arrays.asList(nested, nested, nested));
+
+		/* test */
+		assertEquals(6, executed.get());
+	}
+
+	@Test
+	public void products_are_not_limited_without_configured_limit() throws Exception {
+		/* prepare */
+		serviceToTest.parallelExecutionEnabled = true;
+		serviceToTest.init();
+		CountDownLatch allRunning = new CountDownLatch(3);
+		ProductExecutionTask task = () -> serviceToTest.executeWithProductLimit(ProductIdentifier.CHECKMARX, () -> {
+			allRunning.countDown();
+			try {
+				return allRunning.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				return false;
+			}
+		});
+
+		/* execute */
+		serviceToTest.executeAll(Arrays.asList(task, task, task));
+
+		/* test */
+		assertEquals(0, allRunning.getCount());
+	}
+
+	@Test
+	public void product_limit_is_respected() throws Exception {
+		/* prepare */
+		serviceToTest.parallelExecutionEnabled = true;
+		serviceToTest.maximumConcurrentExecutionsPerProductDefinition = "NESSUS=1";
+		serviceToTest.init();
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		ProductExecutionTask task = () -> serviceToTest.executeWithProductLimit(ProductIdentifier.NESSUS, () -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			sleep(20);
+			return running.decrementAndGet();
+		});
+
+		/* execute */
+		serviceToTest.executeAll(Arrays.asList(task, task, task, task));
+
+		/* test */
+		assertEquals(1, maxRunning.get());
+	}
+
+	@Test
+	public void execute_all_in_order_returns_results_in_call_order_and_respects_limit_for_same_key() throws Exception {
+		/* prepare */
+		serviceToTest.init();
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<ProductExecutionCall<Integer>> calls = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			int number = i;
+			calls.add(() -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				sleep(10 - number);
+				running.decrementAndGet();
+				return number;
+			});
+		}
+
+		/* execute */
+		List<Integer> results = serviceToTest.executeAllInOrder(calls, "key1", 3);
+
+		/* test */
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), results);
+		assertTrue(maxRunning.get() > 1);
+		assertTrue(maxRunning.get() <= 3);
+	}
+
+	@Test
+	public void execute_all_in_order_uses_changed_maximum_for_same_key() throws Exception {
+		/* prepare */
+		serviceToTest.init();
+		serviceToTest.executeAllInOrder(createCallsWaitingForEachOther(2), "key1", 2);
+
+		/* execute */
+		List<Boolean> results = serviceToTest.executeAllInOrder(createCallsWaitingForEachOther(4), "key1", 4);
+
+		/* test */
+		assertEquals(Arrays.asList(true, true, true, true), results);
+	}
+
+	@Test
+	public void execute_all_in_order_with_maximum_one_executes_in_caller_thread() throws Exception {
+		/* prepare */
+		serviceToTest.init();
+		Thread callerThread = Thread.currentThread();
+		List<ProductExecutionCall<Thread>> calls = Arrays.asList(() -> Thread.currentThread(), () -> Thread.currentThread());
+
+		/* execute */
+		List<Thread> results = serviceToTest.executeAllInOrder(calls, "key1", 1);
+
+		/* test */
+		assertEquals(Arrays.asList(callerThread, callerThread), results);
+	}
+
+	@Test
+	public void execute_all_in_order_does_not_start_further_calls_after_failure() throws Exception {
+		/* prepare */
+		serviceToTest.init();
+		AtomicInteger executed = new AtomicInteger();
+		List<ProductExecutionCall<Integer>> calls = new ArrayList<>();
+		calls.add(() -> {
+			throw new SecHubExecutionException("failed");
+		});
+		for (int i = 0; i < 10; i++) {
+			calls.add(() -> {
+				sleep(20);
+				return executed.incrementAndGet();
+			});
+		}
+
+		/* execute */
+		try {
+			serviceToTest.executeAllInOrder(calls, null, 2);
+			fail("no exception thrown");
+		} catch (SecHubExecutionException e) {
+			/* test */
+			assertEquals("failed", e.getMessage());
+		}
+		assertTrue(executed.get() < 10);
+	}
+
+	@Test
+	public void parse_limits_ignores_invalid_parts() {
+		/* execute */
+		Map<ProductIdentifier, Integer> limits = ProductExecutionParallelizationService.parseLimits(" checkmarx = 1, NETSPARKER=3,unknown=5,NESSUS=x,,=2");
+
+		/* test */
+		assertEquals(2, limits.size());
+		assertEquals(Integer.valueOf(1), limits.get(ProductIdentifier.CHECKMARX));
+		assertEquals(Integer.valueOf(3), limits.get(ProductIdentifier.NETSPARKER));
+	}
+
+	private void awaitOther(CountDownLatch latch) throws SecHubExecutionException {
+		latch.countDown();
+		try {
+			if (!latch.await(5, TimeUnit.SECONDS)) {
+				throw new SecHubExecutionException("not executed in parallel");
+			}
+		} catch (InterruptedException e) {
+			throw new SecHubExecutionException("interrupted", e);
+		}
+	}
+
+	/* every call returns true only when all calls were running at same time */
+	private List<ProductExecutionCall<Boolean>> createCallsWaitingForEachOther(int amount) {
+		CountDownLatch allRunning = new CountDownLatch(amount);
+		List<ProductExecutionCall<Boolean>> calls = new ArrayList<>();
+		for (int i = 0; i < amount; i++) {
+			calls.add(() -> {
+				allRunning.countDown();
+				try {
+					return allRunning.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					throw new SecHubExecutionException("interrupted", e);
+				}
+			});
+		}
+		return calls;
+	}
+
+	private void sleep(long millis) throws SecHubExecutionException {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			throw new SecHubExecutionException("interrupted", e);
+		}
+	}
+}
@@ -0,0 +1,247 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.product;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StreamUtils;
+
+import com.daimler.sechub.sharedkernel.storage.StorageService;
+import com.daimler.sechub.storage.core.JobStorage;
+
+public class ProductResultStorageServiceTest {
+
+	private ProductResultStorageService serviceToTest;
+	private StorageService storageService;
+	private JobStorage jobStorage;
+	private byte[] storedBytes;
+	private UUID jobUUID;
+
+	@Before
+	public void before() throws Exception {
+		jobUUID = UUID.randomUUID();
+		storageService = mock(StorageService.class);
+		jobStorage = mock(JobStorage.class);
+
+		when(storageService.getJobStorage(ProductResultStorageService.PRODUCT_RESULT_STORAGE_ID, jobUUID)).thenReturn(jobStorage);
+		doAnswer(invocation -> {
+			try (InputStream stream = invocation.getArgument(1)) {
+				storedBytes = StreamUtils.copyToByteArray(stream);
+			}
+			return null;
+		}).when(jobStorage).store(any(), any());
+		when(jobStorage.fetch(any())).thenAnswer(invocation -> new ByteArrayInputStream(storedBytes));
+
+		serviceToTest = new ProductResultStorageService();
+		serviceToTest.storageService = storageService;
+		serviceToTest.thresholdInCharacters = 10;
+	}
+
+	@Test
+	public void result_not_bigger_than_threshold_is_kept_inside_result() throws Exception {
+		/* prepare */
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, "0123456789");
+
+		/* execute */
+		serviceToTest.moveResultToStorageWhenNecessary(result);
+
+		/* test */
+		assertFalse(result.isResultStoredExternal());
+		assertEquals("0123456789", result.getResult());
+		assertEquals("0123456789", serviceToTest.fetchResult(result));
+		verify(jobStorage, never()).store(any(), any());
+	}
+
+	@Test
+	public void result_bigger_than_threshold_is_moved_to_storage_and_can_be_fetched_again() throws Exception {
+		/* prepare */
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, "0123456789-äöü");
+
+		/* execute */
+		serviceToTest.moveResultToStorageWhenNecessary(result);
+
+		/* test */
+		assertTrue(result.isResultStoredExternal());
+		assertNull(result.getResult());
+		assertTrue(result.getResultStorageRef().startsWith("nessus_"));
+		verify(jobStorage).store(eq(result.getResultStorageRef()), any());
+		assertEquals("0123456789-äöü", serviceToTest.fetchResult(result));
+	}
+
+	@Test
+	public void negative_threshold_keeps_result_inside_result() throws Exception {
+		/* prepare */
+		serviceToTest.thresholdInCharacters = -1;
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, "0123456789-0123456789");
+
+		/* execute */
+		serviceToTest.moveResultToStorageWhenNecessary(result);
+
+		/* test */
+		assertFalse(result.isResultStoredExternal());
+		assertEquals("0123456789-0123456789", result.getResult());
+		verify(jobStorage, never()).store(any(), any());
+	}
+
+	@Test
+	public void storage_failure_keeps_result_inside_result() throws Exception {
+		/* prepare */
+		doThrow(new IOException("storage not available")).when(jobStorage).store(any(), any());
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, "0123456789-0123456789");
+
+		/* execute */
+		serviceToTest.moveResultToStorageWhenNecessary(result);
+
+		/* test */
+		assertFalse(result.isResultStoredExternal());
+		assertEquals("0123456789-0123456789", result.getResult());
+	}
+
+	@Test
+	public void streamed_result_not_bigger_than_threshold_is_set_as_result() throws Exception {
+		/* prepare */
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, null);
+
+		/* execute */
+		serviceToTest.storeResult(result, asStream("0123456789"), StandardCharsets.UTF_8);
+
+		/* test */
+		assertFalse(result.isResultStoredExternal());
+		assertEquals("0123456789", result.getResult());
+		verify(jobStorage, never()).store(any(), any());
+	}
+
+	@Test
+	public void streamed_result_bigger_than_threshold_is_stored_and_can_be_fetched_again() throws Exception {
+		/* prepare */
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, null);
+
+		/* execute */
+		serviceToTest.storeResult(result, asStream("0123456789-äöü"), StandardCharsets.UTF_8);
+
+		/* test */
+		assertTrue(result.isResultStoredExternal());
+		assertNull(result.getResult());
+		verify(jobStorage).store(eq(result.getResultStorageRef()), any());
+		assertEquals("0123456789-äöü", serviceToTest.fetchResult(result));
+	}
+
+	@Test
+	public void streamed_result_is_kept_inside_result_on_storage_failure() throws Exception {
+		/* prepare */
+		doThrow(new IOException("storage not available")).when(jobStorage).store(any(), any());
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, null);
+
+		/* execute */
+		serviceToTest.storeResult(result, asStream("0123456789-0123456789"), StandardCharsets.UTF_8);
+
+		/* test */
+		assertFalse(result.isResultStoredExternal());
+		assertEquals("0123456789-0123456789", result.getResult());
+	}
+
+	@Test
+	public void streamed_result_with_other_charset_is_decoded_by_given_charset() throws Exception {
+		/* prepare */
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, null);
+		byte[] utf16 = "0123456789-äöü".getBytes(StandardCharsets.UTF_16LE);
+
+		/* execute */
+		serviceToTest.storeResult(result, new ByteArrayInputStream(utf16), StandardCharsets.UTF_16LE);
+
+		/* test */
+		assertTrue(result.isResultStoredExternal());
+		assertEquals("0123456789-äöü", serviceToTest.fetchResult(result));
+	}
+
+	@Test
+	public void streamed_result_bigger_than_read_chunk_but_not_bigger_than_threshold_is_set_as_result() throws Exception {
+		/* prepare */
+		serviceToTest.thresholdInCharacters = 100000;
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			sb.append("0123456789");
+		}
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, null);
+
+		/* execute */
+		serviceToTest.storeResult(result, asStream(sb.toString()), StandardCharsets.UTF_8);
+
+		/* test */
+		assertFalse(result.isResultStoredExternal());
+		assertEquals(sb.toString(), result.getResult());
+	}
+
+	@Test
+	public void result_inside_database_can_be_read_by_reader() throws Exception {
+		/* prepare */
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, "012-äöü");
+
+		/* execute */
+		String read = readAll(serviceToTest.openResultReader(result));
+
+		/* test */
+		assertEquals("012-äöü", read);
+	}
+
+	@Test
+	public void result_inside_storage_can_be_read_by_reader() throws Exception {
+		/* prepare */
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, "0123456789-äöü");
+		serviceToTest.moveResultToStorageWhenNecessary(result);
+
+		/* execute */
+		String read = readAll(serviceToTest.openResultReader(result));
+
+		/* test */
+		assertTrue(result.isResultStoredExternal());
+		assertEquals("0123456789-äöü", read);
+	}
+
+	private String readAll(Reader reader) throws IOException {
+		return FileCopyUtils.copyToString(reader);
+	}
+
+	private InputStream asStream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void delete_stored_result_deletes_content_inside_storage() throws Exception {
+		/* prepare */
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, "0123456789-abc");
+		serviceToTest.moveResultToStorageWhenNecessary(result);
+
+		/* execute */
+		boolean deleted = serviceToTest.deleteStoredResult(result);
+
+		/* test */
+		assertTrue(deleted);
+		verify(jobStorage).delete(result.getResultStorageRef());
+	}
+
+	@Test
+	public void delete_stored_result_does_nothing_when_result_inside_database() throws Exception {
+		/* prepare */
+		ProductResult result = new ProductResult(jobUUID, ProductIdentifier.NESSUS, "012");
+
+		/* execute */
+		boolean deleted = serviceToTest.deleteStoredResult(result);
+
+		/* test */
+		assertFalse(deleted);
+		verify(jobStorage, never()).delete(any());
+	}
+
+}
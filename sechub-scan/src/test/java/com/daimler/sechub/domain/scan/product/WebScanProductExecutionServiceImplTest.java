@@ -49,6 +49,8 @@ public class WebScanProductExecutionServiceImplTest {
 
 		serviceToTest = new WebScanProductExecutionServiceImpl(executors);
 		serviceToTest.productResultRepository = productResultRepository;
+		serviceToTest.productResultStorageService = mock(ProductResultStorageService.class);
+		serviceToTest.parallelizationService = new ProductExecutionParallelizationService();
 	}
 
 	@Test
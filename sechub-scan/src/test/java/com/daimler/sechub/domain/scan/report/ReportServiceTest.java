@@ -14,6 +14,7 @@ import org.mockito.stubbing.Answer;
 
 import com.daimler.sechub.domain.scan.SecHubResult;
 import com.daimler.sechub.domain.scan.SecHubResultService;
+import com.daimler.sechub.domain.scan.Severity;
 import com.daimler.sechub.domain.scan.product.ReportProductExecutionService;
 import com.daimler.sechub.sharedkernel.configuration.SecHubConfiguration;
 import com.daimler.sechub.sharedkernel.execution.SecHubExecutionContext;
@@ -25,6 +26,7 @@ public class ReportServiceTest {
 	private ReportProductExecutionService reportProductExecutionService;
 	private SecHubResultService secHubResultService;
 	private ScanReportTrafficLightCalculator trafficLightCalculator;
+	private ScanReportStatistic statistic;
 	private SecHubExecutionContext context;
 	private SecHubResult secHubResult;
 	private ScanReportRepository reportRepository;
@@ -58,11 +60,15 @@ public class ReportServiceTest {
 		when(secHubResultService.createResult(context)).thenReturn(secHubResult);
 
 		trafficLightCalculator = mock(ScanReportTrafficLightCalculator.class);
+		statistic = mock(ScanReportStatistic.class);
+		when(statistic.getTrafficLight()).thenReturn(TrafficLight.GREEN);
+		when(trafficLightCalculator.calculateStatistic(secHubResult)).thenReturn(statistic);
 
 		serviceToTest.reportProductExecutionService = reportProductExecutionService;
 		serviceToTest.secHubResultService = secHubResultService;
 		serviceToTest.trafficLightCalculator = trafficLightCalculator;
 		serviceToTest.reportRepository = reportRepository;
+		serviceToTest.renderService = mock(ScanReportRenderService.class);
 
 	}
 
@@ -81,7 +87,7 @@ public class ReportServiceTest {
 	public void createReport_set_report_traffic_light_red_name_when_defined_by_trafficlight_calculator()
 			throws Exception {
 		/* prepare */
-		when(trafficLightCalculator.calculateTrafficLight(secHubResult)).thenReturn(TrafficLight.RED);
+		when(statistic.getTrafficLight()).thenReturn(TrafficLight.RED);
 
 		/* execute */
 		ScanReport report = serviceToTest.createReport(context);
@@ -96,7 +102,7 @@ public class ReportServiceTest {
 	public void createReport_set_report_traffic_light_yellow_name_when_defined_by_trafficlight_calculator()
 			throws Exception {
 		/* prepare */
-		when(trafficLightCalculator.calculateTrafficLight(secHubResult)).thenReturn(TrafficLight.YELLOW);
+		when(statistic.getTrafficLight()).thenReturn(TrafficLight.YELLOW);
 
 		/* execute */
 		ScanReport report = serviceToTest.createReport(context);
@@ -111,7 +117,7 @@ public class ReportServiceTest {
 	public void createReport_set_report_traffic_green_yellow_name_when_defined_by_trafficlight_calculator()
 			throws Exception {
 		/* prepare */
-		when(trafficLightCalculator.calculateTrafficLight(secHubResult)).thenReturn(TrafficLight.GREEN);
+		when(statistic.getTrafficLight()).thenReturn(TrafficLight.GREEN);
 
 		/* execute */
 		ScanReport report = serviceToTest.createReport(context);
@@ -173,6 +179,21 @@ public class ReportServiceTest {
 		verify(reportRepository).save(any(ScanReport.class));
 	}
 
+	@Test
+	public void createReport_sets_finding_counts_from_statistic() throws Exception {
+		/* prepare */
+		when(statistic.getCount(Severity.CRITICAL)).thenReturn(1L);
+		when(statistic.getCount(Severity.MEDIUM)).thenReturn(3L);
+
+		/* execute */
+		ScanReport report = serviceToTest.createReport(context);
+
+		/* test */
+		assertEquals(Long.valueOf(1), report.getCount(Severity.CRITICAL));
+		assertEquals(Long.valueOf(0), report.getCount(Severity.HIGH));
+		assertEquals(Long.valueOf(3), report.getCount(Severity.MEDIUM));
+	}
+
 	@Test
 	public void createReport_calls_trafficlight_calculator_with_result() throws Exception {
 
@@ -180,7 +201,7 @@ public class ReportServiceTest {
 		serviceToTest.createReport(context);
 
 		/* test */
-		verify(trafficLightCalculator).calculateTrafficLight(secHubResult);
+		verify(trafficLightCalculator).calculateStatistic(secHubResult);
 	}
 
 }
@@ -2,6 +2,7 @@
 package com.daimler.sechub.domain.scan.report;
 
 import static com.daimler.sechub.domain.scan.report.AssertCalculation.*;
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
@@ -112,6 +113,44 @@ public class ReportTrafficLightCalculatorTest {
 			isFilteringFindingsTo(TrafficLight.GREEN,setup.findingLow, setup.findingInfo, setup.findingUnclassified);
 	}
 	
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ statistic test ...........................+ */
+	/* +-----------------------------------------------------------------------+ */
+	@Test
+	public void statistic_contains_traffic_light_counts_and_partitions_of_setup_findings() {
+		/* prepare */
+		MultiFindingsTestSetup setup = new MultiFindingsTestSetup();
+		setup.createAndRegisterFinding(Severity.HIGH);
+		setup.result.getFindings().add(null);
+
+		/* execute */
+		ScanReportStatistic statistic = calculatorToTest.calculateStatistic(setup.result);
+
+		/* test */
+		assertEquals(TrafficLight.RED, statistic.getTrafficLight());
+		assertEquals(1, statistic.getCount(Severity.CRITICAL));
+		assertEquals(2, statistic.getCount(Severity.HIGH));
+		assertEquals(1, statistic.getCount(Severity.MEDIUM));
+		assertEquals(1, statistic.getCount(Severity.UNCLASSIFIED));
+		assertEquals(1, statistic.getCount(Severity.LOW));
+		assertEquals(1, statistic.getCount(Severity.INFO));
+		assertEquals(3, statistic.getFindings(TrafficLight.RED).size());
+		assertEquals(1, statistic.getFindings(TrafficLight.YELLOW).size());
+		assertEquals(3, statistic.getFindings(TrafficLight.GREEN).size());
+	}
+
+	@Test
+	public void statistic_of_result_without_findings_is_green_and_empty() {
+		/* execute */
+		ScanReportStatistic statistic = calculatorToTest.calculateStatistic(prepareSechubResultWithFindings());
+
+		/* test */
+		assertEquals(TrafficLight.GREEN, statistic.getTrafficLight());
+		assertEquals(0, statistic.getCount(Severity.HIGH));
+		assertTrue(statistic.getFindings(TrafficLight.GREEN).isEmpty());
+		assertTrue(statistic.getFindings(null).isEmpty());
+	}
+
 	/* +-----------------------------------------------------------------------+ */
 	/* +............................ Single variants ..........................+ */
 	/* +-----------------------------------------------------------------------+ */
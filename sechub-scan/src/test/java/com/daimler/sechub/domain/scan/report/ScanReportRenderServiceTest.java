@@ -0,0 +1,264 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.scan.report;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.StreamUtils;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import com.daimler.sechub.domain.scan.HTMLScanResultReportModelBuilder;
+import com.daimler.sechub.domain.scan.SecHubCodeCallStack;
+import com.daimler.sechub.domain.scan.SecHubFinding;
+import com.daimler.sechub.domain.scan.SecHubResult;
+import com.daimler.sechub.domain.scan.Severity;
+import com.daimler.sechub.sharedkernel.storage.StorageService;
+import com.daimler.sechub.sharedkernel.type.TrafficLight;
+import com.daimler.sechub.storage.core.JobStorage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ScanReportRenderServiceTest {
+
+	private static final String PROJECT1_ID = "project1";
+
+	private ScanReportRenderService serviceToTest;
+	private JobStorage jobStorage;
+	private ITemplateEngine templateEngine;
+	private Map<String, byte[]> stored = new HashMap<>();
+	private UUID jobUUID;
+	private UUID reportUUID;
+	private ScanReport report;
+	private StorageService storageService;
+	private HTMLScanResultReportModelBuilder modelBuilder;
+
+	@Before
+	public void before() throws Exception {
+		jobUUID = UUID.randomUUID();
+		report = new ScanReport(jobUUID, PROJECT1_ID);
+		reportUUID = UUID.randomUUID();
+		report.uUID = reportUUID;
+		report.setResult("{'count':'1'}");
+		report.setTrafficLight(TrafficLight.YELLOW);
+
+		storageService = mock(StorageService.class);
+		jobStorage = mock(JobStorage.class);
+		when(storageService.getJobStorage(ScanReportRenderService.RENDERED_REPORT_STORAGE_ID, jobUUID)).thenReturn(jobStorage);
+		doAnswer(invocation -> {
+			try (InputStream stream = invocation.getArgument(1)) {
+				stored.put(invocation.getArgument(0), StreamUtils.copyToByteArray(stream));
+			}
+			return null;
+		}).when(jobStorage).store(any(), any());
+		when(jobStorage.isExisting(any())).thenAnswer(invocation -> stored.containsKey(invocation.getArgument(0)));
+		when(jobStorage.fetch(any())).thenAnswer(invocation -> new ByteArrayInputStream(stored.get(invocation.getArgument(0))));
+
+		templateEngine = mock(ITemplateEngine.class);
+		doAnswer(invocation -> {
+			IContext context = invocation.getArgument(1);
+			Writer writer = invocation.getArgument(2);
+			writer.write("<html>" + context.getVariable("jobuuid") + "</html>");
+			return null;
+		}).when(templateEngine).process(eq(ScanReportRenderService.HTML_TEMPLATE), any(IContext.class), any(Writer.class));
+		modelBuilder = mock(HTMLScanResultReportModelBuilder.class);
+		Map<String, Object> model = new HashMap<>();
+		model.put("jobuuid", jobUUID.toString());
+		when(modelBuilder.build(any())).thenReturn(model);
+
+		serviceToTest = createService();
+	}
+
+	@Test
+	public void json_report_is_rendered_once_and_then_cached() throws Exception {
+		/* execute */
+		RenderedScanReport rendered1 = serviceToTest.render(report, ScanReportRenderFormat.JSON);
+		RenderedScanReport rendered2 = serviceToTest.render(report, ScanReportRenderFormat.JSON);
+
+		/* test */
+		assertSame(rendered1, rendered2);
+		assertSame(rendered1, serviceToTest.getCached(reportUUID, ScanReportRenderFormat.JSON));
+		verify(jobStorage, times(1)).store(endsWith(".json.gz"), any());
+		verify(jobStorage, times(1)).store(endsWith(".json.gz.etag"), any());
+
+		String json = read(rendered1);
+		assertTrue(json.contains("\"jobUUID\":\"" + jobUUID + "\""));
+		assertTrue(json.contains("\"trafficLight\":\"YELLOW\""));
+		assertEquals(PROJECT1_ID, rendered1.getProjectId());
+		assertTrue(rendered1.getETag().startsWith("\""));
+	}
+
+	@Test
+	public void streamed_json_report_is_same_as_object_mapped_report() throws Exception {
+		/* prepare */
+		SecHubResult result = new SecHubResult();
+		for (int i = 1; i <= 3; i++) {
+			SecHubFinding finding = new SecHubFinding();
+			finding.setId(i);
+			finding.setName("finding" + i);
+			finding.setSeverity(Severity.HIGH);
+			finding.setCreated(new Date());
+			SecHubCodeCallStack code = new SecHubCodeCallStack();
+			code.setLocation("Ünicode.java");
+			code.setLine(i);
+			finding.setCode(code);
+			result.getFindings().add(finding);
+		}
+		result.setCount(3);
+		report.setResult(result.toJSON());
+		ObjectMapper mapper = serviceToTest.objectMapper;
+
+		/* execute */
+		RenderedScanReport rendered = serviceToTest.render(report, ScanReportRenderFormat.JSON);
+
+		/* test */
+		assertEquals(mapper.readTree(mapper.writeValueAsBytes(new ScanReportResult(report))), mapper.readTree(read(rendered)));
+	}
+
+	@Test
+	public void corrupt_report_result_is_rendered_with_info() throws Exception {
+		/* prepare */
+		report.setResult("{'count':1, 'findings':[ {'id':");
+
+		/* execute */
+		RenderedScanReport rendered = serviceToTest.render(report, ScanReportRenderFormat.JSON);
+
+		/* test */
+		String json = read(rendered);
+		assertTrue(json.contains("\"info\":"));
+		assertTrue(json.contains(jobUUID.toString()));
+	}
+
+	@Test
+	public void html_report_is_rendered_by_template_engine() throws Exception {
+		/* execute */
+		RenderedScanReport rendered = serviceToTest.render(report, ScanReportRenderFormat.HTML);
+
+		/* test */
+		assertEquals("<html>" + jobUUID + "</html>", read(rendered));
+		assertEquals(ScanReportRenderFormat.HTML.getMediaType(), rendered.getFormat().getMediaType());
+	}
+
+	@Test
+	public void report_rendered_by_other_instance_is_fetched_from_storage_with_same_etag() throws Exception {
+		/* prepare */
+		RenderedScanReport renderedBefore = serviceToTest.render(report, ScanReportRenderFormat.HTML);
+		ScanReportRenderService otherInstance = createService();
+
+		/* execute */
+		RenderedScanReport rendered = otherInstance.render(report, ScanReportRenderFormat.HTML);
+
+		/* test */
+		verify(templateEngine, times(1)).process(any(String.class), any(IContext.class), any(Writer.class));
+		assertEquals(renderedBefore.getETag(), rendered.getETag());
+		assertEquals("<html>" + jobUUID + "</html>", read(rendered));
+	}
+
+	@Test
+	public void report_stored_without_etag_is_rendered_again() throws Exception {
+		/* prepare */
+		serviceToTest.render(report, ScanReportRenderFormat.HTML);
+		stored.keySet().removeIf(name -> name.endsWith(".etag"));
+		ScanReportRenderService otherInstance = createService();
+
+		/* execute */
+		RenderedScanReport rendered = otherInstance.render(report, ScanReportRenderFormat.HTML);
+
+		/* test */
+		verify(templateEngine, times(2)).process(any(String.class), any(IContext.class), any(Writer.class));
+		assertEquals("<html>" + jobUUID + "</html>", read(rendered));
+	}
+
+	@Test
+	public void storage_failure_does_not_prevent_rendering() throws Exception {
+		/* prepare */
+		when(jobStorage.isExisting(any())).thenThrow(new IllegalStateException("storage not available"));
+
+		/* execute */
+		RenderedScanReport rendered = serviceToTest.render(report, ScanReportRenderFormat.JSON);
+
+		/* test */
+		assertNotNull(rendered);
+		assertTrue(read(rendered).contains(jobUUID.toString()));
+	}
+
+	@Test
+	public void memory_cache_is_size_bounded() throws Exception {
+		/* prepare */
+		serviceToTest.cacheMaxMegabytes = 0;
+
+		/* execute */
+		serviceToTest.render(report, ScanReportRenderFormat.JSON);
+
+		/* test */
+		assertNull(serviceToTest.getCached(reportUUID, ScanReportRenderFormat.JSON));
+		assertEquals(0, serviceToTest.getCachedBytes());
+	}
+
+	@Test
+	public void recreated_report_of_same_job_is_not_served_from_former_rendering() throws Exception {
+		/* prepare */
+		RenderedScanReport former = serviceToTest.render(report, ScanReportRenderFormat.JSON);
+		ScanReport recreated = new ScanReport(jobUUID, PROJECT1_ID);
+		recreated.uUID = UUID.randomUUID();
+		recreated.setResult("{'count':'0'}");
+		recreated.setTrafficLight(TrafficLight.GREEN);
+
+		/* execute */
+		RenderedScanReport rendered = serviceToTest.render(recreated, ScanReportRenderFormat.JSON);
+
+		/* test */
+		assertNotSame(former, rendered);
+		assertTrue(read(rendered).contains("\"trafficLight\":\"GREEN\""));
+		assertSame(former, serviceToTest.getCached(reportUUID, ScanReportRenderFormat.JSON));
+		assertSame(rendered, serviceToTest.getCached(recreated.getUUID(), ScanReportRenderFormat.JSON));
+	}
+
+	@Test
+	public void delete_renderings_deletes_rendered_reports_of_job_inside_storage() throws Exception {
+		/* execute */
+		serviceToTest.deleteRenderings(jobUUID);
+
+		/* test */
+		verify(jobStorage).deleteAll();
+	}
+
+	@Test
+	public void delete_renderings_failure_is_only_logged() throws Exception {
+		/* prepare */
+		doThrow(new IOException("not available")).when(jobStorage).deleteAll();
+
+		/* execute */
+		serviceToTest.deleteRenderings(jobUUID);
+
+		/* test */
+		verify(jobStorage).deleteAll();
+	}
+
+	private ScanReportRenderService createService() {
+		ScanReportRenderService service = new ScanReportRenderService();
+		service.objectMapper = new ObjectMapper();
+		service.templateEngine = templateEngine;
+		service.htmlModelBuilder = modelBuilder;
+		service.storageService = storageService;
+		return service;
+	}
+
+	private String read(RenderedScanReport rendered) throws Exception {
+		try (InputStream stream = rendered.openStream()) {
+			return StreamUtils.copyToString(stream, StandardCharsets.UTF_8);
+		}
+	}
+}
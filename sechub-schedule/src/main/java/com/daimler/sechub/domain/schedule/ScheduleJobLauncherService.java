@@ -17,10 +17,12 @@ import org.springframework.batch.core.repository.JobExecutionAlreadyRunningExcep
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.daimler.sechub.domain.schedule.batch.AsyncJobLauncher;
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.Step;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
@@ -50,6 +52,14 @@ public class ScheduleJobLauncherService {
 	@Autowired
 	Job job;
 
+	@Autowired
+	SchedulerDirectJobLauncher directJobLauncher;
+
+	@MustBeDocumented("Engine used for job execution. BATCH (default) uses spring batch, which writes batch meta data for every job into database. "
+			+ "DIRECT executes jobs on a managed executor without any batch meta data.")
+	@Value("${sechub.config.scheduling.engine:BATCH}")
+	SchedulerJobExecutionEngine engine = SchedulerJobExecutionEngine.BATCH;
+
 	@UseCaseSchedulerStartsJob(@Step(number = 2, next = { 3,
 			4 },
 			name = "Execution",
@@ -58,6 +68,14 @@ public class ScheduleJobLauncherService {
 		String secHubJobUUID = secHubJob.getUUID().toString();
 		LOG.debug("Execute job:{}", secHubJobUUID);
 
+		if (engine == SchedulerJobExecutionEngine.DIRECT) {
+			directJobLauncher.launch(secHubJob.getUUID());
+
+			/* send domain event */
+			sendJobStarted(secHubJob.getProjectId(), secHubJob.getUUID(), secHubJob.getJsonConfiguration(), secHubJob.getOwner());
+			return;
+		}
+
 		JobParametersBuilder builder = new JobParametersBuilder();
 		builder.addString(BATCHPARAM_SECHUB_UUID, secHubJobUUID);
 
@@ -2,7 +2,8 @@
 package com.daimler.sechub.domain.schedule;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,26 +30,31 @@ public class ScheduleJobMarkerService {
 	SecHubJobRepository jobRepository;
 
 	/**
-	 * @return either schedule job to execute, or <code>null</code> if no one has to be executed
+	 * Claims next jobs to execute inside one transaction and marks them as
+	 * started
+	 *
+	 * @param maximum maximum amount of jobs to mark
+	 * @return list of jobs to execute, empty when no one has to be executed
 	 */
 	@Transactional
-	public ScheduleSecHubJob markNextJobExecutedByThisPOD() {
+	public List<ScheduleSecHubJob> markNextJobsExecutedByThisPOD(int maximum) {
 
 		if (LOG.isTraceEnabled()) {
-			/*NOSONAR*/LOG.trace("Trigger execution of next job started");
+			/*NOSONAR*/LOG.trace("Trigger execution of next {} jobs started", maximum);
 		}
 
-		Optional<ScheduleSecHubJob> secHubJobOptional = jobRepository.findNextJobToExecute();
-		if (!secHubJobOptional.isPresent()) {
-			if (LOG.isTraceEnabled()) {
-				/*NOSONAR*/LOG.trace("No job found.");
-			}
-			return null;
+		List<ScheduleSecHubJob> claimed = jobRepository.findNextJobsToExecute(maximum);
+		List<ScheduleSecHubJob> result = new ArrayList<>(claimed.size());
+		LocalDateTime started = LocalDateTime.now();
+		for (ScheduleSecHubJob secHubJob : claimed) {
+			secHubJob.setExecutionState(ExecutionState.STARTED);
+			secHubJob.setStarted(started);
+			result.add(jobRepository.save(secHubJob));
 		}
-		ScheduleSecHubJob secHubJob = secHubJobOptional.get();
-		secHubJob.setExecutionState(ExecutionState.STARTED);
-		secHubJob.setStarted(LocalDateTime.now());
-		return jobRepository.save(secHubJob);
+		if (LOG.isTraceEnabled()) {
+			/*NOSONAR*/LOG.trace("Claimed {} jobs.", result.size());
+		}
+		return result;
 	}
 
 	@Transactional
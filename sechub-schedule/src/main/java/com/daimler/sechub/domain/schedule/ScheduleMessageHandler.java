@@ -15,6 +15,7 @@ import com.daimler.sechub.domain.schedule.whitelist.ProjectWhiteListUpdateServic
 import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageHandler;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
 import com.daimler.sechub.sharedkernel.messaging.IsReceivingAsyncMessage;
+import com.daimler.sechub.sharedkernel.messaging.JobMessage;
 import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
 import com.daimler.sechub.sharedkernel.messaging.MessageID;
 import com.daimler.sechub.sharedkernel.messaging.ProjectMessage;
@@ -45,6 +46,9 @@ public class ScheduleMessageHandler implements AsynchronMessageHandler{
 	@Autowired
 	SchedulerStatusService statusService;
 
+	@Autowired
+	SchedulerJobEndWaitService jobEndWaitService;
+
 	@Override
 	public void receiveAsyncMessage(DomainMessage request) {
 		MessageID messageId = request.getMessageId();
@@ -75,11 +79,29 @@ public class ScheduleMessageHandler implements AsynchronMessageHandler{
 		case REQUEST_SCHEDULER_STATUS_UPDATE:
 			handleSchedulerStatusRefreshRequest(request);
 			break;
+		case JOB_DONE:
+			handleJobDone(request);
+			break;
+		case JOB_FAILED:
+			handleJobFailed(request);
+			break;
 		default:
 			throw new IllegalStateException("unhandled message id:"+messageId);
 		}
 	}
 
+	@IsReceivingAsyncMessage(MessageID.JOB_DONE)
+	private void handleJobDone(DomainMessage request) {
+		JobMessage message = request.get(MessageDataKeys.JOB_DONE_DATA);
+		jobEndWaitService.notifyJobEnded(message.getJobUUID());
+	}
+
+	@IsReceivingAsyncMessage(MessageID.JOB_FAILED)
+	private void handleJobFailed(DomainMessage request) {
+		JobMessage message = request.get(MessageDataKeys.JOB_FAILED_DATA);
+		jobEndWaitService.notifyJobEnded(message.getJobUUID());
+	}
+
 	@IsReceivingAsyncMessage(MessageID.REQUEST_SCHEDULER_STATUS_UPDATE)
 	private void handleSchedulerStatusRefreshRequest(DomainMessage request) {
 		statusService.buildStatus();
@@ -29,6 +29,9 @@ public class SchedulerApproveJobService {
 	@Autowired
 	UserInputAssertion assertion;
 
+	@Autowired
+	SchedulerJobBatchTriggerService triggerService;
+
 	@UseCaseUserApprovesJob(@Step(number = 2, name = "Try to find project annd update execution state", description = "When project is found and user has access and job is initializing the state will be updated and marked as ready for execution"))
 	public void approveJob(String projectId, UUID jobUUID) {
 		assertion.isValidProjectId(projectId);
@@ -44,6 +47,8 @@ public class SchedulerApproveJobService {
 		secHubJob.setExecutionState(ExecutionState.READY_TO_START);
 		jobRepository.save(secHubJob);
 		LOG.info("job {} now approved", jobUUID);
+
+		triggerService.signalJobReadyToStart();
 	}
 
 
@@ -0,0 +1,115 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Handles the capacity of this POD - means how many scan jobs can be executed
+ * at the same time. A slot must be acquired before a job is claimed and will be
+ * released when the job has ended. So a POD under load does not claim jobs it
+ * cannot execute and other PODs are able to pick them up.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class SchedulerCapacityService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SchedulerCapacityService.class);
+
+	private static final int DEFAULT_MAX_CONCURRENT_JOBS = 5;
+
+	@MustBeDocumented("Maximum amount of scan jobs executed by one POD at the same time. When all slots are in use, the POD does not claim further jobs.")
+	@Value("${sechub.config.scheduling.capacity.max:" + DEFAULT_MAX_CONCURRENT_JOBS + "}")
+	int maximumConcurrentJobs = DEFAULT_MAX_CONCURRENT_JOBS;
+
+	private AtomicInteger usedSlots = new AtomicInteger();
+
+	/**
+	 * @return maximum amount of concurrent jobs inside this POD, at least 1
+	 */
+	public int getMaximumConcurrentJobs() {
+		return Math.max(1, maximumConcurrentJobs);
+	}
+
+	/**
+	 * @return amount of free slots inside this POD
+	 */
+	public int getFreeSlots() {
+		return Math.max(0, getMaximumConcurrentJobs() - usedSlots.get());
+	}
+
+	/**
+	 * Tries to acquire given amount of slots
+	 *
+	 * @param wanted amount of slots wanted
+	 * @return amount of slots acquired - can be lower than wanted, 0 when no slot
+	 *         is free
+	 */
+	public int acquireSlots(int wanted) {
+		if (wanted <= 0) {
+			return 0;
+		}
+		while (true) {
+			int used = usedSlots.get();
+			int acquired = Math.min(wanted, getMaximumConcurrentJobs() - used);
+			if (acquired <= 0) {
+				return 0;
+			}
+			if (usedSlots.compareAndSet(used, used + acquired)) {
+				return acquired;
+			}
+		}
+	}
+
+	/**
+	 * Releases given amount of slots
+	 *
+	 * @param amount
+	 */
+	public void releaseSlots(int amount) {
+		if (amount <= 0) {
+			return;
+		}
+		int used = usedSlots.addAndGet(-amount);
+		if (used < 0) {
+			LOG.warn("Released more slots than acquired, reset used slots from {} to 0", used);
+			usedSlots.compareAndSet(used, 0);
+		}
+	}
+
+	/**
+	 * Releases one slot
+	 */
+	public void releaseSlot() {
+		releaseSlots(1);
+	}
+
+	/**
+	 * Creates a task executor for job execution. Jobs are only executed when a
+	 * slot was acquired, so we need never more threads than slots. The queue only
+	 * handles the short time between slot release at job end and thread release.
+	 *
+	 * @param threadNamePrefix
+	 * @return initialized task executor
+	 */
+	public ThreadPoolTaskExecutor createJobTaskExecutor(String threadNamePrefix) {
+		int maximum = getMaximumConcurrentJobs();
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(maximum);
+		executor.setMaxPoolSize(maximum);
+		executor.setQueueCapacity(maximum);
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.initialize();
+		return executor;
+	}
+}
@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Launches jobs directly on a managed executor - used by
+ * {@link SchedulerJobExecutionEngine#DIRECT}. Has same failure handling as
+ * spring batch execution, because both use
+ * {@link SchedulerJobExecutionService}.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Component
+public class SchedulerDirectJobLauncher {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SchedulerDirectJobLauncher.class);
+
+	@Autowired
+	SchedulerJobExecutionService jobExecutionService;
+
+	@Autowired
+	SchedulerCapacityService capacityService;
+
+	private ThreadPoolTaskExecutor taskExecutor;
+
+	@PostConstruct
+	public void init() {
+		taskExecutor = capacityService.createJobTaskExecutor("direct-job-launcher-");
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (taskExecutor != null) {
+			taskExecutor.shutdown();
+		}
+	}
+
+	/**
+	 * Launches execution of given job asynchronous. The slot acquired for the job
+	 * is released when execution has ended.
+	 *
+	 * @param secHubJobUUID
+	 * @throws org.springframework.core.task.TaskRejectedException when job cannot
+	 *                                                              be launched
+	 */
+	public void launch(UUID secHubJobUUID) {
+		LOG.debug("Launch direct execution of job:{}", secHubJobUUID);
+		taskExecutor.execute(() -> {
+			try {
+				jobExecutionService.executeScan(secHubJobUUID);
+			} finally {
+				capacityService.releaseSlot();
+			}
+		});
+	}
+}
@@ -6,6 +6,7 @@ import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.daimler.sechub.sharedkernel.Step;
@@ -21,6 +22,9 @@ public class SchedulerGetJobStatusService {
 	@Autowired
 	UserInputAssertion assertion;
 
+	@Autowired
+	SchedulerJobEndWaitService jobEndWaitService;
+
 	@Validated
 	@UseCaseUserChecksJobStatus(@Step(number = 2, name = "Try to find project annd fail or return job status"))
 	public ScheduleJobStatus getJobStatus(String projectId, UUID jobUUID) {
@@ -34,6 +38,62 @@ public class SchedulerGetJobStatusService {
 		return new ScheduleJobStatus(secHubJob);
 	}
 
+	/**
+	 * Resolves job status - when job has not ended, the result is set when job
+	 * has ended or given wait time has passed. So clients waiting for the job end
+	 * need no busy polling.
+	 *
+	 * @param projectId
+	 * @param jobUUID
+	 * @param waitSeconds maximum time to wait for job end, limited by server
+	 *                    configuration
+	 * @return deferred job status
+	 */
+	@Validated
+	public DeferredResult<ScheduleJobStatus> waitForJobStatus(String projectId, UUID jobUUID, int waitSeconds) {
+		assertion.isValidProjectId(projectId);
+		assertion.isValidJobUUID(jobUUID);
 
+		scheduleAssert.assertUserHasAccessToProject(projectId);
+
+		long waitTimeInMilliseconds = jobEndWaitService.resolveWaitTimeInMilliseconds(waitSeconds);
+		if (waitTimeInMilliseconds <= 0) {
+			DeferredResult<ScheduleJobStatus> result = new DeferredResult<>();
+			result.setResult(new ScheduleJobStatus(scheduleAssert.assertJob(projectId, jobUUID)));
+			return result;
+		}
+		DeferredResult<ScheduleJobStatus> result = new DeferredResult<>(waitTimeInMilliseconds);
+		Runnable fetchStatus = () -> fetchStatus(result, projectId, jobUUID);
+
+		/* register before job is fetched - so a job end between fetch and registration cannot be missed */
+		boolean registered = jobEndWaitService.register(jobUUID, fetchStatus);
+		if (registered) {
+			result.onTimeout(fetchStatus);
+			result.onCompletion(() -> jobEndWaitService.unregister(jobUUID, fetchStatus));
+		}
+		ScheduleSecHubJob secHubJob;
+		try {
+			secHubJob = scheduleAssert.assertJob(projectId, jobUUID);
+		} catch (RuntimeException e) {
+			jobEndWaitService.unregister(jobUUID, fetchStatus);
+			throw e;
+		}
+		if (!registered || ExecutionState.ENDED.equals(secHubJob.getExecutionState())) {
+			result.setResult(new ScheduleJobStatus(secHubJob));
+		}
+		return result;
+	}
+
+	private void fetchStatus(DeferredResult<ScheduleJobStatus> result, String projectId, UUID jobUUID) {
+		if (result.hasResult()) {
+			/* already set - e.g. job ended while timeout happened */
+			return;
+		}
+		try {
+			result.setResult(new ScheduleJobStatus(scheduleAssert.assertJob(projectId, jobUUID)));
+		} catch (RuntimeException e) {
+			result.setErrorResult(e);
+		}
+	}
 
 }
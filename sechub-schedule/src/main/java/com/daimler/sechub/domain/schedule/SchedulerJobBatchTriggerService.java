@@ -1,21 +1,39 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.schedule;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.daimler.sechub.domain.schedule.config.SchedulerConfigService;
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.daimler.sechub.sharedkernel.MustBeDocumented;
 import com.daimler.sechub.sharedkernel.Step;
 import com.daimler.sechub.sharedkernel.cluster.ClusterEnvironmentService;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
+import com.daimler.sechub.sharedkernel.messaging.IsSendingAsyncMessage;
+import com.daimler.sechub.sharedkernel.messaging.JobMessage;
+import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
+import com.daimler.sechub.sharedkernel.messaging.MessageID;
 import com.daimler.sechub.sharedkernel.usecases.job.UseCaseSchedulerStartsJob;
 
 @Service
@@ -26,6 +44,7 @@ public class SchedulerJobBatchTriggerService {
 	private static final int MINIMUM_RETRY_TIME_MS_TO_WAIT = 10;
 	private static final int DEFAULT_TRIES = 5;
 	private static final int DEFAULT_RETRIY_MAX_MILLIS = 300;
+	private static final int DEFAULT_MAX_JOBS_PER_DISPATCH = 10;
 
 	@MustBeDocumented("Inside a cluster the next job fetching can lead to concurrent access. "
 			+ "When this happens a retry can be done for the 'looser'. " + "This value defines the amount of *tries*"
@@ -42,6 +61,18 @@ public class SchedulerJobBatchTriggerService {
 	@Value("${sechub.config.trigger.nextjob.maxwaitretry:" + DEFAULT_RETRIY_MAX_MILLIS + "}")
 	private int markNextJobWaitBeforeRetryMillis = DEFAULT_RETRIY_MAX_MILLIS;
 
+	@MustBeDocumented("Maximum amount of jobs started by one dispatch run. A dispatch run is done by cron job or "
+			+ "immediately when a job has been approved. The ready queue is drained until no job is left, this maximum is reached "
+			+ "or no free slot is available (see `sechub.config.scheduling.capacity.max`).")
+	@Value("${sechub.config.trigger.nextjob.batch.max:" + DEFAULT_MAX_JOBS_PER_DISPATCH + "}")
+	int maximumJobsPerDispatch = DEFAULT_MAX_JOBS_PER_DISPATCH;
+
+	@MustBeDocumented("When enabled (default) a job approval does immediately trigger a dispatch run. Other cluster members are informed "
+			+ "by a signal inside database, see `sechub.config.trigger.nextjob.signal.check.delay`. "
+			+ "Uses same property as scheduling, so when scheduling is disabled no dispatch is done.")
+	@Value("${sechub.config.scheduling.enable:true}")
+	boolean eventDrivenDispatchEnabled = true;
+
 	@Autowired
 	ScheduleJobMarkerService markerService;
 
@@ -54,11 +85,98 @@ public class SchedulerJobBatchTriggerService {
 	@Autowired
 	SchedulerConfigService configService;
 
+	@Autowired
+	SchedulerCapacityService capacityService;
+
+	@Autowired
+	@Lazy
+	DomainMessageService eventBusService;
+
+	private ExecutorService dispatchExecutor;
+	private AtomicBoolean dispatchPending = new AtomicBoolean();
+	private Long lastKnownJobReadySignal;
+
+	@PostConstruct
+	public void init() {
+		dispatchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "schedule_job_dispatch");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (dispatchExecutor != null) {
+			dispatchExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Signals that a job is ready to start. A dispatch run is triggered
+	 * immediately (after current transaction has been committed) by this POD.
+	 * Other PODs are informed by a signal inside database.
+	 */
+	public void signalJobReadyToStart() {
+		if (!eventDrivenDispatchEnabled) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					doSignalJobReadyToStart();
+				}
+			});
+		} else {
+			doSignalJobReadyToStart();
+		}
+	}
+
+	/**
+	 * Checks database signal written by other PODs for approved jobs and triggers
+	 * a dispatch run when signal has changed
+	 */
+	@MustBeDocumented("Delay in milliseconds between checks of the job ready signal written by other cluster members on job approval - default is one second.")
+	@Scheduled(fixedDelayString = "${sechub.config.trigger.nextjob.signal.check.delay:1000}")
+	public void checkJobReadySignal() {
+		if (!eventDrivenDispatchEnabled) {
+			return;
+		}
+		Long signal = configService.getJobReadySignal();
+		if (lastKnownJobReadySignal != null && !lastKnownJobReadySignal.equals(signal)) {
+			LOG.debug("Job ready signal changed from {} to {}", lastKnownJobReadySignal, signal);
+			triggerDispatch();
+		}
+		lastKnownJobReadySignal = signal;
+	}
+
+	private void doSignalJobReadyToStart() {
+		triggerDispatch();
+		try {
+			configService.signalJobReadyToStart();
+		} catch (RuntimeException e) {
+			/* other PODs will find the job by their cron job */
+			LOG.warn("Was not able to write job ready signal. Environment: {}", environmentService.getEnvironment(), e);
+		}
+	}
+
+	private void triggerDispatch() {
+		if (dispatchExecutor == null || !dispatchPending.compareAndSet(false, true)) {
+			/* already a dispatch run pending, so no need for another one */
+			return;
+		}
+		dispatchExecutor.execute(() -> {
+			dispatchPending.set(false);
+			triggerExecutionOfNextJob();
+		});
+	}
+
 	// default 10 seconds
 	@MustBeDocumented("Job scheduling is triggered by a cron job operation - default is 10 seconds. It can be configured different")
 	@Scheduled(cron = "${sechub.config.trigger.nextjob.cron:*/10 * * * * *}")
 	@UseCaseSchedulerStartsJob(@Step(number = 1, name = "Scheduling", description = "Fetches next schedule job from queue and trigger execution."))
-	public void triggerExecutionOfNextJob() {
+	public synchronized void triggerExecutionOfNextJob() {
 		if (LOG.isTraceEnabled()) {
 			/* NOSONAR */LOG.trace("Trigger execution of next job started. Environment: {}",environmentService.getEnvironment());
 		}
@@ -66,24 +184,45 @@ public class SchedulerJobBatchTriggerService {
 			LOG.warn("Job processing is disabled, so cancel scheduling. Environment: {}",environmentService.getEnvironment());
 			return;
 		}
+		int maximum = Math.max(1, maximumJobsPerDispatch);
+		int started = 0;
+		while (started < maximum) {
+			int slots = capacityService.acquireSlots(maximum - started);
+			if (slots == 0) {
+				LOG.debug("No free slot available, so no further jobs claimed. Environment: {}", environmentService.getEnvironment());
+				return;
+			}
+			List<ScheduleSecHubJob> claimed = claimNextJobs(slots);
+			capacityService.releaseSlots(slots - claimed.size());
+			for (ScheduleSecHubJob next : claimed) {
+				executeJob(next);
+			}
+			if (claimed.size() < slots) {
+				/* ready queue is empty (or claiming failed) */
+				return;
+			}
+			started += claimed.size();
+		}
+	}
+
+	/**
+	 * Claims next jobs in one transaction. Jobs are claimed with "SKIP LOCKED" on
+	 * databases supporting this, so concurrent PODs normally do not collide. When
+	 * they do (e.g. database without "SKIP LOCKED" support) a retry is done.
+	 *
+	 * @param maximum
+	 * @return claimed jobs, never <code>null</code>
+	 */
+	private List<ScheduleSecHubJob> claimNextJobs(int maximum) {
 		RetryContext retryContext = new RetryContext(markNextJobRetries);
 		do {
 			try {
-				ScheduleSecHubJob next = markerService.markNextJobExecutedByThisPOD();
+				List<ScheduleSecHubJob> claimed = markerService.markNextJobsExecutedByThisPOD(maximum);
 				retryContext.executionDone();
-				if (next == null) {
-					return;
-				}
-				try {
-					launcherService.executeJob(next);
-				}catch(Exception e) {
-					/* fatal failure happened, job launch was not executable */
-					LOG.trace("was not able to execute next job, because fatal error occurred. Environment: {}",environmentService.getEnvironment());
-					markerService.markJobExecutionFailed(next);
-					retryContext.markAsFatalFailure();
+				if (claimed != null) {
+					return claimed;
 				}
-
-			} catch (OptimisticLockingFailureException e) {
+			} catch (ConcurrencyFailureException e) {
 				LOG.trace("was not able to trigger next, because already done. Environment: {}",environmentService.getEnvironment());
 
 				retryContext.setRetryTimeToWait(createRandomTimeMillisToWait()).executionFailed();
@@ -97,6 +236,34 @@ public class SchedulerJobBatchTriggerService {
 		if (! retryContext.isExecutionDone()) {
 			LOG.warn("Was not able to handle trigger execution of next job, failed {} times. Environment:{}", retryContext.getExecutionFailedCount(), environmentService.getEnvironment());
 		}
+		return Collections.emptyList();
+	}
+
+	private void executeJob(ScheduleSecHubJob next) {
+		try {
+			launcherService.executeJob(next);
+		}catch(Exception e) {
+			/* fatal failure happened, job launch was not executable */
+			LOG.trace("was not able to execute next job, because fatal error occurred. Environment: {}",environmentService.getEnvironment());
+			/* job was never started, so slot is not released by job end */
+			capacityService.releaseSlot();
+			markerService.markJobExecutionFailed(next);
+			/* job end waiters must not wait until their timeout */
+			sendJobFailed(next);
+		}
+	}
+
+	@IsSendingAsyncMessage(MessageID.JOB_FAILED)
+	private void sendJobFailed(ScheduleSecHubJob job) {
+		JobMessage message = new JobMessage();
+		message.setJobUUID(job.getUUID());
+		message.setProjectId(job.getProjectId());
+		message.setSince(LocalDateTime.now());
+
+		DomainMessage request = new DomainMessage(MessageID.JOB_FAILED);
+		request.set(MessageDataKeys.JOB_FAILED_DATA, message);
+
+		eventBusService.sendAsynchron(request);
 	}
 
 	private int createRandomTimeMillisToWait() {
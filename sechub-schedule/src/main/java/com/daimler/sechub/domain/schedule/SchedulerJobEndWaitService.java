@@ -0,0 +1,126 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Registry for listeners waiting for the end of a job - e.g. status requests
+ * held open until job has been done or failed. Listeners are notified by
+ * JOB_DONE and JOB_FAILED domain messages, so no database polling is necessary
+ * while waiting.<br>
+ * <br>
+ * Domain messages are only sent inside the POD where the job was executed. So
+ * waiting is always limited by a timeout - after the timeout the caller fetches
+ * the current state as before.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class SchedulerJobEndWaitService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SchedulerJobEndWaitService.class);
+
+	private static final int DEFAULT_MAX_WAIT_SECONDS = 30;
+	private static final int DEFAULT_MAX_WAITING_LISTENERS = 10000;
+
+	@MustBeDocumented("Maximum time in seconds a job status request waits for the end of a job. 0 disables waiting, status is returned immediately.")
+	@Value("${sechub.config.job.status.wait.max.seconds:" + DEFAULT_MAX_WAIT_SECONDS + "}")
+	int maximumWaitSeconds = DEFAULT_MAX_WAIT_SECONDS;
+
+	@MustBeDocumented("Maximum amount of job status requests waiting at the same time. When reached, status is returned immediately.")
+	@Value("${sechub.config.job.status.wait.max.requests:" + DEFAULT_MAX_WAITING_LISTENERS + "}")
+	int maximumWaitingListeners = DEFAULT_MAX_WAITING_LISTENERS;
+
+	private Map<UUID, List<Runnable>> listeners = new ConcurrentHashMap<>();
+	private AtomicInteger waitingListeners = new AtomicInteger();
+
+	/**
+	 * Resolves time to wait
+	 *
+	 * @param wantedSeconds seconds wanted by caller
+	 * @return time to wait in milliseconds, limited by configured maximum. 0 when
+	 *         caller shall not wait
+	 */
+	public long resolveWaitTimeInMilliseconds(int wantedSeconds) {
+		int seconds = Math.min(wantedSeconds, maximumWaitSeconds);
+		if (seconds <= 0) {
+			return 0;
+		}
+		return seconds * 1000L;
+	}
+
+	/**
+	 * Registers listener called once when given job has ended
+	 *
+	 * @param jobUUID
+	 * @param listener
+	 * @return <code>true</code> when registered, <code>false</code> when too many
+	 *         listeners are already waiting
+	 */
+	public boolean register(UUID jobUUID, Runnable listener) {
+		if (waitingListeners.incrementAndGet() > maximumWaitingListeners) {
+			waitingListeners.decrementAndGet();
+			LOG.debug("Too many listeners waiting, did not register listener for job {}", jobUUID);
+			return false;
+		}
+		listeners.computeIfAbsent(jobUUID, uuid -> new CopyOnWriteArrayList<>()).add(listener);
+		return true;
+	}
+
+	/**
+	 * Unregisters listener - when already unregistered or notified nothing
+	 * happens
+	 *
+	 * @param jobUUID
+	 * @param listener
+	 */
+	public void unregister(UUID jobUUID, Runnable listener) {
+		listeners.computeIfPresent(jobUUID, (uuid, list) -> {
+			if (list.remove(listener)) {
+				waitingListeners.decrementAndGet();
+			}
+			return list.isEmpty() ? null : list;
+		});
+	}
+
+	/**
+	 * Notifies and unregisters all listeners waiting for given job
+	 *
+	 * @param jobUUID
+	 */
+	public void notifyJobEnded(UUID jobUUID) {
+		List<Runnable> removed = listeners.remove(jobUUID);
+		if (removed == null) {
+			return;
+		}
+		LOG.debug("Notify {} listener(s) about end of job {}", removed.size(), jobUUID);
+		for (Runnable listener : removed) {
+			waitingListeners.decrementAndGet();
+			try {
+				listener.run();
+			} catch (RuntimeException e) {
+				LOG.error("Listener for end of job {} failed", jobUUID, e);
+			}
+		}
+	}
+
+	/**
+	 * @return amount of listeners currently waiting
+	 */
+	public int getWaitingListenerCount() {
+		return waitingListeners.get();
+	}
+}
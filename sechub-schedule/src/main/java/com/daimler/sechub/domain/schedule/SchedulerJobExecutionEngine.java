@@ -0,0 +1,23 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+/**
+ * Engines available for job execution
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public enum SchedulerJobExecutionEngine {
+
+	/**
+	 * Job is executed by a spring batch job - batch meta data (job instance,
+	 * executions, contexts) is written to database for every job
+	 */
+	BATCH,
+
+	/**
+	 * Job is executed directly by a managed executor - no batch meta data is
+	 * written
+	 */
+	DIRECT,
+}
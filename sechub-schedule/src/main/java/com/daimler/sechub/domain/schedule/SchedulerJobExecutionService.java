@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.domain.schedule.batch.SecHubJobSafeUpdater;
+import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
+import com.daimler.sechub.domain.schedule.job.SecHubJobRepository;
+import com.daimler.sechub.domain.schedule.sourcecache.ScheduleSourceCacheService;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
+import com.daimler.sechub.sharedkernel.messaging.IsSendingAsyncMessage;
+import com.daimler.sechub.sharedkernel.messaging.IsSendingSyncMessage;
+import com.daimler.sechub.sharedkernel.messaging.JobMessage;
+import com.daimler.sechub.sharedkernel.messaging.MessageDataKey;
+import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
+import com.daimler.sechub.sharedkernel.messaging.MessageID;
+
+/**
+ * Executes the scan for a {@link ScheduleSecHubJob} - used by all execution
+ * engines (spring batch and direct), so failure handling is always the same.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class SchedulerJobExecutionService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SchedulerJobExecutionService.class);
+
+	@Autowired
+	@Lazy
+	DomainMessageService eventBusService;
+
+	@Autowired
+	SecHubJobRepository secHubJobRepository;
+
+	@Autowired
+	SecHubJobSafeUpdater secHubJobUpdater;
+
+	@Autowired
+	ScheduleSourceCacheService sourceCacheService;
+
+	/**
+	 * Executes scan for given job and waits until scan has been done. Job will be
+	 * marked as ended, either with result OK or FAILED. Never throws an
+	 * exception.
+	 *
+	 * @param secHubJobUUID
+	 */
+	@IsSendingSyncMessage(MessageID.START_SCAN)
+	public void executeScan(UUID secHubJobUUID) {
+		String secHubJobUUIDAsString = secHubJobUUID.toString();
+		try {
+			ScheduleSecHubJob sechubJob = secHubJobRepository.getOne(secHubJobUUID);
+			String secHubConfiguration = sechubJob.getJsonConfiguration();
+			LOG.info("Executing sechub job: {}", secHubJobUUIDAsString);
+
+			/* we send no a synchronous SCAN event */
+			DomainMessage request = new DomainMessage(MessageID.START_SCAN);
+			request.set(MessageDataKeys.EXECUTED_BY, sechubJob.getOwner());
+			request.set(MessageDataKeys.SECHUB_UUID, secHubJobUUID);
+			request.set(MessageDataKeys.SECHUB_CONFIG, MessageDataKeys.SECHUB_CONFIG.getProvider().get(secHubConfiguration));
+
+			/* wait for scan event result - synchron */
+			DomainMessageSynchronousResult response = eventBusService.sendSynchron(request);
+
+			/* result fetched, update scheduler data */
+			updateSecHubJob(secHubJobUUID, response);
+
+			LOG.info("executing done: {}", secHubJobUUIDAsString);
+
+			/* send domain event */
+			sendJobDone(secHubJobUUID);
+
+		} catch (Exception e) {
+			LOG.error("Error happend at job execution:" + e.getMessage(), e);
+
+			markSechHubJobFailed(secHubJobUUID);
+			sendJobFailed(secHubJobUUID);
+
+		} finally {
+			releaseSourceCacheReference(secHubJobUUID);
+		}
+	}
+
+	private void releaseSourceCacheReference(UUID secHubJobUUID) {
+		try {
+			sourceCacheService.release(secHubJobUUID);
+		} catch (RuntimeException e) {
+			/* stale references are removed by source cache eviction */
+			LOG.warn("Was not able to release source cache reference of job {}", secHubJobUUID, e);
+		}
+	}
+
+	private void markSechHubJobFailed(UUID secHubJobUUID) {
+		updateSecHubJob(secHubJobUUID, ExecutionResult.FAILED, null);
+
+		LOG.info("marked sechub as failed:{}",secHubJobUUID);
+	}
+
+	private void updateSecHubJob(UUID secHubUUID, DomainMessageSynchronousResult response) {
+		ExecutionResult result;
+		if (response.hasFailed()) {
+			result = ExecutionResult.FAILED;
+		} else {
+			result = ExecutionResult.OK;
+		}
+		String trafficLightString = response.get(MessageDataKeys.REPORT_TRAFFIC_LIGHT);
+		updateSecHubJob(secHubUUID, result, trafficLightString);
+	}
+
+	private void updateSecHubJob(UUID secHubUUID, ExecutionResult result, String trafficLightString) {
+		secHubJobUpdater.safeUpdateOfSecHubJob(secHubUUID, result, trafficLightString);
+	}
+
+	@IsSendingAsyncMessage(MessageID.JOB_DONE)
+	private void sendJobDone(UUID jobUUID) {
+		sendJobInfo(MessageDataKeys.JOB_DONE_DATA, jobUUID, MessageID.JOB_DONE);
+	}
+
+	@IsSendingAsyncMessage(MessageID.JOB_FAILED)
+	private void sendJobFailed(UUID jobUUID) {
+		sendJobInfo(MessageDataKeys.JOB_FAILED_DATA, jobUUID, MessageID.JOB_FAILED);
+	}
+
+	private void sendJobInfo(MessageDataKey<JobMessage> key, UUID jobUUID, MessageID id) {
+		DomainMessage request = new DomainMessage(id);
+		JobMessage message = createMessage(jobUUID);
+
+		request.set(key, message);
+
+		eventBusService.sendAsynchron(request);
+	}
+
+	private JobMessage createMessage(UUID jobUUID) {
+		JobMessage message = new JobMessage();
+		message.setJobUUID(jobUUID);
+		message.setSince(LocalDateTime.now());
+		return message;
+	}
+
+}
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.daimler.sechub.sharedkernel.APIConstants;
@@ -114,6 +115,20 @@ public class SchedulerRestController {
 
 	}
 
+	/* long poll variant - response is sent when job has ended or wait time has passed */
+	/* @formatter:off */
+	@Validated
+	@RequestMapping(path = "/job/{jobUUID}", method = RequestMethod.GET, params = "waitSeconds")
+	public DeferredResult<ScheduleJobStatus> waitForJobStatus(
+			@PathVariable("projectId") String projectId,
+			@PathVariable("jobUUID") UUID jobUUID,
+			@RequestParam("waitSeconds") int waitSeconds
+			) {
+		/* @formatter:on */
+		return jobStatusService.waitForJobStatus(projectId, jobUUID, waitSeconds);
+
+	}
+
 	@InitBinder
 	protected void initBinder(WebDataBinder binder) {
 		binder.setValidator(validator);
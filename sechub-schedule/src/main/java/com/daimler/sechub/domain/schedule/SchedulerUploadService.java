@@ -4,34 +4,41 @@ package com.daimler.sechub.domain.schedule;
 import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.InputStream;
+import java.security.DigestInputStream;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
+import com.daimler.sechub.domain.schedule.sourcecache.ScheduleSourceCacheEntry;
+import com.daimler.sechub.domain.schedule.sourcecache.ScheduleSourceCacheService;
 import com.daimler.sechub.sharedkernel.Step;
 import com.daimler.sechub.sharedkernel.UUIDTraceLogID;
 import com.daimler.sechub.sharedkernel.error.NotAcceptableException;
 import com.daimler.sechub.sharedkernel.logging.AuditLogService;
 import com.daimler.sechub.sharedkernel.logging.LogSanitizer;
+import com.daimler.sechub.sharedkernel.storage.SourceCodeArchiveStorageService;
 import com.daimler.sechub.sharedkernel.storage.StorageService;
 import com.daimler.sechub.sharedkernel.usecases.user.execute.UseCaseUserUploadsSourceCode;
 import com.daimler.sechub.sharedkernel.util.FileChecksumSHA256Service;
 import com.daimler.sechub.sharedkernel.util.SecHubRuntimeException;
 import com.daimler.sechub.sharedkernel.util.ZipSupport;
+import com.daimler.sechub.sharedkernel.util.ZipValidatingInputStream;
 import com.daimler.sechub.sharedkernel.validation.UserInputAssertion;
 import com.daimler.sechub.storage.core.JobStorage;
 
 @Service
 public class SchedulerUploadService {
 
-	static final String SOURCECODE_ZIP = "sourcecode.zip";
+	static final String SOURCECODE_ZIP = SourceCodeArchiveStorageService.SOURCECODE_ZIP;
+
+	static final String UPLOAD_SUFFIX = ".upload";
 
 	private static final Logger LOG = LoggerFactory.getLogger(SchedulerUploadService.class);
 
@@ -56,6 +63,9 @@ public class SchedulerUploadService {
 	@Autowired
 	UserInputAssertion assertion;
 
+	@Autowired
+	ScheduleSourceCacheService sourceCacheService;
+
 	@UseCaseUserUploadsSourceCode(@Step(number = 2, name = "Try to find project annd upload sourcecode as zipfile", description = "When project is found and user has access and job is initializing the sourcecode file will be uploaded"))
 	public void uploadSourceCode(String projectId, UUID jobUUID, MultipartFile file, String checkSum) {
 		assertion.isValidProjectId(projectId);
@@ -70,50 +80,103 @@ public class SchedulerUploadService {
 
 		assertJobFoundAndStillInitializing(projectId, jobUUID);
 
-		JobStorage jobStorage = storageService.getJobStorage(projectId, jobUUID);
-		Path tmpFile = null;
-		try {
-			/* prepare a tmp file for validation */
-			try {
-				tmpFile = Files.createTempFile("sechub_schedule_upload_tmp", null);
-				file.transferTo(tmpFile);
-			} catch (IOException e) {
-				LOG.error("Was not able to create temp file of zipped sources!", e);
-				throw new SecHubRuntimeException("Was not able to create temp file");
-			}
-			/* validate */
-			assertValidZipFile(tmpFile);
-			assertCheckSumCorrect(checkSum, tmpFile);
-
-			/* now store */
-			try {
-				jobStorage.store(SOURCECODE_ZIP, file.getInputStream());
-			} catch (IOException e) {
-				LOG.error("Was not able to store zipped sources! {}", traceLogID, e);
-				throw new SecHubRuntimeException("Was not able to upload sources");
-			}
+		if (!sourceCacheService.isEnabled() || !isSHA256Checksum(checkSum)) {
+			storeAndAssertValid(storageService.getJobStorage(projectId, jobUUID), SOURCECODE_ZIP, file, checkSum, traceLogID);
 			LOG.info("uploaded sourcecode for {}", traceLogID);
-		} finally {
-			if (tmpFile != null && Files.exists(tmpFile)) {
-				try {
-					Files.delete(tmpFile);
-				} catch (IOException e) {
-					LOG.error("Was not able delete former temp file for zipped sources! {}",traceLogID, e);
+			return;
+		}
+		ScheduleSourceCacheEntry cacheEntry = sourceCacheService.findUsableEntry(projectId, checkSum);
+		try {
+			if (cacheEntry != null) {
+				/* same archive already cached - so only validate upload but do not store again */
+				assertValid(file, checkSum, traceLogID);
+				if (sourceCacheService.reference(cacheEntry, jobUUID)) {
+					LOG.info("uploaded sourcecode for {} already cached", traceLogID);
+					return;
 				}
+				/* evicted in the meantime - so store as new archive */
 			}
+			String blobName = jobUUID + ".zip";
+			JobStorage cacheStorage = sourceCacheService.getCacheStorage(projectId, checkSum);
+			storeAndAssertValid(cacheStorage, blobName, file, checkSum, traceLogID);
+			sourceCacheService.register(projectId, jobUUID, checkSum, blobName);
+
+		} catch (IOException e) {
+			LOG.error("Was not able to reference cached sources! {}", traceLogID, e);
+			throw new SecHubRuntimeException("Was not able to upload sources");
+		}
+		LOG.info("uploaded sourcecode for {}", traceLogID);
+
+	}
+
+	/*
+	 * single pass: checksum and zip structure are validated while the upload is
+	 * stored under a temporary name. Only a valid upload is renamed to given name,
+	 * so a former valid object is never replaced by an invalid one - otherwise the
+	 * temporary object is discarded
+	 */
+	private void storeAndAssertValid(JobStorage storage, String name, MultipartFile file, String checkSum, String traceLogID) {
+		String uploadName = name + "." + UUID.randomUUID() + UPLOAD_SUFFIX;
+		try (InputStream uploadStream = file.getInputStream()) {
+			DigestInputStream checksumStream = checksumSHA256Service.createChecksumCalculatingStream(uploadStream);
+			ZipValidatingInputStream zipValidatingStream = zipSupport.createZipValidatingStream(checksumStream);
+
+			storage.store(uploadName, zipValidatingStream);
+
+			assertValidZipFile(zipValidatingStream);
+			assertCheckSumCorrect(checkSum, checksumStream);
+
+			storage.rename(uploadName, name);
+
+		} catch (IOException e) {
+			LOG.error("Was not able to store zipped sources! {}", traceLogID, e);
+			discardUpload(storage, uploadName, traceLogID);
+			throw new SecHubRuntimeException("Was not able to upload sources");
+		} catch (RuntimeException e) {
+			discardUpload(storage, uploadName, traceLogID);
+			throw e;
 		}
+	}
+
+	private void assertValid(MultipartFile file, String checkSum, String traceLogID) {
+		DigestInputStream checksumStream = null;
+		ZipValidatingInputStream zipValidatingStream = null;
+		try (InputStream uploadStream = file.getInputStream()) {
+			checksumStream = checksumSHA256Service.createChecksumCalculatingStream(uploadStream);
+			zipValidatingStream = zipSupport.createZipValidatingStream(checksumStream);
 
+			StreamUtils.drain(zipValidatingStream);
+
+		} catch (IOException e) {
+			LOG.error("Was not able to read zipped sources! {}", traceLogID, e);
+			throw new SecHubRuntimeException("Was not able to upload sources");
+		}
+		assertValidZipFile(zipValidatingStream);
+		assertCheckSumCorrect(checkSum, checksumStream);
+	}
+
+	private boolean isSHA256Checksum(String checkSum) {
+		return checkSum != null && checkSum.matches("[0-9a-f]{64}");
+	}
+
+	private void discardUpload(JobStorage storage, String name, String traceLogID) {
+		try {
+			storage.delete(name);
+		} catch (IOException e) {
+			LOG.error("Was not able to discard uploaded sources! {}", traceLogID, e);
+		}
 	}
 
-	private void assertCheckSumCorrect(String checkSum, Path path) {
-		LOG.error("uploaded file is has not correct checksum! So something happend on upload!");
-		if (!checksumSHA256Service.hasCorrectChecksum(checkSum, path.toAbsolutePath().toString())) {
+	private void assertCheckSumCorrect(String checkSum, DigestInputStream checksumStream) {
+		String calculated = checksumSHA256Service.getChecksum(checksumStream);
+		if (checkSum == null || !checkSum.equals(calculated)) {
+			LOG.error("uploaded file is has not correct checksum! So something happend on upload!");
 			throw new NotAcceptableException("Sourcecode checksum check failed");
 		}
 	}
 
-	private void assertValidZipFile(Path path) {
-		if (!zipSupport.isZipFile(path)) {
+	private void assertValidZipFile(ZipValidatingInputStream zipValidatingStream) {
+		if (!zipValidatingStream.isValidZip()) {
 			LOG.error("uploaded file is NOT a valid ZIP file! Doing garbage control!");
 			throw new NotAcceptableException("Sourcecode is not wrapped inside a valid zip file");
 		}
@@ -12,11 +12,18 @@ import org.springframework.batch.core.repository.JobExecutionAlreadyRunningExcep
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 
 /**
  * A special job launcher which uses a simple async task executor so job is
  * executed asynchronous (in spite of default implementation in
- * {@link SimpleJobLauncher} which is synchronous)
+ * {@link SimpleJobLauncher} which is synchronous).<br>
+ * <br>
+ * When the task executor rejects the job, {@link SimpleJobLauncher} only marks
+ * the execution as failed and returns. This launcher throws the
+ * {@link TaskRejectedException} instead - the job was never started, so callers
+ * must be able to react (e.g. release the reserved job slot).
  * 
  * @author Albert Tregnaghi
  *
@@ -25,14 +32,51 @@ public class AsyncJobLauncher extends SimpleJobLauncher {
 
 	private static final Logger LOG = LoggerFactory.getLogger(AsyncJobLauncher.class);
 
+	private final ThreadLocal<TaskRejectedException> rejection = new ThreadLocal<>();
+
 	public AsyncJobLauncher() {
 		this.setTaskExecutor(new SimpleAsyncTaskExecutor("async-job-launcher"));
 	}
 
+	@Override
+	public void setTaskExecutor(TaskExecutor taskExecutor) {
+		super.setTaskExecutor(new RejectionRememberingTaskExecutor(taskExecutor));
+	}
+
 	@Override
 	public JobExecution run(Job job, JobParameters jobParameters) throws JobExecutionAlreadyRunningException,
 			JobRestartException, JobInstanceAlreadyCompleteException, JobParametersInvalidException {
 		LOG.info("async run of job :{}", job.getName());
-		return super.run(job, jobParameters);
+		rejection.remove();
+		try {
+			JobExecution execution = super.run(job, jobParameters);
+			TaskRejectedException rejected = rejection.get();
+			if (rejected != null) {
+				LOG.warn("async run of job :{} was rejected, execution marked as {}", job.getName(), execution.getStatus());
+				throw rejected;
+			}
+			return execution;
+		} finally {
+			rejection.remove();
+		}
+	}
+
+	private class RejectionRememberingTaskExecutor implements TaskExecutor {
+
+		private TaskExecutor delegate;
+
+		private RejectionRememberingTaskExecutor(TaskExecutor delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void execute(Runnable task) {
+			try {
+				delegate.execute(task);
+			} catch (TaskRejectedException e) {
+				rejection.set(e);
+				throw e;
+			}
+		}
 	}
-}
\ No newline at end of file
+}
@@ -3,7 +3,7 @@ package com.daimler.sechub.domain.schedule.batch;
 
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
-import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.listener.JobExecutionListenerSupport;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
@@ -14,8 +14,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import com.daimler.sechub.domain.schedule.job.SecHubJobRepository;
-import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
+import com.daimler.sechub.domain.schedule.SchedulerCapacityService;
+import com.daimler.sechub.domain.schedule.SchedulerJobExecutionService;
 
 @Configuration
 @EnableBatchProcessing
@@ -33,33 +33,29 @@ public class BatchConfiguration {
 	public JobRepository jobRepository;
 
 	@Autowired
-	private DomainMessageService eventBusService;
+	private SchedulerJobExecutionService jobExecutionService;
 
 	@Autowired
-	private SecHubJobRepository secHubJobRepository;
-
-	@Autowired
-	private SecHubJobSafeUpdater secHubJobUpdater;
+	private SchedulerCapacityService capacityService;
 
 	@Bean
 	public AsyncJobLauncher createJobLauncher() {
 		AsyncJobLauncher launcher = new AsyncJobLauncher();
 		launcher.setJobRepository(jobRepository);
+		launcher.setTaskExecutor(capacityService.createJobTaskExecutor("async-job-launcher-"));
 		return launcher;
 	}
 
 	@Bean
 	public Job executeScan() {
 
-		BatchJobExecutionScope scope = new BatchJobExecutionScope();
-
 		/* @formatter:off */
 
     	return jobBuilderFactory.get("executeScan").
     			incrementer(new RunIdIncrementer()).
-                listener(scope).
+                listener(new SlotReleasingJobExecutionListener()).
                 repository(jobRepository).
-                flow(step1Execute(scope)).
+                flow(step1Execute()).
                 end().
           build();
                 
@@ -70,42 +66,24 @@ public class BatchConfiguration {
 	/* +............................ STEPS ....................................+ */
 	/* +-----------------------------------------------------------------------+ */
 	@Bean
-	public Step step1Execute(BatchJobExecutionScope scope) {
+	public Step step1Execute() {
 		/* @formatter:off */
         return stepBuilderFactory.get("step1Execute").
         		allowStartIfComplete(true).
-        		tasklet(new ScanExecutionTasklet(scope)).
+        		tasklet(new ScanExecutionTasklet(jobExecutionService)).
                 build();
         /* @formatter:on */
 	}
 
-	class BatchJobExecutionScope implements JobExecutionListener {
-
-		private JobExecution jobExecution;
-
-		public JobExecution getJobExecution() {
-			return jobExecution;
-		}
-
-		@Override
-		public void beforeJob(JobExecution jobExecution) {
-			this.jobExecution = jobExecution;
-		}
+	/**
+	 * Releases the job slot after each job execution. Stateless, so it can be
+	 * shared by all concurrently running job executions.
+	 */
+	private class SlotReleasingJobExecutionListener extends JobExecutionListenerSupport {
 
 		@Override
 		public void afterJob(JobExecution jobExecution) {
-		}
-
-		public DomainMessageService getEventBusService() {
-			return eventBusService;
-		}
-
-		public SecHubJobRepository getSecHubJobRepository() {
-			return secHubJobRepository;
-		}
-
-		public SecHubJobSafeUpdater getSecHubJobUpdater() {
-			return secHubJobUpdater;
+			capacityService.releaseSlot();
 		}
 
 	}
@@ -30,11 +30,17 @@ public class SchedulerConfig {
 
 	public static final String COLUMN_JOB_PROCESSING_ENABLED = "CONFIG_JOB_PROCESSING_ENABLED";
 
+	public static final String COLUMN_JOB_READY_SIGNAL = "CONFIG_JOB_READY_SIGNAL";
+
 	/* +-----------------------------------------------------------------------+ */
 	/* +............................ JPQL .....................................+ */
 	/* +-----------------------------------------------------------------------+ */
 	public static final String CLASS_NAME = SchedulerConfig.class.getSimpleName();
 
+	public static final String PROPERTY_ID = "id";
+
+	public static final String PROPERTY_JOB_READY_SIGNAL = "jobReadySignal";
+
 	@Id
 	@Column(name = COLUMN_ID, unique = true, nullable = false)
 	Integer id = ID;
@@ -42,6 +48,14 @@ public class SchedulerConfig {
 	@Column(name = COLUMN_JOB_PROCESSING_ENABLED, nullable = false)
 	boolean jobProcessingEnabled = true;
 
+	/**
+	 * Counter increased on every job approval - changes are recognized by all
+	 * cluster members and lead to an immediate dispatch run. Only changed by
+	 * update queries, so no version increment is done for this column.
+	 */
+	@Column(name = COLUMN_JOB_READY_SIGNAL, nullable = false)
+	long jobReadySignal;
+
     @Version
 	@Column(name = "VERSION")
 	Integer version;
@@ -1,9 +1,21 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.schedule.config;
 
+import static com.daimler.sechub.domain.schedule.config.SchedulerConfig.*;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface SchedulerConfigRepository extends JpaRepository<SchedulerConfig, Integer>{
 
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE SchedulerConfig c set c." + PROPERTY_JOB_READY_SIGNAL + " = c." + PROPERTY_JOB_READY_SIGNAL + " + 1 where c." + PROPERTY_ID + " = ?1")
+	public int increaseJobReadySignal(Integer configId);
+
+	@Query(value = "SELECT c." + PROPERTY_JOB_READY_SIGNAL + " FROM SchedulerConfig c where c." + PROPERTY_ID + " = ?1")
+	public Long findJobReadySignal(Integer configId);
 
 }
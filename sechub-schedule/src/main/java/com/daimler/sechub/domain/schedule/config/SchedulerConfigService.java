@@ -83,4 +83,23 @@ public class SchedulerConfigService {
 		SchedulerConfig config = getOrCreateConfig();
 		return config.isJobProcessingEnabled();
 	}
+
+	/**
+	 * Increases job ready signal inside database, so all cluster members are able
+	 * to recognize new jobs
+	 */
+	public void signalJobReadyToStart() {
+		if (repository.increaseJobReadySignal(SchedulerConfig.ID) == 0) {
+			/* config not existing - create it, signal will be recognized by creation */
+			getOrCreateConfig();
+		}
+	}
+
+	/**
+	 * @return current job ready signal, <code>null</code> when config does not
+	 *         exist
+	 */
+	public Long getJobReadySignal() {
+		return repository.findJobReadySignal(SchedulerConfig.ID);
+	}
 }
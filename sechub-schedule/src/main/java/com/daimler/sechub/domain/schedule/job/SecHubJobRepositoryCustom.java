@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.schedule.job;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SecHubJobRepositoryCustom {
@@ -10,4 +11,15 @@ public interface SecHubJobRepositoryCustom {
 	 *         necessary
 	 */
 	Optional<ScheduleSecHubJob> findNextJobToExecute();
+
+	/**
+	 * Claims next executable jobs. The returned jobs are locked until end of
+	 * current transaction. Jobs already locked by another transaction (e.g. by
+	 * another POD) are skipped when database supports this, so different PODs
+	 * claim different jobs without conflicts.
+	 *
+	 * @param maximum maximum amount of jobs to claim
+	 * @return list of claimed jobs, oldest first - never <code>null</code>
+	 */
+	List<ScheduleSecHubJob> findNextJobsToExecute(int maximum);
 }
@@ -4,14 +4,15 @@ package com.daimler.sechub.domain.schedule.job;
 import static com.daimler.sechub.domain.schedule.ExecutionState.*;
 import static com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
-import javax.persistence.Query;
+import javax.persistence.TypedQuery;
 
-import com.daimler.sechub.sharedkernel.jpa.TypedQuerySupport;
+import org.hibernate.LockOptions;
 
 public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
 	/* @formatter:off */
@@ -21,22 +22,33 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
 					" order by j."+PROPERTY_CREATED;
 	/* @formatter:on */
 
-	private final TypedQuerySupport<ScheduleSecHubJob> typedQuerySupport = new TypedQuerySupport<>(ScheduleSecHubJob.class);
+	private static final String HINT_LOCK_TIMEOUT = "javax.persistence.lock.timeout";
 
 	@PersistenceContext
 	private EntityManager em;
 
 	@Override
 	public Optional<ScheduleSecHubJob> findNextJobToExecute() {
+		return findNextJobsToExecute(1).stream().findFirst();
+	}
 
-		Query query = em.createQuery(JPQL_STRING_SELECT_BY_EXECUTION_STATE);
-		query.setParameter(PROPERTY_EXECUTION_STATE, READY_TO_START);
-		query.setMaxResults(1);
-		// we use OPTIMISTIC_FORCE_INCREMENT write lock - so only one POD will be able to execute next job...
-		// see https://www.baeldung.com/jpa-pessimistic-locking
-		query.setLockMode(LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+	@Override
+	public List<ScheduleSecHubJob> findNextJobsToExecute(int maximum) {
 
-		return typedQuerySupport.getSingleResultAsOptional(query);
+		TypedQuery<ScheduleSecHubJob> query = em.createQuery(JPQL_STRING_SELECT_BY_EXECUTION_STATE, ScheduleSecHubJob.class);
+		query.setParameter(PROPERTY_EXECUTION_STATE, READY_TO_START);
+		query.setMaxResults(Math.max(1, maximum));
+		/*
+		 * We use a pessimistic write lock with SKIP LOCKED ("select ... for update
+		 * skip locked" on PostgreSQL). So every POD claims other jobs in one round
+		 * trip and we have no optimistic locking failures and retries. Databases not
+		 * supporting SKIP LOCKED (e.g. H2) will use a normal "for update" instead,
+		 * so another POD waits until the lock has been released.
+		 */
+		query.setLockMode(LockModeType.PESSIMISTIC_WRITE);
+		query.setHint(HINT_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED);
+
+		return query.getResultList();
 	}
 
 }
@@ -0,0 +1,118 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.sourcecache;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+/**
+ * Entry for a cached source code archive. Identified by project and SHA256
+ * checksum of the archive - see
+ * {@link com.daimler.sechub.sharedkernel.storage.SourceCodeArchiveStorageService#createCacheId(String, String)}
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Entity
+@Table(name = ScheduleSourceCacheEntry.TABLE_NAME)
+public class ScheduleSourceCacheEntry {
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ SQL ......................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String TABLE_NAME = "SCHEDULE_SOURCE_CACHE";
+
+	public static final String COLUMN_ID = "ID";
+	public static final String COLUMN_PROJECT_ID = "PROJECT_ID";
+	public static final String COLUMN_CHECKSUM = "CHECKSUM";
+	public static final String COLUMN_BLOB_NAME = "BLOB_NAME";
+	public static final String COLUMN_LAST_USED = "LAST_USED";
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ JPQL .....................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String CLASS_NAME = ScheduleSourceCacheEntry.class.getSimpleName();
+
+	@Id
+	@Column(name = COLUMN_ID, unique = true, nullable = false)
+	UUID id;
+
+	@Column(name = COLUMN_PROJECT_ID, nullable = false)
+	String projectId;
+
+	@Column(name = COLUMN_CHECKSUM, nullable = false)
+	String checksum;
+
+	@Column(name = COLUMN_BLOB_NAME, nullable = false)
+	String blobName;
+
+	@Column(name = COLUMN_LAST_USED, nullable = false)
+	LocalDateTime lastUsed;
+
+	@Version
+	@Column(name = "VERSION")
+	Integer version;
+
+	ScheduleSourceCacheEntry() {
+		// jpa only
+	}
+
+	public ScheduleSourceCacheEntry(UUID id, String projectId, String checksum, String blobName) {
+		this.id = id;
+		this.projectId = projectId;
+		this.checksum = checksum;
+		this.blobName = blobName;
+		this.lastUsed = LocalDateTime.now();
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public String getProjectId() {
+		return projectId;
+	}
+
+	public String getChecksum() {
+		return checksum;
+	}
+
+	public String getBlobName() {
+		return blobName;
+	}
+
+	public LocalDateTime getLastUsed() {
+		return lastUsed;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((id == null) ? 0 : id.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ScheduleSourceCacheEntry other = (ScheduleSourceCacheEntry) obj;
+		if (id == null) {
+			if (other.id != null)
+				return false;
+		} else if (!id.equals(other.id))
+			return false;
+		return true;
+	}
+
+}
@@ -0,0 +1,49 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.sourcecache;
+
+import static com.daimler.sechub.domain.schedule.sourcecache.ScheduleSourceCacheEntry.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ScheduleSourceCacheEntryRepository extends JpaRepository<ScheduleSourceCacheEntry, UUID> {
+
+	/* @formatter:off */
+	@Query(value="SELECT * FROM "+TABLE_NAME+" c where c."+COLUMN_LAST_USED+" < ?1 and not exists "
+			+ "(SELECT 1 FROM "+ScheduleSourceCacheReference.TABLE_NAME+" r where r."+ScheduleSourceCacheReference.COLUMN_CACHE_ID+" = c."+COLUMN_ID+")",
+			nativeQuery=true)
+	/* @formatter:on */
+	public List<ScheduleSourceCacheEntry> findUnreferencedEntriesNotUsedSince(LocalDateTime since);
+
+	/**
+	 * Deletes entry only when still not referenced and not used since given
+	 * time. The check is done inside the delete statement, so an entry
+	 * referenced or used by another POD in the meantime is never deleted.
+	 *
+	 * @return amount of deleted entries - 0 when entry is in use (or already
+	 *         deleted)
+	 */
+	/* @formatter:off */
+	@Modifying
+	@Transactional
+	@Query(value="DELETE FROM "+TABLE_NAME+" where "+COLUMN_ID+" = ?1 and "+COLUMN_LAST_USED+" < ?2 and not exists "
+			+ "(SELECT 1 FROM "+ScheduleSourceCacheReference.TABLE_NAME+" r where r."+ScheduleSourceCacheReference.COLUMN_CACHE_ID+" = ?1)",
+			nativeQuery=true)
+	/* @formatter:on */
+	public int deleteWhenUnreferencedAndNotUsedSince(UUID id, LocalDateTime since);
+
+	/**
+	 * Marks entry as used - without version increment, so no optimistic locking
+	 * problems happen for parallel uploads
+	 */
+	@Modifying
+	@Transactional
+	@Query("update ScheduleSourceCacheEntry c set c.lastUsed = ?2 where c.id = ?1")
+	public int markUsed(UUID id, LocalDateTime lastUsed);
+}
@@ -0,0 +1,99 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.sourcecache;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+/**
+ * Reference from a sechub job to a cached source code archive. The amount of
+ * references is the reference count of a cache entry - entries are only
+ * evicted when not referenced.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Entity
+@Table(name = ScheduleSourceCacheReference.TABLE_NAME)
+public class ScheduleSourceCacheReference {
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ SQL ......................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String TABLE_NAME = "SCHEDULE_SOURCE_CACHE_REF";
+
+	public static final String COLUMN_JOB_UUID = "JOB_UUID";
+	public static final String COLUMN_CACHE_ID = "CACHE_ID";
+	public static final String COLUMN_CREATED = "CREATED";
+
+	/* +-----------------------------------------------------------------------+ */
+	/* +............................ JPQL .....................................+ */
+	/* +-----------------------------------------------------------------------+ */
+	public static final String CLASS_NAME = ScheduleSourceCacheReference.class.getSimpleName();
+
+	@Id
+	@Column(name = COLUMN_JOB_UUID, unique = true, nullable = false)
+	UUID jobUUID;
+
+	@Column(name = COLUMN_CACHE_ID, nullable = false)
+	UUID cacheId;
+
+	@Column(name = COLUMN_CREATED, nullable = false)
+	LocalDateTime created;
+
+	@Version
+	@Column(name = "VERSION")
+	Integer version;
+
+	ScheduleSourceCacheReference() {
+		// jpa only
+	}
+
+	public ScheduleSourceCacheReference(UUID jobUUID, UUID cacheId) {
+		this.jobUUID = jobUUID;
+		this.cacheId = cacheId;
+		this.created = LocalDateTime.now();
+	}
+
+	public UUID getJobUUID() {
+		return jobUUID;
+	}
+
+	public UUID getCacheId() {
+		return cacheId;
+	}
+
+	public LocalDateTime getCreated() {
+		return created;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((jobUUID == null) ? 0 : jobUUID.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ScheduleSourceCacheReference other = (ScheduleSourceCacheReference) obj;
+		if (jobUUID == null) {
+			if (other.jobUUID != null)
+				return false;
+		} else if (!jobUUID.equals(other.jobUUID))
+			return false;
+		return true;
+	}
+}
@@ -0,0 +1,20 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.sourcecache;
+
+import static com.daimler.sechub.domain.schedule.sourcecache.ScheduleSourceCacheReference.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ScheduleSourceCacheReferenceRepository extends JpaRepository<ScheduleSourceCacheReference, UUID> {
+
+	@Modifying
+	@Transactional
+	@Query(value="DELETE FROM "+TABLE_NAME+" where "+COLUMN_CREATED+" < ?1",nativeQuery=true)
+	public int deleteReferencesCreatedBefore(LocalDateTime created);
+}
@@ -0,0 +1,202 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.sourcecache;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.storage.SourceCodeArchiveStorageService;
+import com.daimler.sechub.storage.core.JobStorage;
+
+/**
+ * Content addressed cache for uploaded source code archives. Archives are
+ * identified by project and SHA256 checksum, so an archive uploaded again (e.g.
+ * by a retry inside a build pipeline) is not stored again. Jobs reference the
+ * cached archive - references are released when job has been executed. Cache
+ * entries without references are evicted after a configurable time to live.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class ScheduleSourceCacheService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ScheduleSourceCacheService.class);
+
+	private static final int DEFAULT_TTL_DAYS = 3;
+
+	@MustBeDocumented(value = "When enabled (default) uploaded source code archives are stored content addressed (per project and checksum) and same archives are stored only once", scope = "storage")
+	@Value("${sechub.storage.sourcecache.enabled:true}")
+	boolean enabled = true;
+
+	@MustBeDocumented(value = "Days a cached source code archive is kept after last usage when no job references it anymore. "
+			+ "References of jobs not executed within this time are removed as well", scope = "storage")
+	@Value("${sechub.storage.sourcecache.ttl.days:" + DEFAULT_TTL_DAYS + "}")
+	int timeToLiveInDays = DEFAULT_TTL_DAYS;
+
+	@Autowired
+	ScheduleSourceCacheEntryRepository entryRepository;
+
+	@Autowired
+	ScheduleSourceCacheReferenceRepository referenceRepository;
+
+	@Autowired
+	SourceCodeArchiveStorageService archiveStorageService;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Resolves cache entry for given project and checksum
+	 *
+	 * @param projectId
+	 * @param checksum
+	 * @return entry or <code>null</code> when no usable entry exists
+	 */
+	public ScheduleSourceCacheEntry findUsableEntry(String projectId, String checksum) {
+		UUID cacheId = archiveStorageService.createCacheId(projectId, checksum);
+		Optional<ScheduleSourceCacheEntry> found = entryRepository.findById(cacheId);
+		if (!found.isPresent()) {
+			return null;
+		}
+		ScheduleSourceCacheEntry entry = found.get();
+		try {
+			if (getCacheStorage(entry).isExisting(entry.getBlobName())) {
+				return entry;
+			}
+		} catch (IOException e) {
+			LOG.warn("Was not able to check cached source archive {}", cacheId, e);
+			return null;
+		}
+		LOG.warn("Cached source archive {} no longer available, remove cache entry", cacheId);
+		entryRepository.delete(entry);
+		return null;
+	}
+
+	/**
+	 * @param projectId
+	 * @param checksum
+	 * @return storage where archive for given checksum is cached
+	 */
+	public JobStorage getCacheStorage(String projectId, String checksum) {
+		return archiveStorageService.getCacheStorage(projectId, checksum);
+	}
+
+	/**
+	 * Registers a new cached archive and references it by given job. When
+	 * another upload has registered same archive in the meantime, the existing
+	 * entry is referenced and given blob is deleted.
+	 *
+	 * @param projectId
+	 * @param jobUUID
+	 * @param checksum
+	 * @param blobName  name of archive inside cache storage
+	 * @throws IOException
+	 */
+	public void register(String projectId, UUID jobUUID, String checksum, String blobName) throws IOException {
+		UUID cacheId = archiveStorageService.createCacheId(projectId, checksum);
+		ScheduleSourceCacheEntry entry;
+		try {
+			entry = entryRepository.saveAndFlush(new ScheduleSourceCacheEntry(cacheId, projectId, checksum, blobName));
+		} catch (DataIntegrityViolationException e) {
+			LOG.debug("Source archive {} already registered by another upload", cacheId);
+			entry = entryRepository.findById(cacheId).orElseThrow(() -> new IOException("Cache entry " + cacheId + " not found"));
+			if (!blobName.equals(entry.getBlobName())) {
+				getCacheStorage(entry).delete(blobName);
+			}
+		}
+		if (!reference(entry, jobUUID)) {
+			throw new IOException("Cache entry " + cacheId + " was evicted while registering");
+		}
+	}
+
+	/**
+	 * Given job references given cache entry. The reference is stored before the
+	 * entry is marked as used, so eviction (which checks both inside its delete
+	 * statement) can not remove the entry afterwards. When the entry has been
+	 * evicted before, the reference is removed again.
+	 *
+	 * @param entry
+	 * @param jobUUID
+	 * @return <code>true</code> when referenced, <code>false</code> when entry
+	 *         has been evicted in the meantime - archive must be stored again
+	 * @throws IOException
+	 */
+	public boolean reference(ScheduleSourceCacheEntry entry, UUID jobUUID) throws IOException {
+		if (referenceRepository.existsById(jobUUID)) {
+			/* job uploads again */
+			referenceRepository.deleteById(jobUUID);
+		}
+		referenceRepository.save(new ScheduleSourceCacheReference(jobUUID, entry.getId()));
+		if (entryRepository.markUsed(entry.getId(), LocalDateTime.now()) == 0) {
+			LOG.info("Cached source archive {} was evicted in the meantime, so not referenced by job {}", entry.getId(), jobUUID);
+			referenceRepository.deleteById(jobUUID);
+			return false;
+		}
+
+		archiveStorageService.storeCacheReference(entry.getProjectId(), jobUUID, entry.getChecksum(), entry.getBlobName());
+		return true;
+	}
+
+	/**
+	 * Releases reference of given job - when job has no reference nothing
+	 * happens
+	 *
+	 * @param jobUUID
+	 */
+	public void release(UUID jobUUID) {
+		if (!referenceRepository.existsById(jobUUID)) {
+			return;
+		}
+		referenceRepository.deleteById(jobUUID);
+		LOG.debug("Released source cache reference of job {}", jobUUID);
+	}
+
+	/**
+	 * Evicts cached archives not referenced and not used for time to live days.
+	 * References of jobs not executed within time to live days are removed
+	 * before. Eviction runs on every POD: an entry is only deleted by a guarded
+	 * delete statement, and only the POD which has deleted the entry deletes the
+	 * archive.
+	 */
+	@MustBeDocumented(value = "Delay in milliseconds between two evictions of source cache - default is one hour", scope = "storage")
+	@Scheduled(fixedDelayString = "${sechub.storage.sourcecache.eviction.delay:3600000}")
+	public void evict() {
+		LocalDateTime limit = LocalDateTime.now().minusDays(Math.max(1, timeToLiveInDays));
+
+		int staleReferences = referenceRepository.deleteReferencesCreatedBefore(limit);
+		if (staleReferences > 0) {
+			LOG.info("Removed {} stale source cache references", staleReferences);
+		}
+		List<ScheduleSourceCacheEntry> entries = entryRepository.findUnreferencedEntriesNotUsedSince(limit);
+		for (ScheduleSourceCacheEntry entry : entries) {
+			try {
+				if (entryRepository.deleteWhenUnreferencedAndNotUsedSince(entry.getId(), limit) == 0) {
+					LOG.debug("Cached source archive {} is in use again or already evicted", entry.getId());
+					continue;
+				}
+				/* only own blob - an upload after the delete may already have stored a new one */
+				getCacheStorage(entry).delete(entry.getBlobName());
+				LOG.info("Evicted cached source archive {} of project {}", entry.getId(), entry.getProjectId());
+			} catch (IOException | RuntimeException e) {
+				LOG.error("Was not able to evict cached source archive {}", entry.getId(), e);
+			}
+		}
+	}
+
+	private JobStorage getCacheStorage(ScheduleSourceCacheEntry entry) {
+		return getCacheStorage(entry.getProjectId(), entry.getChecksum());
+	}
+}
@@ -1,11 +1,16 @@
 package com.daimler.sechub.domain.schedule.status;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import com.daimler.sechub.domain.schedule.SchedulerCapacityService;
 import com.daimler.sechub.domain.schedule.config.SchedulerConfigService;
 import com.daimler.sechub.domain.schedule.job.SecHubJobRepository;
+import com.daimler.sechub.sharedkernel.cluster.ClusterEnvironmentService;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessageFactory;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
@@ -27,6 +32,12 @@ public class SchedulerStatusService {
 	@Autowired
 	SchedulerConfigService configService;
 
+	@Autowired
+	SchedulerCapacityService capacityService;
+
+	@Autowired
+	ClusterEnvironmentService environmentService;
+
 	@IsSendingAsyncMessage(MessageID.SCHEDULER_STATUS_UPDATE)
 	public void buildStatus() {
 		DomainMessage message = DomainMessageFactory.createEmptyRequest(MessageID.SCHEDULER_STATUS_UPDATE);
@@ -42,10 +53,26 @@ public class SchedulerStatusService {
 		sm.setAmountOfRunningJobs(amountOfRunningJobs);
 		sm.setAmountOfWaitingJobs(amountOfWaitingJobs);
 		sm.setJobProcessingEnabled(processingEnabled);
+		sm.setMaximumConcurrentJobsOfPod(capacityService.getMaximumConcurrentJobs());
+		sm.setAmountOfFreeJobSlotsOfPod(capacityService.getFreeSlots());
+		sm.setPodName(resolvePodName());
 
 		message.set(MessageDataKeys.SCHEDULER_STATUS_DATA, sm);
 
 		eventBus.sendAsynchron(message);
 	}
 
+	private String resolvePodName() {
+		String podName = environmentService.getEnvironment().getPod().getName();
+		if (podName != null && !podName.isEmpty()) {
+			return podName;
+		}
+		/* not inside kubernetes - fallback to host name */
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			return null;
+		}
+	}
+
 }
@@ -4,6 +4,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -15,6 +16,7 @@ import com.daimler.sechub.domain.schedule.access.ScheduleRevokeUserAccessFromPro
 import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageHandler;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
 import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
+import com.daimler.sechub.sharedkernel.messaging.JobMessage;
 import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
 import com.daimler.sechub.sharedkernel.messaging.MessageID;
 import com.daimler.sechub.sharedkernel.messaging.SynchronMessageHandler;
@@ -38,6 +40,7 @@ public class ScheduleMessageHandlerTest {
 		scheduleHandlerToTest.grantService= mock(ScheduleGrantUserAccessToProjectService.class);
 		scheduleHandlerToTest.revokeUserFromProjectService=mock(ScheduleRevokeUserAccessFromProjectService.class);
 		scheduleHandlerToTest.revokeUserService=mock(ScheduleRevokeUserAccessAtAllService.class);
+		scheduleHandlerToTest.jobEndWaitService=mock(SchedulerJobEndWaitService.class);
 
 		
 		List<AsynchronMessageHandler> injectedAsynchronousHandlers = new ArrayList<>();
@@ -98,6 +101,40 @@ public class ScheduleMessageHandlerTest {
 		
 	}
 	
+	@Test
+	public void when_sending_message_id_JOB_DONE_the_jobEndWaitService_is_notified() {
+		/* prepare */
+		UUID jobUUID = UUID.randomUUID();
+		DomainMessage request = new DomainMessage(MessageID.JOB_DONE);
+		JobMessage content = new JobMessage();
+		content.setJobUUID(jobUUID);
+		request.set(MessageDataKeys.JOB_DONE_DATA, content);
+
+		/* execute */
+		simulateEventSend(request, scheduleHandlerToTest);
+
+		/* test */
+		verify(scheduleHandlerToTest.jobEndWaitService).notifyJobEnded(jobUUID);
+
+	}
+
+	@Test
+	public void when_sending_message_id_JOB_FAILED_the_jobEndWaitService_is_notified() {
+		/* prepare */
+		UUID jobUUID = UUID.randomUUID();
+		DomainMessage request = new DomainMessage(MessageID.JOB_FAILED);
+		JobMessage content = new JobMessage();
+		content.setJobUUID(jobUUID);
+		request.set(MessageDataKeys.JOB_FAILED_DATA, content);
+
+		/* execute */
+		simulateEventSend(request, scheduleHandlerToTest);
+
+		/* test */
+		verify(scheduleHandlerToTest.jobEndWaitService).notifyJobEnded(jobUUID);
+
+	}
+
 	private void simulateEventSend(DomainMessage request,  AsynchronMessageHandler handler) {
 		fakeDomainMessageService.sendAsynchron(request);
 	}
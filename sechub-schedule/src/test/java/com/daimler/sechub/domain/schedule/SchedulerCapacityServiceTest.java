@@ -0,0 +1,65 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class SchedulerCapacityServiceTest {
+
+	private SchedulerCapacityService serviceToTest;
+
+	@Before
+	public void before() throws Exception {
+		serviceToTest = new SchedulerCapacityService();
+		serviceToTest.maximumConcurrentJobs = 3;
+	}
+
+	@Test
+	public void all_slots_are_free_initially() {
+		assertEquals(3, serviceToTest.getFreeSlots());
+	}
+
+	@Test
+	public void acquire_returns_only_free_slots() {
+		/* execute + test */
+		assertEquals(2, serviceToTest.acquireSlots(2));
+		assertEquals(1, serviceToTest.acquireSlots(5));
+		assertEquals(0, serviceToTest.acquireSlots(1));
+		assertEquals(0, serviceToTest.getFreeSlots());
+	}
+
+	@Test
+	public void released_slots_can_be_acquired_again() {
+		/* prepare */
+		serviceToTest.acquireSlots(3);
+
+		/* execute */
+		serviceToTest.releaseSlot();
+
+		/* test */
+		assertEquals(1, serviceToTest.getFreeSlots());
+		assertEquals(1, serviceToTest.acquireSlots(2));
+	}
+
+	@Test
+	public void releasing_more_slots_than_acquired_does_not_increase_capacity() {
+		/* execute */
+		serviceToTest.releaseSlots(2);
+
+		/* test */
+		assertEquals(3, serviceToTest.getFreeSlots());
+		assertEquals(3, serviceToTest.acquireSlots(5));
+	}
+
+	@Test
+	public void maximum_lower_than_one_is_handled_as_one() {
+		/* prepare */
+		serviceToTest.maximumConcurrentJobs = 0;
+
+		/* execute + test */
+		assertEquals(1, serviceToTest.getMaximumConcurrentJobs());
+		assertEquals(1, serviceToTest.acquireSlots(2));
+	}
+}
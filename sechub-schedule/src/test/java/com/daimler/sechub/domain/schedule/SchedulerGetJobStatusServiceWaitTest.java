@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
+import com.daimler.sechub.sharedkernel.error.NotFoundException;
+import com.daimler.sechub.sharedkernel.validation.UserInputAssertion;
+
+public class SchedulerGetJobStatusServiceWaitTest {
+
+	private static final String PROJECT_ID = "project1";
+
+	private SchedulerGetJobStatusService serviceToTest;
+	private SchedulerJobEndWaitService jobEndWaitService;
+	private ScheduleAssertService scheduleAssert;
+	private ScheduleSecHubJob job;
+	private UUID jobUUID;
+
+	@Before
+	public void before() {
+		jobUUID = UUID.randomUUID();
+		job = mock(ScheduleSecHubJob.class);
+		when(job.getUUID()).thenReturn(jobUUID);
+		when(job.getExecutionState()).thenReturn(ExecutionState.STARTED);
+
+		scheduleAssert = mock(ScheduleAssertService.class);
+		when(scheduleAssert.assertJob(PROJECT_ID, jobUUID)).thenReturn(job);
+
+		jobEndWaitService = new SchedulerJobEndWaitService();
+
+		serviceToTest = new SchedulerGetJobStatusService();
+		serviceToTest.assertion = mock(UserInputAssertion.class);
+		serviceToTest.scheduleAssert = scheduleAssert;
+		serviceToTest.jobEndWaitService = jobEndWaitService;
+	}
+
+	@Test
+	public void running_job_result_is_not_set_until_job_end_is_notified() {
+		/* execute */
+		DeferredResult<ScheduleJobStatus> result = serviceToTest.waitForJobStatus(PROJECT_ID, jobUUID, 10);
+
+		/* test */
+		assertFalse(result.hasResult());
+		assertEquals(1, jobEndWaitService.getWaitingListenerCount());
+
+		/* execute */
+		when(job.getExecutionState()).thenReturn(ExecutionState.ENDED);
+		jobEndWaitService.notifyJobEnded(jobUUID);
+
+		/* test */
+		assertTrue(result.hasResult());
+		assertEquals(ExecutionState.ENDED.name(), ((ScheduleJobStatus) result.getResult()).state);
+		assertEquals(0, jobEndWaitService.getWaitingListenerCount());
+		verify(serviceToTest.scheduleAssert).assertUserHasAccessToProject(PROJECT_ID);
+	}
+
+	@Test
+	public void ended_job_result_is_set_immediately() {
+		/* prepare */
+		when(job.getExecutionState()).thenReturn(ExecutionState.ENDED);
+
+		/* execute */
+		DeferredResult<ScheduleJobStatus> result = serviceToTest.waitForJobStatus(PROJECT_ID, jobUUID, 10);
+
+		/* test */
+		assertTrue(result.hasResult());
+		verify(scheduleAssert, times(1)).assertJob(PROJECT_ID, jobUUID);
+	}
+
+	@Test
+	public void wait_disabled_by_configuration_result_is_set_immediately() {
+		/* prepare */
+		jobEndWaitService.maximumWaitSeconds = 0;
+
+		/* execute */
+		DeferredResult<ScheduleJobStatus> result = serviceToTest.waitForJobStatus(PROJECT_ID, jobUUID, 10);
+
+		/* test */
+		assertTrue(result.hasResult());
+		assertEquals(0, jobEndWaitService.getWaitingListenerCount());
+	}
+
+	@Test
+	public void too_many_waiting_requests_result_is_set_immediately() {
+		/* prepare */
+		jobEndWaitService.maximumWaitingListeners = 0;
+
+		/* execute */
+		DeferredResult<ScheduleJobStatus> result = serviceToTest.waitForJobStatus(PROJECT_ID, jobUUID, 10);
+
+		/* test */
+		assertTrue(result.hasResult());
+		assertEquals(0, jobEndWaitService.getWaitingListenerCount());
+	}
+
+	@Test
+	public void not_existing_job_throws_not_found_and_listener_is_removed() {
+		/* prepare */
+		when(scheduleAssert.assertJob(PROJECT_ID, jobUUID)).thenThrow(new NotFoundException("not found"));
+
+		/* execute */
+		try {
+			serviceToTest.waitForJobStatus(PROJECT_ID, jobUUID, 10);
+			fail("not found exception expected");
+		} catch (NotFoundException e) {
+			/* expected */
+		}
+
+		/* test */
+		assertEquals(0, jobEndWaitService.getWaitingListenerCount());
+	}
+
+	@Test
+	public void wait_time_is_limited_by_configuration() {
+		/* prepare */
+		jobEndWaitService.maximumWaitSeconds = 20;
+
+		/* test */
+		assertEquals(20000, jobEndWaitService.resolveWaitTimeInMilliseconds(60));
+		assertEquals(5000, jobEndWaitService.resolveWaitTimeInMilliseconds(5));
+		assertEquals(0, jobEndWaitService.resolveWaitTimeInMilliseconds(-1));
+	}
+
+}
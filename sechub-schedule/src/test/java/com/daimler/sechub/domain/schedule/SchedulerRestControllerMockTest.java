@@ -33,6 +33,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import com.daimler.sechub.domain.schedule.access.ScheduleAccess;
 import com.daimler.sechub.domain.schedule.access.ScheduleAccess.ProjectAccessCompositeKey;
@@ -109,6 +111,38 @@ public class SchedulerRestControllerMockTest {
         /* @formatter:on */
 	}
 
+	@Test
+	public void get_job_status_with_wait_seconds_returns_deferred_information() throws Exception {
+		/* prepare */
+
+		ScheduleJobStatus status = new ScheduleJobStatus();
+		status.jobUUID = randomUUID;
+		status.result = ExecutionResult.OK.name();
+		status.state = ExecutionState.ENDED.name();
+		status.trafficLight = null;
+
+		DeferredResult<ScheduleJobStatus> deferred = new DeferredResult<>();
+		deferred.setResult(status);
+		when(mockedScheduleJobStatusService.waitForJobStatus(PROJECT1_ID, randomUUID, 30)).thenReturn(deferred);
+
+		/* execute + test @formatter:off */
+        MvcResult mvcResult = this.mockMvc.perform(
+        		get(https(PORT_USED).buildGetJobStatusUrl(PROJECT1_ID,randomUUID.toString())).
+        			param("waitSeconds", "30").
+        			contentType(MediaType.APPLICATION_JSON_VALUE)
+        		).
+        			andExpect(request().asyncStarted()).
+        			andReturn();
+
+        this.mockMvc.perform(asyncDispatch(mvcResult)).
+        			andExpect(status().isOk()).
+        			andExpect(content().json("{jobUUID:"+randomUUID.toString()+", result:OK, state:ENDED, trafficLight:null}")
+        		);
+
+        verify(mockedScheduleJobStatusService,never()).getJobStatus(any(), any());
+        /* @formatter:on */
+	}
+
 	@Test
 	public void scheduling__returns_job_id_from_service() throws Exception {
 		/* prepare */
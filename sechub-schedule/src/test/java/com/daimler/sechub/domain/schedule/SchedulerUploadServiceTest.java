@@ -1,23 +1,35 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.schedule;
 
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
 import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
+import com.daimler.sechub.domain.schedule.sourcecache.ScheduleSourceCacheEntry;
+import com.daimler.sechub.domain.schedule.sourcecache.ScheduleSourceCacheService;
 import com.daimler.sechub.sharedkernel.error.NotAcceptableException;
 import com.daimler.sechub.sharedkernel.logging.AuditLogService;
 import com.daimler.sechub.sharedkernel.logging.LogSanitizer;
 import com.daimler.sechub.sharedkernel.storage.StorageService;
 import com.daimler.sechub.sharedkernel.util.FileChecksumSHA256Service;
+import com.daimler.sechub.sharedkernel.util.SecHubRuntimeException;
 import com.daimler.sechub.sharedkernel.util.ZipSupport;
 import com.daimler.sechub.sharedkernel.validation.UserInputAssertion;
 import com.daimler.sechub.storage.core.JobStorage;
@@ -26,7 +38,7 @@ public class SchedulerUploadServiceTest {
 
 	private static final String PROJECT1 = "project1";
 	private SchedulerUploadService serviceToTest;
-	private FileChecksumSHA256Service mockedChecksumService;
+	private FileChecksumSHA256Service checksumService;
 	private StorageService mockedStorageService;
 	private UUID randomUuid;
 	private ScheduleAssertService mockedAssertService;
@@ -35,66 +47,251 @@ public class SchedulerUploadServiceTest {
 	@Rule
 	public ExpectedException expectedException = ExpectedException.none();
 	private JobStorage storage;
-	private ZipSupport mockedZipSupport;
+	private ByteArrayOutputStream stored;
+	private ScheduleSourceCacheService mockedSourceCacheService;
+	private JobStorage cacheStorage;
 
 	@Before
-	public void before() {
+	public void before() throws Exception {
 		randomUuid = UUID.randomUUID();
 
-		mockedChecksumService=mock(FileChecksumSHA256Service.class);
-		mockedStorageService=mock(StorageService.class);
-		mockedAssertService=mock(ScheduleAssertService.class);
+		checksumService = new FileChecksumSHA256Service();
+		mockedStorageService = mock(StorageService.class);
+		mockedAssertService = mock(ScheduleAssertService.class);
 
 		ScheduleSecHubJob job = new ScheduleSecHubJob();
 		when(mockedAssertService.assertJob(PROJECT1, randomUuid)).thenReturn(job);
 		storage = mock(JobStorage.class);
 		when(mockedStorageService.getJobStorage(PROJECT1, randomUuid)).thenReturn(storage);
 
+		/* storage reads the stream completely - like the real implementations */
+		stored = new ByteArrayOutputStream();
+		doAnswer(invocation -> {
+			InputStream in = invocation.getArgument(1);
+			byte[] buffer = new byte[1024];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				stored.write(buffer, 0, read);
+			}
+			return null;
+		}).when(storage).store(startsWith(SchedulerUploadService.SOURCECODE_ZIP + "."), any());
+
+		cacheStorage = mock(JobStorage.class);
+		doAnswer(invocation -> {
+			InputStream in = invocation.getArgument(1);
+			StreamUtils.copy(in, stored);
+			return null;
+		}).when(cacheStorage).store(startsWith(randomUuid + ".zip."), any());
+
+		/* source cache disabled - except for source cache tests */
+		mockedSourceCacheService = mock(ScheduleSourceCacheService.class);
+
 		file = mock(MultipartFile.class);
-		mockedZipSupport = mock(ZipSupport.class);
 
 		/* attach at service to test */
 		serviceToTest = new SchedulerUploadService();
-		serviceToTest.checksumSHA256Service=mockedChecksumService;
-		serviceToTest.storageService=mockedStorageService;
-		serviceToTest.assertService=mockedAssertService;
-		serviceToTest.zipSupport=mockedZipSupport;
-		serviceToTest.logSanitizer=mock(LogSanitizer.class);
-		serviceToTest.assertion=mock(UserInputAssertion.class);
-		serviceToTest.auditLogService=mock(AuditLogService.class);
+		serviceToTest.checksumSHA256Service = checksumService;
+		serviceToTest.storageService = mockedStorageService;
+		serviceToTest.assertService = mockedAssertService;
+		serviceToTest.zipSupport = new ZipSupport();
+		serviceToTest.logSanitizer = mock(LogSanitizer.class);
+		serviceToTest.assertion = mock(UserInputAssertion.class);
+		serviceToTest.auditLogService = mock(AuditLogService.class);
+		serviceToTest.sourceCacheService = mockedSourceCacheService;
 
 	}
 
 	@Test
-	public void when_checksum_correct_and_is_zip__correct_no_failure() {
+	public void when_checksum_correct_and_is_zip__correct_no_failure() throws Exception {
 		/* prepare */
-		when(mockedChecksumService.hasCorrectChecksum(eq("mychecksum"), any())).thenReturn(true);
-		when(mockedZipSupport.isZipFile(any())).thenReturn(true);
+		byte[] zip = createZip();
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
 
 		/* execute */
-		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksumOf(zip));
+
+		/* test */
+		assertArrayEquals(zip, stored.toByteArray());
+		verify(storage).rename(argThat(this::isUploadName), eq(SchedulerUploadService.SOURCECODE_ZIP));
+		verify(storage, never()).delete(any());
 	}
 
 	@Test
-	public void when_checksum_is_NOT_correct_but_valid_zipfile_throws_404() {
+	public void when_checksum_is_NOT_correct_but_valid_zipfile_throws_404_and_discards_upload() throws Exception {
 		/* prepare */
-		when(mockedChecksumService.hasCorrectChecksum(eq("mychecksum"), any())).thenReturn(false);
-		when(mockedZipSupport.isZipFile(any())).thenReturn(true);
+		byte[] zip = createZip();
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
 		expectedException.expect(NotAcceptableException.class);
 
 		/* execute */
-		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		} finally {
+			/* test */
+			verify(storage).delete(argThat(this::isUploadName));
+			verify(storage, never()).rename(any(), any());
+			verify(storage, never()).delete(SchedulerUploadService.SOURCECODE_ZIP);
+		}
+	}
+
+	@Test
+	public void when_checksum_is_correct_but_not_valid_zipfile_throws_404_and_discards_upload() throws Exception {
+		/* prepare */
+		byte[] noZip = "i am not a zip file but correct checksum is given...".getBytes();
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(noZip));
+		expectedException.expect(NotAcceptableException.class);
+
+		/* execute */
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksumOf(noZip));
+		} finally {
+			/* test */
+			verify(storage).delete(argThat(this::isUploadName));
+			verify(storage, never()).rename(any(), any());
+			verify(storage, never()).delete(SchedulerUploadService.SOURCECODE_ZIP);
+		}
+	}
+
+	@Test
+	public void source_cache_enabled_and_archive_not_cached__archive_stored_in_cache_storage_and_registered() throws Exception {
+		/* prepare */
+		byte[] zip = createZip();
+		String checksum = checksumOf(zip);
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
+		when(mockedSourceCacheService.isEnabled()).thenReturn(true);
+		when(mockedSourceCacheService.getCacheStorage(PROJECT1, checksum)).thenReturn(cacheStorage);
+
+		/* execute */
+		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum);
+
+		/* test */
+		assertArrayEquals(zip, stored.toByteArray());
+		verify(storage, never()).store(any(), any());
+		verify(cacheStorage).rename(argThat(this::isUploadName), eq(randomUuid + ".zip"));
+		verify(mockedSourceCacheService).register(PROJECT1, randomUuid, checksum, randomUuid + ".zip");
+	}
+
+	@Test
+	public void source_cache_enabled_and_archive_cached__archive_not_stored_again_but_referenced() throws Exception {
+		/* prepare */
+		byte[] zip = createZip();
+		String checksum = checksumOf(zip);
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
+		when(mockedSourceCacheService.isEnabled()).thenReturn(true);
+		ScheduleSourceCacheEntry entry = mock(ScheduleSourceCacheEntry.class);
+		when(mockedSourceCacheService.findUsableEntry(PROJECT1, checksum)).thenReturn(entry);
+		when(mockedSourceCacheService.reference(entry, randomUuid)).thenReturn(true);
+
+		/* execute */
+		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum);
+
+		/* test */
+		verify(storage, never()).store(any(), any());
+		verify(cacheStorage, never()).store(any(), any());
+		verify(mockedSourceCacheService).reference(entry, randomUuid);
+		verify(mockedSourceCacheService, never()).register(any(), any(), any(), any());
+	}
+
+	@Test
+	public void source_cache_enabled_and_archive_cached_but_evicted_before_referenced__archive_stored_again() throws Exception {
+		/* prepare */
+		byte[] zip = createZip();
+		String checksum = checksumOf(zip);
+		when(file.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(zip));
+		when(mockedSourceCacheService.isEnabled()).thenReturn(true);
+		ScheduleSourceCacheEntry entry = mock(ScheduleSourceCacheEntry.class);
+		when(mockedSourceCacheService.findUsableEntry(PROJECT1, checksum)).thenReturn(entry);
+		when(mockedSourceCacheService.reference(entry, randomUuid)).thenReturn(false);
+		when(mockedSourceCacheService.getCacheStorage(PROJECT1, checksum)).thenReturn(cacheStorage);
+
+		/* execute */
+		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum);
+
+		/* test */
+		assertArrayEquals(zip, stored.toByteArray());
+		verify(cacheStorage).rename(argThat(this::isUploadName), eq(randomUuid + ".zip"));
+		verify(mockedSourceCacheService).register(PROJECT1, randomUuid, checksum, randomUuid + ".zip");
 	}
 
 	@Test
-	public void when_checksum_is_correct_but_not_valid_zipfile_throws_404() {
+	public void source_cache_enabled_and_archive_cached_but_checksum_wrong__throws_404_and_not_referenced() throws Exception {
 		/* prepare */
-		when(mockedChecksumService.hasCorrectChecksum(eq("mychecksum"), any())).thenReturn(true);
-		when(mockedZipSupport.isZipFile(any())).thenReturn(false);
+		byte[] zip = createZip();
+		String checksum = checksumOf(zip);
+		String otherChecksum = checksumOf("other".getBytes());
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
+		when(mockedSourceCacheService.isEnabled()).thenReturn(true);
+		ScheduleSourceCacheEntry entry = mock(ScheduleSourceCacheEntry.class);
+		when(mockedSourceCacheService.findUsableEntry(PROJECT1, otherChecksum)).thenReturn(entry);
 		expectedException.expect(NotAcceptableException.class);
 
 		/* execute */
-		serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, otherChecksum);
+		} finally {
+			/* test */
+			assertNotEquals(checksum, otherChecksum);
+			verify(mockedSourceCacheService, never()).reference(any(), any());
+		}
+	}
+
+	@Test
+	public void storage_failure_discards_upload_and_keeps_former_sourcecode() throws Exception {
+		/* prepare */
+		byte[] zip = createZip();
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
+		doThrow(new IllegalStateException("storage failure")).when(storage).store(any(), any());
+		expectedException.expect(IllegalStateException.class);
+
+		/* execute */
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksumOf(zip));
+		} finally {
+			/* test */
+			verify(storage).delete(argThat(this::isUploadName));
+			verify(storage, never()).rename(any(), any());
+			verify(storage, never()).delete(SchedulerUploadService.SOURCECODE_ZIP);
+		}
+	}
+
+	@Test
+	public void storage_io_failure_discards_upload() throws Exception {
+		/* prepare */
+		byte[] zip = createZip();
+		when(file.getInputStream()).thenReturn(new ByteArrayInputStream(zip));
+		doThrow(new IOException("storage failure")).when(storage).store(any(), any());
+		expectedException.expect(SecHubRuntimeException.class);
+
+		/* execute */
+		try {
+			serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksumOf(zip));
+		} finally {
+			/* test */
+			verify(storage).delete(argThat(this::isUploadName));
+			verify(storage, never()).rename(any(), any());
+		}
+	}
+
+	private boolean isUploadName(String name) {
+		return name != null && name.endsWith(SchedulerUploadService.UPLOAD_SUFFIX);
+	}
+
+	private String checksumOf(byte[] data) throws IOException {
+		DigestInputStream stream = checksumService.createChecksumCalculatingStream(new ByteArrayInputStream(data));
+		while (stream.read() != -1) {
+			/* just read */
+		}
+		return checksumService.getChecksum(stream);
+	}
+
+	private byte[] createZip() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ZipOutputStream zos = new ZipOutputStream(out)) {
+			zos.putNextEntry(new ZipEntry("test1.txt"));
+			zos.write("content".getBytes());
+			zos.closeEntry();
+		}
+		return out.toByteArray();
 	}
 
 }
@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.batch;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+public class AsyncJobLauncherTest {
+
+	private AsyncJobLauncher launcherToTest;
+	private JobRepository jobRepository;
+	private Job job;
+	private JobParameters jobParameters;
+	private JobExecution jobExecution;
+
+	@Before
+	public void before() throws Exception {
+		jobRepository = mock(JobRepository.class);
+		job = mock(Job.class);
+		when(job.getName()).thenReturn("job1");
+		when(job.getJobParametersValidator()).thenReturn(new DefaultJobParametersValidator());
+
+		jobParameters = new JobParametersBuilder().addString("key", "value").toJobParameters();
+		jobExecution = new JobExecution(1L, jobParameters);
+		when(jobRepository.createJobExecution(eq("job1"), eq(jobParameters))).thenReturn(jobExecution);
+
+		launcherToTest = new AsyncJobLauncher();
+		launcherToTest.setJobRepository(jobRepository);
+	}
+
+	@Test
+	public void accepted_job_returns_execution() throws Exception {
+		/* prepare */
+		TaskExecutor executor = mock(TaskExecutor.class);
+		launcherToTest.setTaskExecutor(executor);
+
+		/* execute */
+		JobExecution result = launcherToTest.run(job, jobParameters);
+
+		/* test */
+		assertSame(jobExecution, result);
+		verify(executor).execute(any(Runnable.class));
+	}
+
+	@Test
+	public void rejected_job_throws_task_rejected_exception_and_execution_is_marked_as_failed() throws Exception {
+		/* prepare */
+		TaskRejectedException rejected = new TaskRejectedException("full");
+		launcherToTest.setTaskExecutor(task -> {
+			throw rejected;
+		});
+
+		/* execute */
+		try {
+			launcherToTest.run(job, jobParameters);
+			fail("task rejected exception expected");
+		} catch (TaskRejectedException e) {
+			/* test */
+			assertSame(rejected, e);
+		}
+		assertEquals(BatchStatus.FAILED, jobExecution.getStatus());
+		verify(jobRepository).update(jobExecution);
+	}
+
+	@Test
+	public void rejection_is_not_remembered_for_next_run() throws Exception {
+		/* prepare */
+		TaskExecutor executor = mock(TaskExecutor.class);
+		doThrow(new TaskRejectedException("full")).doNothing().when(executor).execute(any(Runnable.class));
+		launcherToTest.setTaskExecutor(executor);
+		try {
+			launcherToTest.run(job, jobParameters);
+			fail("task rejected exception expected");
+		} catch (TaskRejectedException e) {
+			/* expected */
+		}
+		JobExecution secondExecution = new JobExecution(2L, jobParameters);
+		when(jobRepository.createJobExecution(eq("job1"), eq(jobParameters))).thenReturn(secondExecution);
+
+		/* execute */
+		JobExecution result = launcherToTest.run(job, jobParameters);
+
+		/* test */
+		assertSame(secondExecution, result);
+	}
+}
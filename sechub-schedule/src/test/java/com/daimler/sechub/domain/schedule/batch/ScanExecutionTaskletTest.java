@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.batch;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import com.daimler.sechub.domain.schedule.SchedulerJobExecutionService;
+import com.daimler.sechub.domain.schedule.SchedulingConstants;
+
+public class ScanExecutionTaskletTest {
+
+	private ScanExecutionTasklet taskletToTest;
+	private SchedulerJobExecutionService jobExecutionService;
+
+	@Before
+	public void before() throws Exception {
+		jobExecutionService = mock(SchedulerJobExecutionService.class);
+
+		taskletToTest = new ScanExecutionTasklet(jobExecutionService);
+	}
+
+	@Test
+	public void shared_tasklet_executes_scan_of_job_from_given_chunk_context() throws Exception {
+		/* prepare */
+		UUID sechubJobUUID1 = UUID.randomUUID();
+		UUID sechubJobUUID2 = UUID.randomUUID();
+		ChunkContext chunkContext1 = createChunkContext(1L, sechubJobUUID1);
+		ChunkContext chunkContext2 = createChunkContext(2L, sechubJobUUID2);
+
+		/* execute */
+		RepeatStatus status2 = taskletToTest.execute(null, chunkContext2);
+		RepeatStatus status1 = taskletToTest.execute(null, chunkContext1);
+
+		/* test */
+		assertEquals(RepeatStatus.FINISHED, status1);
+		assertEquals(RepeatStatus.FINISHED, status2);
+		verify(jobExecutionService).executeScan(sechubJobUUID1);
+		verify(jobExecutionService).executeScan(sechubJobUUID2);
+	}
+
+	private ChunkContext createChunkContext(long executionId, UUID sechubJobUUID) {
+		JobParameters jobParameters = new JobParametersBuilder().addString(SchedulingConstants.BATCHPARAM_SECHUB_UUID, sechubJobUUID.toString())
+				.toJobParameters();
+		JobExecution jobExecution = new JobExecution(executionId, jobParameters);
+		StepExecution stepExecution = new StepExecution("step1Execute", jobExecution);
+		return new ChunkContext(new StepContext(stepExecution));
+	}
+
+}
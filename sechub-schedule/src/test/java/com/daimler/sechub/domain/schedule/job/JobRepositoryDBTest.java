@@ -5,6 +5,7 @@ import static com.daimler.sechub.domain.schedule.ExecutionState.*;
 import static com.daimler.sechub.domain.schedule.job.JobCreator.*;
 import static org.junit.Assert.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -97,6 +98,25 @@ public class JobRepositoryDBTest {
 		assertEquals(expectedNextJob.getUUID(), job.getUUID());
 	}
 
+	@Test
+	public void findNextJobsToExecute__returns_only_jobs_in_state_READY_TO_START_oldest_first_and_respects_maximum() {
+		/* prepare @formatter:off*/
+		ScheduleSecHubJob expectedJob1 = jobCreator.newJob().being(READY_TO_START).create();
+		TestUtil.waitMilliseconds(1);
+		jobCreator.newJob().being(STARTED).create();
+		ScheduleSecHubJob expectedJob2 = jobCreator.newJob().being(READY_TO_START).create();
+		TestUtil.waitMilliseconds(1);
+		jobCreator.newJob().being(READY_TO_START).create();
+
+		/* execute */
+		List<ScheduleSecHubJob> jobs = jobRepository.findNextJobsToExecute(2);
+
+		/* test @formatter:on*/
+		assertEquals(2, jobs.size());
+		assertEquals(expectedJob1.getUUID(), jobs.get(0).getUUID());
+		assertEquals(expectedJob2.getUUID(), jobs.get(1).getUUID());
+	}
+
 	@TestConfiguration
 	@EnableAutoConfiguration
 	public static class SimpleTestConfiguration{
@@ -0,0 +1,149 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule.sourcecache;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.daimler.sechub.sharedkernel.storage.SourceCodeArchiveStorageService;
+import com.daimler.sechub.storage.core.JobStorage;
+
+public class ScheduleSourceCacheServiceTest {
+
+	private static final String PROJECT1 = "project1";
+	private static final String CHECKSUM = "checksum1";
+
+	private ScheduleSourceCacheService serviceToTest;
+	private ScheduleSourceCacheEntryRepository entryRepository;
+	private ScheduleSourceCacheReferenceRepository referenceRepository;
+	private SourceCodeArchiveStorageService archiveStorageService;
+	private JobStorage cacheStorage;
+	private UUID cacheId;
+	private UUID jobUUID;
+
+	@Before
+	public void before() throws Exception {
+		cacheId = UUID.randomUUID();
+		jobUUID = UUID.randomUUID();
+
+		entryRepository = mock(ScheduleSourceCacheEntryRepository.class);
+		referenceRepository = mock(ScheduleSourceCacheReferenceRepository.class);
+		archiveStorageService = mock(SourceCodeArchiveStorageService.class);
+		cacheStorage = mock(JobStorage.class);
+
+		when(archiveStorageService.createCacheId(PROJECT1, CHECKSUM)).thenReturn(cacheId);
+		when(archiveStorageService.getCacheStorage(PROJECT1, CHECKSUM)).thenReturn(cacheStorage);
+		when(entryRepository.markUsed(eq(cacheId), any(LocalDateTime.class))).thenReturn(1);
+
+		serviceToTest = new ScheduleSourceCacheService();
+		serviceToTest.entryRepository = entryRepository;
+		serviceToTest.referenceRepository = referenceRepository;
+		serviceToTest.archiveStorageService = archiveStorageService;
+	}
+
+	@Test
+	public void register_new_entry_saves_entry_and_references_it_by_job() throws Exception {
+		/* prepare */
+		ScheduleSourceCacheEntry entry = new ScheduleSourceCacheEntry(cacheId, PROJECT1, CHECKSUM, "blob1.zip");
+		when(entryRepository.saveAndFlush(any())).thenReturn(entry);
+
+		/* execute */
+		serviceToTest.register(PROJECT1, jobUUID, CHECKSUM, "blob1.zip");
+
+		/* test */
+		ArgumentCaptor<ScheduleSourceCacheReference> reference = ArgumentCaptor.forClass(ScheduleSourceCacheReference.class);
+		verify(referenceRepository).save(reference.capture());
+		assertEquals(jobUUID, reference.getValue().getJobUUID());
+		assertEquals(cacheId, reference.getValue().getCacheId());
+		verify(entryRepository).markUsed(eq(cacheId), any(LocalDateTime.class));
+		verify(archiveStorageService).storeCacheReference(PROJECT1, jobUUID, CHECKSUM, "blob1.zip");
+		verify(cacheStorage, never()).delete(any());
+	}
+
+	@Test
+	public void register_entry_already_registered_by_other_upload_references_existing_entry_and_deletes_own_blob() throws Exception {
+		/* prepare */
+		ScheduleSourceCacheEntry existing = new ScheduleSourceCacheEntry(cacheId, PROJECT1, CHECKSUM, "other.zip");
+		when(entryRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+		when(entryRepository.findById(cacheId)).thenReturn(Optional.of(existing));
+
+		/* execute */
+		serviceToTest.register(PROJECT1, jobUUID, CHECKSUM, "blob1.zip");
+
+		/* test */
+		verify(cacheStorage).delete("blob1.zip");
+		verify(archiveStorageService).storeCacheReference(PROJECT1, jobUUID, CHECKSUM, "other.zip");
+	}
+
+	@Test
+	public void reference_entry_evicted_in_the_meantime_returns_false_and_removes_reference() throws Exception {
+		/* prepare */
+		ScheduleSourceCacheEntry entry = new ScheduleSourceCacheEntry(cacheId, PROJECT1, CHECKSUM, "blob1.zip");
+		when(entryRepository.markUsed(eq(cacheId), any(LocalDateTime.class))).thenReturn(0);
+
+		/* execute */
+		boolean referenced = serviceToTest.reference(entry, jobUUID);
+
+		/* test */
+		assertFalse(referenced);
+		verify(referenceRepository).deleteById(jobUUID);
+		verify(archiveStorageService, never()).storeCacheReference(any(), any(), any(), any());
+	}
+
+	@Test
+	public void find_usable_entry_returns_null_and_removes_entry_when_blob_no_longer_exists() throws Exception {
+		/* prepare */
+		ScheduleSourceCacheEntry entry = new ScheduleSourceCacheEntry(cacheId, PROJECT1, CHECKSUM, "blob1.zip");
+		when(entryRepository.findById(cacheId)).thenReturn(Optional.of(entry));
+		when(cacheStorage.isExisting("blob1.zip")).thenReturn(false);
+
+		/* execute */
+		ScheduleSourceCacheEntry result = serviceToTest.findUsableEntry(PROJECT1, CHECKSUM);
+
+		/* test */
+		assertNull(result);
+		verify(entryRepository).delete(entry);
+	}
+
+	@Test
+	public void evict_deletes_entry_guarded_and_then_its_blob() throws Exception {
+		/* prepare */
+		ScheduleSourceCacheEntry entry = new ScheduleSourceCacheEntry(cacheId, PROJECT1, CHECKSUM, "blob1.zip");
+		when(entryRepository.findUnreferencedEntriesNotUsedSince(any())).thenReturn(Arrays.asList(entry));
+		when(entryRepository.deleteWhenUnreferencedAndNotUsedSince(eq(cacheId), any())).thenReturn(1);
+
+		/* execute */
+		serviceToTest.evict();
+
+		/* test */
+		verify(referenceRepository).deleteReferencesCreatedBefore(any());
+		verify(cacheStorage).delete("blob1.zip");
+		verify(cacheStorage, never()).deleteAll();
+	}
+
+	@Test
+	public void evict_keeps_blob_when_entry_was_referenced_or_used_by_another_pod_in_the_meantime() throws Exception {
+		/* prepare */
+		ScheduleSourceCacheEntry entry = new ScheduleSourceCacheEntry(cacheId, PROJECT1, CHECKSUM, "blob1.zip");
+		when(entryRepository.findUnreferencedEntriesNotUsedSince(any())).thenReturn(Arrays.asList(entry));
+		when(entryRepository.deleteWhenUnreferencedAndNotUsedSince(eq(cacheId), any())).thenReturn(0);
+
+		/* execute */
+		serviceToTest.evict();
+
+		/* test */
+		verify(cacheStorage, never()).delete(any());
+		verify(cacheStorage, never()).deleteAll();
+	}
+
+}
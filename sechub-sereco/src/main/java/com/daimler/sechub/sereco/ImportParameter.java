@@ -1,9 +1,12 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sereco;
 
+import java.io.Reader;
+
 public class ImportParameter {
 	private String productId;
 	private String importData;
+	private Reader importDataReader;
 	private String importId;
 
 	public static ImportParamBuilder builder() {
@@ -18,6 +21,14 @@ public class ImportParameter {
 		return importData;
 	}
 
+	/**
+	 * @return reader containing data to import or <code>null</code> when import
+	 *         data is given as string
+	 */
+	public Reader getImportDataReader() {
+		return importDataReader;
+	}
+
 	public String getImportId() {
 		return importId;
 	}
@@ -49,6 +60,19 @@ public class ImportParameter {
 			return this;
 		}
 
+		/**
+		 * Set import data as reader - this is the preferred way for big product
+		 * results, because data is not loaded completely into memory. The reader
+		 * will not be closed by the import.
+		 *
+		 * @param importDataReader
+		 * @return builder
+		 */
+		public ImportParamBuilder importDataReader(Reader importDataReader) {
+			param.importDataReader = importDataReader;
+			return this;
+		}
+
 		public ImportParamBuilder importId(String importId) {
 			param.importId = importId;
 			return this;
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sereco;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.util.List;
 
@@ -25,6 +26,13 @@ public class Workspace {
 
 	private static final Logger LOG = LoggerFactory.getLogger(Workspace.class);
 
+	/**
+	 * Amount of bytes read from an import stream to identify the importer
+	 */
+	private static final int STREAM_IDENTIFICATION_SIZE = 16 * 1024;
+
+	private static final char BOM = 65279;
+
 	private SerecoMetaData workspaceMetaData = new SerecoMetaData();
 
 	@Autowired
@@ -48,7 +56,7 @@ public class Workspace {
 		if (param == null) {
 			throw new IllegalArgumentException("param may not be null!");
 		}
-		if (param.getImportData() == null) {
+		if (param.getImportData() == null && param.getImportDataReader() == null) {
 			LOG.error("Import data was null for docId:{}, so unable to import.", param.getImportId());
 			return;
 		}
@@ -56,6 +64,31 @@ public class Workspace {
 			LOG.error("Import data was not null, but importId was not set, so unable to import.");
 			return;
 		}
+		boolean atLeastOneImporterWasAbleToImport = false;
+		if (param.getImportDataReader() != null) {
+			atLeastOneImporterWasAbleToImport = doStreamImport(param);
+		} else {
+			atLeastOneImporterWasAbleToImport = doStringImport(param);
+		}
+		if (!atLeastOneImporterWasAbleToImport) {
+			StringBuilder importerNames = new StringBuilder();
+			importerNames.append("[");
+			for (ProductResultImporter importer : importers) {
+				importerNames.append(importer.getClass().getSimpleName());
+				importerNames.append(" ");
+			}
+			importerNames.append("]");
+
+			LOG.error(
+					"For meta data from product={} with importId={} no importers was able to import it! Importers used ={}",
+					param.getProductId(), param.getImportId(), importerNames);
+			throw new IOException(
+					"Import failed, no importer was able to import product result: " + param.getProductId());
+		}
+
+	}
+
+	private boolean doStringImport(ImportParameter param) throws IOException {
 		boolean atLeastOneImporterWasAbleToImport = false;
 		for (ProductResultImporter importer : importers) {
 			ProductImportAbility ableToImportForProduct = importer.isAbleToImportForProduct(param);
@@ -74,28 +107,66 @@ public class Workspace {
 				if (metaData == null) {
 					LOG.error("Meta data was null for product={}, importer={}, importId={}", param.getProductId(),
 							importer.getClass().getSimpleName(), param.getImportId());
-					return;
+					return true;
 				}
 				mergeWithWorkspaceData(metaData);
 				atLeastOneImporterWasAbleToImport = true;
 			}
 		}
-		if (!atLeastOneImporterWasAbleToImport) {
-			StringBuilder importerNames = new StringBuilder();
-			importerNames.append("[");
-			for (ProductResultImporter importer : importers) {
-				importerNames.append(importer.getClass().getSimpleName());
-				importerNames.append(" ");
+		return atLeastOneImporterWasAbleToImport;
+	}
+
+	/**
+	 * Stream import - the importers are identified by the first characters of
+	 * the reader only. Because a reader can only be read once, the first importer
+	 * able to import will be the only one used.
+	 */
+	private boolean doStreamImport(ImportParameter param) throws IOException {
+		BufferedReader reader = new BufferedReader(param.getImportDataReader(), STREAM_IDENTIFICATION_SIZE);
+		skipByteOrderMark(reader);
+		ImportParameter identificationParam = createStreamIdentificationParameter(param, reader);
+
+		for (ProductResultImporter importer : importers) {
+			ProductImportAbility ableToImportForProduct = importer.isAbleToImportForProduct(identificationParam);
+			if (ProductImportAbility.PRODUCT_FAILED.equals(ableToImportForProduct)) {
+				ProductFailureMetaDataBuilder builder = new ProductFailureMetaDataBuilder();
+				SerecoMetaData metaData = builder.forParam(param).build();
+				mergeWithWorkspaceData(metaData);
+				return true;
 			}
-			importerNames.append("]");
+			if (ProductImportAbility.ABLE_TO_IMPORT.equals(ableToImportForProduct)) {
+				importer.importResult(reader, workspaceMetaData.getVulnerabilities()::add);
+				return true;
+			}
+		}
+		return false;
+	}
 
-			LOG.error(
-					"For meta data from product={} with importId={} no importers was able to import it! Importers used ={}",
-					param.getProductId(), param.getImportId(), importerNames);
-			throw new IOException(
-					"Import failed, no importer was able to import product result: " + param.getProductId());
+	/* same as done for string imports - we just ignore the byte order mark */
+	private void skipByteOrderMark(BufferedReader reader) throws IOException {
+		reader.mark(1);
+		if (reader.read() != BOM) {
+			reader.reset();
 		}
+	}
 
+	private ImportParameter createStreamIdentificationParameter(ImportParameter param, BufferedReader reader) throws IOException {
+		char[] buffer = new char[STREAM_IDENTIFICATION_SIZE];
+		reader.mark(STREAM_IDENTIFICATION_SIZE);
+		int length = 0;
+		int read = 0;
+		while (length < buffer.length && (read = reader.read(buffer, length, buffer.length - length)) != -1) {
+			length += read;
+		}
+		reader.reset();
+
+		/* @formatter:off */
+		return ImportParameter.builder().
+				productId(param.getProductId()).
+				importId(param.getImportId()).
+				importData(new String(buffer, 0, length)).
+				build();
+		/* @formatter:on */
 	}
 
 	private void mergeWithWorkspaceData(SerecoMetaData metaData) {
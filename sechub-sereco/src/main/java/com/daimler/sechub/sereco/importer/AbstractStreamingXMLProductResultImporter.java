@@ -0,0 +1,203 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sereco.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.daimler.sechub.sereco.metadata.SerecoMetaData;
+import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
+
+/**
+ * Base class for XML importers using a StAX pull parser. The XML content is
+ * never kept as a whole document tree in memory - every vulnerability is
+ * created element by element and given directly to a consumer.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public abstract class AbstractStreamingXMLProductResultImporter extends AbstractProductResultImporter {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AbstractStreamingXMLProductResultImporter.class);
+
+	private static final char BOM = 65279;
+
+	private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+	public final SerecoMetaData importResult(String xml) throws IOException {
+		if (xml == null) {
+			xml = "";
+		}
+		SerecoMetaData metaData = new SerecoMetaData();
+		StringReader reader = new StringReader(xml);
+		if (!xml.isEmpty() && xml.charAt(0) == BOM) {
+			/* same as done inside ImportSupport - we just ignore the byte order mark */
+			reader.skip(1);
+		}
+		importResult(reader, metaData.getVulnerabilities()::add);
+		return metaData;
+	}
+
+	/**
+	 * Imports vulnerabilities from given reader - every vulnerability found will
+	 * be given to the consumer immediately. Content is already decoded, so the
+	 * encoding of the XML declaration is ignored
+	 *
+	 * @param reader
+	 * @param consumer
+	 * @throws IOException
+	 */
+	public final void importResult(Reader reader, Consumer<SerecoVulnerability> consumer) throws IOException {
+		if (reader == null) {
+			throw new IllegalArgumentException("reader may not be null!");
+		}
+		XMLStreamReader xmlReader = null;
+		try {
+			xmlReader = XML_INPUT_FACTORY.createXMLStreamReader(reader);
+			importVulnerabilities(xmlReader, consumer);
+		} catch (XMLStreamException e) {
+			throw new IOException("Import cannot parse xml", e);
+		} finally {
+			close(xmlReader);
+		}
+	}
+
+	/**
+	 * Import vulnerabilities from given xml reader. Reader is positioned at start
+	 * of document
+	 *
+	 * @param reader
+	 * @param consumer consumer for every found vulnerability
+	 * @throws XMLStreamException
+	 */
+	protected abstract void importVulnerabilities(XMLStreamReader reader, Consumer<SerecoVulnerability> consumer) throws XMLStreamException;
+
+	/**
+	 * Moves reader to root element
+	 *
+	 * @param reader
+	 * @return <code>true</code> when root element found, otherwise
+	 *         <code>false</code>
+	 * @throws XMLStreamException
+	 */
+	protected boolean moveToRootElement(XMLStreamReader reader) throws XMLStreamException {
+		while (reader.hasNext()) {
+			if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Moves reader to next direct child element with given name. The reader must
+	 * be positioned at start element of parent or at end element of a former
+	 * child. Other child elements are skipped.
+	 *
+	 * @param reader
+	 * @param name   local name of child element or <code>null</code> when any
+	 *               child element is accepted
+	 * @return <code>true</code> when reader is positioned at start element of
+	 *         wanted child, <code>false</code> when end element of parent was
+	 *         reached
+	 * @throws XMLStreamException
+	 */
+	protected boolean moveToNextChildElement(XMLStreamReader reader, String name) throws XMLStreamException {
+		while (reader.hasNext()) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.END_ELEMENT) {
+				return false;
+			}
+			if (event != XMLStreamConstants.START_ELEMENT) {
+				continue;
+			}
+			if (name == null || name.equals(reader.getLocalName())) {
+				return true;
+			}
+			skipElement(reader);
+		}
+		return false;
+	}
+
+	/**
+	 * Skips current element - reader must be positioned at start element. After
+	 * the call the reader is positioned at end element
+	 *
+	 * @param reader
+	 * @throws XMLStreamException
+	 */
+	protected void skipElement(XMLStreamReader reader) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0 && reader.hasNext()) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	/**
+	 * Reads text of current element and all its descendants (same as string value
+	 * of a DOM element). Reader must be positioned at start element. After the
+	 * call the reader is positioned at end element
+	 *
+	 * @param reader
+	 * @return text, never <code>null</code>
+	 * @throws XMLStreamException
+	 */
+	protected String readElementText(XMLStreamReader reader) throws XMLStreamException {
+		StringBuilder sb = new StringBuilder();
+		int depth = 1;
+		while (depth > 0 && reader.hasNext()) {
+			int event = reader.next();
+			switch (event) {
+			case XMLStreamConstants.START_ELEMENT:
+				depth++;
+				break;
+			case XMLStreamConstants.END_ELEMENT:
+				depth--;
+				break;
+			case XMLStreamConstants.CHARACTERS:
+			case XMLStreamConstants.CDATA:
+			case XMLStreamConstants.SPACE:
+			case XMLStreamConstants.ENTITY_REFERENCE:
+				sb.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+				break;
+			default:
+				break;
+			}
+		}
+		return sb.toString();
+	}
+
+	private void close(XMLStreamReader xmlReader) {
+		if (xmlReader == null) {
+			return;
+		}
+		try {
+			xmlReader.close();
+		} catch (XMLStreamException e) {
+			LOG.warn("Was not able to close xml stream reader", e);
+		}
+	}
+
+	private static XMLInputFactory createInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		/* no DTD and external entity support - we do not need this, and it prevents XXE */
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+		return factory;
+	}
+}
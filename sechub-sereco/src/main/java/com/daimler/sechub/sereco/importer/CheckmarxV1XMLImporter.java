@@ -1,65 +1,52 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sereco.importer;
 
-import java.io.IOException;
-import java.util.List;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.sereco.metadata.SerecoCodeCallStackElement;
-import com.daimler.sechub.sereco.metadata.SerecoMetaData;
 import com.daimler.sechub.sereco.metadata.SerecoSeverity;
 import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
 
 @Component
-public class CheckmarxV1XMLImporter extends AbstractProductResultImporter {
+public class CheckmarxV1XMLImporter extends AbstractStreamingXMLProductResultImporter {
 
 	private static final Logger LOG = LoggerFactory.getLogger(CheckmarxV1XMLImporter.class);
 
 	private static final Pattern NAME_PATTERN = Pattern.compile("_");
 
-	public SerecoMetaData importResult(String xml) throws IOException {
-		if (xml == null) {
-			xml = "";
-		}
-		Document document;
-		try {
-			document = DocumentHelper.parseText(xml);
-		} catch (DocumentException e) {
-			throw new IOException("Import cannot parse xml", e);
+	@Override
+	protected void importVulnerabilities(XMLStreamReader reader, Consumer<SerecoVulnerability> consumer) throws XMLStreamException {
+		if (!moveToRootElement(reader)) {
+			return;
 		}
-
 		CheckmarxCategoriesToClassificationConverter categoryConverter = new CheckmarxCategoriesToClassificationConverter();
 
-		SerecoMetaData metaData = new SerecoMetaData();
-		Element checkmarxCxXMLResults = document.getRootElement();
-		List<Element> queryElements = checkmarxCxXMLResults.elements("Query");
+		while (moveToNextChildElement(reader, "Query")) {
 
-		for (Element queryElement : queryElements) {
-
-			String name = queryElement.attributeValue("name");
+			String name = reader.getAttributeValue(null, "name");
 			String type = NAME_PATTERN.matcher(name).replaceAll(" ");
-			String categories = queryElement.attributeValue("categories");
-			String cweId = queryElement.attributeValue("cweId");
+			String categories = reader.getAttributeValue(null, "categories");
+			String cweId = reader.getAttributeValue(null, "cweId");
 
-			List<Element> resultElements = queryElement.elements("Result");
-			for (Element resultElement : resultElements) {
+			while (moveToNextChildElement(reader, "Result")) {
 
-				String falsePositive = resultElement.attributeValue("FalsePositive");
+				String falsePositive = reader.getAttributeValue(null, "FalsePositive");
 				if (Boolean.parseBoolean(falsePositive)) {
-					String nodeId = resultElement.attributeValue("NodeId");
+					String nodeId = reader.getAttributeValue(null, "NodeId");
 					LOG.debug("Ignored marked false positive for NodeId:{}", nodeId);
+					skipElement(reader);
 					continue;
 				}
-				String deeplink = resultElement.attributeValue("DeepLink");
-				String severity = resultElement.attributeValue("Severity");
+				String deeplink = reader.getAttributeValue(null, "DeepLink");
+				String severity = reader.getAttributeValue(null, "Severity");
 
 				SerecoVulnerability vulnerability = new SerecoVulnerability();
 				vulnerability.setType(type);
@@ -69,7 +56,7 @@ public class CheckmarxV1XMLImporter extends AbstractProductResultImporter {
 				}
 				vulnerability.setSeverity(SerecoSeverity.fromString(severity));
 
-				SerecoCodeCallStackElement codeInfo = resolveCodeInfoFromElement(resultElement);
+				SerecoCodeCallStackElement codeInfo = resolveCodeInfoFromResultElement(reader);
 
 				vulnerability.setCode(codeInfo);
 				vulnerability.setProductResultLink(deeplink);
@@ -78,89 +65,110 @@ public class CheckmarxV1XMLImporter extends AbstractProductResultImporter {
 
 				categoryConverter.convert(categories, vulnerability.getClassification());
 
-				metaData.getVulnerabilities().add(vulnerability);
+				consumer.accept(vulnerability);
 			}
 		}
-		return metaData;
 	}
 
-	private SerecoCodeCallStackElement resolveCodeInfoFromElement(Element resultElement) {
-		Element path = resultElement.element("Path");
-		if (path == null) {
+	private SerecoCodeCallStackElement resolveCodeInfoFromResultElement(XMLStreamReader reader) throws XMLStreamException {
+		if (!moveToNextChildElement(reader, "Path")) {
 			return null;
 		}
-		List<Element> pathNodes = path.elements("PathNode");
 		SerecoCodeCallStackElement initialCodeInfo=null;
 		SerecoCodeCallStackElement infoBefore=null;
-		for (Element pathNode: pathNodes) {
+		while (moveToNextChildElement(reader, "PathNode")) {
 			SerecoCodeCallStackElement info = new SerecoCodeCallStackElement();
 			if (initialCodeInfo==null) {
 				initialCodeInfo=info;
 			}
-			fillPathNodeInfo(info,pathNode);
+			fillPathNodeInfo(info,reader);
 			if (infoBefore!=null) {
 				infoBefore.setCalls(info);
 			}
 			infoBefore=info;
 		}
+		/* skip remaining parts of result element */
+		while (moveToNextChildElement(reader, null)) {
+			skipElement(reader);
+		}
 		return initialCodeInfo;
 
 	}
 
-	private void fillPathNodeInfo(SerecoCodeCallStackElement info, Element pathNode) {
-
-		Element filename = pathNode.element("FileName");
+	private void fillPathNodeInfo(SerecoCodeCallStackElement info, XMLStreamReader reader) throws XMLStreamException {
+		String filename = null;
+		String line = null;
+		String column = null;
+		String name = null;
+		String source = null;
+		boolean snippetFound = false;
+
+		while (moveToNextChildElement(reader, null)) {
+			String localName = reader.getLocalName();
+			if (filename == null && "FileName".equals(localName)) {
+				filename = readElementText(reader);
+			} else if (line == null && "Line".equals(localName)) {
+				line = readElementText(reader);
+			} else if (column == null && "Column".equals(localName)) {
+				column = readElementText(reader);
+			} else if (name == null && "Name".equals(localName)) {
+				name = readElementText(reader);
+			} else if (!snippetFound && "Snippet".equals(localName)) {
+				snippetFound = true;
+				source = readSnippetSource(reader);
+			} else {
+				skipElement(reader);
+			}
+		}
 		if (filename != null) {
-			info.setLocation(filename.getStringValue());
+			info.setLocation(filename);
 		}
-		Element line = pathNode.element("Line");
 		if (line != null) {
 			info.setLine(safeGetInteger(line));
 		}
-		Element column = pathNode.element("Column");
 		if (column != null) {
 			info.setColumn(safeGetInteger(column));
 		}
-
-		Element name = pathNode.element("Name");
 		if (name != null) {
-			info.setRelevantPart(name.getStringValue());
+			info.setRelevantPart(name);
+		}
+		if (source != null) {
+			info.setSource(source);
 		}
-
-		addSource(info, pathNode);
 
 	}
 
-	private void addSource(SerecoCodeCallStackElement info, Element pathNode) {
-		if (pathNode==null) {
-			return;
-		}
-		/* add source snippet */
-		Element snippet = pathNode.element("Snippet");
-		if (snippet == null) {
-			return ;
+	/**
+	 * Reads source snippet code - reader must be positioned at snippet start
+	 * element and will be at snippet end element after the call
+	 *
+	 * @return source code or <code>null</code>
+	 */
+	private String readSnippetSource(XMLStreamReader reader) throws XMLStreamException {
+		if (!moveToNextChildElement(reader, "Line")) {
+			return null;
 		}
-		Element snippetLine = snippet.element("Line");
-		if (snippetLine==null) {
-			return;
+		String source = null;
+		if (moveToNextChildElement(reader, "Code")) {
+			source = readElementText(reader);
+			/* skip remaining parts of line element */
+			while (moveToNextChildElement(reader, null)) {
+				skipElement(reader);
+			}
 		}
-		Element snippetCode = snippetLine.element("Code");
-		if (snippetCode == null) {
-			return;
+		/* skip remaining parts of snippet element */
+		while (moveToNextChildElement(reader, null)) {
+			skipElement(reader);
 		}
-		info.setSource(snippetCode.getStringValue());
+		return source;
 	}
 
 	/**
-	 * Parses element string value and tries to resolve as integer
-	 * @param element
+	 * Tries to resolve given string as integer
+	 * @param string
 	 * @return integer value or <code>null</code>
 	 */
-	Integer safeGetInteger(Element element) {
-		if (element==null) {
-			return null;
-		}
-		String string = element.getStringValue();
+	Integer safeGetInteger(String string) {
 		if (string==null) {
 			return null;
 		}
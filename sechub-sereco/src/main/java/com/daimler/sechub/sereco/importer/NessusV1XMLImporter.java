@@ -1,65 +1,67 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sereco.importer;
 
-import java.io.IOException;
-import java.util.List;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.springframework.stereotype.Component;
 
-import com.daimler.sechub.sereco.metadata.SerecoMetaData;
 import com.daimler.sechub.sereco.metadata.SerecoSeverity;
 import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
 
 @Component
-public class NessusV1XMLImporter extends AbstractProductResultImporter {
+public class NessusV1XMLImporter extends AbstractStreamingXMLProductResultImporter {
 
 	private static final Pattern NAME_PATTERN = Pattern.compile("_");
 
-	public SerecoMetaData importResult(String xml) throws IOException {
-		if (xml == null) {
-			xml = "";
+	@Override
+	protected void importVulnerabilities(XMLStreamReader reader, Consumer<SerecoVulnerability> consumer) throws XMLStreamException {
+		if (!moveToRootElement(reader)) {
+			return;
 		}
-		Document document;
-		try {
-			document = DocumentHelper.parseText(xml);
-		} catch (DocumentException e) {
-			throw new IOException("Import cannot parse xml", e);
+		if (!moveToNextChildElement(reader, "Report")) {
+			return;
 		}
+		if (!moveToNextChildElement(reader, "ReportHost")) {
+			return;
+		}
+		while (moveToNextChildElement(reader, "ReportItem")) {
+			consumer.accept(createVulnerability(reader));
+		}
+	}
 
-		SerecoMetaData metaData = new SerecoMetaData();
-		Element checkmarxCxXMLResults = document.getRootElement();
-		Element reportElement = checkmarxCxXMLResults.element("Report");
-		Element reportHost = reportElement.element("ReportHost");
-		List<Element> reportItems = reportHost.elements("ReportItem");
-
-		for (Element reportItem : reportItems) {
-			String name = reportItem.attributeValue("svc_name");
-			String type = NAME_PATTERN.matcher(name).replaceAll(" ");
-			String output = reportItem.elementText("plugin_output");
+	private SerecoVulnerability createVulnerability(XMLStreamReader reader) throws XMLStreamException {
+		String name = reader.getAttributeValue(null, "svc_name");
+		String type = NAME_PATTERN.matcher(name).replaceAll(" ");
+		int severityLevel = Integer.parseInt(reader.getAttributeValue(null, "severity"));
 
-			SerecoVulnerability vulnerability = new SerecoVulnerability();
-			SerecoSeverity severity = null;
-			int severityLevel = Integer.parseInt(reportItem.attributeValue("severity"));
-			if (severityLevel == 0) {
-				severity = SerecoSeverity.INFO;
-			}else if (severityLevel==1) {
-				severity = SerecoSeverity.LOW;
-			}else if (severityLevel==2){
-				severity = SerecoSeverity.MEDIUM;
-			}else {
-				severity = SerecoSeverity.MEDIUM;
+		String output = null;
+		while (moveToNextChildElement(reader, null)) {
+			if (output == null && "plugin_output".equals(reader.getLocalName())) {
+				output = readElementText(reader);
+			} else {
+				skipElement(reader);
 			}
-			vulnerability.setSeverity(severity);
-			vulnerability.setType(type);
-			vulnerability.setDescription(output);
-			metaData.getVulnerabilities().add(vulnerability);
 		}
-		return metaData;
+
+		SerecoVulnerability vulnerability = new SerecoVulnerability();
+		SerecoSeverity severity = null;
+		if (severityLevel == 0) {
+			severity = SerecoSeverity.INFO;
+		}else if (severityLevel==1) {
+			severity = SerecoSeverity.LOW;
+		}else if (severityLevel==2){
+			severity = SerecoSeverity.MEDIUM;
+		}else {
+			severity = SerecoSeverity.MEDIUM;
+		}
+		vulnerability.setSeverity(severity);
+		vulnerability.setType(type);
+		vulnerability.setDescription(output);
+		return vulnerability;
 	}
 
 	@Override
@@ -1,66 +1,73 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sereco.importer;
 
-import java.io.IOException;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
 import org.springframework.stereotype.Component;
 
 import com.daimler.sechub.sereco.metadata.SerecoClassification;
-import com.daimler.sechub.sereco.metadata.SerecoMetaData;
 import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
 
 @Component
-public class NetsparkerV1XMLImporter extends AbstractProductResultImporter {
+public class NetsparkerV1XMLImporter extends AbstractStreamingXMLProductResultImporter {
 
-	public SerecoMetaData importResult(String xml) throws IOException{
-		SerecoMetaData metaData = new SerecoMetaData();
-		if (xml==null) {
-			xml="";
+	@Override
+	protected void importVulnerabilities(XMLStreamReader reader, Consumer<SerecoVulnerability> consumer) throws XMLStreamException {
+		if (!moveToRootElement(reader)) {
+			throw new IllegalStateException("no root element found!");
+		}
+		if (!moveToNextChildElement(reader, "vulnerabilities")) {
+			throw new IllegalStateException("no vulnerabilities element found!");
 		}
-		Document document;
-		try {
-			document = DocumentHelper.parseText(xml);
-		} catch (DocumentException e) {
-			throw new IOException("Import cannot parse xml",e);
+		while (moveToNextChildElement(reader, null)) {
+			consumer.accept(createVulnerability(reader));
 		}
+	}
 
-		Element netsparkerCloudElement = document.getRootElement();
-		Element vulnerabilitiesElement = netsparkerCloudElement.element("vulnerabilities");
-		if (vulnerabilitiesElement==null) {
-			throw new IllegalStateException("no vulnerabilities element found!");
+	private SerecoVulnerability createVulnerability(XMLStreamReader reader) throws XMLStreamException {
+		Map<String, String> vulnerabilityTexts = new HashMap<>();
+		Map<String, String> classificationTexts = null;
+		while (moveToNextChildElement(reader, null)) {
+			if (classificationTexts == null && "classification".equals(reader.getLocalName())) {
+				classificationTexts = readChildTexts(reader);
+			} else {
+				vulnerabilityTexts.putIfAbsent(reader.getLocalName(), readElementText(reader));
+			}
 		}
+		SerecoVulnerability vulnerability = new SerecoVulnerability();
 
-		Iterator<Element> it = vulnerabilitiesElement.elementIterator();
-		while (it.hasNext()) {
-			Element vulnerabilityElement = it.next();
-			SerecoVulnerability vulnerability = new SerecoVulnerability();
-			metaData.getVulnerabilities().add(vulnerability);
+		vulnerability.setSeverity(NetsparkerServerityConverter.convert(vulnerabilityTexts.get("severity")));
+		vulnerability.setUrl(vulnerabilityTexts.get("url"));
+		vulnerability.setType(vulnerabilityTexts.get("type"));
+		vulnerability.setDescription(vulnerabilityTexts.get("description"));
 
-			vulnerability.setSeverity(NetsparkerServerityConverter.convert(vulnerabilityElement.elementText("severity")));
-			vulnerability.setUrl(vulnerabilityElement.elementText("url"));
-			vulnerability.setType(vulnerabilityElement.elementText("type"));
-			vulnerability.setDescription(vulnerabilityElement.elementText("description"));
+		if (classificationTexts == null) {
+			throw new IllegalStateException("no classificaton element found!");
+		}
+		SerecoClassification classification = vulnerability.getClassification();
+		classification.setOwasp(classificationTexts.get("owasp"));
+		classification.setWasc(classificationTexts.get("wasc"));
+		classification.setCwe(classificationTexts.get("cwe"));
+		classification.setCapec(classificationTexts.get("capec"));
+		classification.setPci31(classificationTexts.get("pci31"));
+		classification.setPci32(classificationTexts.get("pci32"));
+		classification.setHipaa(classificationTexts.get("hipaa"));
+		classification.setOwaspProactiveControls(classificationTexts.get("owasppc"));
 
-			Element classificationElement = vulnerabilityElement.element("classification");
-			if (classificationElement==null) {
-				throw new IllegalStateException("no classificaton element found!");
-			}
-			SerecoClassification classification = vulnerability.getClassification();
-			classification.setOwasp(classificationElement.elementText("owasp"));
-			classification.setWasc(classificationElement.elementText("wasc"));
-			classification.setCwe(classificationElement.elementText("cwe"));
-			classification.setCapec(classificationElement.elementText("capec"));
-			classification.setPci31(classificationElement.elementText("pci31"));
-			classification.setPci32(classificationElement.elementText("pci32"));
-			classification.setHipaa(classificationElement.elementText("hipaa"));
-			classification.setOwaspProactiveControls(classificationElement.elementText("owasppc"));
+		return vulnerability;
+	}
+
+	private Map<String, String> readChildTexts(XMLStreamReader reader) throws XMLStreamException {
+		Map<String, String> texts = new HashMap<>();
+		while (moveToNextChildElement(reader, null)) {
+			texts.putIfAbsent(reader.getLocalName(), readElementText(reader));
 		}
-		return metaData;
+		return texts;
 	}
 
 	@Override
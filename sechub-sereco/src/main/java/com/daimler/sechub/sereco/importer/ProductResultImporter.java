@@ -2,13 +2,28 @@
 package com.daimler.sechub.sereco.importer;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
 
 import com.daimler.sechub.sereco.ImportParameter;
 import com.daimler.sechub.sereco.metadata.SerecoMetaData;
+import com.daimler.sechub.sereco.metadata.SerecoVulnerability;
 
 public interface ProductResultImporter {
 
 	public SerecoMetaData importResult(String json) throws IOException;
 
+	/**
+	 * Imports product result in streaming mode. The data is not loaded completely
+	 * into memory, instead every vulnerability found is given directly to the
+	 * consumer. Content is already decoded, so an encoding declared inside the
+	 * content (e.g. by a XML declaration) is ignored.
+	 *
+	 * @param reader   reader containing product result - will not be closed
+	 * @param consumer consumer for found vulnerabilities
+	 * @throws IOException
+	 */
+	public void importResult(Reader reader, Consumer<SerecoVulnerability> consumer) throws IOException;
+
 	public ProductImportAbility isAbleToImportForProduct(ImportParameter param);
-}
\ No newline at end of file
+}
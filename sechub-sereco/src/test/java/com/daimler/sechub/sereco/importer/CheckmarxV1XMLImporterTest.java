@@ -5,6 +5,11 @@ import static com.daimler.sechub.sereco.test.AssertVulnerabilities.*;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Before;
@@ -114,6 +119,42 @@ public class CheckmarxV1XMLImporterTest {
 		/* @formatter:on */
 	}
 
+	@Test
+	public void xmlReportFromCheckmarxV8_imported_by_stream_contains_same_vulnerabilities_as_imported_by_string() throws IOException {
+		/* prepare */
+		String path = "checkmarx/sechub-continous-integration-with-false-positive.xml";
+		SerecoMetaData expected = importerToTest.importResult(SerecoTestFileSupport.INSTANCE.loadTestFile(path));
+		List<SerecoVulnerability> streamed = new ArrayList<>();
+
+		/* execute */
+		try (InputStream inputStream = SerecoTestFileSupport.INSTANCE.getInputStreamTo(path);
+				Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+			importerToTest.importResult(reader, streamed::add);
+		}
+
+		/* test */
+		assertEquals(230, streamed.size());
+		assertEquals(expected.getVulnerabilities(), streamed);
+	}
+
+	@Test
+	public void xmlReportFromCheckmarxV8_with_byte_order_mark_can_be_imported_by_string() throws IOException {
+		/* prepare */
+		String xml = SerecoTestFileSupport.INSTANCE.loadTestFile("checkmarx/sechub-continous-integration.xml");
+
+		/* execute */
+		SerecoMetaData data = importerToTest.importResult(xml);
+
+		/* test */
+		assertFalse(data.getVulnerabilities().isEmpty());
+	}
+
+	@Test(expected = IOException.class)
+	public void empty_string_cannot_be_imported() throws IOException {
+		/* execute */
+		importerToTest.importResult("");
+	}
+
 	@Test
 	public void load_example1_contains_expected_data() throws IOException {
 		/* prepare */
@@ -4,6 +4,12 @@ package com.daimler.sechub.sereco.importer;
 import static com.daimler.sechub.sereco.test.AssertVulnerabilities.*;
 import static org.junit.Assert.*;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Before;
@@ -51,6 +57,48 @@ public class NetsparkerV1XMLImporterTest {
 
 	}
 
+	@Test
+	public void testfile1_imported_by_stream_contains_4_vulnerablities() throws Exception{
+		/* prepare */
+		List<SerecoVulnerability> vulnerabilities = new ArrayList<>();
+
+		/* execute */
+		try (InputStream inputStream = support.getInputStreamTo(SerecoTestFileSupport.NETSPARKER_RESULT_XML_TESTFILE1);
+				Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+			importerToTest.importResult(reader, vulnerabilities::add);
+		}
+
+		/* test */
+		assertEquals(4,vulnerabilities.size());
+		assertEquals(importerToTest.importResult(support.loadTestFile(SerecoTestFileSupport.NETSPARKER_RESULT_XML_TESTFILE1)).getVulnerabilities(), vulnerabilities);
+
+	}
+
+	@Test
+	public void testfile1_with_utf16_declaration_imported_by_reader_contains_4_vulnerablities() throws Exception{
+		assertImportByReaderIgnoresDeclaredEncoding("utf-16");
+	}
+
+	@Test
+	public void testfile1_with_iso_8859_1_declaration_imported_by_reader_contains_4_vulnerablities() throws Exception{
+		assertImportByReaderIgnoresDeclaredEncoding("iso-8859-1");
+	}
+
+	private void assertImportByReaderIgnoresDeclaredEncoding(String declaredEncoding) throws Exception{
+		/* prepare */
+		String xml = support.loadTestFile(SerecoTestFileSupport.NETSPARKER_RESULT_XML_TESTFILE1);
+		String declared = xml.replaceFirst("encoding=\"utf-8\"", "encoding=\""+declaredEncoding+"\"");
+		assertNotEquals(xml, declared);
+		List<SerecoVulnerability> vulnerabilities = new ArrayList<>();
+
+		/* execute */
+		importerToTest.importResult(new StringReader(declared), vulnerabilities::add);
+
+		/* test */
+		assertEquals(4,vulnerabilities.size());
+		assertEquals(importerToTest.importResult(xml).getVulnerabilities(), vulnerabilities);
+	}
+
 	@Test
 	public void testfile1_contains_ApacheVersionDisclosure_and_ApacheOutOfDate_in_imported_metadata() throws Exception{
 		/* prepare */
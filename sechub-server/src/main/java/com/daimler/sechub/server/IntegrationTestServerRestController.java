@@ -1,7 +1,6 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.server;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.UUID;
@@ -13,15 +12,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Profile;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.daimler.sechub.sharedkernel.APIConstants;
 import com.daimler.sechub.sharedkernel.Profiles;
@@ -29,6 +28,7 @@ import com.daimler.sechub.sharedkernel.RoleConstants;
 import com.daimler.sechub.sharedkernel.UserContextService;
 import com.daimler.sechub.sharedkernel.error.NotFoundException;
 import com.daimler.sechub.sharedkernel.logging.LogSanitizer;
+import com.daimler.sechub.sharedkernel.storage.SourceCodeArchiveStorageService;
 import com.daimler.sechub.sharedkernel.storage.StorageService;
 import com.daimler.sechub.sharedkernel.validation.ProjectIdValidation;
 import com.daimler.sechub.sharedkernel.validation.ValidationResult;
@@ -52,6 +52,9 @@ public class IntegrationTestServerRestController {
 	@Autowired
 	private StorageService storageService;
 
+	@Autowired
+	private SourceCodeArchiveStorageService archiveStorageService;
+
 	@Autowired
 	private UserContextService userContextService;
 
@@ -89,7 +92,7 @@ public class IntegrationTestServerRestController {
 	}
 
 	@RequestMapping(path = APIConstants.API_ANONYMOUS + "integrationtest/{projectId}/{jobUUID}/uploaded/{fileName}", method = RequestMethod.GET)
-	public ResponseEntity<Resource> getUploadedFile(@PathVariable("projectId") String projectId, @PathVariable("jobUUID") UUID jobUUID,
+	public ResponseEntity<StreamingResponseBody> getUploadedFile(@PathVariable("projectId") String projectId, @PathVariable("jobUUID") UUID jobUUID,
 			@PathVariable("fileName") String fileName) throws IOException {
 
 		ValidationResult projectIdValidationResult = projectIdValidation.validate(projectId);
@@ -98,11 +101,29 @@ public class IntegrationTestServerRestController {
 			return ResponseEntity.notFound().build();
 		}
 		LOG.info("Integration test server: getJobStorage for {} {}", logSanitizer.sanitize(projectId, 30), jobUUID);
-		JobStorage storage = storageService.getJobStorage(projectId, jobUUID);
-		if (!storage.isExisting(fileName)) {
-			throw new NotFoundException("file not uploaded:" + fileName);
+		StreamingResponseBody body = null;
+		if (SourceCodeArchiveStorageService.SOURCECODE_ZIP.equals(fileName)) {
+			/* source code archive can be inside source cache */
+			if (!archiveStorageService.isSourceCodeArchiveExisting(projectId, jobUUID)) {
+				throw new NotFoundException("file not uploaded:" + fileName);
+			}
+			body = outputStream -> {
+				try (InputStream inputStream = archiveStorageService.openSourceCodeArchive(projectId, jobUUID)) {
+					StreamUtils.copy(inputStream, outputStream);
+				}
+			};
+		} else {
+			JobStorage storage = storageService.getJobStorage(projectId, jobUUID);
+			if (!storage.isExisting(fileName)) {
+				throw new NotFoundException("file not uploaded:" + fileName);
+			}
+			/* content is copied in chunks from storage to response - no complete copy inside heap */
+			body = outputStream -> {
+				try (InputStream inputStream = storage.fetch(fileName)) {
+					StreamUtils.copy(inputStream, outputStream);
+				}
+			};
 		}
-		InputStream inputStream = storage.fetch(fileName);
 
 		HttpHeaders headers = new HttpHeaders();
 		headers.add("Cache-Control", "no-cache, no-store, must-revalidate");
@@ -110,15 +131,10 @@ public class IntegrationTestServerRestController {
 		headers.add("Expires", "0");
 
 		/* @formatter:off */
-		byte[] bytes = new byte[inputStream.available()];
-		new DataInputStream(inputStream).readFully(bytes);
-		ByteArrayResource resource = new ByteArrayResource(bytes);
-
 		return ResponseEntity.ok()
 				.headers(headers)
-				.contentLength(resource.contentLength())
 				.contentType(MediaType.parseMediaType("application/octet-stream"))
-				.body(resource);
+				.body(body);
 		/* @formatter:on */
 
 	}
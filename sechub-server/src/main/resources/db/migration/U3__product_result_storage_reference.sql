@@ -0,0 +1,2 @@
+-- drop column
+ALTER TABLE scan_product_result DROP COLUMN IF EXISTS result_storage_ref;
@@ -0,0 +1,2 @@
+-- drop column
+ALTER TABLE schedule_config DROP COLUMN IF EXISTS config_job_ready_signal;
@@ -0,0 +1,3 @@
+-- drop tables
+DROP TABLE IF EXISTS schedule_source_cache_ref CASCADE;
+DROP TABLE IF EXISTS schedule_source_cache CASCADE;
@@ -0,0 +1,7 @@
+-- drop columns
+ALTER TABLE scan_report DROP COLUMN IF EXISTS count_critical;
+ALTER TABLE scan_report DROP COLUMN IF EXISTS count_high;
+ALTER TABLE scan_report DROP COLUMN IF EXISTS count_medium;
+ALTER TABLE scan_report DROP COLUMN IF EXISTS count_unclassified;
+ALTER TABLE scan_report DROP COLUMN IF EXISTS count_low;
+ALTER TABLE scan_report DROP COLUMN IF EXISTS count_info;
@@ -0,0 +1 @@
+ALTER TABLE scan_product_result ADD COLUMN result_storage_ref varchar(255); -- reference to result content inside storage, when not stored in result column
@@ -0,0 +1 @@
+ALTER TABLE schedule_config ADD COLUMN config_job_ready_signal bigint not null default 0; -- increased on job approval, recognized by all cluster members
@@ -0,0 +1,19 @@
+CREATE TABLE schedule_source_cache
+(
+   id uuid not null, -- name based uuid of project id and checksum
+   project_id varchar(60) not null, -- we accept 60 (3x20), see ProjectIdValidation
+   checksum varchar(64) not null, -- sha256 checksum as hex string
+   blob_name varchar(255) not null, -- name of archive inside cache storage
+   last_used timestamp not null,
+   version integer,
+   PRIMARY KEY (id)
+);
+CREATE TABLE schedule_source_cache_ref
+(
+   job_uuid uuid not null,
+   cache_id uuid not null,
+   created timestamp not null,
+   version integer,
+   PRIMARY KEY (job_uuid)
+);
+CREATE INDEX i01_schedule_source_cache_ref_cache_id ON schedule_source_cache_ref (cache_id);
@@ -0,0 +1,12 @@
+CREATE TABLE scan_product_duration
+(
+   id uuid not null, -- name based uuid of product id, base url and project id
+   product_id varchar(30) not null, -- enum value, max:30
+   base_url varchar(255) not null,
+   project_id varchar(60) not null, -- we accept 60 (3x20), see ProjectIdValidation
+   average_milliseconds bigint not null,
+   executions integer not null,
+   last_updated timestamp not null,
+   version integer,
+   PRIMARY KEY (id)
+);
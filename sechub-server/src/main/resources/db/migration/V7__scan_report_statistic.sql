@@ -0,0 +1,7 @@
+-- finding counts per severity - null for reports created before
+ALTER TABLE scan_report ADD COLUMN count_critical bigint;
+ALTER TABLE scan_report ADD COLUMN count_high bigint;
+ALTER TABLE scan_report ADD COLUMN count_medium bigint;
+ALTER TABLE scan_report ADD COLUMN count_unclassified bigint;
+ALTER TABLE scan_report ADD COLUMN count_low bigint;
+ALTER TABLE scan_report ADD COLUMN count_info bigint;
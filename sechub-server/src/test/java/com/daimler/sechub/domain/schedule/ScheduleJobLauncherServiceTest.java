@@ -40,6 +40,8 @@ public class ScheduleJobLauncherServiceTest {
 
 	private DomainMessageService eventBus;
 
+	private SchedulerDirectJobLauncher directJobLauncher;
+
 	@Before
 	public void before() throws Exception {
 		serviceToTest = new ScheduleJobLauncherService();
@@ -56,6 +58,9 @@ public class ScheduleJobLauncherServiceTest {
 		serviceToTest.job=job;
 		serviceToTest.eventBus= eventBus;
 
+		directJobLauncher = mock(SchedulerDirectJobLauncher.class);
+		serviceToTest.directJobLauncher=directJobLauncher;
+
 		secHubJob = mock(ScheduleSecHubJob.class);
 
 		when(secHubJob.getUUID()).thenReturn(uuid);
@@ -105,4 +110,32 @@ public class ScheduleJobLauncherServiceTest {
 
 	}
 
+	@Test
+	public void executeJob__with_direct_engine_uses_direct_launcher_and_not_spring_batch()
+			throws Exception {
+		/* prepare */
+		serviceToTest.engine = SchedulerJobExecutionEngine.DIRECT;
+
+		/* execute */
+		serviceToTest.executeJob(secHubJob);
+
+		/* test */
+		verify(directJobLauncher).launch(uuid);
+		verify(asyncJobLauncher, never()).run(any(Job.class), any(JobParameters.class));
+
+		ArgumentCaptor<DomainMessage> message = ArgumentCaptor.forClass(DomainMessage.class);
+		verify(eventBus).sendAsynchron(message.capture());
+		assertEquals(MessageID.JOB_STARTED,message.getValue().getMessageId());
+	}
+
+	@Test
+	public void executeJob__with_default_engine_does_not_use_direct_launcher()
+			throws Exception {
+		/* execute */
+		serviceToTest.executeJob(secHubJob);
+
+		/* test */
+		verify(directJobLauncher, never()).launch(any());
+	}
+
 }
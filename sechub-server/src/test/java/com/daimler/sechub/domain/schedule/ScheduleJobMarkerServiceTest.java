@@ -5,7 +5,8 @@ import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Optional;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.Before;
@@ -40,35 +41,38 @@ public class ScheduleJobMarkerServiceTest {
 	}
 
 	@Test
-	public void markNextJobExecutedByThisPOD__calls_jobrepository_findNextJobToExecute() throws Exception {
+	public void markNextJobsExecutedByThisPOD__calls_jobrepository_findNextJobsToExecute() throws Exception {
 		/* prepare */
 		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
 		when(job.getUUID()).thenReturn(UUID.randomUUID());
-		when(jobRepository.findNextJobToExecute()).thenReturn(Optional.of(job));
+		when(jobRepository.findNextJobsToExecute(5)).thenReturn(Arrays.asList(job));
 
 		/* execute */
-		serviceToTest.markNextJobExecutedByThisPOD();
+		serviceToTest.markNextJobsExecutedByThisPOD(5);
 
 		/* test */
-		verify(jobRepository).findNextJobToExecute();
+		verify(jobRepository).findNextJobsToExecute(5);
 	}
 	
 	@Test
-	public void markNextJobExecutedByThisPOD__updates_execution_state_to_started() throws Exception {
+	public void markNextJobsExecutedByThisPOD__updates_execution_state_to_started() throws Exception {
 		/* prepare */
-		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
-		when(job.getUUID()).thenReturn(UUID.randomUUID());
-		when(jobRepository.findNextJobToExecute()).thenReturn(Optional.of(job));
-		when(jobRepository.save(job)).thenReturn(job);
+		ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+		ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+		when(jobRepository.findNextJobsToExecute(2)).thenReturn(Arrays.asList(job1, job2));
+		when(jobRepository.save(job1)).thenReturn(job1);
+		when(jobRepository.save(job2)).thenReturn(job2);
 
 		/* execute */
-		ScheduleSecHubJob result = serviceToTest.markNextJobExecutedByThisPOD();
+		List<ScheduleSecHubJob> result = serviceToTest.markNextJobsExecutedByThisPOD(2);
 
 		/* test */
-		verify(job).setStarted(any());
-		verify(job).setExecutionState(eq(ExecutionState.STARTED));
-		
-		assertEquals(job,result);
+		verify(job1).setStarted(any());
+		verify(job1).setExecutionState(eq(ExecutionState.STARTED));
+		verify(job2).setStarted(any());
+		verify(job2).setExecutionState(eq(ExecutionState.STARTED));
+
+		assertEquals(Arrays.asList(job1, job2), result);
 	}
 
 }
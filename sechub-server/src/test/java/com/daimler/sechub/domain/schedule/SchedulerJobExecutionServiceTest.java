@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.domain.schedule;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.daimler.sechub.domain.schedule.batch.SecHubJobSafeUpdater;
+import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
+import com.daimler.sechub.domain.schedule.job.SecHubJobRepository;
+import com.daimler.sechub.domain.schedule.sourcecache.ScheduleSourceCacheService;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageSynchronousResult;
+import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
+import com.daimler.sechub.sharedkernel.messaging.MessageID;
+
+public class SchedulerJobExecutionServiceTest {
+
+	private SchedulerJobExecutionService serviceToTest;
+	private DomainMessageService eventBus;
+	private SecHubJobRepository jobRepository;
+	private SecHubJobSafeUpdater jobUpdater;
+	private UUID uuid;
+
+	@Before
+	public void before() throws Exception {
+		serviceToTest = new SchedulerJobExecutionService();
+
+		eventBus = mock(DomainMessageService.class);
+		jobRepository = mock(SecHubJobRepository.class);
+		jobUpdater = mock(SecHubJobSafeUpdater.class);
+
+		serviceToTest.eventBusService = eventBus;
+		serviceToTest.secHubJobRepository = jobRepository;
+		serviceToTest.secHubJobUpdater = jobUpdater;
+		serviceToTest.sourceCacheService = mock(ScheduleSourceCacheService.class);
+
+		uuid = UUID.randomUUID();
+		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+		when(job.getJsonConfiguration()).thenReturn("{}");
+		when(jobRepository.getOne(uuid)).thenReturn(job);
+	}
+
+	@Test
+	public void successful_scan_updates_job_with_result_OK_and_sends_JOB_DONE() {
+		/* prepare */
+		DomainMessageSynchronousResult result = new DomainMessageSynchronousResult(MessageID.SCAN_DONE);
+		result.set(MessageDataKeys.REPORT_TRAFFIC_LIGHT, "GREEN");
+		when(eventBus.sendSynchron(any())).thenReturn(result);
+
+		/* execute */
+		serviceToTest.executeScan(uuid);
+
+		/* test */
+		verify(jobUpdater).safeUpdateOfSecHubJob(uuid, ExecutionResult.OK, "GREEN");
+		assertEquals(MessageID.JOB_DONE, captureAsyncMessage().getMessageId());
+	}
+
+	@Test
+	public void failing_scan_updates_job_with_result_FAILED_and_sends_JOB_FAILED() {
+		/* prepare */
+		when(eventBus.sendSynchron(any())).thenThrow(new IllegalStateException("scan failed"));
+
+		/* execute */
+		serviceToTest.executeScan(uuid);
+
+		/* test */
+		verify(jobUpdater).safeUpdateOfSecHubJob(uuid, ExecutionResult.FAILED, null);
+		assertEquals(MessageID.JOB_FAILED, captureAsyncMessage().getMessageId());
+	}
+
+	private DomainMessage captureAsyncMessage() {
+		ArgumentCaptor<DomainMessage> message = ArgumentCaptor.forClass(DomainMessage.class);
+		verify(eventBus).sendAsynchron(message.capture());
+		return message.getValue();
+	}
+}
@@ -1,15 +1,26 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.domain.schedule;
 
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.PessimisticLockingFailureException;
 
 import com.daimler.sechub.domain.schedule.config.SchedulerConfigService;
 import com.daimler.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.daimler.sechub.sharedkernel.cluster.ClusterEnvironmentService;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessage;
+import com.daimler.sechub.sharedkernel.messaging.DomainMessageService;
+import com.daimler.sechub.sharedkernel.messaging.MessageDataKeys;
+import com.daimler.sechub.sharedkernel.messaging.MessageID;
 
 public class SecHubJobBatchTriggerServiceTest {
 
@@ -21,6 +32,10 @@ public class SecHubJobBatchTriggerServiceTest {
 
 	private SchedulerConfigService configService;
 
+	private SchedulerCapacityService capacityService;
+
+	private DomainMessageService eventBusService;
+
 	@Before
 	public void before() throws Exception {
 		serviceToTest = new SchedulerJobBatchTriggerService();
@@ -35,12 +50,18 @@ public class SecHubJobBatchTriggerServiceTest {
 		serviceToTest.environmentService=environmentService;
 		serviceToTest.configService=configService;
 
+		eventBusService = mock(DomainMessageService.class);
+		serviceToTest.eventBusService=eventBusService;
+
+		capacityService = new SchedulerCapacityService();
+		serviceToTest.capacityService=capacityService;
+
 
 	}
 
 
 	@Test
-	public void triggerExecutionOfNextJob__calls_marker_service_markNextJobExecutedByThisPOD() throws Exception {
+	public void triggerExecutionOfNextJob__calls_marker_service_markNextJobsExecutedByThisPOD() throws Exception {
 		/* prepare */
 		when(configService.isJobProcessingEnabled()).thenReturn(true);
 
@@ -48,7 +69,7 @@ public class SecHubJobBatchTriggerServiceTest {
 		serviceToTest.triggerExecutionOfNextJob();
 
 		/* test */
-		verify(markerService).markNextJobExecutedByThisPOD();
+		verify(markerService).markNextJobsExecutedByThisPOD(5); // default capacity of POD
 	}
 
 	@Test
@@ -56,7 +77,7 @@ public class SecHubJobBatchTriggerServiceTest {
 			throws Exception {
 		/* prepare */
 		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
-		when(markerService.markNextJobExecutedByThisPOD()).thenReturn(job);
+		when(markerService.markNextJobsExecutedByThisPOD(anyInt())).thenReturn(Arrays.asList(job));
 		when(configService.isJobProcessingEnabled()).thenReturn(false);
 
 		/* execute */
@@ -71,22 +92,209 @@ public class SecHubJobBatchTriggerServiceTest {
 			throws Exception {
 		/* prepare */
 		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
-		when(markerService.markNextJobExecutedByThisPOD()).thenReturn(job);
+		when(markerService.markNextJobsExecutedByThisPOD(anyInt())).thenReturn(Arrays.asList(job));
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(launcherService).executeJob(job);
+	}
+
+	@Test
+	public void all_claimed_jobs_are_launched_in_one_round_trip() throws Exception {
+		/* prepare */
+		ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+		ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+		ScheduleSecHubJob job3 = mock(ScheduleSecHubJob.class);
+		when(markerService.markNextJobsExecutedByThisPOD(anyInt())).thenReturn(Arrays.asList(job1, job2, job3));
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(launcherService).executeJob(job1);
+		verify(launcherService).executeJob(job2);
+		verify(launcherService).executeJob(job3);
+		verify(markerService, times(1)).markNextJobsExecutedByThisPOD(anyInt());
+	}
+
+	@Test
+	public void when_launch_of_one_claimed_job_fails_it_is_marked_as_failed_and_others_are_launched() throws Exception {
+		/* prepare */
+		ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+		ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+		when(markerService.markNextJobsExecutedByThisPOD(anyInt())).thenReturn(Arrays.asList(job1, job2));
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+		doThrow(new ScheduleFailedException(new IllegalStateException())).when(launcherService).executeJob(job1);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(markerService).markJobExecutionFailed(job1);
+		verify(launcherService).executeJob(job2);
+		verify(markerService, never()).markJobExecutionFailed(job2);
+	}
+
+	@Test
+	public void when_launch_of_claimed_job_fails_job_failed_message_is_sent() throws Exception {
+		/* prepare */
+		UUID jobUUID = UUID.randomUUID();
+		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+		when(job.getUUID()).thenReturn(jobUUID);
+		when(job.getProjectId()).thenReturn("project1");
+		when(markerService.markNextJobsExecutedByThisPOD(anyInt())).thenReturn(Arrays.asList(job));
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+		doThrow(new ScheduleFailedException(new IllegalStateException())).when(launcherService).executeJob(job);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		ArgumentCaptor<DomainMessage> captor = ArgumentCaptor.forClass(DomainMessage.class);
+		verify(eventBusService).sendAsynchron(captor.capture());
+		DomainMessage message = captor.getValue();
+		assertEquals(MessageID.JOB_FAILED, message.getMessageId());
+		assertEquals(jobUUID, message.get(MessageDataKeys.JOB_FAILED_DATA).getJobUUID());
+	}
+
+	@Test
+	public void no_jobs_are_claimed_when_no_slot_is_free() throws Exception {
+		/* prepare */
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+		capacityService.acquireSlots(5);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(markerService, never()).markNextJobsExecutedByThisPOD(anyInt());
+	}
+
+	@Test
+	public void only_free_slots_are_claimed_and_slots_not_used_are_released() throws Exception {
+		/* prepare */
+		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+		when(markerService.markNextJobsExecutedByThisPOD(anyInt())).thenReturn(Arrays.asList(job));
+		capacityService.acquireSlots(3);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(markerService).markNextJobsExecutedByThisPOD(2);
+		assertEquals(1, capacityService.getFreeSlots());
+	}
+
+	@Test
+	public void slot_is_released_when_launch_fails() throws Exception {
+		/* prepare */
+		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
 		when(configService.isJobProcessingEnabled()).thenReturn(true);
+		when(markerService.markNextJobsExecutedByThisPOD(anyInt())).thenReturn(Arrays.asList(job));
+		doThrow(new ScheduleFailedException(new IllegalStateException())).when(launcherService).executeJob(job);
 
 		/* execute */
 		serviceToTest.triggerExecutionOfNextJob();
 
 		/* test */
+		assertEquals(5, capacityService.getFreeSlots());
+	}
+
+	@Test
+	public void claim_is_retried_on_concurrency_failure() throws Exception {
+		/* prepare */
+		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+		when(markerService.markNextJobsExecutedByThisPOD(anyInt())).thenThrow(new PessimisticLockingFailureException("locked")).thenReturn(Arrays.asList(job));
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(markerService, times(2)).markNextJobsExecutedByThisPOD(anyInt());
 		verify(launcherService).executeJob(job);
 	}
 
+	@Test
+	public void ready_queue_is_drained_only_until_maximum_jobs_per_dispatch_reached() throws Exception {
+		/* prepare */
+		serviceToTest.maximumJobsPerDispatch = 2;
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+		/* execute */
+		serviceToTest.triggerExecutionOfNextJob();
+
+		/* test */
+		verify(markerService).markNextJobsExecutedByThisPOD(2);
+	}
+
+	@Test
+	public void signal_job_ready_to_start_triggers_dispatch_and_writes_database_signal() throws Exception {
+		/* prepare */
+		serviceToTest.init();
+		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+		when(markerService.markNextJobsExecutedByThisPOD(anyInt())).thenReturn(Arrays.asList(job));
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+		/* execute */
+		serviceToTest.signalJobReadyToStart();
+
+		/* test */
+		verify(configService).signalJobReadyToStart();
+		verify(launcherService, timeout(5000)).executeJob(job);
+		serviceToTest.shutdown();
+	}
+
+	@Test
+	public void signal_job_ready_to_start_does_nothing_when_event_driven_dispatch_disabled() throws Exception {
+		/* prepare */
+		serviceToTest.eventDrivenDispatchEnabled = false;
+		serviceToTest.init();
+
+		/* execute */
+		serviceToTest.signalJobReadyToStart();
+
+		/* test */
+		verify(configService, never()).signalJobReadyToStart();
+		serviceToTest.shutdown();
+	}
+
+	@Test
+	public void changed_database_signal_triggers_dispatch_but_first_check_does_not() throws Exception {
+		/* prepare */
+		serviceToTest.init();
+		ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+		when(markerService.markNextJobsExecutedByThisPOD(anyInt())).thenReturn(Arrays.asList(job));
+		when(configService.isJobProcessingEnabled()).thenReturn(true);
+		when(configService.getJobReadySignal()).thenReturn(1L, 1L, 2L);
+
+		/* execute */
+		serviceToTest.checkJobReadySignal();
+		serviceToTest.checkJobReadySignal();
+
+		/* test */
+		Thread.sleep(100);
+		verify(launcherService, never()).executeJob(any());
+
+		/* execute */
+		serviceToTest.checkJobReadySignal();
+
+		/* test */
+		verify(launcherService, timeout(5000)).executeJob(job);
+		serviceToTest.shutdown();
+	}
+
 	@Test
 	public void when_marker_service_returns_NO_job_launcher_service_is_NOT_called()
 			throws Exception {
 		/* prepare */
 		when(configService.isJobProcessingEnabled()).thenReturn(true);
-		when(markerService.markNextJobExecutedByThisPOD()).thenReturn(null);
+		when(markerService.markNextJobsExecutedByThisPOD(anyInt())).thenReturn(Collections.emptyList());
 
 		/* execute */
 		serviceToTest.triggerExecutionOfNextJob();
@@ -0,0 +1,212 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An execution lane for exactly one {@link AsynchronMessageHandler}. Every
+ * handler has its own threads and a bounded queue, so a slow handler (e.g.
+ * sending mails) cannot delay other handlers. When the queue is full, messages
+ * declared as {@link MessageID#isDroppableWhenHandlerBusy() droppable} are
+ * dropped. For all other messages the configured {@link RejectionPolicy} is
+ * used - so they are never lost.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+class AsynchronMessageHandlerLane {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AsynchronMessageHandlerLane.class);
+
+	/**
+	 * Upper bounds (inclusive) in milliseconds for latency histogram buckets. Last
+	 * bucket contains all greater values
+	 */
+	static final long[] LATENCY_BUCKET_UPPER_BOUNDS_IN_MILLISECONDS = { 10, 50, 100, 500, 1000, 5000, 10000, 60000, Long.MAX_VALUE };
+
+	public enum RejectionPolicy {
+		/**
+		 * Sender thread waits until queue has space again. When the sender thread
+		 * is interrupted while waiting, it executes the handler itself
+		 */
+		BLOCK,
+
+		/**
+		 * Sender thread executes the handler itself - this slows down the sender
+		 * (backpressure) but no message gets lost
+		 */
+		CALLER_RUNS,
+	}
+
+	private String name;
+	private AsynchronMessageHandler handler;
+	private ThreadPoolExecutor executor;
+	private RejectionPolicy rejectionPolicy;
+
+	private LongAdder executed = new LongAdder();
+	private LongAdder failed = new LongAdder();
+	private LongAdder dropped = new LongAdder();
+	private LongAdder executedByCaller = new LongAdder();
+	private LongAdder blockedSender = new LongAdder();
+	private AtomicLongArray latencyBuckets = new AtomicLongArray(LATENCY_BUCKET_UPPER_BOUNDS_IN_MILLISECONDS.length);
+
+	AsynchronMessageHandlerLane(AsynchronMessageHandler handler, int threads, int queueCapacity, RejectionPolicy rejectionPolicy) {
+		this.handler = handler;
+		this.name = createName(handler);
+		this.rejectionPolicy = rejectionPolicy == null ? RejectionPolicy.BLOCK : rejectionPolicy;
+
+		int poolSize = Math.max(1, threads);
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+				new LaneThreadFactory(name), new LaneRejectionHandler());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Sends given request to handler of this lane
+	 *
+	 * @param request
+	 */
+	void send(DomainMessage request) {
+		executor.execute(new LaneTask(request));
+	}
+
+	String getName() {
+		return name;
+	}
+
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	AsynchronMessageHandlerLaneStatistic createStatistic() {
+		long[] buckets = new long[latencyBuckets.length()];
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = latencyBuckets.get(i);
+		}
+		/* @formatter:off */
+		return new AsynchronMessageHandlerLaneStatistic(
+				name,
+				executor.getQueue().size(),
+				executor.getActiveCount(),
+				executed.sum(),
+				failed.sum(),
+				dropped.sum(),
+				executedByCaller.sum(),
+				blockedSender.sum(),
+				LATENCY_BUCKET_UPPER_BOUNDS_IN_MILLISECONDS.clone(),
+				buckets);
+		/* @formatter:on */
+	}
+
+	private void recordLatency(long millis) {
+		for (int i = 0; i < LATENCY_BUCKET_UPPER_BOUNDS_IN_MILLISECONDS.length; i++) {
+			if (millis <= LATENCY_BUCKET_UPPER_BOUNDS_IN_MILLISECONDS[i]) {
+				latencyBuckets.incrementAndGet(i);
+				return;
+			}
+		}
+	}
+
+	private static String createName(AsynchronMessageHandler handler) {
+		String className = handler.getClass().getSimpleName();
+		/* spring proxies are named like "Handler$$EnhancerBySpringCGLIB$$..." */
+		int proxyIndex = className.indexOf("$$");
+		if (proxyIndex > 0) {
+			className = className.substring(0, proxyIndex);
+		}
+		return className;
+	}
+
+	private class LaneTask implements Runnable {
+
+		private DomainMessage request;
+
+		private LaneTask(DomainMessage request) {
+			this.request = request;
+		}
+
+		@Override
+		public void run() {
+			long started = System.nanoTime();
+			try {
+				handler.receiveAsyncMessage(request);
+			} catch (RuntimeException e) {
+				failed.increment();
+				LOG.error("Was not able to run request:{} with handler {}", request, handler, e);
+			} finally {
+				executed.increment();
+				recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+			}
+		}
+	}
+
+	private class LaneRejectionHandler implements RejectedExecutionHandler {
+
+		@Override
+		public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+			if (executor.isShutdown()) {
+				dropped.increment();
+				throw new RejectedExecutionException("Lane " + name + " is shut down");
+			}
+			LaneTask task = (LaneTask) runnable;
+			MessageID messageId = task.request.getMessageId();
+			if (messageId != null && messageId.isDroppableWhenHandlerBusy()) {
+				dropped.increment();
+				LOG.warn("Queue of message lane {} is full, dropped droppable message:{}", name, messageId);
+				return;
+			}
+			if (rejectionPolicy == RejectionPolicy.BLOCK) {
+				blockedSender.increment();
+				if (waitForQueueSpace(task, executor)) {
+					return;
+				}
+			}
+			executedByCaller.increment();
+			LOG.warn("Queue of message lane {} is full, sender thread handles message:{}", name, messageId);
+			task.run();
+		}
+
+		/**
+		 * @return <code>true</code> when task was queued, <code>false</code> when
+		 *         sender thread must handle the task itself
+		 */
+		private boolean waitForQueueSpace(LaneTask task, ThreadPoolExecutor executor) {
+			try {
+				executor.getQueue().put(task);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			/* lane was shut down while waiting - queued task would never be executed */
+			return !executor.isShutdown() || !executor.remove(task);
+		}
+	}
+
+	private static class LaneThreadFactory implements ThreadFactory {
+
+		private AtomicInteger counter = new AtomicInteger();
+		private String name;
+
+		private LaneThreadFactory(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "message_lane_" + name + "_" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
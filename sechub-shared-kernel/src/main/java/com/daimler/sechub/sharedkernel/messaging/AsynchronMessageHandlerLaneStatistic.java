@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot of statistic data for one asynchronous message handler lane
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class AsynchronMessageHandlerLaneStatistic {
+
+	private String laneName;
+	private int queueDepth;
+	private int activeThreads;
+	private long executed;
+	private long failed;
+	private long dropped;
+	private long executedByCaller;
+	private long blockedSender;
+	private long[] latencyBucketUpperBoundsInMilliseconds;
+	private long[] latencyBucketCounts;
+
+	AsynchronMessageHandlerLaneStatistic(String laneName, int queueDepth, int activeThreads, long executed, long failed, long dropped, long executedByCaller,
+			long blockedSender, long[] latencyBucketUpperBoundsInMilliseconds, long[] latencyBucketCounts) {
+		this.laneName = laneName;
+		this.queueDepth = queueDepth;
+		this.activeThreads = activeThreads;
+		this.executed = executed;
+		this.failed = failed;
+		this.dropped = dropped;
+		this.executedByCaller = executedByCaller;
+		this.blockedSender = blockedSender;
+		this.latencyBucketUpperBoundsInMilliseconds = latencyBucketUpperBoundsInMilliseconds;
+		this.latencyBucketCounts = latencyBucketCounts;
+	}
+
+	public String getLaneName() {
+		return laneName;
+	}
+
+	/**
+	 * @return amount of messages waiting inside queue
+	 */
+	public int getQueueDepth() {
+		return queueDepth;
+	}
+
+	public int getActiveThreads() {
+		return activeThreads;
+	}
+
+	/**
+	 * @return amount of handled messages (including failed ones)
+	 */
+	public long getExecuted() {
+		return executed;
+	}
+
+	/**
+	 * @return amount of messages where handler did throw an exception
+	 */
+	public long getFailed() {
+		return failed;
+	}
+
+	/**
+	 * @return amount of messages dropped because queue was full
+	 */
+	public long getDropped() {
+		return dropped;
+	}
+
+	/**
+	 * @return amount of messages handled by sender thread because queue was full
+	 */
+	public long getExecutedByCaller() {
+		return executedByCaller;
+	}
+
+	/**
+	 * @return amount of messages where sender had to wait because queue was full
+	 */
+	public long getBlockedSender() {
+		return blockedSender;
+	}
+
+	/**
+	 * @return upper bounds (inclusive) of latency histogram buckets in
+	 *         milliseconds
+	 */
+	public long[] getLatencyBucketUpperBoundsInMilliseconds() {
+		return latencyBucketUpperBoundsInMilliseconds.clone();
+	}
+
+	/**
+	 * @return amount of handled messages per latency histogram bucket
+	 */
+	public long[] getLatencyBucketCounts() {
+		return latencyBucketCounts.clone();
+	}
+
+	@Override
+	public String toString() {
+		return "lane=" + laneName + ", queueDepth=" + queueDepth + ", activeThreads=" + activeThreads + ", executed=" + executed + ", failed=" + failed
+				+ ", dropped=" + dropped + ", executedByCaller=" + executedByCaller + ", blockedSender=" + blockedSender + ", latencyBuckets(ms)=" + Arrays.toString(latencyBucketUpperBoundsInMilliseconds)
+				+ ", latencyCounts=" + Arrays.toString(latencyBucketCounts);
+	}
+}
@@ -12,21 +12,48 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageHandlerLane.RejectionPolicy;
+
 @Service
 public class DomainMessageService {
 
 	private static final Logger LOG = LoggerFactory.getLogger(DomainMessageService.class);
 
-	@Autowired
+	/**
+	 * When set, all asynchronous messages are executed by this executor instead
+	 * of the handler lanes (e.g. for tests)
+	 */
 	protected TaskExecutor taskExecutor;
 
+	@MustBeDocumented("Amount of threads used per asynchronous message handler")
+	@Value("${sechub.messaging.async.lane.threads:2}")
+	int laneThreads = 2;
+
+	@MustBeDocumented("Maximum amount of asynchronous messages waiting per message handler")
+	@Value("${sechub.messaging.async.lane.queue.capacity:1000}")
+	int laneQueueCapacity = 1000;
+
+	@MustBeDocumented("Policy used when queue of an asynchronous message handler is full. BLOCK: sender waits until queue has space again. "
+			+ "CALLER_RUNS: sender handles message itself (backpressure, can block request threads for a long time). "
+			+ "With both policies no message is lost - only messages declared as droppable (periodic status updates) are dropped for a busy handler")
+	@Value("${sechub.messaging.async.lane.rejection:BLOCK}")
+	RejectionPolicy laneRejectionPolicy = RejectionPolicy.BLOCK;
+
+	private Map<AsynchronMessageHandler, AsynchronMessageHandlerLane> lanes = new ConcurrentHashMap<>();
+
 	Map<MessageID, SynchronMessageHandler> synchronHandlers = new EnumMap<>(MessageID.class);
 	Map<MessageID, List<AsynchronMessageHandler>> asynchronHandlers = new EnumMap<>(MessageID.class);
 	/*
@@ -159,11 +186,46 @@ public class DomainMessageService {
 		}
 
 		for (AsynchronMessageHandler handler : handlersForThisMessageId) {
-			taskExecutor.execute(new AsynchronMessageHandlerTaskAdapter(handler, request));
+			if (taskExecutor != null) {
+				taskExecutor.execute(new AsynchronMessageHandlerTaskAdapter(handler, request));
+			} else {
+				getLane(handler).send(request);
+			}
 		}
 
 	}
 
+	/**
+	 * @return statistic snapshots for all asynchronous handler lanes used so far
+	 */
+	public List<AsynchronMessageHandlerLaneStatistic> getAsynchronLaneStatistics() {
+		List<AsynchronMessageHandlerLaneStatistic> list = new ArrayList<>();
+		for (AsynchronMessageHandlerLane lane : lanes.values()) {
+			list.add(lane.createStatistic());
+		}
+		return list;
+	}
+
+	@MustBeDocumented("Delay in milliseconds between two logs of asynchronous message lane statistics - default is five minutes")
+	@Scheduled(fixedDelayString = "${sechub.messaging.async.lane.statistic.log.delay:300000}")
+	public void logAsynchronLaneStatistics() {
+		for (AsynchronMessageHandlerLaneStatistic statistic : getAsynchronLaneStatistics()) {
+			LOG.info("Message lane statistic: {}", statistic);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		for (AsynchronMessageHandlerLane lane : lanes.values()) {
+			LOG.info("Shutdown message lane {}", lane.createStatistic());
+			lane.shutdown();
+		}
+	}
+
+	private AsynchronMessageHandlerLane getLane(AsynchronMessageHandler handler) {
+		return lanes.computeIfAbsent(handler, h -> new AsynchronMessageHandlerLane(h, laneThreads, laneQueueCapacity, laneRejectionPolicy));
+	}
+
 	private void assertRequestNotNull(DomainMessage request) {
 		if (request == null) {
 			throw new IllegalArgumentException("request may not be null!");
@@ -92,13 +92,28 @@ public enum MessageID {
 	REQUEST_SCHEDULER_STATUS_UPDATE,
 
 
-	/* Scheduler status update message, contains information about status*/
-	SCHEDULER_STATUS_UPDATE,
+	/* Scheduler status update message, contains information about status. Sent periodically, so it may be dropped when a handler is busy */
+	SCHEDULER_STATUS_UPDATE(true),
 
 	;
 
 	private Set<MessageDataKey<?>> unmodifiableKeys;
 
+	private boolean droppableWhenHandlerBusy;
+
+	/**
+	 * Declares a message which may be dropped for an asynchronous handler whose
+	 * queue is full - e.g. periodic status messages, which will be sent again
+	 * anyway. All other messages are never dropped.
+	 *
+	 * @param droppableWhenHandlerBusy
+	 * @param keys
+	 */
+	private MessageID(boolean droppableWhenHandlerBusy, MessageDataKey<?>... keys) {
+		this(keys);
+		this.droppableWhenHandlerBusy = droppableWhenHandlerBusy;
+	}
+
 	/**
 	 * The keys defined here MUST be available inside the message. But there can be additional ones as well!
 	 * @param keys
@@ -120,6 +135,14 @@ public enum MessageID {
 		return unmodifiableKeys;
 	}
 
+	/**
+	 * @return <code>true</code> when this message may be dropped for an
+	 *         asynchronous handler whose queue is full
+	 */
+	public boolean isDroppableWhenHandlerBusy() {
+		return droppableWhenHandlerBusy;
+	}
+
 	public String getId() {
 		return name();
 	}
@@ -22,6 +22,11 @@ public class SchedulerMessage implements JSONable<SchedulerMessage> {
 	private long amountOfWaitingJobs;
 	private long amountOfRunningJobs;
 
+	private int maximumConcurrentJobsOfPod;
+	private int amountOfFreeJobSlotsOfPod;
+
+	private String podName;
+
 	public void setAmountOfJobsAll(long amountOfJobsAll) {
 		this.amountOfAllJobs = amountOfJobsAll;
 	}
@@ -54,6 +59,41 @@ public class SchedulerMessage implements JSONable<SchedulerMessage> {
 		this.amountOfWaitingJobs = amountOfWaitingJobs;
 	}
 
+	/**
+	 * @return maximum amount of concurrent jobs of the POD which created this
+	 *         message
+	 */
+	public int getMaximumConcurrentJobsOfPod() {
+		return maximumConcurrentJobsOfPod;
+	}
+
+	public void setMaximumConcurrentJobsOfPod(int maximumConcurrentJobsOfPod) {
+		this.maximumConcurrentJobsOfPod = maximumConcurrentJobsOfPod;
+	}
+
+	/**
+	 * @return amount of free job slots of the POD which created this message
+	 */
+	public int getAmountOfFreeJobSlotsOfPod() {
+		return amountOfFreeJobSlotsOfPod;
+	}
+
+	public void setAmountOfFreeJobSlotsOfPod(int amountOfFreeJobSlotsOfPod) {
+		this.amountOfFreeJobSlotsOfPod = amountOfFreeJobSlotsOfPod;
+	}
+
+	/**
+	 * @return name of the POD which created this message or <code>null</code>
+	 *         when not known
+	 */
+	public String getPodName() {
+		return podName;
+	}
+
+	public void setPodName(String podName) {
+		this.podName = podName;
+	}
+
 	@Override
 	public Class<SchedulerMessage> getJSONTargetClass() {
 		return SchedulerMessage.class;
@@ -0,0 +1,303 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import com.daimler.sechub.sharedkernel.MustBeDocumented;
+import com.daimler.sechub.storage.core.JobStorage;
+
+/**
+ * Cleans up job storages in background. Deletions are queued and processed in
+ * batches by an own thread, failed deletions are retried. Every queued deletion
+ * is persisted as a marker object inside the cleanup storage (see
+ * {@link NonJobStorageIds#CLEANUP}), so deletions not done before a shutdown or
+ * crash are queued again on next start.<br>
+ * <br>
+ * Additionally job storage content not changed for a long time is removed
+ * periodically - this handles content left by crashed servers. Every POD runs
+ * this orphan sweep, but the time of the last sweep is stored inside the cleanup
+ * storage and a POD skips its sweep when another one has done it recently. This
+ * is best effort and no lock - PODs starting a sweep at the very same moment
+ * will both run, which does no harm.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class JobStorageCleanupService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(JobStorageCleanupService.class);
+
+	private static final int DEFAULT_BATCH_MAX = 50;
+	private static final int DEFAULT_RETRIES = 5;
+	private static final int DEFAULT_DELAY_MILLIS = 5000;
+	private static final int DEFAULT_ORPHAN_RETENTION_DAYS = 7;
+	private static final int DEFAULT_ORPHAN_CHECK_DELAY_MILLIS = 6 * 60 * 60 * 1000;
+
+	@MustBeDocumented(value = "Delay in milliseconds between two runs of the job storage cleanup queue processing", scope = "storage")
+	@Value("${sechub.storage.cleanup.delay:" + DEFAULT_DELAY_MILLIS + "}")
+	long delayInMilliseconds = DEFAULT_DELAY_MILLIS;
+
+	@MustBeDocumented(value = "Maximum amount of job storages deleted by one run of the cleanup queue processing", scope = "storage")
+	@Value("${sechub.storage.cleanup.batch.max:" + DEFAULT_BATCH_MAX + "}")
+	int maximumDeletionsPerRun = DEFAULT_BATCH_MAX;
+
+	@MustBeDocumented(value = "Amount of tries to delete a job storage. When all tries fail, the content will be removed later by orphan cleanup", scope = "storage")
+	@Value("${sechub.storage.cleanup.retries:" + DEFAULT_RETRIES + "}")
+	int maximumTries = DEFAULT_RETRIES;
+
+	@MustBeDocumented(value = "Job storage content not changed for this amount of days is treated as orphaned and deleted. A value lower than 1 disables orphan cleanup", scope = "storage")
+	@Value("${sechub.storage.cleanup.orphan.retention.days:" + DEFAULT_ORPHAN_RETENTION_DAYS + "}")
+	int orphanRetentionDays = DEFAULT_ORPHAN_RETENTION_DAYS;
+
+	@MustBeDocumented(value = "Delay in milliseconds between two orphan cleanup runs", scope = "storage")
+	@Value("${sechub.storage.cleanup.orphan.check.delay:" + DEFAULT_ORPHAN_CHECK_DELAY_MILLIS + "}")
+	long orphanCheckDelayInMilliseconds = DEFAULT_ORPHAN_CHECK_DELAY_MILLIS;
+
+	@Autowired
+	StorageService storageService;
+
+	Queue<JobStorageCleanupRequest> queue = new ConcurrentLinkedQueue<>();
+
+	private ScheduledExecutorService executor;
+
+	/* all markers are stored in one storage */
+	static final UUID CLEANUP_STORAGE_UUID = new UUID(0, 0);
+	static final String MARKER_POSTFIX = ".delete";
+	static final String ORPHAN_SWEEP_MARKER = "orphansweep.last";
+
+	@PostConstruct
+	void init() {
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "job-storage-cleanup");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.execute(this::recoverQueue);
+
+		long delay = Math.max(100, delayInMilliseconds);
+		executor.scheduleWithFixedDelay(this::processQueue, delay, delay, TimeUnit.MILLISECONDS);
+
+		if (orphanRetentionDays > 0) {
+			long orphanDelay = Math.max(1000, orphanCheckDelayInMilliseconds);
+			/* PODs started together shall not check at same time */
+			long initialDelay = orphanDelay + ThreadLocalRandom.current().nextLong(Math.max(1, orphanDelay / 10));
+			executor.scheduleWithFixedDelay(this::deleteOrphans, initialDelay, orphanDelay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (executor != null) {
+			executor.shutdown();
+		}
+		if (!queue.isEmpty()) {
+			LOG.warn("{} job storage cleanups not done, will be done after next start", queue.size());
+		}
+	}
+
+	/**
+	 * Marks storage of given job for deletion. The deletion itself is done
+	 * asynchronous
+	 *
+	 * @param projectId
+	 * @param jobUUID
+	 */
+	public void scheduleDeleteAll(String projectId, UUID jobUUID) {
+		if (jobUUID == null) {
+			LOG.warn("No job uuid given, so no cleanup possible");
+			return;
+		}
+		JobStorageCleanupRequest request = new JobStorageCleanupRequest(projectId, jobUUID);
+		storeMarker(request);
+		queue.add(request);
+	}
+
+	/**
+	 * Queues all deletions persisted by markers but not done - e.g. because of a
+	 * shutdown
+	 */
+	void recoverQueue() {
+		try {
+			int recovered = 0;
+			for (String name : getCleanupStorage().listNames()) {
+				JobStorageCleanupRequest request = JobStorageCleanupRequest.fromMarkerName(name);
+				if (request == null) {
+					continue;
+				}
+				queue.add(request);
+				recovered++;
+			}
+			if (recovered > 0) {
+				LOG.info("Recovered {} job storage cleanups", recovered);
+			}
+		} catch (Exception e) {
+			LOG.error("Was not able to recover job storage cleanups, will be removed by orphan cleanup", e);
+		}
+	}
+
+	/**
+	 * Deletes next queued job storages - maximum is defined by
+	 * {@link #maximumDeletionsPerRun}
+	 *
+	 * @return amount of successful deleted job storages
+	 */
+	int processQueue() {
+		int deleted = 0;
+		/* requeued requests (retries) are not handled again in same run */
+		int maximum = Math.min(Math.max(1, maximumDeletionsPerRun), queue.size());
+		for (int i = 0; i < maximum; i++) {
+			JobStorageCleanupRequest request = queue.poll();
+			if (request == null) {
+				break;
+			}
+			if (deleteAll(request)) {
+				deleted++;
+			}
+		}
+		return deleted;
+	}
+
+	private boolean deleteAll(JobStorageCleanupRequest request) {
+		try {
+			JobStorage storage = storageService.getJobStorage(request.projectId, request.jobUUID);
+			storage.deleteAll();
+			deleteMarker(request);
+			return true;
+		} catch (Exception e) {
+			request.tries++;
+			if (request.tries < maximumTries) {
+				LOG.warn("Was not able to delete storage for job {}, try {} of {}", request.jobUUID, request.tries, maximumTries, e);
+				/* retry in next run */
+				queue.add(request);
+			} else {
+				LOG.error("Was not able to delete storage for job {}, giving up after {} tries", request.jobUUID, request.tries, e);
+				/* orphan cleanup will remove the content later */
+				deleteMarker(request);
+			}
+			return false;
+		}
+	}
+
+	void deleteOrphans() {
+		Instant notChangedSince = Instant.now().minus(Duration.ofDays(orphanRetentionDays));
+		try {
+			if (!markOrphanSweepStarted()) {
+				LOG.debug("Orphan cleanup skipped, was done recently by another POD");
+				return;
+			}
+			int deleted = storageService.deleteJobStorageContentNotChangedSince(notChangedSince);
+			LOG.info("Orphan cleanup done, deleted {} elements not changed since {}", deleted, notChangedSince);
+		} catch (Exception e) {
+			LOG.error("Orphan cleanup failed", e);
+		}
+	}
+
+	/**
+	 * Marks orphan sweep as started by this POD
+	 *
+	 * @return <code>true</code> when sweep shall be done, <code>false</code> when
+	 *         another POD has done it within the last half of the check delay
+	 * @throws IOException
+	 */
+	private boolean markOrphanSweepStarted() throws IOException {
+		JobStorage cleanupStorage = getCleanupStorage();
+		long now = System.currentTimeMillis();
+		if (cleanupStorage.isExisting(ORPHAN_SWEEP_MARKER)) {
+			try (InputStream stream = cleanupStorage.fetch(ORPHAN_SWEEP_MARKER)) {
+				String lastSweep = StreamUtils.copyToString(stream, StandardCharsets.UTF_8).trim();
+				if (now - Long.parseLong(lastSweep) < orphanCheckDelayInMilliseconds / 2) {
+					return false;
+				}
+			} catch (NumberFormatException e) {
+				LOG.warn("Orphan sweep marker corrupt, will be replaced");
+			}
+		}
+		cleanupStorage.store(ORPHAN_SWEEP_MARKER, new ByteArrayInputStream(Long.toString(now).getBytes(StandardCharsets.UTF_8)));
+		return true;
+	}
+
+	private void storeMarker(JobStorageCleanupRequest request) {
+		try {
+			getCleanupStorage().store(request.getMarkerName(), new ByteArrayInputStream(new byte[0]));
+		} catch (Exception e) {
+			/* deletion is still queued - only recovery after a restart is not possible */
+			LOG.warn("Was not able to persist cleanup of job {}", request.jobUUID, e);
+		}
+	}
+
+	private void deleteMarker(JobStorageCleanupRequest request) {
+		try {
+			getCleanupStorage().delete(request.getMarkerName());
+		} catch (Exception e) {
+			/* next start will only try to delete the storage again */
+			LOG.warn("Was not able to remove persisted cleanup of job {}", request.jobUUID, e);
+		}
+	}
+
+	private JobStorage getCleanupStorage() {
+		return storageService.getJobStorage(NonJobStorageIds.CLEANUP, CLEANUP_STORAGE_UUID);
+	}
+
+	static class JobStorageCleanupRequest {
+
+		private String projectId;
+		private UUID jobUUID;
+		private int tries;
+
+		private JobStorageCleanupRequest(String projectId, UUID jobUUID) {
+			this.projectId = projectId;
+			this.jobUUID = jobUUID;
+		}
+
+		/* $jobUUID_$projectId.delete - uuid has fixed length */
+		String getMarkerName() {
+			return jobUUID + "_" + projectId + MARKER_POSTFIX;
+		}
+
+		static JobStorageCleanupRequest fromMarkerName(String name) {
+			int uuidLength = 36;
+			if (name == null || !name.endsWith(MARKER_POSTFIX) || name.length() <= uuidLength + 1 + MARKER_POSTFIX.length()
+					|| name.charAt(uuidLength) != '_') {
+				return null;
+			}
+			try {
+				UUID jobUUID = UUID.fromString(name.substring(0, uuidLength));
+				String projectId = name.substring(uuidLength + 1, name.length() - MARKER_POSTFIX.length());
+				return new JobStorageCleanupRequest(projectId, jobUUID);
+			} catch (IllegalArgumentException e) {
+				return null;
+			}
+		}
+
+		UUID getJobUUID() {
+			return jobUUID;
+		}
+
+		int getTries() {
+			return tries;
+		}
+	}
+}
@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sharedkernel.storage;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -57,4 +59,9 @@ public class MultiStorageService implements StorageService {
 		return jobStorageFactory.createJobStorage(projectId, jobUUID);
 	}
 
-}
\ No newline at end of file
+	@Override
+	public int deleteJobStorageContentNotChangedSince(Instant notChangedSince) throws IOException {
+		return jobStorageFactory.deleteContentNotChangedSince(notChangedSince, NonJobStorageIds.EXCLUDED_FROM_ORPHAN_CLEANUP);
+	}
+
+}
@@ -0,0 +1,42 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.storage;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Ids of storages which are used instead of a project id and contain data
+ * outliving jobs. Every id contains a dot, so it can never clash with a real
+ * project id. Content of storages listed in {@link #EXCLUDED_FROM_ORPHAN_CLEANUP}
+ * is never removed by orphan cleanup of {@link JobStorageCleanupService} - so
+ * every new storage of this kind must be added there, except it contains only
+ * data which can be recreated at any time.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class NonJobStorageIds {
+
+	public static final String PRODUCT_RESULTS = "sechub.productresults";
+
+	public static final String SOURCE_CACHE = "sechub.sourcecache";
+
+	public static final String RENDERED_REPORTS = "sechub.reports";
+
+	public static final String CHECKMARX_LAST_SCANS = "sechub.checkmarx";
+
+	public static final String CLEANUP = "sechub.cleanup";
+
+	/**
+	 * Ids of storages not containing job data and whose content must not be
+	 * removed by orphan cleanup. {@link #RENDERED_REPORTS} is not contained: old
+	 * renderings shall be removed and are rendered again when necessary.
+	 */
+	public static final Set<String> EXCLUDED_FROM_ORPHAN_CLEANUP = Collections.unmodifiableSet(
+			new LinkedHashSet<>(Arrays.asList(PRODUCT_RESULTS, SOURCE_CACHE, CHECKMARX_LAST_SCANS, CLEANUP)));
+
+	private NonJobStorageIds() {
+	}
+}
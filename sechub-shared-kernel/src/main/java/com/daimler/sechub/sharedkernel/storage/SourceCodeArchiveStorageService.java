@@ -0,0 +1,138 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import com.daimler.sechub.storage.core.JobStorage;
+
+/**
+ * Access to uploaded source code archives. An archive is either stored inside
+ * job storage or - when source cache is used - inside a content addressed
+ * cache storage. In this case the job storage contains only a reference to the
+ * cached archive. All parts reading source code archives shall use this
+ * service, so it does not matter where the archive is located.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+@Service
+public class SourceCodeArchiveStorageService {
+
+	public static final String SOURCECODE_ZIP = "sourcecode.zip";
+
+	/**
+	 * Name of reference object inside job storage - content is
+	 * "$checksum\n$blobName"
+	 */
+	static final String CACHE_REFERENCE = SOURCECODE_ZIP + ".cacheref";
+
+	/**
+	 * Storage id used instead of a project id, see {@link NonJobStorageIds}
+	 */
+	static final String SOURCE_CACHE_STORAGE_ID = NonJobStorageIds.SOURCE_CACHE;
+
+	@Autowired
+	StorageService storageService;
+
+	/**
+	 * Resolves cache storage for given project and checksum. Caches are separated
+	 * per project.
+	 *
+	 * @param projectId
+	 * @param checksum
+	 * @return cache storage
+	 */
+	public JobStorage getCacheStorage(String projectId, String checksum) {
+		return storageService.getJobStorage(SOURCE_CACHE_STORAGE_ID, createCacheId(projectId, checksum));
+	}
+
+	/**
+	 * Creates cache id for given project and checksum
+	 *
+	 * @param projectId
+	 * @param checksum
+	 * @return cache id, always same for same project and checksum
+	 */
+	public UUID createCacheId(String projectId, String checksum) {
+		return UUID.nameUUIDFromBytes((projectId + "/" + checksum).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Writes a reference to cached archive into job storage
+	 *
+	 * @param projectId
+	 * @param jobUUID
+	 * @param checksum
+	 * @param blobName name of archive inside cache storage
+	 * @throws IOException
+	 */
+	public void storeCacheReference(String projectId, UUID jobUUID, String checksum, String blobName) throws IOException {
+		byte[] content = (checksum + "\n" + blobName).getBytes(StandardCharsets.UTF_8);
+		storageService.getJobStorage(projectId, jobUUID).store(CACHE_REFERENCE, new ByteArrayInputStream(content));
+	}
+
+	/**
+	 * Opens a stream to the source code archive of given job. Caller is
+	 * responsible to close the stream.
+	 *
+	 * @param projectId
+	 * @param jobUUID
+	 * @return stream
+	 * @throws IOException
+	 */
+	public InputStream openSourceCodeArchive(String projectId, UUID jobUUID) throws IOException {
+		JobStorage jobStorage = storageService.getJobStorage(projectId, jobUUID);
+		String[] reference = fetchCacheReference(jobStorage);
+		if (reference == null) {
+			return jobStorage.fetch(SOURCECODE_ZIP);
+		}
+		return getCacheStorage(projectId, reference[0]).fetch(reference[1]);
+	}
+
+	/**
+	 * @param projectId
+	 * @param jobUUID
+	 * @return <code>true</code> when an archive was uploaded for given job
+	 * @throws IOException
+	 */
+	public boolean isSourceCodeArchiveExisting(String projectId, UUID jobUUID) throws IOException {
+		JobStorage jobStorage = storageService.getJobStorage(projectId, jobUUID);
+		return jobStorage.isExisting(CACHE_REFERENCE) || jobStorage.isExisting(SOURCECODE_ZIP);
+	}
+
+	/**
+	 * Resolves SHA256 checksum of source code archive of given job
+	 *
+	 * @param projectId
+	 * @param jobUUID
+	 * @return checksum or <code>null</code> when not known (archive not cached)
+	 * @throws IOException
+	 */
+	public String fetchSourceCodeArchiveChecksum(String projectId, UUID jobUUID) throws IOException {
+		String[] reference = fetchCacheReference(storageService.getJobStorage(projectId, jobUUID));
+		return reference == null ? null : reference[0];
+	}
+
+	private String[] fetchCacheReference(JobStorage jobStorage) throws IOException {
+		if (!jobStorage.isExisting(CACHE_REFERENCE)) {
+			return null;
+		}
+		String content;
+		try (InputStream stream = jobStorage.fetch(CACHE_REFERENCE)) {
+			content = StreamUtils.copyToString(stream, StandardCharsets.UTF_8);
+		}
+		String[] reference = content.split("\n");
+		if (reference.length != 2) {
+			throw new IOException("Source cache reference corrupt");
+		}
+		return reference;
+	}
+}
@@ -1,5 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.daimler.sechub.sharedkernel.storage;
+import java.io.IOException;
+import java.time.Instant;
 import java.util.UUID;
 
 import com.daimler.sechub.storage.core.JobStorage;
@@ -8,4 +10,13 @@ public interface StorageService {
 
    public JobStorage getJobStorage(String projectId, UUID jobUUID);
 
+   /**
+    * Deletes all job storage content not changed since given time - storages
+    * defined in {@link NonJobStorageIds} are not touched
+    * @param notChangedSince
+    * @return amount of deleted elements
+    * @throws IOException
+    */
+   public int deleteJobStorageContentNotChangedSince(Instant notChangedSince) throws IOException;
+
 }
\ No newline at end of file
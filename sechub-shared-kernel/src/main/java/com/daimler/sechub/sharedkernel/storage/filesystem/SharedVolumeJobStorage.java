@@ -3,12 +3,16 @@ package com.daimler.sechub.sharedkernel.storage.filesystem;
 
 import static java.util.Objects.*;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -43,7 +47,7 @@ public class SharedVolumeJobStorage implements JobStorage {
 		if (path == null) {
 			return null;
 		}
-		return new FileInputStream(path.toFile());
+		return Files.newInputStream(path);
 	}
 
 	@Override
@@ -77,6 +81,45 @@ public class SharedVolumeJobStorage implements JobStorage {
 		return this.path.resolve(fileName);
 	}
 
+	@Override
+	public void rename(String name, String newName) throws IOException {
+		requireNonNull(newName, "newName may not be null!");
+		if (newName.contains("..")) {
+			// This is a security check
+			throw new StorageException("Cannot rename file to relative path outside current directory " + newName);
+		}
+		Path source = getPathToFile(name);
+		Path target = getPathToFile(newName);
+		try {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+		LOG.debug("job:{}: renamed {} to {} in project {}", jobUUID, name, newName, projectId);
+	}
+
+	@Override
+	public List<String> listNames() throws IOException {
+		if (!Files.isDirectory(path)) {
+			return Collections.emptyList();
+		}
+		List<String> names = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(path, Files::isRegularFile)) {
+			for (Path file : files) {
+				names.add(file.getFileName().toString());
+			}
+		}
+		return names;
+	}
+
+	@Override
+	public void delete(String name) throws IOException {
+		Path pathToFile = getPathToFile(name);
+		if (Files.deleteIfExists(pathToFile)) {
+			LOG.info("job:{}: deleted {} in project {}", jobUUID, name, projectId);
+		}
+	}
+
 	public void deleteAll() throws IOException {
 		if (!path.toFile().exists()) {
 			return;
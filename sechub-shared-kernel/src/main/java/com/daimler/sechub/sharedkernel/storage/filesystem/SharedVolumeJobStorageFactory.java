@@ -2,15 +2,28 @@ package com.daimler.sechub.sharedkernel.storage.filesystem;
 
 import static java.util.Objects.*;
 
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.FileSystemUtils;
+
 import com.daimler.sechub.storage.core.JobStorage;
 import com.daimler.sechub.storage.core.JobStorageFactory;
 import com.daimler.sechub.storage.core.SharedVolumeSetup;
 
 public class SharedVolumeJobStorageFactory implements JobStorageFactory{
+
+	private static final Logger LOG = LoggerFactory.getLogger(SharedVolumeJobStorageFactory.class);
+
 	private Path sharedVolumeUploadDirectory;
 
 	public SharedVolumeJobStorageFactory(SharedVolumeSetup sharedVolumeSetup) {
@@ -26,4 +39,50 @@ public class SharedVolumeJobStorageFactory implements JobStorageFactory{
 		return new SharedVolumeJobStorage(sharedVolumeUploadDirectory, projectId, jobUUID);
 	}
 
+	/**
+	 * Deletes all job folders (root/$projectId/$jobUUID) where neither the folder
+	 * nor a file inside was changed since given time
+	 */
+	@Override
+	public int deleteContentNotChangedSince(Instant notChangedSince, Set<String> excludedProjectIds) throws IOException {
+		requireNonNull(excludedProjectIds, "excludedProjectIds may not be null!");
+		if (sharedVolumeUploadDirectory == null || !Files.isDirectory(sharedVolumeUploadDirectory)) {
+			return 0;
+		}
+		FileTime limit = FileTime.from(notChangedSince);
+		int deleted = 0;
+		try (DirectoryStream<Path> projectFolders = Files.newDirectoryStream(sharedVolumeUploadDirectory, Files::isDirectory)) {
+			for (Path projectFolder : projectFolders) {
+				if (excludedProjectIds.contains(projectFolder.getFileName().toString())) {
+					/* not a project but a storage for data outliving jobs */
+					continue;
+				}
+				try (DirectoryStream<Path> jobFolders = Files.newDirectoryStream(projectFolder, Files::isDirectory)) {
+					for (Path jobFolder : jobFolders) {
+						if (getLastModifiedTime(jobFolder).compareTo(limit) >= 0) {
+							continue;
+						}
+						FileSystemUtils.deleteRecursively(jobFolder);
+						LOG.info("deleted orphaned job storage {}", jobFolder);
+						deleted++;
+					}
+				}
+			}
+		}
+		return deleted;
+	}
+
+	private FileTime getLastModifiedTime(Path jobFolder) throws IOException {
+		FileTime lastModified = Files.getLastModifiedTime(jobFolder);
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(jobFolder)) {
+			for (Path file : files) {
+				FileTime fileTime = Files.getLastModifiedTime(file);
+				if (fileTime.compareTo(lastModified) > 0) {
+					lastModified = fileTime;
+				}
+			}
+		}
+		return lastModified;
+	}
+
 }
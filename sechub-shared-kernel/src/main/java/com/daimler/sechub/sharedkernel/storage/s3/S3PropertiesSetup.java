@@ -26,6 +26,14 @@ public class S3PropertiesSetup implements S3Setup{
 	@Value("${sechub.storage.s3.endpoint:"+UNDEFINED+"}") // we use undefined here. Will be used in isValid
     private String endpoint;
 
+	@MustBeDocumented(value="Defines size in megabytes of parts used for multipart uploads and ranged downloads. Objects bigger than this are transferred in parts. S3 needs at least 5 MB.",scope="storage")
+	@Value("${sechub.storage.s3.transfer.partsize.mb:"+DEFAULT_TRANSFER_PART_SIZE_IN_MEGABYTES+"}")
+	private int transferPartSizeInMegabytes = DEFAULT_TRANSFER_PART_SIZE_IN_MEGABYTES;
+
+	@MustBeDocumented(value="Defines amount of parts transferred in parallel for one object",scope="storage")
+	@Value("${sechub.storage.s3.transfer.parallelism:"+DEFAULT_TRANSFER_PARALLELISM+"}")
+	private int transferParallelism = DEFAULT_TRANSFER_PARALLELISM;
+
 	@Override
 	public String getAccessKey() {
 		return accessKey;
@@ -46,6 +54,16 @@ public class S3PropertiesSetup implements S3Setup{
 		return bucketName;
 	}
 
+	@Override
+	public long getTransferPartSize() {
+		return transferPartSizeInMegabytes * 1024L * 1024L;
+	}
+
+	@Override
+	public int getTransferParallelism() {
+		return transferParallelism;
+	}
+
 	@Override
 	public boolean isAvailable() {
 		boolean inValid =false;
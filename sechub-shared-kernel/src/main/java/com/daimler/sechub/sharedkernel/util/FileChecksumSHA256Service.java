@@ -5,6 +5,7 @@ import static com.daimler.sechub.sharedkernel.util.Assert.*;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -33,28 +34,47 @@ public class FileChecksumSHA256Service {
 	 */
 	public String createChecksum(String filepath){
 		notNull(filepath, "filepath may not be null");
-		MessageDigest md;
+		// file hashing with DigestInputStream
+		try (DigestInputStream dis = createChecksumCalculatingStream(new FileInputStream(filepath))) {
+			byte[] buffer = new byte[8192];
+			while (dis.read(buffer) != -1) ; //empty loop to clear the data
+			return getChecksum(dis);
+		}catch(IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Creates a stream calculating SHA256 checksum while data is read
+	 * @param stream
+	 * @return stream, checksum can be resolved by {@link #getChecksum(DigestInputStream)} after data was read
+	 */
+	public DigestInputStream createChecksumCalculatingStream(InputStream stream) {
+		notNull(stream, "stream may not be null");
+		return new DigestInputStream(stream, createMessageDigest());
+	}
+
+	/**
+	 * @param stream a stream created by {@link #createChecksumCalculatingStream(InputStream)}
+	 * @return checksum for all data read from given stream
+	 */
+	public String getChecksum(DigestInputStream stream) {
+		notNull(stream, "stream may not be null");
+		// bytes to hex
+		StringBuilder result = new StringBuilder();
+		for (byte b : stream.getMessageDigest().digest()) {
+			result.append(String.format("%02x", b));
+		}
+		return result.toString();
+	}
+
+	private MessageDigest createMessageDigest() {
 		String algorithm = "SHA-256";
-		 try {
-			md = MessageDigest.getInstance(algorithm);
+		try {
+			return MessageDigest.getInstance(algorithm);
 		} catch (NoSuchAlgorithmException e) {
 			throw new IllegalStateException("Algorithm not supported:"+algorithm);
 		}
-        // file hashing with DigestInputStream
-        try (DigestInputStream dis = new DigestInputStream(new FileInputStream(filepath), md)) {
-            while (dis.read() != -1) ; //empty loop to clear the data
-            md = dis.getMessageDigest();
-        }catch(IOException e) {
-        	return null;
-        }
-
-        // bytes to hex
-        StringBuilder result = new StringBuilder();
-        for (byte b : md.digest()) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
-
-    }
+	}
 
 }
@@ -2,6 +2,7 @@
 package com.daimler.sechub.sharedkernel.util;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonFactory;
@@ -58,7 +59,7 @@ public class JSONConverter {
 		}
 		try {
 			byte[] bytes = mapper.writeValueAsBytes(object);
-			return new String(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
 		} catch (JsonProcessingException e) {
 			throw new JSONConverterException("Was not able to convert " + object.getClass().getName() + " to JSON", e);
 		}
@@ -74,7 +75,7 @@ public class JSONConverter {
 			string = "";
 		}
 		try {
-			byte[] bytes = string.getBytes();
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
 			return mapper.readValue(bytes, clazz);
 		} catch (IOException e) {
 			throw new JSONConverterException(
@@ -82,4 +83,23 @@ public class JSONConverter {
 		}
 	}
 
+	/**
+	 * Creates a parser for streaming access - e.g. to iterate over huge arrays
+	 * without reading them completely into memory. The parser uses same features
+	 * as {@link #fromJSON(Class, String)} and is able to read objects by
+	 * {@link JsonParser#readValueAs(Class)}. Caller is responsible to close the
+	 * parser.
+	 * 
+	 * @param jSON
+	 * @return parser
+	 * @throws JSONConverterException
+	 */
+	public JsonParser createParser(String jSON) throws JSONConverterException {
+		try {
+			return mapper.getFactory().createParser(jSON == null ? "" : jSON);
+		} catch (IOException e) {
+			throw new JSONConverterException("Was not able to create JSON parser", e);
+		}
+	}
+
 }
@@ -2,6 +2,7 @@
 package com.daimler.sechub.sharedkernel.util;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.zip.ZipFile;
 
@@ -18,4 +19,15 @@ public class ZipSupport {
 		}
 	}
 
+	/**
+	 * Creates a stream validating ZIP structure while data is read
+	 *
+	 * @param stream
+	 * @return validating stream, after complete read
+	 *         {@link ZipValidatingInputStream#isValidZip()} can be used
+	 */
+	public ZipValidatingInputStream createZipValidatingStream(InputStream stream) {
+		return new ZipValidatingInputStream(stream);
+	}
+
 }
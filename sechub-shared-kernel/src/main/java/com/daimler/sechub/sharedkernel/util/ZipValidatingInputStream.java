@@ -0,0 +1,176 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream which validates the ZIP structure of the data read through it -
+ * without any temporary file or additional read. The validation checks the
+ * same parts as {@link java.util.zip.ZipFile} does on opening: the archive must
+ * start with a local file header (or be an empty archive) and must end with an
+ * "end of central directory" record pointing to a central directory directly
+ * before the record.<br>
+ * <br>
+ * The result is only available after the stream has been read completely, see
+ * {@link #isValidZip()}.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class ZipValidatingInputStream extends FilterInputStream {
+
+	private static final int SIGNATURE_LOCAL_FILE_HEADER = 0x04034b50;
+	private static final int SIGNATURE_CENTRAL_DIRECTORY = 0x02014b50;
+	private static final int SIGNATURE_END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+	private static final int SIGNATURE_ZIP64_END_LOCATOR = 0x07064b50;
+
+	private static final int END_OF_CENTRAL_DIRECTORY_MIN_LENGTH = 22;
+	private static final int ZIP64_END_LOCATOR_LENGTH = 20;
+	private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+	private static final long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+
+	/* the end of central directory record is always inside this tail */
+	private static final int TAIL_LENGTH = END_OF_CENTRAL_DIRECTORY_MIN_LENGTH + MAX_COMMENT_LENGTH;
+
+	private byte[] tail = new byte[TAIL_LENGTH];
+	private long totalLength;
+	private boolean endReached;
+	private int startSignature;
+
+	public ZipValidatingInputStream(InputStream in) {
+		super(in);
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = super.read();
+		if (b == -1) {
+			endReached = true;
+		} else {
+			inspect((byte) b);
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int read = super.read(b, off, len);
+		if (read == -1) {
+			endReached = true;
+		}
+		for (int i = 0; i < read; i++) {
+			inspect(b[off + i]);
+		}
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		/* we must inspect all bytes, so skipped bytes are read */
+		long skipped = 0;
+		while (skipped < n && read() != -1) {
+			skipped++;
+		}
+		return skipped;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public synchronized void mark(int readlimit) {
+		/* not supported */
+	}
+
+	@Override
+	public synchronized void reset() throws IOException {
+		throw new IOException("mark/reset not supported");
+	}
+
+	/**
+	 * @return <code>true</code> when stream has been read completely and data is
+	 *         a valid ZIP file, otherwise <code>false</code>
+	 */
+	public boolean isValidZip() {
+		if (!endReached || totalLength < END_OF_CENTRAL_DIRECTORY_MIN_LENGTH) {
+			return false;
+		}
+		if (startSignature != SIGNATURE_LOCAL_FILE_HEADER && startSignature != SIGNATURE_END_OF_CENTRAL_DIRECTORY) {
+			/* neither a file entry nor an empty archive */
+			return false;
+		}
+		byte[] data = createLinearTail();
+		long dataStartPosition = totalLength - data.length;
+
+		for (int pos = data.length - END_OF_CENTRAL_DIRECTORY_MIN_LENGTH; pos >= 0; pos--) {
+			if (readInt(data, pos) != SIGNATURE_END_OF_CENTRAL_DIRECTORY) {
+				continue;
+			}
+			int commentLength = readShort(data, pos + 20);
+			if (pos + END_OF_CENTRAL_DIRECTORY_MIN_LENGTH + commentLength != data.length) {
+				/* signature found, but only inside comment or data */
+				continue;
+			}
+			return isValidEndOfCentralDirectory(data, pos, dataStartPosition);
+		}
+		return false;
+	}
+
+	private boolean isValidEndOfCentralDirectory(byte[] data, int pos, long dataStartPosition) {
+		int entries = readShort(data, pos + 10);
+		long centralDirectorySize = readInt(data, pos + 12) & ZIP64_MAGIC_VALUE;
+		long centralDirectoryOffset = readInt(data, pos + 16) & ZIP64_MAGIC_VALUE;
+
+		if (centralDirectoryOffset == ZIP64_MAGIC_VALUE || centralDirectorySize == ZIP64_MAGIC_VALUE) {
+			/* ZIP64 - a locator must exist directly before end of central directory */
+			int locatorPos = pos - ZIP64_END_LOCATOR_LENGTH;
+			return locatorPos >= 0 && readInt(data, locatorPos) == SIGNATURE_ZIP64_END_LOCATOR;
+		}
+		long endOfCentralDirectoryPosition = dataStartPosition + pos;
+		if (centralDirectoryOffset + centralDirectorySize != endOfCentralDirectoryPosition) {
+			return false;
+		}
+		if (entries == 0) {
+			return centralDirectorySize == 0;
+		}
+		long centralDirectoryPosInData = centralDirectoryOffset - dataStartPosition;
+		if (centralDirectoryPosInData < 0) {
+			/* central directory start not inside tail, we accept */
+			return true;
+		}
+		return readInt(data, (int) centralDirectoryPosInData) == SIGNATURE_CENTRAL_DIRECTORY;
+	}
+
+	private void inspect(byte b) {
+		if (totalLength < 4) {
+			startSignature = startSignature | ((b & 0xFF) << (8 * totalLength));
+		}
+		tail[(int) (totalLength % TAIL_LENGTH)] = b;
+		totalLength++;
+	}
+
+	private byte[] createLinearTail() {
+		if (totalLength <= TAIL_LENGTH) {
+			byte[] data = new byte[(int) totalLength];
+			System.arraycopy(tail, 0, data, 0, data.length);
+			return data;
+		}
+		byte[] data = new byte[TAIL_LENGTH];
+		int start = (int) (totalLength % TAIL_LENGTH);
+		System.arraycopy(tail, start, data, 0, TAIL_LENGTH - start);
+		System.arraycopy(tail, 0, data, TAIL_LENGTH - start, start);
+		return data;
+	}
+
+	private static int readShort(byte[] data, int pos) {
+		return (data[pos] & 0xFF) | ((data[pos + 1] & 0xFF) << 8);
+	}
+
+	private static int readInt(byte[] data, int pos) {
+		return readShort(data, pos) | (readShort(data, pos + 2) << 16);
+	}
+}
@@ -0,0 +1,201 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.messaging;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.daimler.sechub.sharedkernel.messaging.AsynchronMessageHandlerLane.RejectionPolicy;
+
+public class AsynchronMessageHandlerLaneTest {
+
+	private AsynchronMessageHandlerLane laneToTest;
+	private CountDownLatch blocker = new CountDownLatch(1);
+	private AtomicInteger handled = new AtomicInteger();
+
+	@After
+	public void after() {
+		/* clear interrupt flag - when a test fails before this was done */
+		Thread.interrupted();
+		blocker.countDown();
+		if (laneToTest != null) {
+			laneToTest.shutdown();
+		}
+	}
+
+	@Test
+	public void full_queue_with_caller_runs_policy_handles_message_in_sender_thread() throws Exception {
+		/* prepare */
+		Thread senderThread = Thread.currentThread();
+		AtomicInteger handledBySender = new AtomicInteger();
+		laneToTest = new AsynchronMessageHandlerLane(request -> {
+			if (Thread.currentThread() == senderThread) {
+				handledBySender.incrementAndGet();
+				return;
+			}
+			await(blocker);
+		}, 1, 1, RejectionPolicy.CALLER_RUNS);
+
+		/* execute */
+		sendAndWaitForStart(); // blocks lane thread
+		laneToTest.send(new DomainMessage(MessageID.JOB_DONE)); // queued
+		laneToTest.send(new DomainMessage(MessageID.JOB_DONE)); // queue full
+
+		/* test */
+		assertEquals(1, handledBySender.get());
+		AsynchronMessageHandlerLaneStatistic statistic = laneToTest.createStatistic();
+		assertEquals(1, statistic.getExecutedByCaller());
+		assertEquals(1, statistic.getQueueDepth());
+		assertEquals(0, statistic.getDropped());
+	}
+
+	@Test
+	public void full_queue_drops_message_declared_as_droppable() throws Exception {
+		/* prepare */
+		laneToTest = new AsynchronMessageHandlerLane(request -> await(blocker), 1, 1, RejectionPolicy.BLOCK);
+
+		/* execute */
+		sendAndWaitForStart(); // blocks lane thread
+		laneToTest.send(new DomainMessage(MessageID.JOB_DONE)); // queued
+		laneToTest.send(new DomainMessage(MessageID.SCHEDULER_STATUS_UPDATE)); // dropped
+
+		/* test */
+		AsynchronMessageHandlerLaneStatistic statistic = laneToTest.createStatistic();
+		assertEquals(1, statistic.getDropped());
+		assertEquals(0, statistic.getBlockedSender());
+		assertEquals(0, statistic.getExecutedByCaller());
+		assertEquals(1, statistic.getQueueDepth());
+	}
+
+	@Test
+	public void full_queue_with_block_policy_waits_for_queue_space() throws Exception {
+		/* prepare */
+		laneToTest = new AsynchronMessageHandlerLane(request -> await(blocker), 1, 1, RejectionPolicy.BLOCK);
+		sendAndWaitForStart(); // blocks lane thread
+		laneToTest.send(new DomainMessage(MessageID.JOB_DONE)); // queued
+
+		/* execute */
+		new Thread(() -> {
+			sleep(500);
+			blocker.countDown();
+		}).start();
+		laneToTest.send(new DomainMessage(MessageID.JOB_DONE)); // waits until queue has space
+
+		/* test */
+		AsynchronMessageHandlerLaneStatistic statistic = waitForExecuted(3);
+		assertEquals(1, statistic.getBlockedSender());
+		assertEquals(0, statistic.getDropped());
+		assertEquals(0, statistic.getExecutedByCaller());
+	}
+
+	@Test
+	public void full_queue_with_block_policy_and_interrupted_sender_handles_message_in_sender_thread() throws Exception {
+		/* prepare */
+		Thread senderThread = Thread.currentThread();
+		AtomicInteger handledBySender = new AtomicInteger();
+		laneToTest = new AsynchronMessageHandlerLane(request -> {
+			if (Thread.currentThread() == senderThread) {
+				handledBySender.incrementAndGet();
+				return;
+			}
+			await(blocker);
+		}, 1, 1, RejectionPolicy.BLOCK);
+		sendAndWaitForStart(); // blocks lane thread
+		laneToTest.send(new DomainMessage(MessageID.JOB_DONE)); // queued
+
+		/* execute */
+		Thread.currentThread().interrupt();
+		laneToTest.send(new DomainMessage(MessageID.JOB_DONE)); // interrupted while waiting
+
+		/* test */
+		assertTrue(Thread.interrupted());
+		assertEquals(1, handledBySender.get());
+		AsynchronMessageHandlerLaneStatistic statistic = laneToTest.createStatistic();
+		assertEquals(1, statistic.getBlockedSender());
+		assertEquals(1, statistic.getExecutedByCaller());
+		assertEquals(0, statistic.getDropped());
+	}
+
+	@Test
+	public void executed_and_failed_messages_are_counted_and_latency_is_recorded() throws Exception {
+		/* prepare */
+		CountDownLatch done = new CountDownLatch(2);
+		laneToTest = new AsynchronMessageHandlerLane(request -> {
+			done.countDown();
+			if (handled.incrementAndGet() == 2) {
+				throw new IllegalStateException("failure");
+			}
+		}, 1, 10, RejectionPolicy.CALLER_RUNS);
+
+		/* execute */
+		laneToTest.send(new DomainMessage(MessageID.JOB_DONE));
+		laneToTest.send(new DomainMessage(MessageID.JOB_DONE));
+
+		/* test */
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		AsynchronMessageHandlerLaneStatistic statistic = waitForExecuted(2);
+		assertEquals(1, statistic.getFailed());
+		long sum = 0;
+		for (long count : statistic.getLatencyBucketCounts()) {
+			sum += count;
+		}
+		assertEquals(2, sum);
+	}
+
+	@Test
+	public void lane_name_is_handler_class_name() {
+		/* prepare */
+		laneToTest = new AsynchronMessageHandlerLane(new TestHandler(), 1, 1, RejectionPolicy.BLOCK);
+
+		/* test */
+		assertEquals("TestHandler", laneToTest.getName());
+	}
+
+	private void sendAndWaitForStart() throws InterruptedException {
+		for (int i = 0; i < 100 && laneToTest.createStatistic().getActiveThreads() == 0; i++) {
+			if (i == 0) {
+				laneToTest.send(new DomainMessage(MessageID.JOB_DONE));
+			}
+			Thread.sleep(10);
+		}
+		assertEquals(1, laneToTest.createStatistic().getActiveThreads());
+	}
+
+	private AsynchronMessageHandlerLaneStatistic waitForExecuted(int expected) throws InterruptedException {
+		AsynchronMessageHandlerLaneStatistic statistic = laneToTest.createStatistic();
+		for (int i = 0; i < 100 && statistic.getExecuted() < expected; i++) {
+			Thread.sleep(10);
+			statistic = laneToTest.createStatistic();
+		}
+		assertEquals(expected, statistic.getExecuted());
+		return statistic;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class TestHandler implements AsynchronMessageHandler {
+
+		@Override
+		public void receiveAsyncMessage(DomainMessage request) {
+		}
+	}
+}
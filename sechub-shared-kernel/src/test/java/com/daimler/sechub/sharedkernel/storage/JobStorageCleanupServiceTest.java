@@ -0,0 +1,174 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.storage;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.daimler.sechub.storage.core.JobStorage;
+
+public class JobStorageCleanupServiceTest {
+
+	private JobStorageCleanupService serviceToTest;
+	private StorageService storageService;
+	private JobStorage storage;
+	private JobStorage cleanupStorage;
+
+	@Before
+	public void before() throws Exception {
+		storageService = mock(StorageService.class);
+		storage = mock(JobStorage.class);
+		when(storageService.getJobStorage(any(), any())).thenReturn(storage);
+		cleanupStorage = mock(JobStorage.class);
+		when(storageService.getJobStorage(NonJobStorageIds.CLEANUP, JobStorageCleanupService.CLEANUP_STORAGE_UUID)).thenReturn(cleanupStorage);
+
+		serviceToTest = new JobStorageCleanupService();
+		serviceToTest.storageService = storageService;
+	}
+
+	@Test
+	public void schedule_delete_all_does_not_delete_immediately() throws Exception {
+		/* execute */
+		serviceToTest.scheduleDeleteAll("project1", UUID.randomUUID());
+
+		/* test */
+		verify(storage, never()).deleteAll();
+		assertEquals(1, serviceToTest.queue.size());
+	}
+
+	@Test
+	public void scheduled_delete_is_persisted_and_marker_removed_after_deletion() throws Exception {
+		/* prepare */
+		UUID jobUUID = UUID.randomUUID();
+		String marker = jobUUID + "_project1" + JobStorageCleanupService.MARKER_POSTFIX;
+
+		/* execute */
+		serviceToTest.scheduleDeleteAll("project1", jobUUID);
+
+		/* test */
+		verify(cleanupStorage).store(eq(marker), any());
+		verify(cleanupStorage, never()).delete(any());
+
+		/* execute */
+		serviceToTest.processQueue();
+
+		/* test */
+		verify(storage).deleteAll();
+		verify(cleanupStorage).delete(marker);
+	}
+
+	@Test
+	public void recover_queue_adds_persisted_deletions_and_ignores_other_objects() throws Exception {
+		/* prepare */
+		UUID jobUUID = UUID.randomUUID();
+		when(cleanupStorage.listNames()).thenReturn(Arrays.asList(jobUUID + "_project-1" + JobStorageCleanupService.MARKER_POSTFIX,
+				JobStorageCleanupService.ORPHAN_SWEEP_MARKER, "no-uuid_project1" + JobStorageCleanupService.MARKER_POSTFIX));
+
+		/* execute */
+		serviceToTest.recoverQueue();
+		serviceToTest.processQueue();
+
+		/* test */
+		assertTrue(serviceToTest.queue.isEmpty());
+		verify(storageService).getJobStorage("project-1", jobUUID);
+		verify(storage).deleteAll();
+	}
+
+	@Test
+	public void process_queue_deletes_scheduled_storages_but_only_maximum_per_run() throws Exception {
+		/* prepare */
+		serviceToTest.maximumDeletionsPerRun = 2;
+		UUID job1 = UUID.randomUUID();
+		UUID job2 = UUID.randomUUID();
+		UUID job3 = UUID.randomUUID();
+		serviceToTest.scheduleDeleteAll("project1", job1);
+		serviceToTest.scheduleDeleteAll("project1", job2);
+		serviceToTest.scheduleDeleteAll("project2", job3);
+
+		/* execute */
+		int deleted = serviceToTest.processQueue();
+
+		/* test */
+		assertEquals(2, deleted);
+		verify(storageService).getJobStorage("project1", job1);
+		verify(storageService).getJobStorage("project1", job2);
+		verify(storageService, never()).getJobStorage("project2", job3);
+		assertEquals(1, serviceToTest.queue.size());
+	}
+
+	@Test
+	public void failed_deletion_is_retried_in_next_run_until_maximum_tries_reached() throws Exception {
+		/* prepare */
+		serviceToTest.maximumTries = 2;
+		doThrow(new IOException("failure")).when(storage).deleteAll();
+		serviceToTest.scheduleDeleteAll("project1", UUID.randomUUID());
+
+		/* execute + test */
+		assertEquals(0, serviceToTest.processQueue());
+		assertEquals(1, serviceToTest.queue.size()); // retry
+
+		assertEquals(0, serviceToTest.processQueue());
+		assertTrue(serviceToTest.queue.isEmpty()); // gave up
+
+		verify(storage, times(2)).deleteAll();
+	}
+
+	@Test
+	public void delete_orphans_deletes_content_not_changed_since_retention_days() throws Exception {
+		/* prepare */
+		serviceToTest.orphanRetentionDays = 3;
+		Instant expected = Instant.now().minus(Duration.ofDays(3));
+
+		/* execute */
+		serviceToTest.deleteOrphans();
+
+		/* test */
+		ArgumentCaptor<Instant> captor = ArgumentCaptor.forClass(Instant.class);
+		verify(storageService).deleteJobStorageContentNotChangedSince(captor.capture());
+		assertTrue(Math.abs(Duration.between(expected, captor.getValue()).toMillis()) < 10000);
+		verify(cleanupStorage).store(eq(JobStorageCleanupService.ORPHAN_SWEEP_MARKER), any());
+	}
+
+	@Test
+	public void delete_orphans_is_skipped_when_recently_done_by_other_pod() throws Exception {
+		/* prepare */
+		serviceToTest.orphanCheckDelayInMilliseconds = 60000;
+		when(cleanupStorage.isExisting(JobStorageCleanupService.ORPHAN_SWEEP_MARKER)).thenReturn(true);
+		when(cleanupStorage.fetch(JobStorageCleanupService.ORPHAN_SWEEP_MARKER))
+				.thenReturn(new ByteArrayInputStream(Long.toString(System.currentTimeMillis() - 1000).getBytes()));
+
+		/* execute */
+		serviceToTest.deleteOrphans();
+
+		/* test */
+		verify(storageService, never()).deleteJobStorageContentNotChangedSince(any());
+		verify(cleanupStorage, never()).store(any(), any());
+	}
+
+	@Test
+	public void delete_orphans_is_done_when_last_sweep_is_old() throws Exception {
+		/* prepare */
+		serviceToTest.orphanCheckDelayInMilliseconds = 60000;
+		when(cleanupStorage.isExisting(JobStorageCleanupService.ORPHAN_SWEEP_MARKER)).thenReturn(true);
+		when(cleanupStorage.fetch(JobStorageCleanupService.ORPHAN_SWEEP_MARKER))
+				.thenReturn(new ByteArrayInputStream(Long.toString(System.currentTimeMillis() - 40000).getBytes()));
+
+		/* execute */
+		serviceToTest.deleteOrphans();
+
+		/* test */
+		verify(storageService).deleteJobStorageContentNotChangedSince(any());
+	}
+
+}
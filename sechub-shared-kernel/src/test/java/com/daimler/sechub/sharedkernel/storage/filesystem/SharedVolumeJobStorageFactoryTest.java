@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.storage.filesystem;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.daimler.sechub.sharedkernel.storage.NonJobStorageIds;
+import com.daimler.sechub.storage.core.SharedVolumeSetup;
+
+public class SharedVolumeJobStorageFactoryTest {
+
+	private Path uploadDir;
+	private SharedVolumeJobStorageFactory factoryToTest;
+
+	@Before
+	public void before() throws Exception {
+		uploadDir = Files.createTempDirectory("sechub_shared_volume_test");
+
+		SharedVolumeSetup setup = mock(SharedVolumeSetup.class);
+		when(setup.isAvailable()).thenReturn(true);
+		when(setup.getUploadDir()).thenReturn(uploadDir.toString());
+
+		factoryToTest = new SharedVolumeJobStorageFactory(setup);
+	}
+
+	@Test
+	public void delete_content_not_changed_since_deletes_only_old_job_folders() throws Exception {
+		/* prepare */
+		Instant now = Instant.now();
+		Path oldJob = createJobFolder("project1", "job1", now.minus(Duration.ofDays(10)));
+		Path newJob = createJobFolder("project1", "job2", now);
+
+		/* execute */
+		int deleted = factoryToTest.deleteContentNotChangedSince(now.minus(Duration.ofDays(1)), NonJobStorageIds.EXCLUDED_FROM_ORPHAN_CLEANUP);
+
+		/* test */
+		assertEquals(1, deleted);
+		assertFalse(Files.exists(oldJob));
+		assertTrue(Files.exists(newJob));
+	}
+
+	@Test
+	public void delete_content_not_changed_since_keeps_old_job_folder_with_new_file() throws Exception {
+		/* prepare */
+		Instant now = Instant.now();
+		Path job = createJobFolder("project1", "job1", now.minus(Duration.ofDays(10)));
+		Files.write(job.resolve("other.txt"), "new".getBytes());
+
+		/* execute */
+		int deleted = factoryToTest.deleteContentNotChangedSince(now.minus(Duration.ofDays(1)), NonJobStorageIds.EXCLUDED_FROM_ORPHAN_CLEANUP);
+
+		/* test */
+		assertEquals(0, deleted);
+		assertTrue(Files.exists(job));
+	}
+
+	@Test
+	public void delete_content_not_changed_since_keeps_old_storages_of_excluded_ids() throws Exception {
+		/* prepare */
+		Instant now = Instant.now();
+		Path productResults = createJobFolder("sechub.productresults", "job1", now.minus(Duration.ofDays(10)));
+
+		/* execute */
+		int deleted = factoryToTest.deleteContentNotChangedSince(now.minus(Duration.ofDays(1)), NonJobStorageIds.EXCLUDED_FROM_ORPHAN_CLEANUP);
+
+		/* test */
+		assertEquals(0, deleted);
+		assertTrue(Files.exists(productResults));
+	}
+
+	private Path createJobFolder(String projectId, String jobName, Instant lastModified) throws Exception {
+		Path job = Files.createDirectories(uploadDir.resolve(projectId).resolve(jobName));
+		Path file = Files.write(job.resolve("sourcecode.zip"), "content".getBytes());
+		Files.setLastModifiedTime(file, FileTime.from(lastModified));
+		Files.setLastModifiedTime(job, FileTime.from(lastModified));
+		return job;
+	}
+}
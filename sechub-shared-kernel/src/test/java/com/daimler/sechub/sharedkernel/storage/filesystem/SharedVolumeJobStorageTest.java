@@ -0,0 +1,80 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.storage.filesystem;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.StreamUtils;
+
+public class SharedVolumeJobStorageTest {
+
+	private SharedVolumeJobStorage storageToTest;
+	private byte[] data;
+
+	@Before
+	public void before() throws Exception {
+		Path rootLocation = Files.createTempDirectory("sechub_shared_volume_storage_test");
+		storageToTest = new SharedVolumeJobStorage(rootLocation, "project1", UUID.randomUUID());
+
+		data = new byte[300 * 1024];
+		new Random(4711).nextBytes(data);
+	}
+
+	@Test
+	public void renamed_object_replaces_existing_one_and_former_name_is_gone() throws Exception {
+		/* prepare */
+		storageToTest.store("test.bin.upload", new ByteArrayInputStream(data));
+		storageToTest.store("test.bin", new ByteArrayInputStream("former".getBytes()));
+
+		/* execute */
+		storageToTest.rename("test.bin.upload", "test.bin");
+
+		/* test */
+		assertFalse(storageToTest.isExisting("test.bin.upload"));
+		assertArrayEquals(data, fetch("test.bin"));
+	}
+
+	@Test
+	public void stored_file_input_stream_can_be_fetched() throws Exception {
+		/* prepare */
+		Path file = Files.createTempFile("sechub_shared_volume_storage_test", ".bin");
+		Files.write(file, data);
+
+		/* execute */
+		storageToTest.store("test.bin", new FileInputStream(file.toFile()));
+
+		/* test */
+		assertArrayEquals(data, fetch("test.bin"));
+	}
+
+	@Test
+	public void storing_file_input_stream_twice_replaces_former_content() throws Exception {
+		/* prepare */
+		Path file = Files.createTempFile("sechub_shared_volume_storage_test", ".bin");
+		Files.write(file, data);
+		storageToTest.store("test.bin", new FileInputStream(file.toFile()));
+		Files.write(file, "short".getBytes());
+
+		/* execute */
+		storageToTest.store("test.bin", new FileInputStream(file.toFile()));
+
+		/* test */
+		assertEquals("short", new String(fetch("test.bin")));
+	}
+
+	private byte[] fetch(String name) throws IOException {
+		try (InputStream inputStream = storageToTest.fetch(name)) {
+			return StreamUtils.copyToByteArray(inputStream);
+		}
+	}
+}
@@ -3,6 +3,10 @@ package com.daimler.sechub.sharedkernel.util;
 
 import static org.junit.Assert.*;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.security.DigestInputStream;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -44,4 +48,23 @@ public class FileChecksumSHA256ServiceTest {
 		
 	}
 
+	@Test
+	public void checksum_calculated_while_streaming_is_same_as_for_file() throws Exception{
+		/* prepare */
+		SharedKernelTestFileSupport testfileSupport = SharedKernelTestFileSupport.getTestfileSupport();
+		File file = testfileSupport.createFileFromResourcePath("zipfile_contains_only_test1.txt.zip");
+
+		/* execute */
+		DigestInputStream stream = serviceToTest.createChecksumCalculatingStream(new FileInputStream(file));
+		try (DigestInputStream s = stream) {
+			byte[] buffer = new byte[3];
+			while (s.read(buffer) != -1) {
+				/* just read */
+			}
+		}
+
+		/* test */
+		assertEquals("59060b6b4e8d137596dc01ec15d5da1ab4c4ad0d756c780ed88225f082ae87b7",serviceToTest.getChecksum(stream));
+	}
+
 }
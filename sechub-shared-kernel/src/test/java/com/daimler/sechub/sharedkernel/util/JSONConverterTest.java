@@ -24,6 +24,19 @@ public class JSONConverterTest {
 		assertEquals("{\"info\":\"test1\"}", converterToTest.toJSON(new JSONConverterTestObject("test1")));
 	}
 
+	@Test
+	public void toJSON_and_fromJSON_use_utf8_always() throws Exception {
+		/* prepare */
+		String info = "Ümlaut \u20ac";
+
+		/* execute */
+		String json = converterToTest.toJSON(new JSONConverterTestObject(info));
+
+		/* test */
+		assertEquals("{\"info\":\"" + info + "\"}", json);
+		assertEquals(info, converterToTest.fromJSON(JSONConverterTestObject.class, json).getInfo());
+	}
+
 	@Test
 	public void fromJSON_correct_json_with_double_quotes_results_in_expected_object() throws Exception {
 		/* prepare */
@@ -0,0 +1,133 @@
+// SPDX-License-Identifier: MIT
+package com.daimler.sechub.sharedkernel.util;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Test;
+
+import com.daimler.sechub.sharedkernel.SharedKernelTestFileSupport;
+
+public class ZipValidatingInputStreamTest {
+
+	@Test
+	public void zip_file_from_resources_is_valid() throws Exception {
+		/* prepare */
+		SharedKernelTestFileSupport testfileSupport = SharedKernelTestFileSupport.getTestfileSupport();
+		InputStream in = new FileInputStream(testfileSupport.createFileFromResourcePath("zipfile_contains_only_test1.txt.zip"));
+
+		/* execute + test */
+		assertTrue(readCompletely(in));
+	}
+
+	@Test
+	public void zip_with_many_entries_bigger_than_tail_and_with_comment_is_valid() throws Exception {
+		/* prepare */
+		byte[] zip = createZip(200, 1024, "a comment");
+
+		/* execute + test */
+		assertTrue(zip.length > 70000);
+		assertTrue(readCompletely(new ByteArrayInputStream(zip)));
+	}
+
+	@Test
+	public void empty_zip_is_valid() throws Exception {
+		/* prepare */
+		byte[] zip = createZip(0, 0, null);
+
+		/* execute + test */
+		assertTrue(readCompletely(new ByteArrayInputStream(zip)));
+	}
+
+	@Test
+	public void text_is_not_valid() throws Exception {
+		/* execute + test */
+		assertFalse(readCompletely(new ByteArrayInputStream("I am not a zip file, but a text which is long enough...".getBytes())));
+	}
+
+	@Test
+	public void truncated_zip_is_not_valid() throws Exception {
+		/* prepare */
+		byte[] zip = createZip(5, 100, null);
+		byte[] truncated = Arrays.copyOf(zip, zip.length - 10);
+
+		/* execute + test */
+		assertFalse(readCompletely(new ByteArrayInputStream(truncated)));
+	}
+
+	@Test
+	public void zip_with_changed_central_directory_offset_is_not_valid() throws Exception {
+		/* prepare */
+		byte[] zip = createZip(5, 100, null);
+		zip[zip.length - 6] = (byte) (zip[zip.length - 6] + 1);
+
+		/* execute + test */
+		assertFalse(readCompletely(new ByteArrayInputStream(zip)));
+	}
+
+	@Test
+	public void zip_not_read_completely_is_not_valid() throws Exception {
+		/* prepare */
+		byte[] zip = createZip(5, 100, null);
+		ZipValidatingInputStream streamToTest = new ZipValidatingInputStream(new ByteArrayInputStream(zip));
+
+		/* execute */
+		streamToTest.read(new byte[10]);
+
+		/* test */
+		assertFalse(streamToTest.isValidZip());
+	}
+
+	@Test
+	public void zip_read_byte_by_byte_and_with_skip_is_valid() throws Exception {
+		/* prepare */
+		byte[] zip = createZip(5, 100, null);
+		ZipValidatingInputStream streamToTest = new ZipValidatingInputStream(new ByteArrayInputStream(zip));
+
+		/* execute */
+		streamToTest.skip(30);
+		while (streamToTest.read() != -1) {
+			/* just read */
+		}
+
+		/* test */
+		assertTrue(streamToTest.isValidZip());
+	}
+
+	private boolean readCompletely(InputStream in) throws IOException {
+		try (ZipValidatingInputStream streamToTest = new ZipValidatingInputStream(in)) {
+			byte[] buffer = new byte[4096];
+			while (streamToTest.read(buffer) != -1) {
+				/* just read */
+			}
+			return streamToTest.isValidZip();
+		}
+	}
+
+	private byte[] createZip(int entries, int entrySize, String comment) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Random random = new Random(4711);
+		try (ZipOutputStream zos = new ZipOutputStream(out)) {
+			if (comment != null) {
+				zos.setComment(comment);
+			}
+			for (int i = 0; i < entries; i++) {
+				zos.putNextEntry(new ZipEntry("entry" + i + ".bin"));
+				byte[] data = new byte[entrySize];
+				random.nextBytes(data);
+				zos.write(data);
+				zos.closeEntry();
+			}
+		}
+		return out.toByteArray();
+	}
+}
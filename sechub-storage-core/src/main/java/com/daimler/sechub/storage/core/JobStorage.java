@@ -3,6 +3,7 @@ package com.daimler.sechub.storage.core;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 
 
 public interface JobStorage {
@@ -22,6 +23,33 @@ public interface JobStorage {
 	 */
 	public InputStream fetch(String name) throws IOException;
 
+	/**
+	 * Renames object with given name - an existing object with new name is
+	 * replaced. Implementations should override this when they can rename
+	 * without transferring the data again.
+	 * @param name current name of object
+	 * @param newName new name of object
+	 * @throws IOException
+	 */
+	public default void rename(String name, String newName) throws IOException {
+		store(newName, fetch(name));
+		delete(name);
+	}
+
+	/**
+	 * Lists names of all objects of this job storage
+	 * @return names, never <code>null</code>
+	 * @throws IOException
+	 */
+	public List<String> listNames() throws IOException;
+
+	/**
+	 * Deletes object with given name - when not existing nothing happens
+	 * @param name
+	 * @throws IOException
+	 */
+	public void delete(String name) throws IOException;
+
 	/*
 	 * Deletes all content of this job
 	 */
@@ -1,5 +1,8 @@
 package com.daimler.sechub.storage.core;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
 
 public interface JobStorageFactory {
@@ -11,4 +14,18 @@ public interface JobStorageFactory {
 	 * @return job storage, never <code>null</code>
 	 */
 	public JobStorage createJobStorage(String projectId, UUID jobUUID);
+
+	/**
+	 * Deletes all job storage content not changed since given time. This is
+	 * used to remove orphaned content - e.g. left by a crashed server.
+	 *
+	 * @param notChangedSince
+	 * @param excludedProjectIds ids used instead of project ids for storages
+	 *                           containing data outliving jobs (e.g. product
+	 *                           results) - content of these storages is never
+	 *                           deleted
+	 * @return amount of deleted elements
+	 * @throws IOException
+	 */
+	public int deleteContentNotChangedSince(Instant notChangedSince, Set<String> excludedProjectIds) throws IOException;
 }
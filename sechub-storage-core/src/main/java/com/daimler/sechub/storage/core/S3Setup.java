@@ -3,6 +3,10 @@ package com.daimler.sechub.storage.core;
 
 public interface S3Setup extends StorageSetup {
 
+	public static final int DEFAULT_TRANSFER_PART_SIZE_IN_MEGABYTES = 8;
+	public static final long DEFAULT_TRANSFER_PART_SIZE = DEFAULT_TRANSFER_PART_SIZE_IN_MEGABYTES * 1024L * 1024L;
+	public static final int DEFAULT_TRANSFER_PARALLELISM = 4;
+
 	String getAccessKey();
 
 	String getSecretkey();
@@ -11,4 +15,19 @@ public interface S3Setup extends StorageSetup {
 
 	String getBucketName();
 
-}
\ No newline at end of file
+	/**
+	 * @return size in bytes of parts used for multipart uploads and ranged
+	 *         downloads. Objects bigger than this are transferred in parts.
+	 */
+	default long getTransferPartSize() {
+		return DEFAULT_TRANSFER_PART_SIZE;
+	}
+
+	/**
+	 * @return amount of parts transferred in parallel for one object
+	 */
+	default int getTransferParallelism() {
+		return DEFAULT_TRANSFER_PARALLELISM;
+	}
+
+}
@@ -3,6 +3,7 @@ package com.daimler.sechub.storage.s3;
 import static org.junit.Assert.*;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -11,6 +12,7 @@ import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Random;
 import java.util.UUID;
 
 import org.apache.commons.io.IOUtils;
@@ -22,6 +24,7 @@ import org.mockito.Mockito;
 import com.adobe.testing.s3mock.junit4.S3MockRule;
 import com.amazonaws.services.s3.AmazonS3;
 import com.daimler.sechub.storage.s3.aws.AwsS3JobStorage;
+import com.daimler.sechub.storage.s3.aws.AwsS3TransferSupport;
 import com.daimler.sechub.test.TestPortProvider;
 
 public class AwsS3JobStorageTest {
@@ -142,6 +145,51 @@ public class AwsS3JobStorageTest {
 
 	}
 
+	@Test
+	public void big_object_is_stored_by_multipart_upload_and_fetched_by_ranged_download_with_same_content() throws Exception {
+		/* prepare */
+		UUID jobUUID = UUID.randomUUID();
+		AwsS3TransferSupport transferSupport = new AwsS3TransferSupport(amazonTestClient, 5 * 1024 * 1024, 2);
+		AwsS3JobStorage storage = new AwsS3JobStorage(amazonTestClient, "bucket3", "projectName", jobUUID, transferSupport);
+
+		byte[] data = new byte[12 * 1024 * 1024 + 17]; // 3 parts, last one smaller
+		new Random(4711).nextBytes(data);
+
+		/* execute */
+		storage.store("big", new ByteArrayInputStream(data));
+
+		/* test */
+		String objectName = "jobstorage/projectName/" + jobUUID + "/big";
+		assertEquals(data.length, amazonTestClient.getObjectMetadata("bucket3", objectName).getContentLength());
+
+		byte[] fetched;
+		try (InputStream fetchedStream = storage.fetch("big")) {
+			fetched = IOUtils.toByteArray(fetchedStream);
+		}
+		assertArrayEquals(data, fetched);
+	}
+
+	@Test
+	public void object_with_exact_part_size_is_stored_and_fetched_with_same_content() throws Exception {
+		/* prepare */
+		UUID jobUUID = UUID.randomUUID();
+		AwsS3TransferSupport transferSupport = new AwsS3TransferSupport(amazonTestClient, 5 * 1024 * 1024, 2);
+		AwsS3JobStorage storage = new AwsS3JobStorage(amazonTestClient, "bucket3", "projectName", jobUUID, transferSupport);
+
+		byte[] data = new byte[5 * 1024 * 1024];
+		new Random(815).nextBytes(data);
+
+		/* execute */
+		storage.store("exact", new ByteArrayInputStream(data));
+
+		/* test */
+		byte[] fetched;
+		try (InputStream fetchedStream = storage.fetch("exact")) {
+			fetched = IOUtils.toByteArray(fetchedStream);
+		}
+		assertArrayEquals(data, fetched);
+	}
+
 	private AwsS3JobStorage storeTestData(UUID jobUUID) throws IOException, FileNotFoundException {
 		AwsS3JobStorage storage = new AwsS3JobStorage(amazonTestClient, "bucket2", "projectName", jobUUID);
 
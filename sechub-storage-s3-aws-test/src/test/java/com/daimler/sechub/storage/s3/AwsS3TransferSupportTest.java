@@ -0,0 +1,209 @@
+package com.daimler.sechub.storage.s3;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CopyPartRequest;
+import com.amazonaws.services.s3.model.CopyPartResult;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.daimler.sechub.storage.s3.aws.AwsS3TransferSupport;
+
+public class AwsS3TransferSupportTest {
+
+	private static final int PART_SIZE = 5 * 1024 * 1024;
+
+	private AmazonS3 client;
+	private AwsS3TransferSupport supportToTest;
+
+	@Before
+	public void before() {
+		client = mock(AmazonS3.class);
+		supportToTest = new AwsS3TransferSupport(client, PART_SIZE, 2);
+	}
+
+	@Test
+	public void small_object_is_downloaded_by_one_request_without_metadata_request() throws Exception {
+		/* prepare */
+		byte[] data = createData(100);
+		mockObject(data);
+
+		/* execute */
+		byte[] downloaded;
+		try (InputStream stream = supportToTest.download("bucket1", "key1")) {
+			downloaded = IOUtils.toByteArray(stream);
+		}
+
+		/* test */
+		assertArrayEquals(data, downloaded);
+		verify(client, times(1)).getObject(any(GetObjectRequest.class));
+		verify(client, never()).getObjectMetadata(any(), any());
+	}
+
+	@Test
+	public void big_object_is_downloaded_by_ranges_without_metadata_request() throws Exception {
+		/* prepare */
+		byte[] data = createData(2 * PART_SIZE + 10);
+		mockObject(data);
+
+		/* execute */
+		byte[] downloaded;
+		try (InputStream stream = supportToTest.download("bucket1", "key1")) {
+			downloaded = IOUtils.toByteArray(stream);
+		}
+
+		/* test */
+		assertArrayEquals(data, downloaded);
+		verify(client, times(3)).getObject(any(GetObjectRequest.class));
+		verify(client, never()).getObjectMetadata(any(), any());
+	}
+
+	@Test
+	public void small_object_is_uploaded_by_one_put_with_exact_content_length() throws Exception {
+		/* prepare */
+		byte[] data = createData(100);
+
+		/* execute */
+		supportToTest.upload("bucket1", "key1", new ByteArrayInputStream(data));
+
+		/* test */
+		ArgumentCaptor<ObjectMetadata> meta = ArgumentCaptor.forClass(ObjectMetadata.class);
+		ArgumentCaptor<InputStream> content = ArgumentCaptor.forClass(InputStream.class);
+		verify(client).putObject(eq("bucket1"), eq("key1"), content.capture(), meta.capture());
+		assertEquals(100, meta.getValue().getContentLength());
+		assertArrayEquals(data, IOUtils.toByteArray(content.getValue()));
+		verify(client, never()).initiateMultipartUpload(any());
+	}
+
+	@Test
+	public void object_not_bigger_than_5GB_is_copied_by_one_copy_request() throws Exception {
+		/* prepare */
+		mockObjectLength(5L * 1024 * 1024 * 1024);
+
+		/* execute */
+		supportToTest.copy("bucket1", "key1", "key2");
+
+		/* test */
+		verify(client).copyObject("bucket1", "key1", "bucket1", "key2");
+		verify(client, never()).initiateMultipartUpload(any());
+	}
+
+	@Test
+	public void object_bigger_than_5GB_is_copied_by_multipart_copy_covering_complete_object() throws Exception {
+		/* prepare */
+		long length = 5L * 1024 * 1024 * 1024 + 1;
+		mockObjectLength(length);
+		InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+		initiated.setUploadId("upload1");
+		when(client.initiateMultipartUpload(any())).thenReturn(initiated);
+		when(client.copyPart(any())).thenAnswer(invocation -> {
+			CopyPartRequest request = invocation.getArgument(0);
+			CopyPartResult result = new CopyPartResult();
+			result.setPartNumber(request.getPartNumber());
+			result.setETag("etag" + request.getPartNumber());
+			return result;
+		});
+
+		/* execute */
+		supportToTest.copy("bucket1", "key1", "key2");
+
+		/* test */
+		verify(client, never()).copyObject(any(), any(), any(), any());
+		ArgumentCaptor<InitiateMultipartUploadRequest> initiateRequest = ArgumentCaptor.forClass(InitiateMultipartUploadRequest.class);
+		verify(client).initiateMultipartUpload(initiateRequest.capture());
+		assertEquals("key2", initiateRequest.getValue().getKey());
+
+		ArgumentCaptor<CopyPartRequest> copyRequests = ArgumentCaptor.forClass(CopyPartRequest.class);
+		verify(client, atLeast(2)).copyPart(copyRequests.capture());
+		/* parts are copied in parallel, so order of requests is not defined */
+		List<CopyPartRequest> requests = new ArrayList<>(copyRequests.getAllValues());
+		requests.sort(Comparator.comparing(CopyPartRequest::getPartNumber));
+		long expectedFirstByte = 0;
+		for (CopyPartRequest request : requests) {
+			assertEquals("key1", request.getSourceKey());
+			assertEquals("key2", request.getDestinationKey());
+			assertEquals("upload1", request.getUploadId());
+			assertEquals(Long.valueOf(expectedFirstByte), request.getFirstByte());
+			assertTrue(request.getLastByte() - request.getFirstByte() + 1 <= 5L * 1024 * 1024 * 1024);
+			expectedFirstByte = request.getLastByte() + 1;
+		}
+		assertEquals(length, expectedFirstByte);
+
+		ArgumentCaptor<CompleteMultipartUploadRequest> completeRequest = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+		verify(client).completeMultipartUpload(completeRequest.capture());
+		List<?> partETags = completeRequest.getValue().getPartETags();
+		assertEquals(copyRequests.getAllValues().size(), partETags.size());
+	}
+
+	@Test
+	public void failing_multipart_copy_is_aborted() throws Exception {
+		/* prepare */
+		mockObjectLength(6L * 1024 * 1024 * 1024);
+		InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+		initiated.setUploadId("upload1");
+		when(client.initiateMultipartUpload(any())).thenReturn(initiated);
+		when(client.copyPart(any())).thenThrow(new IllegalStateException("copy failed"));
+
+		/* execute */
+		try {
+			supportToTest.copy("bucket1", "key1", "key2");
+			fail("no exception thrown");
+		} catch (IOException e) {
+			/* expected */
+		}
+
+		/* test */
+		verify(client).abortMultipartUpload(any());
+		verify(client, never()).completeMultipartUpload(any());
+	}
+
+	private void mockObjectLength(long length) {
+		ObjectMetadata meta = new ObjectMetadata();
+		meta.setContentLength(length);
+		when(client.getObjectMetadata("bucket1", "key1")).thenReturn(meta);
+	}
+
+	private void mockObject(byte[] data) {
+		when(client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+			GetObjectRequest request = invocation.getArgument(0);
+			long[] range = request.getRange();
+			int start = (int) range[0];
+			int end = (int) Math.min(range[1], data.length - 1);
+
+			ObjectMetadata meta = new ObjectMetadata();
+			meta.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + data.length);
+			meta.setContentLength(end - start + 1L);
+
+			S3Object object = new S3Object();
+			object.setObjectMetadata(meta);
+			object.setObjectContent(new ByteArrayInputStream(Arrays.copyOfRange(data, start, end + 1)));
+			return object;
+		});
+	}
+
+	private byte[] createData(int size) {
+		byte[] data = new byte[size];
+		new Random(4711).nextBytes(data);
+		return data;
+	}
+}
@@ -15,24 +15,32 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
-import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.daimler.sechub.storage.core.JobStorage;
+import com.daimler.sechub.storage.core.S3Setup;
 
 public class AwsS3JobStorage implements JobStorage {
 
 	private static final Logger LOG = LoggerFactory.getLogger(AwsS3JobStorage.class);
 
+	static final String OBJECT_PREFIX = "jobstorage/";
+
 	private AmazonS3 client;
 	private String bucketName;
 	private String projectId;
 	private UUID jobUUID;
+	private AwsS3TransferSupport transferSupport;
 
 	public AwsS3JobStorage(AmazonS3 client, String bucketName, String projectId, UUID jobUUID) {
+		this(client, bucketName, projectId, jobUUID, new AwsS3TransferSupport(client, S3Setup.DEFAULT_TRANSFER_PART_SIZE, S3Setup.DEFAULT_TRANSFER_PARALLELISM));
+	}
+
+	public AwsS3JobStorage(AmazonS3 client, String bucketName, String projectId, UUID jobUUID, AwsS3TransferSupport transferSupport) {
 		this.bucketName = bucketName;
 		this.client = client;
 		this.projectId = projectId;
 		this.jobUUID = jobUUID;
+		this.transferSupport = requireNonNull(transferSupport, "transferSupport may not be null!");
 	}
 
 	@Override
@@ -41,11 +49,8 @@ public class AwsS3JobStorage implements JobStorage {
 		requireNonNull(inputStream, "inputStream may not be null!");
 
 		try (InputStream stream=inputStream){
-			if (!client.doesBucketExistV2(bucketName)) {
-				client.createBucket(bucketName);
-			}
-			ObjectMetadata meta = new ObjectMetadata();
-			client.putObject(bucketName, getObjectName(name), stream, meta);
+			transferSupport.ensureBucketExists(bucketName);
+			transferSupport.upload(bucketName, getObjectName(name), stream);
 
 		} catch (Exception e) {
 			throw new IOException("Store of " + name + " to s3 failed", e);
@@ -59,18 +64,62 @@ public class AwsS3JobStorage implements JobStorage {
 	}
 
 	private String getObjectPrefix() {
-		return "jobstorage/" + projectId + "/" + jobUUID + "/";
+		return OBJECT_PREFIX + projectId + "/" + jobUUID + "/";
 	}
 
 	@Override
 	public InputStream fetch(String name) throws IOException {
 		try {
-			return client.getObject(bucketName, getObjectName(name)).getObjectContent();
+			return transferSupport.download(bucketName, getObjectName(name));
 		} catch (Exception e) {
 			throw new IOException("Was not able to fetch object from s3 bucket:" + name);
 		}
 	}
 
+	/**
+	 * Renames by a server side copy - data is not transferred again. Big objects
+	 * are copied by a multipart copy
+	 */
+	@Override
+	public void rename(String name, String newName) throws IOException {
+		requireNonNull(newName, "newName may not be null!");
+		try {
+			transferSupport.copy(bucketName, getObjectName(name), getObjectName(newName));
+			client.deleteObject(bucketName, getObjectName(name));
+		} catch (RuntimeException e) {
+			throw new IOException("Was not able to rename object in s3 bucket:" + name, e);
+		}
+	}
+
+	@Override
+	public List<String> listNames() throws IOException {
+		String objectPrefix = getObjectPrefix();
+		List<String> names = new ArrayList<>();
+		try {
+			ObjectListing listing = client.listObjects(new ListObjectsRequest().withBucketName(bucketName).withPrefix(objectPrefix));
+			while (true) {
+				for (S3ObjectSummary summary : listing.getObjectSummaries()) {
+					names.add(summary.getKey().substring(objectPrefix.length()));
+				}
+				if (!listing.isTruncated()) {
+					return names;
+				}
+				listing = client.listNextBatchOfObjects(listing);
+			}
+		} catch (RuntimeException e) {
+			throw new IOException("Cannot list objects from prefix:" + objectPrefix, e);
+		}
+	}
+
+	@Override
+	public void delete(String name) throws IOException {
+		try {
+			client.deleteObject(bucketName, getObjectName(name));
+		} catch (RuntimeException e) {
+			throw new IOException("Was not able to delete object from s3 bucket:" + name, e);
+		}
+	}
+
 	@Override
 	public void deleteAll() throws IOException {
 		String objectPrefix = getObjectPrefix();
@@ -2,8 +2,17 @@ package com.daimler.sechub.storage.s3.aws;
 
 import static java.util.Objects.*;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
@@ -11,14 +20,24 @@ import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.daimler.sechub.storage.core.JobStorage;
 import com.daimler.sechub.storage.core.JobStorageFactory;
 import com.daimler.sechub.storage.core.S3Setup;
 
 public class AwsS3JobStorageFactory implements JobStorageFactory{
 
+	private static final Logger LOG = LoggerFactory.getLogger(AwsS3JobStorageFactory.class);
+
+	/* S3 accepts maximum 1000 keys per delete request */
+	private static final int MAX_KEYS_PER_DELETE_REQUEST = 1000;
+
 	private AmazonS3 s3Client;
 	private String bucketName;
+	private AwsS3TransferSupport transferSupport;
 
 	public AwsS3JobStorageFactory(S3Setup s3Setup) {
 		requireNonNull(s3Setup, "s3setup may not be null!");
@@ -35,10 +54,69 @@ public class AwsS3JobStorageFactory implements JobStorageFactory{
 				.withClientConfiguration(clientConfiguration).build();
 		
 		bucketName=s3Setup.getBucketName();
+		transferSupport = new AwsS3TransferSupport(s3Client, s3Setup.getTransferPartSize(), s3Setup.getTransferParallelism());
 	}
 
 	@Override
 	public JobStorage createJobStorage(String projectId, UUID jobUUID) {
-		return new AwsS3JobStorage(s3Client, bucketName, projectId, jobUUID);
+		return new AwsS3JobStorage(s3Client, bucketName, projectId, jobUUID, transferSupport);
+	}
+
+	/**
+	 * Deletes all job storage objects (of all jobs) not modified since given time.
+	 * Deletion is done in batches - one request deletes objects of multiple jobs.
+	 */
+	@Override
+	public int deleteContentNotChangedSince(Instant notChangedSince, Set<String> excludedProjectIds) throws IOException {
+		requireNonNull(excludedProjectIds, "excludedProjectIds may not be null!");
+		Date limit = Date.from(notChangedSince);
+		int deleted = 0;
+		try {
+			if (!s3Client.doesBucketExistV2(bucketName)) {
+				return 0;
+			}
+			List<DeleteObjectsRequest.KeyVersion> keys = new ArrayList<>();
+			ObjectListing listing = s3Client.listObjects(new ListObjectsRequest().withBucketName(bucketName).withPrefix(AwsS3JobStorage.OBJECT_PREFIX));
+			while (true) {
+				for (S3ObjectSummary summary : listing.getObjectSummaries()) {
+					if (summary.getLastModified() == null || !summary.getLastModified().before(limit)) {
+						continue;
+					}
+					if (excludedProjectIds.contains(getProjectId(summary.getKey()))) {
+						continue;
+					}
+					keys.add(new DeleteObjectsRequest.KeyVersion(summary.getKey()));
+					if (keys.size() >= MAX_KEYS_PER_DELETE_REQUEST) {
+						deleted += deleteKeys(keys);
+					}
+				}
+				if (!listing.isTruncated()) {
+					break;
+				}
+				listing = s3Client.listNextBatchOfObjects(listing);
+			}
+			deleted += deleteKeys(keys);
+		} catch (RuntimeException e) {
+			throw new IOException("Cannot delete job storage objects not changed since " + notChangedSince, e);
+		}
+		return deleted;
+	}
+
+	private String getProjectId(String key) {
+		/* key: jobstorage/$projectId/$jobUUID/$name */
+		String withoutPrefix = key.substring(AwsS3JobStorage.OBJECT_PREFIX.length());
+		int slashIndex = withoutPrefix.indexOf('/');
+		return slashIndex < 0 ? withoutPrefix : withoutPrefix.substring(0, slashIndex);
+	}
+
+	private int deleteKeys(List<DeleteObjectsRequest.KeyVersion> keys) {
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		int amount = keys.size();
+		s3Client.deleteObjects(new DeleteObjectsRequest(bucketName).withKeys(new ArrayList<>(keys)));
+		LOG.info("deleted {} orphaned job storage objects", amount);
+		keys.clear();
+		return amount;
 	}
 }
@@ -0,0 +1,179 @@
+package com.daimler.sechub.storage.s3.aws;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+
+/**
+ * Input stream for big S3 objects. The object is fetched by ranged GET
+ * requests, where up to "parallelism" ranges are fetched in advance while the
+ * caller reads the current one. The first range is already requested by the
+ * caller and read directly from its response stream.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+class AwsS3RangedInputStream extends InputStream {
+
+	private AmazonS3 client;
+	private ExecutorService executor;
+	private String bucketName;
+	private String key;
+	private long length;
+	private int rangeSize;
+	private int parallelism;
+
+	private InputStream firstRange;
+	private long firstRangeRead;
+	private Deque<Future<byte[]>> pendingRanges = new ArrayDeque<>();
+	private long nextRangeStart;
+	private byte[] current;
+	private int position;
+	private boolean closed;
+
+	/**
+	 * Creates stream
+	 * @param firstRange response stream of first range (0 to rangeSize-1)
+	 */
+	AwsS3RangedInputStream(AmazonS3 client, ExecutorService executor, String bucketName, String key, long length, int rangeSize, int parallelism, InputStream firstRange) {
+		this.client = client;
+		this.executor = executor;
+		this.bucketName = bucketName;
+		this.key = key;
+		this.length = length;
+		this.rangeSize = rangeSize;
+		this.parallelism = parallelism;
+		this.firstRange = firstRange;
+		this.nextRangeStart = rangeSize;
+
+		fetchAhead();
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (firstRange != null) {
+			int result = firstRange.read();
+			if (result != -1) {
+				firstRangeRead++;
+				return result;
+			}
+			closeFirstRange();
+		}
+		if (!ensureDataAvailable()) {
+			return -1;
+		}
+		return current[position++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (firstRange != null) {
+			int read = firstRange.read(b, off, len);
+			if (read != -1) {
+				firstRangeRead += read;
+				return read;
+			}
+			closeFirstRange();
+		}
+		if (!ensureDataAvailable()) {
+			return -1;
+		}
+		int amount = Math.min(len, current.length - position);
+		System.arraycopy(current, position, b, off, amount);
+		position += amount;
+		return amount;
+	}
+
+	@Override
+	public int available() throws IOException {
+		if (firstRange != null) {
+			return firstRange.available();
+		}
+		return current == null ? 0 : current.length - position;
+	}
+
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		closeFirstRange();
+		for (Future<byte[]> future : pendingRanges) {
+			future.cancel(true);
+		}
+		pendingRanges.clear();
+		current = null;
+	}
+
+	private void closeFirstRange() throws IOException {
+		if (firstRange == null) {
+			return;
+		}
+		InputStream stream = firstRange;
+		firstRange = null;
+		stream.close();
+		if (!closed && firstRangeRead < rangeSize) {
+			throw new IOException("Range 0-" + (rangeSize - 1) + " of " + key + " ended after " + firstRangeRead + " bytes");
+		}
+	}
+
+	private boolean ensureDataAvailable() throws IOException {
+		if (closed) {
+			throw new IOException("Stream already closed");
+		}
+		while (current == null || position >= current.length) {
+			Future<byte[]> next = pendingRanges.poll();
+			if (next == null) {
+				return false;
+			}
+			try {
+				current = next.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while fetching range of " + key, e);
+			} catch (ExecutionException e) {
+				throw new IOException("Was not able to fetch range of " + key, e.getCause());
+			}
+			position = 0;
+			fetchAhead();
+		}
+		return true;
+	}
+
+	private void fetchAhead() {
+		while (pendingRanges.size() < parallelism && nextRangeStart < length) {
+			long start = nextRangeStart;
+			long end = Math.min(length, start + rangeSize) - 1;
+			nextRangeStart = end + 1;
+
+			pendingRanges.add(executor.submit(() -> fetchRange(start, end)));
+		}
+	}
+
+	private byte[] fetchRange(long start, long end) throws IOException {
+		int size = (int) (end - start + 1);
+		byte[] data = new byte[size];
+		GetObjectRequest request = new GetObjectRequest(bucketName, key).withRange(start, end);
+		try (S3ObjectInputStream stream = client.getObject(request).getObjectContent()) {
+			int filled = 0;
+			while (filled < size) {
+				int read = stream.read(data, filled, size - filled);
+				if (read == -1) {
+					throw new IOException("Range " + start + "-" + end + " of " + key + " ended after " + filled + " bytes");
+				}
+				filled += read;
+			}
+		}
+		return data;
+	}
+
+}
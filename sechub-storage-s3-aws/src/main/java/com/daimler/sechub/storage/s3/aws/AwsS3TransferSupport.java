@@ -0,0 +1,312 @@
+package com.daimler.sechub.storage.s3.aws;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CopyPartRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+/**
+ * Transfers objects from and to S3 without buffering complete objects in
+ * memory. Objects bigger than part size are uploaded by multipart uploads and
+ * downloaded by ranged GET requests - in both cases with given parallelism. So
+ * memory usage for one transfer is limited to (parallelism + 1) * part size.
+ * Buffers of smaller objects grow only up to their size.
+ * Objects bigger than the S3 limit for single copies are copied server side by
+ * multipart copies.
+ * Bucket existence is checked only once per bucket.
+ *
+ * @author Albert Tregnaghi
+ *
+ */
+public class AwsS3TransferSupport {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AwsS3TransferSupport.class);
+
+	/* S3 does not accept smaller parts - except the last one */
+	static final long MINIMUM_PART_SIZE = 5 * 1024 * 1024;
+	static final long MAXIMUM_PART_SIZE = Integer.MAX_VALUE - 8;
+
+	/* S3 does not accept a single copy request for bigger objects */
+	static final long MAXIMUM_SINGLE_COPY_SIZE = 5L * 1024 * 1024 * 1024;
+	/* copies are done server side, so parts can be much bigger than transfer parts */
+	static final long COPY_PART_SIZE = 512 * 1024 * 1024;
+
+	static final int INITIAL_PART_BUFFER_SIZE = 64 * 1024;
+	private static final int HTTP_STATUS_RANGE_NOT_SATISFIABLE = 416;
+
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+	private AmazonS3 client;
+	private int partSize;
+	private int parallelism;
+	private ExecutorService executor;
+	private Set<String> existingBuckets = ConcurrentHashMap.newKeySet();
+
+	public AwsS3TransferSupport(AmazonS3 client, long partSize, int parallelism) {
+		this.client = client;
+		this.partSize = (int) Math.min(MAXIMUM_PART_SIZE, Math.max(MINIMUM_PART_SIZE, partSize));
+		this.parallelism = Math.max(1, parallelism);
+		/* threads are bound by parallelism of running transfers and end when idle */
+		this.executor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "s3-transfer-" + THREAD_COUNTER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	int getPartSize() {
+		return partSize;
+	}
+
+	int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Ensures bucket exists - bucket will be created when not existing. The check
+	 * is done only one time per bucket.
+	 *
+	 * @param bucketName
+	 */
+	public void ensureBucketExists(String bucketName) {
+		if (existingBuckets.contains(bucketName)) {
+			return;
+		}
+		if (!client.doesBucketExistV2(bucketName)) {
+			LOG.info("bucket {} does not exist, will create it", bucketName);
+			client.createBucket(bucketName);
+		}
+		existingBuckets.add(bucketName);
+	}
+
+	/**
+	 * Uploads given stream. Stream is NOT closed by this method.
+	 *
+	 * @param bucketName
+	 * @param key
+	 * @param stream
+	 * @throws IOException
+	 */
+	public void upload(String bucketName, String key, InputStream stream) throws IOException {
+		byte[] firstPart = readPart(stream);
+		if (firstPart.length < partSize) {
+			/* complete object fits into one part - content length is known */
+			ObjectMetadata meta = new ObjectMetadata();
+			meta.setContentLength(firstPart.length);
+			client.putObject(bucketName, key, new ByteArrayInputStream(firstPart), meta);
+			return;
+		}
+		uploadMultipart(bucketName, key, firstPart, stream);
+	}
+
+	/**
+	 * Downloads object - big objects are fetched by parallel ranged GET requests.
+	 * The first range is always requested directly, its response contains the
+	 * complete object length - so no additional metadata request is necessary
+	 *
+	 * @param bucketName
+	 * @param key
+	 * @return stream, must be closed by caller
+	 */
+	public InputStream download(String bucketName, String key) {
+		S3Object firstRange;
+		try {
+			firstRange = client.getObject(new GetObjectRequest(bucketName, key).withRange(0, partSize - 1));
+		} catch (AmazonS3Exception e) {
+			if (e.getStatusCode() != HTTP_STATUS_RANGE_NOT_SATISFIABLE) {
+				throw e;
+			}
+			/* empty object - a range is not satisfiable */
+			return client.getObject(bucketName, key).getObjectContent();
+		}
+		long length = firstRange.getObjectMetadata().getInstanceLength();
+		if (length <= partSize) {
+			return firstRange.getObjectContent();
+		}
+		return new AwsS3RangedInputStream(client, executor, bucketName, key, length, partSize, parallelism, firstRange.getObjectContent());
+	}
+
+	/**
+	 * Copies object server side - data is not transferred to client. Objects
+	 * bigger than {@link #MAXIMUM_SINGLE_COPY_SIZE} are copied by a multipart copy
+	 * with given parallelism.
+	 *
+	 * @param bucketName
+	 * @param sourceKey
+	 * @param targetKey
+	 * @throws IOException
+	 */
+	public void copy(String bucketName, String sourceKey, String targetKey) throws IOException {
+		long length = client.getObjectMetadata(bucketName, sourceKey).getContentLength();
+		if (length <= MAXIMUM_SINGLE_COPY_SIZE) {
+			client.copyObject(bucketName, sourceKey, bucketName, targetKey);
+			return;
+		}
+		copyMultipart(bucketName, sourceKey, targetKey, length);
+	}
+
+	private void copyMultipart(String bucketName, String sourceKey, String targetKey, long length) throws IOException {
+		String uploadId = client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, targetKey)).getUploadId();
+		LOG.debug("started multipart copy {} from {} to {}", uploadId, sourceKey, targetKey);
+
+		Semaphore permits = new Semaphore(parallelism);
+		List<Future<PartETag>> parts = new ArrayList<>();
+		try {
+			int partNumber = 1;
+			for (long firstByte = 0; firstByte < length; firstByte += COPY_PART_SIZE) {
+				permits.acquire();
+				assertNoPartFailed(parts);
+
+				/* @formatter:off */
+				CopyPartRequest request = new CopyPartRequest().
+						withSourceBucketName(bucketName).
+						withSourceKey(sourceKey).
+						withDestinationBucketName(bucketName).
+						withDestinationKey(targetKey).
+						withUploadId(uploadId).
+						withPartNumber(partNumber++).
+						withFirstByte(firstByte).
+						withLastByte(Math.min(firstByte + COPY_PART_SIZE, length) - 1);
+				/* @formatter:on */
+
+				parts.add(executor.submit(() -> {
+					try {
+						return client.copyPart(request).getPartETag();
+					} finally {
+						permits.release();
+					}
+				}));
+			}
+			List<PartETag> eTags = new ArrayList<>(parts.size());
+			for (Future<PartETag> future : parts) {
+				eTags.add(future.get());
+			}
+			client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, targetKey, uploadId, eTags));
+			LOG.debug("completed multipart copy {} from {} to {} with {} parts", uploadId, sourceKey, targetKey, eTags.size());
+
+		} catch (InterruptedException | ExecutionException | RuntimeException e) {
+			for (Future<PartETag> future : parts) {
+				future.cancel(true);
+			}
+			abort(bucketName, targetKey, uploadId);
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			throw new IOException("Multipart copy of " + sourceKey + " to " + targetKey + " failed", e);
+		}
+	}
+
+	private void uploadMultipart(String bucketName, String key, byte[] firstPart, InputStream stream) throws IOException {
+		String uploadId = client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key)).getUploadId();
+		LOG.debug("started multipart upload {} for {}", uploadId, key);
+
+		Semaphore permits = new Semaphore(parallelism);
+		List<Future<PartETag>> parts = new ArrayList<>();
+		try {
+			byte[] part = firstPart;
+			int partNumber = 1;
+			while (part.length > 0) {
+				permits.acquire();
+				assertNoPartFailed(parts);
+
+				UploadPartRequest request = new UploadPartRequest();
+				request.setBucketName(bucketName);
+				request.setKey(key);
+				request.setUploadId(uploadId);
+				request.setPartNumber(partNumber++);
+				request.setPartSize(part.length);
+				request.setInputStream(new ByteArrayInputStream(part));
+
+				parts.add(executor.submit(() -> {
+					try {
+						return client.uploadPart(request).getPartETag();
+					} finally {
+						permits.release();
+					}
+				}));
+				if (part.length < partSize) {
+					break;
+				}
+				part = readPart(stream);
+			}
+			List<PartETag> eTags = new ArrayList<>(parts.size());
+			for (Future<PartETag> future : parts) {
+				eTags.add(future.get());
+			}
+			client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, eTags));
+			LOG.debug("completed multipart upload {} for {} with {} parts", uploadId, key, eTags.size());
+
+		} catch (IOException | InterruptedException | ExecutionException | RuntimeException e) {
+			for (Future<PartETag> future : parts) {
+				future.cancel(true);
+			}
+			abort(bucketName, key, uploadId);
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			throw new IOException("Multipart upload of " + key + " failed", e);
+		}
+	}
+
+	private void assertNoPartFailed(List<Future<PartETag>> parts) throws InterruptedException, ExecutionException {
+		for (Future<PartETag> future : parts) {
+			if (future.isDone()) {
+				future.get();
+			}
+		}
+	}
+
+	private void abort(String bucketName, String key, String uploadId) {
+		try {
+			client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+		} catch (RuntimeException e) {
+			LOG.error("Was not able to abort multipart upload {} for {}", uploadId, key, e);
+		}
+	}
+
+	/*
+	 * buffer grows while reading, so small objects do not allocate a complete
+	 * part
+	 */
+	private byte[] readPart(InputStream stream) throws IOException {
+		byte[] buffer = new byte[Math.min(partSize, INITIAL_PART_BUFFER_SIZE)];
+		int filled = 0;
+		while (filled < partSize) {
+			if (filled == buffer.length) {
+				buffer = Arrays.copyOf(buffer, (int) Math.min(partSize, buffer.length * 2L));
+			}
+			int read = stream.read(buffer, filled, buffer.length - filled);
+			if (read == -1) {
+				return Arrays.copyOf(buffer, filled);
+			}
+			filled += read;
+		}
+		return buffer;
+	}
+
+}